@@ -0,0 +1,55 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.codifications.*;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+
+import java.util.Map;
+
+/**
+ * <p>Colour codes shared by the benchmarks. All of them represent the same colour.</p>
+ *
+ * @author Sergio Fernández
+ */
+final class BenchmarkFixtures {
+
+    //---- Constants and Definitions ----
+    static final RgbCode RGB = new RgbCode(63, 127, 88, 50);
+    static final HexCode HEX = new HexCode("#3F7F5880");
+    static final HslCode HSL = new HslCode(143, 34, 37, 50);
+    static final HsvCode HSV = new HsvCode(143, 50, 50, 50);
+    static final CmykCode CMYK = new CmykCode(50, 0, 31, 50);
+    static final XyzCode XYZ = ColourCodeConverter.defaultConverter().convert(RGB, XyzCode.class);
+    static final LabCode LAB = ColourCodeConverter.defaultConverter().convert(RGB, LabCode.class);
+    static final LchCode LCH = ColourCodeConverter.defaultConverter().convert(RGB, LchCode.class);
+    static final OkLabCode OKLAB = ColourCodeConverter.defaultConverter().convert(RGB, OkLabCode.class);
+    static final OkLchCode OKLCH = ColourCodeConverter.defaultConverter().convert(RGB, OkLchCode.class);
+
+    private static final Map<Class<? extends ColourCode>, ColourCode> CODES_BY_CLASS = Map.of(
+            RgbCode.class, RGB,
+            HexCode.class, HEX,
+            HslCode.class, HSL,
+            HsvCode.class, HSV,
+            CmykCode.class, CMYK,
+            XyzCode.class, XYZ,
+            LabCode.class, LAB,
+            LchCode.class, LCH,
+            OkLabCode.class, OKLAB,
+            OkLchCode.class, OKLCH
+    );
+
+    //---- Constructor ----
+    private BenchmarkFixtures() {}
+
+    //---- Methods ----
+    static ColourCode codeOf(final Class<?> colourCodeClass) {
+        return CODES_BY_CLASS.get(colourCodeClass);
+    }
+
+    static Class<? extends ColourCode> classNamed(final String simpleName) {
+        return CODES_BY_CLASS.keySet().stream()
+                .filter(colourCodeClass -> colourCodeClass.getSimpleName().equals(simpleName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown colour code: " + simpleName));
+    }
+
+}
@@ -0,0 +1,63 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.difference.ColourDifferences;
+import es.sfernandez.colour.difference.DeltaE;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Throughput of the {@link DeltaE} formulas comparing one colour with many others, pair by pair (converting both
+ * {@link Colour}s every time) and with {@link ColourDifferences} (converting every colour once).</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColourDifferenceBenchmark {
+
+    static final int COLOURS = 100_000;
+
+    @Param({"CIE76", "CIE94", "CIEDE2000"})
+    public DeltaE formula;
+
+    private Colour colour;
+    private List<Colour> colours;
+    private ColourDifferences differences;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        colour = new Colour(RgbCode.ofArgb(rnd.nextInt() | 0xFF000000));
+        colours = new ArrayList<>(COLOURS);
+        for(int i = 0; i < COLOURS; ++i)
+            colours.add(new Colour(RgbCode.ofArgb(rnd.nextInt() | 0xFF000000)));
+        differences = new ColourDifferences(formula);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLOURS)
+    public float[] pairByPair() {
+        float[] result = new float[COLOURS];
+        for(int i = 0; i < COLOURS; ++i)
+            result[i] = formula.difference(colour, colours.get(i));
+
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COLOURS)
+    public float[] oneToMany() {
+        return differences.oneToMany(colour, colours);
+    }
+
+}
@@ -0,0 +1,57 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.ColourCode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Throughput of {@link Colour#hashCode()} and {@link Colour#equals(Object)}, both for colours just created (so the
+ * conversion to RGB is needed) and for colours already used.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColourEqualityBenchmark {
+
+    @Param({"RgbCode", "HexCode", "HslCode", "HsvCode", "CmykCode"})
+    public String colourCode;
+
+    private ColourCode code;
+    private Colour colour;
+    private Colour rgbColour;
+
+    @Setup
+    public void setUp() {
+        code = BenchmarkFixtures.codeOf(BenchmarkFixtures.classNamed(colourCode));
+        colour = new Colour(code);
+        rgbColour = new Colour(BenchmarkFixtures.RGB);
+    }
+
+    @Benchmark
+    public int hashCodeOfNewColour() {
+        return new Colour(code).hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeOfUsedColour() {
+        return colour.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOfNewColours() {
+        return new Colour(code).equals(new Colour(BenchmarkFixtures.RGB));
+    }
+
+    @Benchmark
+    public boolean equalsOfUsedColours() {
+        return colour.equals(rgbColour);
+    }
+
+}
@@ -0,0 +1,68 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.compositing.BlendMode;
+import es.sfernandez.colour.compositing.Compositor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Time to composite a semi-transparent 4 megapixel layer over another, with straight and premultiplied alpha. Every
+ * invocation copies the backdrop first, so it always composites the same pixels.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompositingBenchmark {
+
+    static final int PIXELS = 2048 * 2048;
+
+    @Param({"NORMAL", "MULTIPLY", "SOFT_LIGHT", "HUE"})
+    public BlendMode mode;
+
+    private Compositor compositor;
+    private int[] source;
+    private int[] backdrop;
+    private int[] premultipliedSource;
+    private int[] premultipliedBackdrop;
+    private int[] result;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        source = new int[PIXELS];
+        backdrop = new int[PIXELS];
+        for(int i = 0; i < PIXELS; ++i) {
+            source[i] = (i % 3 == 0 ? 0 : rnd.nextInt(256)) << 24 | (rnd.nextInt() & 0xFFFFFF);
+            backdrop[i] = 0xFF000000 | rnd.nextInt();
+        }
+        premultipliedSource = source.clone();
+        premultipliedBackdrop = backdrop.clone();
+        Compositor.premultiply(premultipliedSource, 0, PIXELS);
+        Compositor.premultiply(premultipliedBackdrop, 0, PIXELS);
+
+        compositor = new Compositor(mode);
+        result = new int[PIXELS];
+    }
+
+    @Benchmark
+    public int[] straight() {
+        System.arraycopy(backdrop, 0, result, 0, PIXELS);
+        compositor.composite(source, 0, result, 0, PIXELS);
+        return result;
+    }
+
+    @Benchmark
+    public int[] premultiplied() {
+        System.arraycopy(premultipliedBackdrop, 0, result, 0, PIXELS);
+        compositor.compositePremultiplied(premultipliedSource, 0, result, 0, PIXELS);
+        return result;
+    }
+
+}
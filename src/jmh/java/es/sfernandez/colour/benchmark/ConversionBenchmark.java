@@ -0,0 +1,156 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+import es.sfernandez.colour.conversion.hsl.RgbToHslCodeConversion;
+import es.sfernandez.colour.conversion.hsv.RgbToHsvCodeConversion;
+import es.sfernandez.colour.conversion.lab.RgbToLabCodeConversion;
+import es.sfernandez.colour.conversion.oklab.RgbToOkLabCodeConversion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Throughput of the {@link ColourCodeConverter#DEFAULT_AVAILABLE_CONVERSIONS} applied directly (every invocation
+ * applies all the conversions from one {@link ColourCode}, so every conversion of the list is measured), and of
+ * conversions through the default {@link ColourCodeConverter}, including the ones that need middle steps. It also compares RGB to
+ * HSL and HSV bulk conversions of 8-bit colours with and without lookup tables, and RGB to CIELAB and OKLAB bulk
+ * conversions of 8-bit colours (whose sRGB gamma is decoded from a table) and of any other colours.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class DirectConversionState {
+
+        @Param({"RgbCode", "HexCode", "HslCode", "HsvCode", "CmykCode", "XyzCode", "LabCode", "LchCode", "OkLabCode",
+                "OkLchCode"})
+        public String inputCode;
+
+        ColourCodeConversion<ColourCode, ColourCode>[] conversions;
+        ColourCode input;
+
+        @Setup
+        public void setUp() {
+            Class<? extends ColourCode> inputClass = BenchmarkFixtures.classNamed(inputCode);
+            conversions = ColourCodeConverter.DEFAULT_AVAILABLE_CONVERSIONS.stream()
+                    .filter(conversion -> conversion.inColourCodeClass().equals(inputClass))
+                    .toArray(ColourCodeConversion[]::new);
+            input = BenchmarkFixtures.codeOf(inputClass);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ConverterState {
+
+        @Param({"HexCode:RgbCode", "RgbCode:HslCode", "HexCode:HslCode", "HexCode:HsvCode", "HslCode:CmykCode",
+                "CmykCode:HsvCode", "RgbCode:LabCode", "HexCode:OkLchCode", "LchCode:XyzCode", "XyzCode:LchCode",
+                "OkLchCode:OkLabCode", "LabCode:HslCode"})
+        public String route;
+
+        final ColourCodeConverter converter = ColourCodeConverter.defaultConverter();
+        ColourCode input;
+        Class<? extends ColourCode> target;
+
+        @Setup
+        public void setUp() {
+            String[] classes = route.split(":");
+            input = BenchmarkFixtures.codeOf(BenchmarkFixtures.classNamed(classes[0]));
+            target = BenchmarkFixtures.classNamed(classes[1]);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LookupTablesState {
+
+        static final int COLOURS = 4096;
+
+        @Param({"false", "true"})
+        public boolean useLookupTables;
+
+        RgbToHslCodeConversion rgbToHsl;
+        RgbToHsvCodeConversion rgbToHsv;
+        final float[] src = new float[COLOURS * ColourCodeConversion.BULK_COMPONENTS];
+        final float[] dst = new float[COLOURS * ColourCodeConversion.BULK_COMPONENTS];
+
+        @Setup
+        public void setUp() {
+            rgbToHsl = new RgbToHslCodeConversion(useLookupTables);
+            rgbToHsv = new RgbToHsvCodeConversion(useLookupTables);
+
+            Random rnd = new Random(42);
+            for(int i = 0; i < src.length; ++i)
+                src[i] = rnd.nextInt(256) / 255f;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CieState {
+
+        static final int COLOURS = 4096;
+
+        @Param({"true", "false"})
+        public boolean eightBitInput;
+
+        final RgbToLabCodeConversion rgbToLab = new RgbToLabCodeConversion();
+        final RgbToOkLabCodeConversion rgbToOkLab = new RgbToOkLabCodeConversion();
+        final float[] src = new float[COLOURS * ColourCodeConversion.BULK_COMPONENTS];
+        final float[] dst = new float[COLOURS * ColourCodeConversion.BULK_COMPONENTS];
+
+        @Setup
+        public void setUp() {
+            Random rnd = new Random(42);
+            for(int i = 0; i < src.length; ++i)
+                src[i] = eightBitInput ? rnd.nextInt(256) / 255f : rnd.nextFloat();
+        }
+    }
+
+    @Benchmark
+    public void directConversions(DirectConversionState state, Blackhole blackhole) {
+        for(ColourCodeConversion<ColourCode, ColourCode> conversion : state.conversions)
+            blackhole.consume(conversion.convert(state.input));
+    }
+
+    @Benchmark
+    public ColourCode converter(ConverterState state) {
+        return state.converter.convert(state.input, state.target);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LookupTablesState.COLOURS)
+    public float[] rgbToHslBulk(LookupTablesState state) {
+        state.rgbToHsl.convertBulk(state.src, 0, state.dst, 0, LookupTablesState.COLOURS);
+        return state.dst;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LookupTablesState.COLOURS)
+    public float[] rgbToHsvBulk(LookupTablesState state) {
+        state.rgbToHsv.convertBulk(state.src, 0, state.dst, 0, LookupTablesState.COLOURS);
+        return state.dst;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CieState.COLOURS)
+    public float[] rgbToLabBulk(CieState state) {
+        state.rgbToLab.convertBulk(state.src, 0, state.dst, 0, CieState.COLOURS);
+        return state.dst;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CieState.COLOURS)
+    public float[] rgbToOkLabBulk(CieState state) {
+        state.rgbToOkLab.convertBulk(state.src, 0, state.dst, 0, CieState.COLOURS);
+        return state.dst;
+    }
+
+}
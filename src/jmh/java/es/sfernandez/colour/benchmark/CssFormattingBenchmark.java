@@ -0,0 +1,71 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Throughput of formatting colour codes as text, with and without transparency, as new strings and appended to a
+ * reused {@link StringBuilder}.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CssFormattingBenchmark {
+
+    private final RgbCode opaqueRgb = new RgbCode(63, 127, 88);
+    private final HslCode opaqueHsl = new HslCode(143, 34, 37);
+    private final HexCode opaqueHex = new HexCode("#3F7F58");
+    private final StringBuilder builder = new StringBuilder(64);
+
+    @Benchmark
+    public String rgbToCssCode() {
+        return opaqueRgb.toCssCode();
+    }
+
+    @Benchmark
+    public String rgbaToCssCode() {
+        return BenchmarkFixtures.RGB.toCssCode();
+    }
+
+    @Benchmark
+    public String hslToCssCode() {
+        return opaqueHsl.toCssCode();
+    }
+
+    @Benchmark
+    public String hslaToCssCode() {
+        return BenchmarkFixtures.HSL.toCssCode();
+    }
+
+    @Benchmark
+    public String hexToCssCode() {
+        return opaqueHex.toCssCode();
+    }
+
+    @Benchmark
+    public String cmykToCode() {
+        return BenchmarkFixtures.CMYK.toCode();
+    }
+
+    @Benchmark
+    public StringBuilder rgbaAppendCssCode() {
+        builder.setLength(0);
+        return BenchmarkFixtures.RGB.appendCssCode(builder);
+    }
+
+    @Benchmark
+    public StringBuilder hslaAppendCssCode() {
+        builder.setLength(0);
+        return BenchmarkFixtures.HSL.appendCssCode(builder);
+    }
+
+}
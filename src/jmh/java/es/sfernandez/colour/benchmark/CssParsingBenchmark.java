@@ -0,0 +1,35 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.WebColour;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Throughput of {@link WebColour#from(String)} for each accepted CSS syntax.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CssParsingBenchmark {
+
+    @Param({"#3F7F58", "#3F7F5880", "#3F7", "rgb(63, 127, 88)", "rgba(63, 127, 88, 0.5)",
+            "hsl(143, 34%, 37%)", "hsla(143, 34%, 37%, 0.5)"})
+    public String cssCode;
+
+    @Benchmark
+    public WebColour from() {
+        return WebColour.from(cssCode);
+    }
+
+    @Benchmark
+    public boolean isCssColourCode() {
+        return WebColour.isCssColourCode(cssCode);
+    }
+
+}
@@ -0,0 +1,59 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.quantization.ColourHistogram;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Throughput of counting the colours of an image with a {@link HashMap} of {@link Colour}s and with a
+ * {@link ColourHistogram}.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HistogramBenchmark {
+
+    static final int PIXELS = 1_000_000;
+
+    @Param({"256", "65536"})
+    public int colours;
+
+    private int[] pixels;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        int[] palette = rnd.ints(colours).map(argb -> argb | 0xFF000000).toArray();
+        pixels = new int[PIXELS];
+        for(int i = 0; i < PIXELS; ++i)
+            pixels[i] = palette[rnd.nextInt(colours)];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIXELS)
+    public Map<Colour, Integer> hashMap() {
+        Map<Colour, Integer> counts = new HashMap<>();
+        for(int pixel : pixels)
+            counts.merge(new Colour(RgbCode.ofArgb(pixel)), 1, Integer::sum);
+
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIXELS)
+    public ColourHistogram colourHistogram() {
+        return new ColourHistogram().addAll(pixels);
+    }
+
+}
@@ -0,0 +1,77 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.hsl.RgbToHslCodeConversion;
+import es.sfernandez.colour.conversion.hsv.HsvToRgbCodeConversion;
+import es.sfernandez.colour.conversion.kernel.ColourKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Time to convert a whole image with the interleaved bulk conversions and with the scalar and preferred (Vector API)
+ * {@link ColourKernels}.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class KernelBenchmark {
+
+    @Param({"65536"})
+    public int pixels;
+
+    private final ColourCodeConversion<?,?> rgbToHsl = new RgbToHslCodeConversion();
+    private final ColourCodeConversion<?,?> hsvToRgb = new HsvToRgbCodeConversion();
+    private final ColourKernels scalar = ColourKernels.scalar();
+    private final ColourKernels preferred = ColourKernels.preferred();
+
+    private float[] src;
+    private float[] dst;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(pixels);
+        src = new float[ColourKernels.PLANES * pixels];
+        dst = new float[src.length];
+
+        for(int i = 0; i < src.length; ++i)
+            src[i] = rnd.nextInt(256) / 255f;
+    }
+
+    @Benchmark
+    public float[] rgbToHslBulk() {
+        rgbToHsl.convertBulk(src, 0, dst, 0, pixels);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] rgbToHslScalarKernel() {
+        scalar.rgbToHsl(src, dst, pixels, 0, pixels);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] rgbToHslPreferredKernel() {
+        preferred.rgbToHsl(src, dst, pixels, 0, pixels);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] hsvToRgbBulk() {
+        hsvToRgb.convertBulk(src, 0, dst, 0, pixels);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] hsvToRgbPreferredKernel() {
+        preferred.hsvToRgb(src, dst, pixels, 0, pixels);
+        return dst;
+    }
+
+}
@@ -0,0 +1,82 @@
+package es.sfernandez.colour.benchmark;
+
+import es.sfernandez.colour.WebColour;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.quantization.DominantColours;
+import es.sfernandez.colour.quantization.KMeansQuantizer;
+import es.sfernandez.colour.quantization.MedianCutQuantizer;
+import es.sfernandez.colour.quantization.OctreeQuantizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Time to reduce a 4 megapixel image to a palette with every quantizer, and with {@link DominantColours} sampling
+ * {@link #SAMPLES} of its pixels.</p>
+ *
+ * @author Sergio Fernández
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuantizationBenchmark {
+
+    static final int PIXELS = 2048 * 2048;
+    static final int SAMPLES = 1 << 18;
+
+    @Param({"16", "256"})
+    public int colours;
+
+    private int[] pixels;
+    private DominantColours strideSampling;
+    private DominantColours randomSampling;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        pixels = new int[PIXELS];
+        for(int i = 0; i < PIXELS; ++i) {
+            int x = i % 2048;
+            int y = i / 2048;
+            pixels[i] = 0xFF000000 | ((x / 8) << 16) | ((y / 8) << 8) | ((x + y + rnd.nextInt(32)) / 16);
+        }
+        strideSampling = new DominantColours(new MedianCutQuantizer(), DominantColours.Sampling.STRIDE, SAMPLES, Runnable::run);
+        randomSampling = new DominantColours(new MedianCutQuantizer(), DominantColours.Sampling.RANDOM, SAMPLES, Runnable::run);
+    }
+
+    @Benchmark
+    public List<RgbCode> medianCut() {
+        return new MedianCutQuantizer().quantize(pixels, colours);
+    }
+
+    @Benchmark
+    public List<RgbCode> octree() {
+        return new OctreeQuantizer().quantize(pixels, colours);
+    }
+
+    @Benchmark
+    public List<RgbCode> kMeans() {
+        return new KMeansQuantizer().quantize(pixels, colours);
+    }
+
+    @Benchmark
+    public List<RgbCode> kMeansOkLab() {
+        return new KMeansQuantizer(KMeansQuantizer.Space.OKLAB).quantize(pixels, colours);
+    }
+
+    @Benchmark
+    public List<WebColour> dominantColoursStride() {
+        return strideSampling.extract(pixels, colours);
+    }
+
+    @Benchmark
+    public List<WebColour> dominantColoursRandom() {
+        return randomSampling.extract(pixels, colours);
+    }
+
+}
@@ -4,8 +4,6 @@ import es.sfernandez.colour.codifications.ColourCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConverter;
 
-import java.util.Objects;
-
 /**
  * <p>A Colour is the representation of a colour as a concept and it can be created from any {@link ColourCode}.
  * This means that two Colours are equal iff they represent the same colour, no matter what codification they use.</p>
@@ -19,14 +17,16 @@ public class Colour {
     //---- Attributes ----
     protected final ColourCode code;
     private final ColourCodeConverter converter;
+    private int canonicalRgba;
+    private boolean canonicalRgbaIsZero;
 
     //---- Constructor ----
     /**
-     * <p>Creates a new Colour.</p>
+     * <p>Creates a new Colour that uses the shared {@link ColourCodeConverter#defaultConverter()}.</p>
      * @param code ColourCode
      */
     public Colour(ColourCode code) {
-        this(code, new ColourCodeConverter());
+        this(code, ColourCodeConverter.defaultConverter());
     }
 
     /**
@@ -69,11 +69,33 @@ public class Colour {
     public final boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Colour colour)) return false;
-        return Objects.equals(as(RgbCode.class), colour.as(RgbCode.class));
+        return canonicalRgba() == colour.canonicalRgba();
     }
 
     @Override
     public final int hashCode() {
-        return Objects.hashCode(as(RgbCode.class));
+        return canonicalRgba();
+    }
+
+    /**
+     * <p>Returns the {@link RgbCode} representation of this colour packed in an int, which is what identifies the colour
+     * no matter its codification. Each byte contains, from the highest to the lowest, the red, green and blue values
+     * (between [0, 255]) and the alpha percentage (between [0, 100]).</p>
+     * <p>It's computed only the first time it's needed. Races between threads are benign, since every thread will
+     * compute the same value and it's cached the same way as {@link String#hashCode()} does.</p>
+     */
+    private int canonicalRgba() {
+        int rgba = canonicalRgba;
+        if(rgba == 0 && !canonicalRgbaIsZero) {
+            RgbCode rgb = as(RgbCode.class);
+            rgba = (rgb.red255() << 24) | (rgb.green255() << 16) | (rgb.blue255() << 8) | rgb.alphaPercentage();
+
+            if(rgba == 0)
+                canonicalRgbaIsZero = true;
+            else
+                canonicalRgba = rgba;
+        }
+
+        return rgba;
     }
 }
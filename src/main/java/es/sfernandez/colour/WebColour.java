@@ -1,15 +1,9 @@
 package es.sfernandez.colour;
 
 import es.sfernandez.colour.codifications.AcceptedByCssColourCode;
-import es.sfernandez.colour.codifications.HexCode;
-import es.sfernandez.colour.codifications.HslCode;
-import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.codifications.CssColourCodeCache;
 import es.sfernandez.colour.conversion.ColourCodeConverter;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.List;
-import java.util.Optional;
-
 /**
  * <p>WebColour is a Colour that accept exclusively {@link AcceptedByCssColourCode}.</p>
  *
@@ -23,7 +17,7 @@ public class WebColour
 
     //---- Constructor ----
     /**
-     * <p>Creates a new WebColour.</p>
+     * <p>Creates a new WebColour that uses the shared {@link ColourCodeConverter#defaultConverter()}.</p>
      * @param code ColourCode
      */
     public WebColour(AcceptedByCssColourCode code) {
@@ -47,13 +41,23 @@ public class WebColour
         return ((AcceptedByCssColourCode) code).toCssCode();
     }
 
+    /**
+     * <p>Writes the CSS code of this {@link WebColour} at the end of builder, without creating intermediate strings.</p>
+     * @param builder where the CSS code is written
+     * @return builder
+     * @see AcceptedByCssColourCode#appendCssCode(StringBuilder)
+     */
+    public StringBuilder appendCssCode(final StringBuilder builder) {
+        return ((AcceptedByCssColourCode) code).appendCssCode(builder);
+    }
+
     /**
      * <p>Checks if the given param is a valid CSS colour code and returns true if it is.</p>
      * @param cssColourCode param to check
      * @return true if the given param is a valid CSS colour code, false otherwise
      */
     public static boolean isCssColourCode(final String cssColourCode) {
-        return colourCodeFrom(cssColourCode).isPresent();
+        return AcceptedByCssColourCode.fromCssCode(cssColourCode).isPresent();
     }
 
     /**
@@ -63,30 +67,25 @@ public class WebColour
      * @throws IllegalArgumentException if the given cssColourCode isn't a valid CSS code ({@link WebColour#isCssColourCode(String)})
      */
     public static WebColour from(final String cssColourCode) {
-        return colourCodeFrom(cssColourCode)
+        return AcceptedByCssColourCode.fromCssCode(cssColourCode)
                 .map(WebColour::new)
                 .orElseThrow(() -> new IllegalArgumentException("Error. '" + cssColourCode + "' is not a valid CSS colour code."));
     }
 
-    private static Optional<AcceptedByCssColourCode> colourCodeFrom(final String cssColourCode) {
-        for(Class<? extends AcceptedByCssColourCode> clazz : acceptedByCssColourCodeClasses()) {
-            try {
-                return Optional.of(clazz.getConstructor(String.class).newInstance(cssColourCode));
-            } catch (Exception ex) {
-                // If exception comes from invocation, and it is an IllegalArgumentException, it means that the
-                // cssColourCode is not accepted by CSS. Otherwise, class won't be correctly developed
-                if(!(ex instanceof InvocationTargetException invocationException)
-                        || !(invocationException.getTargetException() instanceof IllegalArgumentException))
-                    throw new RuntimeException(ex);
-            }
-        }
-
-        return Optional.empty();
-    }
+    /**
+     * <p>Creates a new WebColour from the given CSS colour code, reusing the codes already parsed by the given cache.</p>
+     * @param cssColourCode CSS colour code
+     * @param cache {@link CssColourCodeCache} used to get the colour code
+     * @return a new WebColour created from the given CSS colour code
+     * @throws IllegalArgumentException if cache is null or the given cssColourCode isn't a valid CSS code
+     * ({@link WebColour#isCssColourCode(String)})
+     */
+    public static WebColour from(final String cssColourCode, final CssColourCodeCache cache) {
+        if(cache == null)
+            throw new IllegalArgumentException("Error. The " + CssColourCodeCache.class.getSimpleName() + " is required.");
 
-    private static Iterable<Class<? extends AcceptedByCssColourCode>> acceptedByCssColourCodeClasses() {
-        return List.of(
-                RgbCode.class, HexCode.class, HslCode.class
-        );
+        return cache.fromCssCode(cssColourCode)
+                .map(WebColour::new)
+                .orElseThrow(() -> new IllegalArgumentException("Error. '" + cssColourCode + "' is not a valid CSS colour code."));
     }
 }
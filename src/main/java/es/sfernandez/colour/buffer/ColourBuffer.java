@@ -0,0 +1,274 @@
+package es.sfernandez.colour.buffer;
+
+import es.sfernandez.colour.codifications.CmykCode;
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.HsvCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+import es.sfernandez.colour.conversion.kernel.ColourKernels;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>A {@link ColourBuffer} stores a fixed number of colours codified in the same {@link ColourCode} (its space) in
+ * columns: one <code>float</code> plane for each component of the colours (e.g.: reds, greens, blues and alphas).</p>
+ * <p>Each colour takes 16 bytes, without any object header or reference, and components are read and written without
+ * boxing. A {@link ColourCode} is only created when a colour is requested with {@link #get(int)}.</p>
+ * <p>The planes follow the layout of {@link ColourKernels}, so the whole buffer can be converted in place to another
+ * space with {@link #convertTo(Class)}.</p>
+ * <p>A {@link ColourBuffer} is not thread-safe.</p>
+ *
+ * @author Sergio Fernández
+ */
+public final class ColourBuffer {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>{@link ColourCode} in which colours of a {@link ColourBuffer} can be codified.</p>
+     */
+    public static final Set<Class<? extends ColourCode>> SUPPORTED_SPACES = Set.of(
+            RgbCode.class, HslCode.class, HsvCode.class, CmykCode.class
+    );
+
+    /**
+     * <p>Number of components (planes) of each colour.</p>
+     */
+    public static final int COMPONENTS = ColourKernels.PLANES;
+
+    //---- Attributes ----
+    private final float[] planes;
+    private final int size;
+    private Class<? extends ColourCode> space;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link ColourBuffer} with size colours, all of them with every component equal to 0.</p>
+     * @param space {@link ColourCode} of the colours, one of {@link #SUPPORTED_SPACES}
+     * @param size number of colours
+     * @throws IllegalArgumentException if space is not supported, size is negative or the planes of size colours don't
+     * fit in an array
+     */
+    public ColourBuffer(final Class<? extends ColourCode> space, final int size) {
+        this(space, newPlanes(size), size);
+    }
+
+    private ColourBuffer(final Class<? extends ColourCode> space, final float[] planes, final int size) {
+        if(space == null || !SUPPORTED_SPACES.contains(space))
+            throw new IllegalArgumentException("Error. " + space + " is not supported by " + getClass().getSimpleName() +
+                    ", it must be one of " + SUPPORTED_SPACES + ".");
+
+        this.planes = planes;
+        this.size = size;
+        this.space = space;
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Creates a {@link ColourBuffer} that uses the given array as its planes, without copying it.</p>
+     * @param space {@link ColourCode} of the colours, one of {@link #SUPPORTED_SPACES}
+     * @param planes array with {@link #COMPONENTS} planes of size normalized components (see {@link ColourKernels})
+     * @param size number of colours
+     * @return a {@link ColourBuffer} backed by planes
+     * @throws IllegalArgumentException if space is not supported, planes is null or it hasn't got enough components
+     */
+    public static ColourBuffer wrap(final Class<? extends ColourCode> space, final float[] planes, final int size) {
+        if(planes == null || size < 0 || planes.length < (long) COMPONENTS * size)
+            throw new IllegalArgumentException("Error. The planes of " + size + " colours need " + (long) COMPONENTS * size +
+                    " components.");
+
+        return new ColourBuffer(space, planes, size);
+    }
+
+    /**
+     * @return number of colours of the buffer
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the {@link ColourCode} in which colours are currently codified
+     */
+    public Class<? extends ColourCode> space() {
+        return space;
+    }
+
+    /**
+     * <p>Returns the array with the planes of this buffer. Changes in it are changes in the buffer.</p>
+     * @return planes of the buffer, with the layout of {@link ColourKernels}
+     */
+    public float[] array() {
+        return planes;
+    }
+
+    /**
+     * @param index index of the colour
+     * @param component index of the component, following the order of the record components of {@link #space()}
+     * @return the normalized component of the colour
+     * @throws IndexOutOfBoundsException if index or component are out of bounds
+     */
+    public float get(final int index, final int component) {
+        return planes[offsetOf(index, component)];
+    }
+
+    /**
+     * <p>Sets one component of a colour.</p>
+     * @param index index of the colour
+     * @param component index of the component, following the order of the record components of {@link #space()}
+     * @param value normalized value of the component
+     * @throws IndexOutOfBoundsException if index or component are out of bounds
+     */
+    public void set(final int index, final int component, final float value) {
+        planes[offsetOf(index, component)] = value;
+    }
+
+    /**
+     * <p>Sets a colour from its components in {@link #space()}.</p>
+     * @param index index of the colour
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public void set(final int index, final float component0, final float component1, final float component2,
+                    final float component3) {
+        Objects.checkIndex(index, size);
+
+        planes[index] = component0;
+        planes[size + index] = component1;
+        planes[2 * size + index] = component2;
+        planes[3 * size + index] = component3;
+    }
+
+    /**
+     * <p>Sets a colour, converting it into {@link #space()} with the default {@link ColourCodeConverter} if needed.</p>
+     * @param index index of the colour
+     * @param code colour to store
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     * @throws IllegalArgumentException if code is null
+     */
+    public void set(final int index, final ColourCode code) {
+        if(code == null)
+            throw new IllegalArgumentException("Error. It's not possible to store a null " + ColourCode.class.getSimpleName() + ".");
+
+        switch(ColourCodeConverter.defaultConverter().convert(code, space)) {
+            case RgbCode(float red, float green, float blue, float alpha) -> set(index, red, green, blue, alpha);
+            case HslCode(float hue, float saturation, float lightness, float alpha) -> set(index, hue, saturation, lightness, alpha);
+            case HsvCode(float hue, float saturation, float brightness, float alpha) -> set(index, hue, saturation, brightness, alpha);
+            case CmykCode(float cyan, float magenta, float yellow, float black) -> set(index, cyan, magenta, yellow, black);
+            default -> throw new IllegalStateException("Unexpected space " + space);
+        }
+    }
+
+    /**
+     * <p>Creates the {@link ColourCode} of a colour.</p>
+     * @param index index of the colour
+     * @return a new {@link ColourCode} of type {@link #space()}
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public ColourCode get(final int index) {
+        Objects.checkIndex(index, size);
+
+        float component0 = planes[index];
+        float component1 = planes[size + index];
+        float component2 = planes[2 * size + index];
+        float component3 = planes[3 * size + index];
+
+        if(space == RgbCode.class)
+            return new RgbCode(component0, component1, component2, component3);
+        if(space == HslCode.class)
+            return new HslCode(component0, component1, component2, component3);
+        if(space == HsvCode.class)
+            return new HsvCode(component0, component1, component2, component3);
+
+        return new CmykCode(component0, component1, component2, component3);
+    }
+
+    /**
+     * <p>Creates the {@link RgbCode} of a colour, converting it if {@link #space()} is not RGB.</p>
+     * @param index index of the colour
+     * @return a new {@link RgbCode}
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public RgbCode getRgb(final int index) {
+        return ColourCodeConverter.defaultConverter().convert(get(index), RgbCode.class);
+    }
+
+    /**
+     * <p>Packs every colour of the buffer as an ARGB int (see {@link RgbCode#toArgb()}) into [offset, offset + size) of
+     * argb. Components out of [0, 1] are clamped, so they never spill over the other channels.</p>
+     * @param argb array where the colours are written
+     * @param offset index of argb where the first colour is written
+     * @throws IllegalArgumentException if argb is null
+     * @throws IllegalStateException if the colours aren't codified in RGB
+     * @throws IndexOutOfBoundsException if the colours don't fit in argb
+     */
+    public void toArgb(final int[] argb, final int offset) {
+        if(argb == null)
+            throw new IllegalArgumentException("Error. The array where the colours are packed is required.");
+        if(space != RgbCode.class)
+            throw new IllegalStateException("Error. Only RGB colours can be packed as ARGB, but they are " +
+                    space.getSimpleName() + ".");
+
+        Objects.checkFromIndexSize(offset, size, argb.length);
+        for(int i = 0; i < size; ++i)
+            argb[offset + i] = channel255(planes[3 * size + i]) << 24 | channel255(planes[i]) << 16
+                    | channel255(planes[size + i]) << 8 | channel255(planes[2 * size + i]);
+    }
+
+    /**
+     * <p>Converts every colour of the buffer into target, in place, using {@link ColourKernels#preferred()}. Conversions
+     * between two spaces that are not RGB go through RGB.</p>
+     * @param target {@link ColourCode} in which colours will be codified, one of {@link #SUPPORTED_SPACES}
+     * @throws IllegalArgumentException if target is not supported or any component is out of its range, in which case
+     * the buffer may be partially converted
+     */
+    public void convertTo(final Class<? extends ColourCode> target) {
+        if(target == null || !SUPPORTED_SPACES.contains(target))
+            throw new IllegalArgumentException("Error. " + target + " is not supported by " + getClass().getSimpleName() +
+                    ", it must be one of " + SUPPORTED_SPACES + ".");
+
+        if(target == space)
+            return;
+
+        ColourKernels kernels = ColourKernels.preferred();
+
+        if(space == HslCode.class)
+            kernels.hslToRgb(planes, planes, size, 0, size);
+        else if(space == HsvCode.class)
+            kernels.hsvToRgb(planes, planes, size, 0, size);
+        else if(space == CmykCode.class)
+            kernels.cmykToRgb(planes, planes, size, 0, size);
+        space = RgbCode.class;
+
+        if(target == HslCode.class)
+            kernels.rgbToHsl(planes, planes, size, 0, size);
+        else if(target == HsvCode.class)
+            kernels.rgbToHsv(planes, planes, size, 0, size);
+        else if(target == CmykCode.class)
+            kernels.rgbToCmyk(planes, planes, size, 0, size);
+        space = target;
+    }
+
+    private int offsetOf(final int index, final int component) {
+        Objects.checkIndex(index, size);
+        Objects.checkIndex(component, COMPONENTS);
+
+        return component * size + index;
+    }
+
+    private static int channel255(final float component) {
+        return Math.round(Math.max(0f, Math.min(1f, component)) * 255);
+    }
+
+    private static float[] newPlanes(final int size) {
+        if(size < 0)
+            throw new IllegalArgumentException("Error. The size of a buffer can't be negative (size: " + size + ").");
+
+        if((long) COMPONENTS * size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Error. The planes of " + size + " colours need " + (long) COMPONENTS * size +
+                    " components, which don't fit in an array.");
+
+        return new float[COMPONENTS * size];
+    }
+
+}
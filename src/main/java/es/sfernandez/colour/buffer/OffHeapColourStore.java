@@ -0,0 +1,232 @@
+package es.sfernandez.colour.buffer;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.NumUtils.denormalize;
+import static es.sfernandez.colour.utils.NumUtils.isNotBetween;
+
+/**
+ * <p>An {@link OffHeapColourStore} keeps a fixed number of RGBA colours outside the Java heap, in a direct
+ * {@link ByteBuffer}, so the garbage collector doesn't have to trace nor copy them, no matter how many there are.</p>
+ * <p>Colours are stored one after another, with the {@link Format} chosen on creation: four bytes per colour (RGBA8)
+ * or four floats per colour (RGBA float32). A store can also be created over an existing buffer (e.g.: a memory-mapped
+ * file) without copying it.</p>
+ * <p>Like {@link ColourBuffer}, colours are read and written by index without boxing, and they can be converted into
+ * any {@link ColourCode} or into a {@link ColourBuffer}.</p>
+ * <p>An {@link OffHeapColourStore} is not thread-safe.</p>
+ *
+ * @author Sergio Fernández
+ */
+public final class OffHeapColourStore {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>Binary format of each colour of an {@link OffHeapColourStore}.</p>
+     */
+    public enum Format {
+        /**
+         * <p>Red, green, blue and alpha as unsigned bytes, from 0 to 255.</p>
+         */
+        RGBA8(Byte.BYTES),
+        /**
+         * <p>Red, green, blue and alpha as normalized floats, from 0 to 1.</p>
+         */
+        RGBA_FLOAT32(Float.BYTES);
+
+        private final int bytesPerComponent;
+
+        Format(final int bytesPerComponent) {
+            this.bytesPerComponent = bytesPerComponent;
+        }
+
+        /**
+         * @return number of bytes taken by each colour
+         */
+        public int bytesPerColour() {
+            return COMPONENTS * bytesPerComponent;
+        }
+    }
+
+    private static final int COMPONENTS = ColourBuffer.COMPONENTS;
+
+    //---- Attributes ----
+    private final ByteBuffer buffer;
+    private final Format format;
+    private final int size;
+
+    //---- Constructor ----
+    private OffHeapColourStore(final ByteBuffer buffer, final Format format) {
+        this.buffer = buffer;
+        this.format = format;
+        this.size = buffer.capacity() / format.bytesPerColour();
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Allocates a new {@link OffHeapColourStore} with size colours, all of them with every component equal to 0.</p>
+     * @param format binary format of the colours
+     * @param size number of colours
+     * @return a new store, backed by a direct buffer in the native byte order
+     * @throws IllegalArgumentException if format is null, or if size is negative or too big for a single buffer
+     */
+    public static OffHeapColourStore allocate(final Format format, final int size) {
+        if(format == null)
+            throw new IllegalArgumentException("Error. The " + Format.class.getSimpleName() + " of the colours is required.");
+
+        if(size < 0 || (long) size * format.bytesPerColour() > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Error. It's not possible to allocate " + size + " colours of " + format + ".");
+
+        return new OffHeapColourStore(
+                ByteBuffer.allocateDirect(size * format.bytesPerColour()).order(ByteOrder.nativeOrder()),
+                format
+        );
+    }
+
+    /**
+     * <p>Creates an {@link OffHeapColourStore} over the remaining bytes of buffer, without copying them. Changes in the
+     * store are changes in the buffer and vice versa. Floats are read using the byte order of buffer.</p>
+     * @param format binary format of the colours stored in buffer
+     * @param buffer buffer with the colours, one after another
+     * @return a store backed by buffer
+     * @throws IllegalArgumentException if format or buffer are null, or if the remaining bytes of buffer aren't a whole
+     * number of colours
+     */
+    public static OffHeapColourStore wrap(final Format format, final ByteBuffer buffer) {
+        if(format == null || buffer == null)
+            throw new IllegalArgumentException("Error. The " + Format.class.getSimpleName() + " of the colours and the " +
+                    "buffer are required.");
+
+        if(buffer.remaining() % format.bytesPerColour() != 0)
+            throw new IllegalArgumentException("Error. " + buffer.remaining() + " bytes aren't a whole number of " +
+                    format + " colours.");
+
+        return new OffHeapColourStore(buffer.slice().order(buffer.order()), format);
+    }
+
+    /**
+     * @return number of colours of the store
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return binary format of the colours
+     */
+    public Format format() {
+        return format;
+    }
+
+    /**
+     * <p>Returns a view of the bytes of this store. Changes in it are changes in the store.</p>
+     * @return the buffer that backs this store
+     */
+    public ByteBuffer buffer() {
+        return buffer.duplicate().order(buffer.order());
+    }
+
+    /**
+     * @param index index of the colour
+     * @param component index of the component: red (0), green (1), blue (2) or alpha (3)
+     * @return the normalized component of the colour
+     * @throws IndexOutOfBoundsException if index or component are out of bounds
+     */
+    public float get(final int index, final int component) {
+        int offset = offsetOf(index, component);
+
+        return format == Format.RGBA8
+                ? (buffer.get(offset) & 0xFF) / 255f
+                : buffer.getFloat(offset);
+    }
+
+    /**
+     * <p>Sets one component of a colour. With {@link Format#RGBA8}, value is rounded to the nearest of the 256 levels.</p>
+     * @param index index of the colour
+     * @param component index of the component: red (0), green (1), blue (2) or alpha (3)
+     * @param value normalized value of the component
+     * @throws IndexOutOfBoundsException if index or component are out of bounds
+     * @throws IllegalArgumentException if value is not between [0, 1]
+     */
+    public void set(final int index, final int component, final float value) {
+        int offset = offsetOf(index, component);
+
+        if(isNotBetween(0f, 1f, value))
+            throw new IllegalArgumentException(value + " is out of range [0, 1], it's not possible to store it.");
+
+        if(format == Format.RGBA8)
+            buffer.put(offset, (byte) denormalize(0, 255, value));
+        else
+            buffer.putFloat(offset, value);
+    }
+
+    /**
+     * @param index index of the colour
+     * @return the colour as a new {@link RgbCode}
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public RgbCode get(final int index) {
+        return new RgbCode(get(index, 0), get(index, 1), get(index, 2), get(index, 3));
+    }
+
+    /**
+     * @param index index of the colour
+     * @param target {@link ColourCode} type in which the colour is returned
+     * @return the colour converted into target with the default {@link ColourCodeConverter}
+     * @param <T> ColourCode type in which the colour is returned
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public <T extends ColourCode> T get(final int index, final Class<T> target) {
+        return ColourCodeConverter.defaultConverter().convert(get(index), target);
+    }
+
+    /**
+     * <p>Sets a colour, converting it into RGB with the default {@link ColourCodeConverter} if needed.</p>
+     * @param index index of the colour
+     * @param code colour to store
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     * @throws IllegalArgumentException if code is null
+     */
+    public void set(final int index, final ColourCode code) {
+        if(code == null)
+            throw new IllegalArgumentException("Error. It's not possible to store a null " + ColourCode.class.getSimpleName() + ".");
+
+        RgbCode rgb = ColourCodeConverter.defaultConverter().convert(code, RgbCode.class);
+        set(index, 0, rgb.red());
+        set(index, 1, rgb.green());
+        set(index, 2, rgb.blue());
+        set(index, 3, rgb.alpha());
+    }
+
+    /**
+     * <p>Copies every colour of this store into a new {@link ColourBuffer} and converts it into space.</p>
+     * @param space {@link ColourCode} of the buffer, one of {@link ColourBuffer#SUPPORTED_SPACES}
+     * @return a new {@link ColourBuffer} with the colours of this store
+     * @throws IllegalArgumentException if space is not supported by {@link ColourBuffer}
+     * @see ColourBuffer#convertTo(Class)
+     */
+    public ColourBuffer toColourBuffer(final Class<? extends ColourCode> space) {
+        ColourBuffer colours = new ColourBuffer(RgbCode.class, size);
+        float[] planes = colours.array();
+
+        for(int component = 0; component < COMPONENTS; ++component)
+            for(int i = 0; i < size; ++i)
+                planes[component * size + i] = get(i, component);
+
+        colours.convertTo(space);
+        return colours;
+    }
+
+    private int offsetOf(final int index, final int component) {
+        Objects.checkIndex(index, size);
+        Objects.checkIndex(component, COMPONENTS);
+
+        return index * format.bytesPerColour() + component * format.bytesPerComponent;
+    }
+
+}
@@ -1,5 +1,9 @@
 package es.sfernandez.colour.codifications;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
 /**
  * <p>Indicates that a {@link ColourCode} is accepted as value in CSS properties. For example, in could be used as
  * background or font color.</p>
@@ -13,6 +17,70 @@ public interface AcceptedByCssColourCode
     /**
      * @return the CSS representation of the {@link ColourCode}
      */
-    String toCssCode();
-    
+    default String toCssCode() {
+        return appendCssCode(new StringBuilder(32)).toString();
+    }
+
+    /**
+     * <p>Writes the CSS representation of the {@link ColourCode} into out, without creating intermediate strings.</p>
+     * @param out where the CSS code is written
+     * @return out
+     * @throws IOException if out can't be written
+     * @see #toCssCode()
+     */
+    Appendable appendCssCode(Appendable out) throws IOException;
+
+    /**
+     * <p>Writes the CSS representation of the {@link ColourCode} at the end of builder, without creating intermediate
+     * strings.</p>
+     * @param builder where the CSS code is written
+     * @return builder
+     * @see #toCssCode()
+     */
+    default StringBuilder appendCssCode(final StringBuilder builder) {
+        try {
+            appendCssCode((Appendable) builder);
+            return builder;
+        } catch(IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * <p>Creates the {@link AcceptedByCssColourCode} represented by the given CSS code, which can be an {@link HexCode},
+     * an {@link RgbCode} or an {@link HslCode}.</p>
+     * <p>The code is read in a single pass, and no exception is thrown (and caught) when it isn't valid.</p>
+     * @param cssCode CSS colour code (e.g.: "#fa39e4", "rgb(30, 90, 220)" or "hsla(300, 90%, 20%, 0.5)")
+     * @return the {@link AcceptedByCssColourCode} represented by cssCode, or empty if cssCode isn't a valid CSS code
+     */
+    static Optional<AcceptedByCssColourCode> fromCssCode(final String cssCode) {
+        if(cssCode == null || cssCode.isEmpty())
+            return Optional.empty();
+
+        return switch (cssCode.charAt(0)) {
+            case 'r' -> Optional.ofNullable(rgbCodeFrom(CssColourCodeScanner.scanRgb(cssCode)));
+            case 'h' -> Optional.ofNullable(hslCodeFrom(CssColourCodeScanner.scanHsl(cssCode)));
+            default -> Optional.ofNullable(hexCodeFrom(CssColourCodeScanner.scanHexDigits(cssCode)));
+        };
+    }
+
+    private static HexCode hexCodeFrom(final char[] digits) {
+        return digits != null ? HexCode.ofScannedDigits(digits) : null;
+    }
+
+    private static RgbCode rgbCodeFrom(final int[] values) {
+        if(values == null || values[0] > 255 || values[1] > 255 || values[2] > 255)
+            return null;
+
+        return new RgbCode(values[0], values[1], values[2], values[3]);
+    }
+
+    private static HslCode hslCodeFrom(final int[] values) {
+        if(values == null || values[0] > 360 || values[1] > 100 || values[2] > 100)
+            return null;
+
+        return new HslCode(values[0], values[1], values[2], values[3]);
+    }
+
 }
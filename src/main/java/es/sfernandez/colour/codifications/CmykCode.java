@@ -2,6 +2,8 @@ package es.sfernandez.colour.codifications;
 
 import es.sfernandez.colour.utils.NumUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -106,7 +108,42 @@ public record CmykCode(float cyan, float magenta, float yellow, float black)
      * @return its CMYK representation (e.g.: "C25 M50 Y75 K100")
      */
     public String toCode() {
-        return String.format("C%d M%d Y%d K%d", cyanPercentage(), magentaPercentage(), yellowPercentage(), blackPercentage());
+        return appendCode(new StringBuilder(20)).toString();
+    }
+
+    /**
+     * <p>Writes its CMYK representation (e.g.: "C25 M50 Y75 K100") into out, without creating intermediate strings.</p>
+     * @param out where the code is written
+     * @return out
+     * @throws IOException if out can't be written
+     */
+    public Appendable appendCode(final Appendable out) throws IOException {
+        out.append('C');
+        ColourCodeFormatter.appendNumber(out, cyanPercentage());
+        out.append(" M");
+        ColourCodeFormatter.appendNumber(out, magentaPercentage());
+        out.append(" Y");
+        ColourCodeFormatter.appendNumber(out, yellowPercentage());
+        out.append(" K");
+        ColourCodeFormatter.appendNumber(out, blackPercentage());
+
+        return out;
+    }
+
+    /**
+     * <p>Writes its CMYK representation (e.g.: "C25 M50 Y75 K100") at the end of builder, without creating intermediate
+     * strings.</p>
+     * @param builder where the code is written
+     * @return builder
+     */
+    public StringBuilder appendCode(final StringBuilder builder) {
+        try {
+            appendCode((Appendable) builder);
+            return builder;
+        } catch(IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -0,0 +1,53 @@
+package es.sfernandez.colour.codifications;
+
+import java.io.IOException;
+
+/**
+ * <p>Writes the numbers of colour codes (e.g.: "rgba(30, 90, 220, 0.50)") directly into an {@link Appendable}, digit
+ * by digit, without creating intermediate strings, boxing them or parsing a format.</p>
+ * <p>It writes the same text as <code>String.format(Locale.US, "%d")</code> and
+ * <code>String.format(Locale.US, "%.2f")</code>.</p>
+ *
+ * @author Sergio Fernández
+ */
+final class ColourCodeFormatter {
+
+    //---- Constructor ----
+    private ColourCodeFormatter() {
+    }
+
+    //---- Methods ----
+    /**
+     * @param out where the number is written
+     * @param number number between [0, 999]
+     * @throws IOException if out can't be written
+     */
+    static void appendNumber(final Appendable out, final int number) throws IOException {
+        if(number >= 100)
+            out.append(digit(number / 100));
+        if(number >= 10)
+            out.append(digit(number / 10 % 10));
+        out.append(digit(number % 10));
+    }
+
+    /**
+     * <p>Writes alpha with two decimals, rounding half up (e.g.: 0.125 is written as "0.13").</p>
+     * @param out where alpha is written
+     * @param alpha alpha value between [0, 1]
+     * @throws IOException if out can't be written
+     */
+    static void appendAlpha(final Appendable out, final float alpha) throws IOException {
+        // A float is never close enough to a half hundredth for alpha * 100 to be rounded to the wrong side of it
+        int hundredths = (int) Math.round(alpha * 100d);
+
+        out.append(digit(hundredths / 100))
+                .append('.')
+                .append(digit(hundredths / 10 % 10))
+                .append(digit(hundredths % 10));
+    }
+
+    private static char digit(final int value) {
+        return (char) ('0' + value);
+    }
+
+}
@@ -0,0 +1,162 @@
+package es.sfernandez.colour.codifications;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A {@link CssColourCodeCache} keeps the {@link AcceptedByCssColourCode} created from the last used CSS codes, so
+ * repeated codes don't need to be parsed again. It's useful when the same few colours are read many times, e.g.: from
+ * stylesheets.</p>
+ * <p>It's bounded to a maximum number of codes, evicting the least recently used ones once it's full. Invalid CSS codes
+ * are cached too (as empty results). It's safe to share one cache between several threads: codes are split in several
+ * segments, each one guarded by its own lock, and they're parsed outside of those locks.</p>
+ *
+ * @see AcceptedByCssColourCode#fromCssCode(String)
+ *
+ * @author Sergio Fernández
+ */
+public final class CssColourCodeCache {
+
+    //---- Constants and Definitions ----
+    private static final int MAX_SEGMENTS = 16;
+
+    private static final class Segment
+            extends LinkedHashMap<String, Optional<AcceptedByCssColourCode>> {
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(final int capacity, final LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Optional<AcceptedByCssColourCode>> eldest) {
+            if(size() <= capacity)
+                return false;
+
+            evictions.increment();
+            return true;
+        }
+    }
+
+    //---- Attributes ----
+    private final int maximumSize;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new empty {@link CssColourCodeCache}.</p>
+     * @param maximumSize maximum number of CSS codes kept in the cache
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public CssColourCodeCache(final int maximumSize) {
+        if(maximumSize <= 0)
+            throw new IllegalArgumentException("Error. The maximum size of the cache must be positive. (maximumSize=" + maximumSize + ")");
+
+        this.maximumSize = maximumSize;
+        this.segments = new Segment[Math.min(MAX_SEGMENTS, maximumSize)];
+        for(int i = 0; i < segments.length; ++i) {
+            int capacity = maximumSize / segments.length + (i < maximumSize % segments.length ? 1 : 0);
+            segments[i] = new Segment(capacity, evictions);
+        }
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Returns the {@link AcceptedByCssColourCode} represented by the given CSS code. If the code has been used
+     * recently, the cached result is returned. Otherwise, it's parsed and stored in the cache.</p>
+     * @param cssCode CSS colour code (e.g.: "#fa39e4", "rgb(30, 90, 220)" or "hsla(300, 90%, 20%, 0.5)")
+     * @return the {@link AcceptedByCssColourCode} represented by cssCode, or empty if cssCode isn't a valid CSS code
+     * @see AcceptedByCssColourCode#fromCssCode(String)
+     */
+    public Optional<AcceptedByCssColourCode> fromCssCode(final String cssCode) {
+        if(cssCode == null)
+            return Optional.empty();
+
+        Segment segment = segmentOf(cssCode);
+        Optional<AcceptedByCssColourCode> cachedCode;
+        synchronized (segment) {
+            cachedCode = segment.get(cssCode);
+        }
+
+        if(cachedCode != null) {
+            hits.increment();
+            return cachedCode;
+        }
+
+        misses.increment();
+        Optional<AcceptedByCssColourCode> code = AcceptedByCssColourCode.fromCssCode(cssCode);
+        synchronized (segment) {
+            cachedCode = segment.putIfAbsent(cssCode, code);
+        }
+
+        return cachedCode != null ? cachedCode : code;
+    }
+
+    private Segment segmentOf(final String cssCode) {
+        int hash = cssCode.hashCode();
+        return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+    }
+
+    /**
+     * <p>Removes every cached code. Statistics aren't reset.</p>
+     */
+    public void clear() {
+        for(Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * @return maximum number of CSS codes kept in the cache
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return number of CSS codes currently cached
+     */
+    public int size() {
+        int size = 0;
+        for(Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * @return number of times a requested CSS code was found in the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of times a requested CSS code wasn't found in the cache and had to be parsed
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of CSS codes removed from the cache to make room for new ones
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+}
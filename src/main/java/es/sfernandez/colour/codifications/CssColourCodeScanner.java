@@ -0,0 +1,198 @@
+package es.sfernandez.colour.codifications;
+
+/**
+ * <p>Single-pass scanner of the CSS colour codes accepted by {@link HexCode}, {@link RgbCode} and {@link HslCode}.</p>
+ * <p>It accepts exactly the same expressions as {@link HexCode#HEX_CODE_PATTERN}, {@link RgbCode#CSS_CODE_PATTERN},
+ * {@link RgbCode#CSS_CODE_WITH_TRANSPARENCY_PATTERN}, {@link HslCode#CSS_CODE_PATTERN} and
+ * {@link HslCode#CSS_CODE_WITH_TRANSPARENCY_PATTERN}, but without using regular expressions or exceptions. It only
+ * checks the syntax of the code, so the ranges of the scanned values have to be checked by the caller.</p>
+ *
+ * @author Sergio Fernández
+ */
+final class CssColourCodeScanner {
+
+    //---- Constants and Definitions ----
+    private static final int MAX_NUMBER_DIGITS = 3;
+    private static final int OPAQUE_PERCENTAGE = 100;
+
+    //---- Attributes ----
+    private final String code;
+    private int position;
+
+    //---- Constructor ----
+    private CssColourCodeScanner(final String code) {
+        this.code = code;
+    }
+
+    //---- Methods ----
+    /**
+     * @param code expression to scan
+     * @return the upper-cased hexadecimal digits of code (without '#'), or null if code isn't an hex code
+     */
+    static String scanHex(final String code) {
+        char[] digits = scanHexDigits(code);
+
+        return digits != null ? new String(digits) : null;
+    }
+
+    /**
+     * @param code expression to scan
+     * @return the upper-cased hexadecimal digits of code (without '#'), or null if code isn't an hex code
+     */
+    static char[] scanHexDigits(final String code) {
+        if(code == null)
+            return null;
+
+        int start = !code.isEmpty() && code.charAt(0) == '#' ? 1 : 0;
+        int length = code.length() - start;
+        if(length != 3 && length != 4 && length != 6 && length != 8)
+            return null;
+
+        char[] digits = new char[length];
+        for(int i = 0; i < length; ++i) {
+            char c = code.charAt(start + i);
+            if('a' <= c && c <= 'f')
+                c = (char) (c - 'a' + 'A');
+            else if(!('0' <= c && c <= '9') && !('A' <= c && c <= 'F'))
+                return null;
+
+            digits[i] = c;
+        }
+
+        return digits;
+    }
+
+    /**
+     * @param code expression to scan
+     * @return red, green, blue and alpha percentage of code, or null if code isn't an rgb or rgba CSS code
+     */
+    static int[] scanRgb(final String code) {
+        return code != null
+                ? new CssColourCodeScanner(code).scanFunction("rgb", "rgba", false)
+                : null;
+    }
+
+    /**
+     * @param code expression to scan
+     * @return hue, saturation, lightness and alpha percentage of code, or null if code isn't an hsl or hsla CSS code
+     */
+    static int[] scanHsl(final String code) {
+        return code != null
+                ? new CssColourCodeScanner(code).scanFunction("hsl", "hsla", true)
+                : null;
+    }
+
+    private int[] scanFunction(final String opaqueName, final String transparentName, final boolean percentages) {
+        boolean hasAlpha;
+        if(consume(transparentName))
+            hasAlpha = true;
+        else if(consume(opaqueName))
+            hasAlpha = false;
+        else
+            return null;
+
+        if(!consume('('))
+            return null;
+
+        int[] values = new int[4];
+        for(int i = 0; i < 3; ++i) {
+            if(i > 0 && !consumeSeparator())
+                return null;
+
+            skipWhitespaces();
+            values[i] = consumeNumber();
+            if(values[i] < 0 || (percentages && i > 0 && !consume('%')))
+                return null;
+        }
+
+        if(hasAlpha) {
+            if(!consumeSeparator())
+                return null;
+
+            skipWhitespaces();
+            values[3] = consumeAlphaPercentage();
+            if(values[3] < 0)
+                return null;
+        } else {
+            values[3] = OPAQUE_PERCENTAGE;
+        }
+
+        skipWhitespaces();
+        if(!consume(')') || position != code.length())
+            return null;
+
+        return values;
+    }
+
+    private boolean consumeSeparator() {
+        skipWhitespaces();
+        return consume(',');
+    }
+
+    private boolean consume(final String expected) {
+        if(!code.startsWith(expected, position))
+            return false;
+
+        position += expected.length();
+        return true;
+    }
+
+    private boolean consume(final char expected) {
+        if(position >= code.length() || code.charAt(position) != expected)
+            return false;
+
+        ++position;
+        return true;
+    }
+
+    private void skipWhitespaces() {
+        while(position < code.length() && isWhitespace(code.charAt(position)))
+            ++position;
+    }
+
+    private int consumeNumber() {
+        int number = 0;
+        int digits = 0;
+
+        while(digits < MAX_NUMBER_DIGITS && position < code.length() && isDigit(code.charAt(position))) {
+            number = number * 10 + (code.charAt(position) - '0');
+            ++position;
+            ++digits;
+        }
+
+        return digits > 0 ? number : -1;
+    }
+
+    private int consumeAlphaPercentage() {
+        if(consume('1'))
+            return OPAQUE_PERCENTAGE;
+
+        if(!consume('0'))
+            return -1;
+
+        if(!consume('.'))
+            return 0;
+
+        int percentage = 0;
+        for(int i = 0; i < 2; ++i) {
+            boolean hasDigit = position < code.length() && isDigit(code.charAt(position));
+            if(!hasDigit && i == 0)
+                return -1;
+
+            percentage *= 10;
+            if(hasDigit)
+                percentage += code.charAt(position++) - '0';
+        }
+
+        return percentage;
+    }
+
+    private static boolean isDigit(final char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+}
@@ -1,10 +1,8 @@
 package es.sfernandez.colour.codifications;
 
-import java.util.Objects;
-import java.util.regex.Matcher;
+import java.io.IOException;
 import java.util.regex.Pattern;
 
-import static es.sfernandez.colour.utils.NumUtils.castHexToInt;
 import static es.sfernandez.colour.utils.NumUtils.normalize;
 
 /**
@@ -32,23 +30,57 @@ public final class HexCode
      * @throws IllegalArgumentException if code doesn't match {@link HexCode#HEX_CODE_PATTERN}
      */
     public HexCode(final String code) {
+        this(digitsOf(code));
+    }
+
+    private HexCode(final char[] digits) {
+        this.value = new String(digits);
+    }
+
+    private static char[] digitsOf(final String code) {
         if(code == null || code.isBlank())
             throw new IllegalArgumentException("Can not create an HexCode with null/blank value.");
 
-        this.value = extractValueFrom(code);
+        char[] digits = CssColourCodeScanner.scanHexDigits(code);
+        if(digits == null)
+            throw new IllegalArgumentException("Given expression doesn't match an HexCode. (value='" + code + "')");
+
+        return digits;
     }
 
-    private String extractValueFrom(String code) {
-        return matchHexCode(code).group(1).toUpperCase();
+    /**
+     * <p>Creates a new {@link HexCode} from the digits already scanned by
+     * {@link CssColourCodeScanner#scanHexDigits(String)}, without scanning them again.</p>
+     * @param digits upper-cased hexadecimal digits, without '#'
+     * @return a new {@link HexCode} with the given digits
+     */
+    static HexCode ofScannedDigits(final char[] digits) {
+        return new HexCode(digits);
     }
 
-    private Matcher matchHexCode(String code) {
-        Matcher matcher = HEX_CODE_PATTERN.matcher(code);
+    /**
+     * <p>Creates a new {@link HexCode} from a packed 32-bit ARGB representation. The code will only have explicit
+     * opacity if the colour isn't opaque.</p>
+     * @param argb int that contains, from the highest to the lowest byte, the alpha, red, green and blue values
+     *             (between [0, 255]). E.g.: <code>0x80FF0000</code> is red with 50% opacity.
+     * @return a new {@link HexCode} equivalent to the given ARGB value (e.g.: "#FF000080")
+     * @see HexCode#toArgb()
+     */
+    public static HexCode ofArgb(final int argb) {
+        int alpha = argb >>> 24;
 
-        if(!matcher.matches())
-            throw new IllegalArgumentException("Given expression doesn't match an HexCode. (value='" + code + "')");
+        return alpha == 0xFF
+                ? new HexCode(toHexDigits(argb, 6))
+                : new HexCode(toHexDigits((argb << 8) | alpha, 8));
+    }
+
+    private static char[] toHexDigits(final int number, final int numOfDigits) {
+        char[] digits = new char[numOfDigits];
 
-        return matcher;
+        for(int i = numOfDigits - 1; i >= 0; --i)
+            digits[i] = Character.toUpperCase(Character.forDigit((number >>> ((numOfDigits - 1 - i) * 4)) & 0xF, 16));
+
+        return digits;
     }
 
     //---- Methods ----
@@ -64,6 +96,11 @@ public final class HexCode
         return value();
     }
 
+    @Override
+    public Appendable appendCssCode(final Appendable out) throws IOException {
+        return out.append('#').append(value);
+    }
+
     @Override
     public String toString() {
         return toCssCode();
@@ -74,27 +111,33 @@ public final class HexCode
         if (this == o) return true;
         if (!(o instanceof HexCode hexCode)) return false;
 
-        return Objects.equals(
-                reduceAsMuchAsPossible(value),
-                reduceAsMuchAsPossible(hexCode.value)
-        );
+        return toArgb() == hexCode.toArgb();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(reduceAsMuchAsPossible(value));
+        return toArgb();
     }
 
-    private String reduceAsMuchAsPossible(final String hexCode) {
-        String value = hexCode;
+    /**
+     * @return the code packed in a 32-bit ARGB int, containing from the highest to the lowest byte the alpha, red, green
+     * and blue values (between [0, 255]). E.g.: "#FF000080" is <code>0x80FF0000</code>.
+     * @see HexCode#ofArgb(int)
+     */
+    public int toArgb() {
+        int alpha = hasExplicitOpacity() ? channel(3) : 0xFF;
 
-        if(hasUnnecessaryExplicitOpacity(value))
-            value = removeOpacity(value);
+        return (alpha << 24) | (channel(0) << 16) | (channel(1) << 8) | channel(2);
+    }
 
-        if(canBeSimplified(value))
-            value = simplify(value);
+    private int channel(final int index) {
+        return isSimplified()
+                ? hexDigitAt(index) * 0x11
+                : hexDigitAt(2 * index) * 16 + hexDigitAt(2 * index + 1);
+    }
 
-        return value;
+    private int hexDigitAt(final int index) {
+        return Character.digit(value.charAt(index), 16);
     }
 
     /**
@@ -109,27 +152,6 @@ public final class HexCode
         return value.length() == 3 || value.length() == 4;
     }
 
-    private boolean canBeSimplified(String value) {
-        if(value.length() == 6 || value.length() == 8) {
-            for(int i = 0; i < value.length(); i+=2)
-                if(value.charAt(i) != value.charAt(i +1))
-                    return false;
-
-            return true;
-        }
-
-        return false;
-    }
-
-    private String simplify(String value) {
-        StringBuilder simplifiedValue = new StringBuilder();
-
-        for(int i = 0; i < value.length(); i+=2)
-            simplifiedValue.append(value.charAt(i));
-
-        return simplifiedValue.toString();
-    }
-
     @Override
     public float alpha() {
         return hasExplicitOpacity()
@@ -138,11 +160,7 @@ public final class HexCode
     }
 
     private float getOpacityFromHexCode() {
-        int opacity = isSimplified()
-                ? castHexToInt(value.substring(3, 4).repeat(2))
-                : castHexToInt(value.substring(6, 8));
-
-        return normalize(0, 255, opacity);
+        return normalize(0, 255, channel(3));
     }
 
     /**
@@ -157,15 +175,4 @@ public final class HexCode
     public boolean hasExplicitOpacity() {
         return value.length() == 4 || value.length() == 8;
     }
-
-    private boolean hasUnnecessaryExplicitOpacity(String value) {
-        return (value.length() == 4 && value.charAt(3) == 'F')
-                || (value.length() == 8 && value.endsWith("FF"));
-    }
-
-    private String removeOpacity(String value) {
-        return value.length() == 4
-                ? value.substring(0, 3)
-                : value.substring(0, 6);
-    }
 }
@@ -1,8 +1,7 @@
 package es.sfernandez.colour.codifications;
 
-import java.util.Locale;
+import java.io.IOException;
 import java.util.Objects;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static es.sfernandez.colour.utils.NumUtils.*;
@@ -90,51 +89,22 @@ public record HslCode(float hue, float saturation, float lightness, float alpha)
      * {@link HslCode#CSS_CODE_WITH_TRANSPARENCY_PATTERN} or any property in expression it's out of bounds.
      */
     public HslCode(String cssCode) {
-        this(
-                extractHueValueFromCssCode(cssCode),
-                extractSaturationValueFromCssCode(cssCode),
-                extractLightnessValueFromCssCode(cssCode),
-                extractAlphaValueFromCssCode(cssCode)
-        );
-    }
-
-    private static int extractHueValueFromCssCode(String cssCode) {
-        return Integer.parseInt(matchCssCode(cssCode).group(1));
+        this(scanCssCode(cssCode));
     }
 
-    private static int extractSaturationValueFromCssCode(String cssCode) {
-        return Integer.parseInt(matchCssCode(cssCode).group(2));
+    private HslCode(int[] cssCodeValues) {
+        this(cssCodeValues[0], cssCodeValues[1], cssCodeValues[2], cssCodeValues[3]);
     }
 
-    private static int extractLightnessValueFromCssCode(String cssCode) {
-        return Integer.parseInt(matchCssCode(cssCode).group(3));
-    }
-
-    private static int extractAlphaValueFromCssCode(String cssCode) {
+    private static int[] scanCssCode(String cssCode) {
         if(cssCode == null)
             throw new IllegalArgumentException("Css code must not be null.");
 
-        Matcher matcher = CSS_CODE_WITH_TRANSPARENCY_PATTERN.matcher(cssCode);
-
-        if(!matcher.matches())
-            return 100;
-        else
-            return denormalize(0, 100, Float.parseFloat(matcher.group(4)));
-    }
-
-    private static Matcher matchCssCode(String cssCode) {
-        if(cssCode == null)
-            throw new IllegalArgumentException("Css code must not be null.");
-
-        Matcher matcher = CSS_CODE_WITH_TRANSPARENCY_PATTERN.matcher(cssCode);
-
-        if(!matcher.matches())
-            matcher = CSS_CODE_PATTERN.matcher(cssCode);
-
-        if(!matcher.matches())
+        int[] values = CssColourCodeScanner.scanHsl(cssCode);
+        if(values == null)
             throw new IllegalArgumentException("Given expression doesn't match CSS hsl code. (value='" + cssCode + "')");
 
-        return matcher;
+        return values;
     }
 
     private static void assertIsNormalizedValue(float value, String propertyName) {
@@ -144,11 +114,20 @@ public record HslCode(float hue, float saturation, float lightness, float alpha)
 
     //---- Methods ----
     @Override
-    public String toCssCode() {
-        if(isOpaque())
-            return String.format("hsl(%d, %d%%, %d%%)", hueDegrees(), saturationPercentage(), lightnessPercentage());
-        else
-            return String.format(Locale.US, "hsla(%d, %d%%, %d%%, %.2f)", hueDegrees(), saturationPercentage(), lightnessPercentage(), alpha);
+    public Appendable appendCssCode(final Appendable out) throws IOException {
+        out.append(isOpaque() ? "hsl(" : "hsla(");
+        ColourCodeFormatter.appendNumber(out, hueDegrees());
+        out.append(", ");
+        ColourCodeFormatter.appendNumber(out, saturationPercentage());
+        out.append("%, ");
+        ColourCodeFormatter.appendNumber(out, lightnessPercentage());
+        out.append('%');
+        if(!isOpaque()) {
+            out.append(", ");
+            ColourCodeFormatter.appendAlpha(out, alpha);
+        }
+
+        return out.append(')');
     }
 
     @Override
@@ -0,0 +1,57 @@
+package es.sfernandez.colour.codifications;
+
+import static es.sfernandez.colour.utils.NumUtils.isNotBetween;
+
+/**
+ * <p>{@link LabCode} represents colours in the CIELAB (L*a*b*) colour space, relative to the D65 reference white.</p>
+ * <p>CIELAB is designed to be perceptually uniform: the euclidean distance between two LabCodes is the CIE76 colour
+ * difference (ΔE*ab), which is close to the difference perceived by humans. a and b aren't bounded, colours out of the
+ * sRGB gamut are clipped when converted into RGB.</p>
+ *
+ * @param lightness lightness value of the code (value between [0, 100])
+ * @param a green (negative) to red (positive) value of the code (around [-128, 127])
+ * @param b blue (negative) to yellow (positive) value of the code (around [-128, 127])
+ * @param alpha alpha value of the code (value between [0, 1])
+ *
+ * @see ColourCode
+ * @see HasOpacity
+ * @see LchCode
+ * @see <a href="https://en.wikipedia.org/wiki/CIELAB_color_space">CIELAB colour space in Wikipedia.</a>
+ *
+ * @author Sergio Fernández
+ */
+public record LabCode(float lightness, float a, float b, float alpha)
+        implements ColourCode, HasOpacity {
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link LabCode}.</p>
+     * @param lightness property between [0, 100]
+     * @param a finite property
+     * @param b finite property
+     * @param alpha property between [0, 1]
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public LabCode {
+        if(isNotBetween(0f, 100f, lightness))
+            throw new IllegalArgumentException("Lightness value is out of range [0.0, 100.0]. (value=" + lightness + ")");
+        if(!Float.isFinite(a))
+            throw new IllegalArgumentException("A value must be a finite number. (value=" + a + ")");
+        if(!Float.isFinite(b))
+            throw new IllegalArgumentException("B value must be a finite number. (value=" + b + ")");
+        if(isNotBetween(0f, 1f, alpha))
+            throw new IllegalArgumentException("Alpha value is out of range [0.0, 1.0]. (value=" + alpha + ")");
+    }
+
+    /**
+     * <p>Creates a new opaque {@link LabCode}.</p>
+     * @param lightness property between [0, 100]
+     * @param a finite property
+     * @param b finite property
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public LabCode(float lightness, float a, float b) {
+        this(lightness, a, b, 1.0f);
+    }
+
+}
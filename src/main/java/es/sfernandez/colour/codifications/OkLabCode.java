@@ -0,0 +1,57 @@
+package es.sfernandez.colour.codifications;
+
+import static es.sfernandez.colour.utils.NumUtils.isNotBetween;
+
+/**
+ * <p>{@link OkLabCode} represents colours in the OKLAB colour space, a perceptual colour space like CIELAB
+ * ({@link LabCode}) that predicts better the lightness, chroma and hue perceived by humans, above all for blue
+ * colours. That makes it a good space to mix colours and build gradients.</p>
+ * <p>a and b aren't bounded, colours out of the sRGB gamut are clipped when converted into RGB.</p>
+ *
+ * @param lightness lightness value of the code (value between [0, 1])
+ * @param a green (negative) to red (positive) value of the code (around [-0.4, 0.4])
+ * @param b blue (negative) to yellow (positive) value of the code (around [-0.4, 0.4])
+ * @param alpha alpha value of the code (value between [0, 1])
+ *
+ * @see ColourCode
+ * @see HasOpacity
+ * @see OkLchCode
+ * @see <a href="https://bottosson.github.io/posts/oklab/">OKLAB definition.</a>
+ *
+ * @author Sergio Fernández
+ */
+public record OkLabCode(float lightness, float a, float b, float alpha)
+        implements ColourCode, HasOpacity {
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link OkLabCode}.</p>
+     * @param lightness property between [0, 1]
+     * @param a finite property
+     * @param b finite property
+     * @param alpha property between [0, 1]
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public OkLabCode {
+        if(isNotBetween(0f, 1f, lightness))
+            throw new IllegalArgumentException("Lightness value is out of range [0.0, 1.0]. (value=" + lightness + ")");
+        if(!Float.isFinite(a))
+            throw new IllegalArgumentException("A value must be a finite number. (value=" + a + ")");
+        if(!Float.isFinite(b))
+            throw new IllegalArgumentException("B value must be a finite number. (value=" + b + ")");
+        if(isNotBetween(0f, 1f, alpha))
+            throw new IllegalArgumentException("Alpha value is out of range [0.0, 1.0]. (value=" + alpha + ")");
+    }
+
+    /**
+     * <p>Creates a new opaque {@link OkLabCode}.</p>
+     * @param lightness property between [0, 1]
+     * @param a finite property
+     * @param b finite property
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public OkLabCode(float lightness, float a, float b) {
+        this(lightness, a, b, 1.0f);
+    }
+
+}
@@ -0,0 +1,55 @@
+package es.sfernandez.colour.codifications;
+
+import static es.sfernandez.colour.utils.NumUtils.isNotBetween;
+
+/**
+ * <p>{@link OkLchCode} represents colours in the OKLCh colour space, which is the polar form of OKLAB
+ * ({@link OkLabCode}): the same lightness, the chroma (distance to the grey of the same lightness) and the hue angle.</p>
+ *
+ * @param lightness lightness value of the code (value between [0, 1])
+ * @param chroma chroma value of the code (not negative, around [0, 0.33] inside sRGB)
+ * @param hue hue degrees of the code (value between [0, 360))
+ * @param alpha alpha value of the code (value between [0, 1])
+ *
+ * @see ColourCode
+ * @see HasOpacity
+ * @see OkLabCode
+ * @see <a href="https://bottosson.github.io/posts/oklab/">OKLAB definition.</a>
+ *
+ * @author Sergio Fernández
+ */
+public record OkLchCode(float lightness, float chroma, float hue, float alpha)
+        implements ColourCode, HasOpacity {
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link OkLchCode}.</p>
+     * @param lightness property between [0, 1]
+     * @param chroma finite property, not negative
+     * @param hue property degrees between [0, 360)
+     * @param alpha property between [0, 1]
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public OkLchCode {
+        if(isNotBetween(0f, 1f, lightness))
+            throw new IllegalArgumentException("Lightness value is out of range [0.0, 1.0]. (value=" + lightness + ")");
+        if(!(0f <= chroma && chroma < Float.POSITIVE_INFINITY))
+            throw new IllegalArgumentException("Chroma value must be a finite number not negative. (value=" + chroma + ")");
+        if(!(0f <= hue && hue < 360f))
+            throw new IllegalArgumentException("Hue value is out of range [0.0, 360.0). (value=" + hue + ")");
+        if(isNotBetween(0f, 1f, alpha))
+            throw new IllegalArgumentException("Alpha value is out of range [0.0, 1.0]. (value=" + alpha + ")");
+    }
+
+    /**
+     * <p>Creates a new opaque {@link OkLchCode}.</p>
+     * @param lightness property between [0, 1]
+     * @param chroma finite property, not negative
+     * @param hue property degrees between [0, 360)
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public OkLchCode(float lightness, float chroma, float hue) {
+        this(lightness, chroma, hue, 1.0f);
+    }
+
+}
@@ -1,8 +1,6 @@
 package es.sfernandez.colour.codifications;
 
-import java.util.Locale;
-import java.util.Objects;
-import java.util.regex.Matcher;
+import java.io.IOException;
 import java.util.regex.Pattern;
 
 import static es.sfernandez.colour.utils.NumUtils.*;
@@ -83,6 +81,22 @@ public record RgbCode(float red, float green, float blue, float alpha)
         this(red, green, blue, 100);
     }
 
+    /**
+     * <p>Creates a new {@link RgbCode} from its packed 32-bit ARGB representation.</p>
+     * @param argb int that contains, from the highest to the lowest byte, the alpha, red, green and blue values
+     *             (between [0, 255]). E.g.: <code>0x80FF0000</code> is red with 50% opacity.
+     * @return a new {@link RgbCode} equivalent to the given ARGB value
+     * @see RgbCode#toArgb()
+     */
+    public static RgbCode ofArgb(final int argb) {
+        return new RgbCode(
+                ((argb >>> 16) & 0xFF) / 255f,
+                ((argb >>> 8) & 0xFF) / 255f,
+                (argb & 0xFF) / 255f,
+                ((argb >>> 24) & 0xFF) / 255f
+        );
+    }
+
     /**
      * <p>Creates a new {@link RgbCode} from the given CSS code.</p>
      * @param cssCode an RGB (RGBA) code representation (e.g.: "rgb(30, 90, 220)")
@@ -90,48 +104,22 @@ public record RgbCode(float red, float green, float blue, float alpha)
      * {@link RgbCode#CSS_CODE_WITH_TRANSPARENCY_PATTERN} or any property in expression it's out of bounds.
      */
     public RgbCode(String cssCode) {
-        this(
-                extractRedValueFromCssCode(cssCode),
-                extractGreenValueFromCssCode(cssCode),
-                extractBlueValueFromCssCode(cssCode),
-                extractAlphaValueFromCssCode(cssCode)
-        );
-    }
-
-    private static int extractRedValueFromCssCode(String cssCode) {
-        return Integer.parseInt(matchCssCode(cssCode).group(1));
-    }
-
-    private static int extractGreenValueFromCssCode(String cssCode) {
-        return Integer.parseInt(matchCssCode(cssCode).group(2));
+        this(scanCssCode(cssCode));
     }
 
-    private static int extractBlueValueFromCssCode(String cssCode) {
-        return Integer.parseInt(matchCssCode(cssCode).group(3));
+    private RgbCode(int[] cssCodeValues) {
+        this(cssCodeValues[0], cssCodeValues[1], cssCodeValues[2], cssCodeValues[3]);
     }
 
-    private static int extractAlphaValueFromCssCode(String cssCode) {
-        Matcher matcher = CSS_CODE_WITH_TRANSPARENCY_PATTERN.matcher(cssCode);
-
-        if(!matcher.matches())
-            return 100;
-        else
-            return denormalize(0, 100, Float.parseFloat(matcher.group(4)));
-    }
-
-    private static Matcher matchCssCode(String cssCode) {
+    private static int[] scanCssCode(String cssCode) {
         if(cssCode == null)
             throw new IllegalArgumentException("Css code must not be null.");
 
-        Matcher matcher = CSS_CODE_WITH_TRANSPARENCY_PATTERN.matcher(cssCode);
-
-        if(!matcher.matches())
-            matcher = CSS_CODE_PATTERN.matcher(cssCode);
-
-        if(!matcher.matches())
+        int[] values = CssColourCodeScanner.scanRgb(cssCode);
+        if(values == null)
             throw new IllegalArgumentException("Given expression doesn't match CSS rgb code. (value='" + cssCode + "')");
 
-        return matcher;
+        return values;
     }
 
     private static void assertIsNormalizedValue(float value, String propertyName) {
@@ -141,11 +129,19 @@ public record RgbCode(float red, float green, float blue, float alpha)
 
     //---- Methods ----
     @Override
-    public String toCssCode() {
-        if(isOpaque())
-            return String.format("rgb(%d, %d, %d)", red255(), green255(), blue255());
-        else
-            return String.format(Locale.US, "rgba(%d, %d, %d, %.2f)", red255(), green255(), blue255(), alpha());
+    public Appendable appendCssCode(final Appendable out) throws IOException {
+        out.append(isOpaque() ? "rgb(" : "rgba(");
+        ColourCodeFormatter.appendNumber(out, red255());
+        out.append(", ");
+        ColourCodeFormatter.appendNumber(out, green255());
+        out.append(", ");
+        ColourCodeFormatter.appendNumber(out, blue255());
+        if(!isOpaque()) {
+            out.append(", ");
+            ColourCodeFormatter.appendAlpha(out, alpha);
+        }
+
+        return out.append(')');
     }
 
     @Override
@@ -161,7 +157,16 @@ public record RgbCode(float red, float green, float blue, float alpha)
 
     @Override
     public int hashCode() {
-        return Objects.hash(red255(), green255(), blue255(), alphaPercentage());
+        return (red255() << 24) | (green255() << 16) | (blue255() << 8) | alphaPercentage();
+    }
+
+    /**
+     * @return the code packed in a 32-bit ARGB int, containing from the highest to the lowest byte the alpha, red, green
+     * and blue values (between [0, 255]). E.g.: red with 50% opacity is <code>0x80FF0000</code>.
+     * @see RgbCode#ofArgb(int)
+     */
+    public int toArgb() {
+        return (denormalize255(alpha) << 24) | (red255() << 16) | (green255() << 8) | blue255();
     }
 
     /**
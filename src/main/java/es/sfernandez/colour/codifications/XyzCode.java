@@ -0,0 +1,58 @@
+package es.sfernandez.colour.codifications;
+
+import static es.sfernandez.colour.utils.NumUtils.isNotBetween;
+
+/**
+ * <p>{@link XyzCode} represents colours in the CIE 1931 XYZ colour space, relative to the D65 reference white (the
+ * white of sRGB), which is the one shared by CIELAB and sRGB.</p>
+ * <p>Y is the luminance of the colour, 1 for the reference white. X and Z aren't bounded: colours out of the sRGB gamut
+ * are allowed, and they are clipped when converted into RGB.</p>
+ *
+ * @param x X value of the code (around [0, 0.95] inside sRGB)
+ * @param y Y value of the code (between [0, 1] inside sRGB)
+ * @param z Z value of the code (around [0, 1.09] inside sRGB)
+ * @param alpha alpha value of the code (value between [0, 1])
+ *
+ * @see ColourCode
+ * @see HasOpacity
+ * @see <a href="https://en.wikipedia.org/wiki/CIE_1931_color_space">CIE 1931 XYZ colour space in Wikipedia.</a>
+ *
+ * @author Sergio Fernández
+ */
+public record XyzCode(float x, float y, float z, float alpha)
+        implements ColourCode, HasOpacity {
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link XyzCode}.</p>
+     * @param x finite property
+     * @param y finite property
+     * @param z finite property
+     * @param alpha property between [0, 1]
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public XyzCode {
+        assertIsFinite(x, "X");
+        assertIsFinite(y, "Y");
+        assertIsFinite(z, "Z");
+        if(isNotBetween(0f, 1f, alpha))
+            throw new IllegalArgumentException("Alpha value is out of range [0.0, 1.0]. (value=" + alpha + ")");
+    }
+
+    /**
+     * <p>Creates a new opaque {@link XyzCode}.</p>
+     * @param x finite property
+     * @param y finite property
+     * @param z finite property
+     * @throws IllegalArgumentException if any of the given property it's out of bounds
+     */
+    public XyzCode(float x, float y, float z) {
+        this(x, y, z, 1.0f);
+    }
+
+    private static void assertIsFinite(float value, String propertyName) {
+        if(!Float.isFinite(value))
+            throw new IllegalArgumentException(propertyName + " value must be a finite number. (value=" + value + ")");
+    }
+
+}
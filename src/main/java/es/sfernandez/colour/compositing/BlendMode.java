@@ -0,0 +1,239 @@
+package es.sfernandez.colour.compositing;
+
+import es.sfernandez.colour.codifications.RgbCode;
+
+/**
+ * <p>Blend modes of CSS (<code>mix-blend-mode</code>), which mix the colour of a source with the colour of the backdrop
+ * behind it. The blended colour is then composited with source-over (Porter-Duff): where the source is transparent the
+ * backdrop shows through, and where the backdrop is transparent the source keeps its own colour.</p>
+ * <p>{@link #NORMAL} is plain source-over. The modes from {@link #MULTIPLY} to {@link #EXCLUSION} are separable (every
+ * channel is blended on its own), and {@link #HUE}, {@link #SATURATION}, {@link #COLOR} and {@link #LUMINOSITY} mix the
+ * hue, saturation and luminosity of both colours.</p>
+ * <p>To composite whole ARGB buffers use a {@link Compositor}.</p>
+ *
+ * @see Compositor
+ * @see <a href="https://www.w3.org/TR/compositing-1/">Compositing and Blending.</a>
+ *
+ * @author Sergio Fernández
+ */
+public enum BlendMode {
+
+    /** The source colour */
+    NORMAL((b, s) -> s),
+    /** Product of both colours, so the result is always darker */
+    MULTIPLY((b, s) -> b * s),
+    /** Complement of the product of the complements, so the result is always lighter */
+    SCREEN(BlendMode::screen),
+    /** {@link #MULTIPLY} or {@link #SCREEN} depending on the backdrop, so its shadows and highlights are kept */
+    OVERLAY((b, s) -> hardLight(s, b)),
+    /** The darkest of both colours */
+    DARKEN(Math::min),
+    /** The lightest of both colours */
+    LIGHTEN(Math::max),
+    /** Brightens the backdrop to reflect the source */
+    COLOR_DODGE((b, s) -> {
+        if(b == 0)
+            return 0;
+        if(s == 1)
+            return 1;
+
+        return Math.min(1, b / (1 - s));
+    }),
+    /** Darkens the backdrop to reflect the source */
+    COLOR_BURN((b, s) -> {
+        if(b == 1)
+            return 1;
+        if(s == 0)
+            return 0;
+
+        return 1 - Math.min(1, (1 - b) / s);
+    }),
+    /** {@link #MULTIPLY} or {@link #SCREEN} depending on the source */
+    HARD_LIGHT(BlendMode::hardLight),
+    /** Darkens or lightens the backdrop depending on the source, softer than {@link #HARD_LIGHT} */
+    SOFT_LIGHT((b, s) -> {
+        if(s <= 0.5f)
+            return b - (1 - 2 * s) * b * (1 - b);
+
+        float d = b <= 0.25f ? ((16 * b - 12) * b + 4) * b : (float) Math.sqrt(b);
+        return b + (2 * s - 1) * (d - b);
+    }),
+    /** Absolute difference of both colours */
+    DIFFERENCE((b, s) -> Math.abs(b - s)),
+    /** Like {@link #DIFFERENCE}, with less contrast */
+    EXCLUSION((b, s) -> b + s - 2 * b * s),
+    /** Hue of the source with the saturation and luminosity of the backdrop */
+    HUE(null) {
+        @Override
+        void blend(final float br, final float bg, final float bb, final float sr, final float sg, final float sb, final float[] rgb) {
+            set(rgb, sr, sg, sb);
+            setSaturation(rgb, saturation(br, bg, bb));
+            setLuminosity(rgb, luminosity(br, bg, bb));
+        }
+    },
+    /** Saturation of the source with the hue and luminosity of the backdrop */
+    SATURATION(null) {
+        @Override
+        void blend(final float br, final float bg, final float bb, final float sr, final float sg, final float sb, final float[] rgb) {
+            set(rgb, br, bg, bb);
+            setSaturation(rgb, saturation(sr, sg, sb));
+            setLuminosity(rgb, luminosity(br, bg, bb));
+        }
+    },
+    /** Hue and saturation of the source with the luminosity of the backdrop */
+    COLOR(null) {
+        @Override
+        void blend(final float br, final float bg, final float bb, final float sr, final float sg, final float sb, final float[] rgb) {
+            set(rgb, sr, sg, sb);
+            setLuminosity(rgb, luminosity(br, bg, bb));
+        }
+    },
+    /** Luminosity of the source with the hue and saturation of the backdrop */
+    LUMINOSITY(null) {
+        @Override
+        void blend(final float br, final float bg, final float bb, final float sr, final float sg, final float sb, final float[] rgb) {
+            set(rgb, br, bg, bb);
+            setLuminosity(rgb, luminosity(sr, sg, sb));
+        }
+    };
+
+    //---- Constants and Definitions ----
+    /** Number of floats written by {@link #composite(float, float, float, float, float, float, float, float, float[])} */
+    static final int COMPONENTS = 4;
+
+    @FunctionalInterface
+    private interface ChannelBlend {
+        float blend(float backdrop, float source);
+    }
+
+    //---- Attributes ----
+    private final ChannelBlend channelBlend;
+
+    //---- Constructor ----
+    BlendMode(final ChannelBlend channelBlend) {
+        this.channelBlend = channelBlend;
+    }
+
+    //---- Methods ----
+    /**
+     * @return true if every channel is blended on its own
+     */
+    public boolean isSeparable() {
+        return channelBlend != null;
+    }
+
+    /**
+     * @param backdrop colour behind source
+     * @param source colour composited over backdrop
+     * @return the colour of source blended with backdrop and composited over it
+     * @throws IllegalArgumentException if any colour is null
+     */
+    public RgbCode composite(final RgbCode backdrop, final RgbCode source) {
+        if(backdrop == null || source == null)
+            throw new IllegalArgumentException("Error. It's not possible to composite null colours.");
+
+        float[] result = new float[COMPONENTS];
+        composite(backdrop.red(), backdrop.green(), backdrop.blue(), backdrop.alpha(),
+                source.red(), source.green(), source.blue(), source.alpha(), result);
+
+        return new RgbCode(result[0], result[1], result[2], result[3]);
+    }
+
+    /**
+     * <p>Writes into result the red, green, blue and alpha, not premultiplied and between [0, 1], of the source colour
+     * blended with the backdrop colour and composited over it. Both colours aren't premultiplied either.</p>
+     */
+    void composite(final float br, final float bg, final float bb, final float ba,
+                   final float sr, final float sg, final float sb, final float sa, final float[] result) {
+        float alpha = sa + ba * (1 - sa);
+        if(alpha == 0) {
+            set(result, 0, 0, 0);
+            result[3] = 0;
+            return;
+        }
+
+        blend(br, bg, bb, sr, sg, sb, result);
+        result[0] = compositeChannel(br, ba, sr, sa, result[0], alpha);
+        result[1] = compositeChannel(bg, ba, sg, sa, result[1], alpha);
+        result[2] = compositeChannel(bb, ba, sb, sa, result[2], alpha);
+        result[3] = Math.min(1, alpha);
+    }
+
+    /**
+     * <p>Writes into rgb the blended red, green and blue of the backdrop and source colours.</p>
+     */
+    void blend(final float br, final float bg, final float bb, final float sr, final float sg, final float sb, final float[] rgb) {
+        set(rgb, channelBlend.blend(br, sr), channelBlend.blend(bg, sg), channelBlend.blend(bb, sb));
+    }
+
+    private static float compositeChannel(final float backdrop, final float backdropAlpha, final float source,
+                                          final float sourceAlpha, final float blended, final float alpha) {
+        float mixed = (1 - backdropAlpha) * source + backdropAlpha * blended;
+        float premultiplied = sourceAlpha * mixed + (1 - sourceAlpha) * backdropAlpha * backdrop;
+
+        return Math.max(0, Math.min(1, premultiplied / alpha));
+    }
+
+    private static float screen(final float backdrop, final float source) {
+        return backdrop + source - backdrop * source;
+    }
+
+    private static float hardLight(final float backdrop, final float source) {
+        return source <= 0.5f ? backdrop * 2 * source : screen(backdrop, 2 * source - 1);
+    }
+
+    private static void set(final float[] rgb, final float red, final float green, final float blue) {
+        rgb[0] = red;
+        rgb[1] = green;
+        rgb[2] = blue;
+    }
+
+    private static float luminosity(final float red, final float green, final float blue) {
+        return 0.3f * red + 0.59f * green + 0.11f * blue;
+    }
+
+    private static float saturation(final float red, final float green, final float blue) {
+        return Math.max(red, Math.max(green, blue)) - Math.min(red, Math.min(green, blue));
+    }
+
+    /**
+     * <p>Scales the channels of rgb so its saturation (the difference between its maximum and its minimum) is
+     * saturation, keeping the order of the channels.</p>
+     */
+    private static void setSaturation(final float[] rgb, final float saturation) {
+        int max = rgb[0] >= rgb[1] ? (rgb[0] >= rgb[2] ? 0 : 2) : (rgb[1] >= rgb[2] ? 1 : 2);
+        int min = rgb[0] < rgb[1] ? (rgb[0] < rgb[2] ? 0 : 2) : (rgb[1] < rgb[2] ? 1 : 2);
+        if(min == max)
+            min = (max + 1) % 3;
+        int mid = 3 - max - min;
+
+        if(rgb[max] > rgb[min]) {
+            rgb[mid] = (rgb[mid] - rgb[min]) * saturation / (rgb[max] - rgb[min]);
+            rgb[max] = saturation;
+        } else {
+            rgb[mid] = 0;
+            rgb[max] = 0;
+        }
+        rgb[min] = 0;
+    }
+
+    /**
+     * <p>Shifts the channels of rgb so its luminosity is luminosity, and brings them back into [0, 1] keeping that
+     * luminosity.</p>
+     */
+    private static void setLuminosity(final float[] rgb, final float luminosity) {
+        float shift = luminosity - luminosity(rgb[0], rgb[1], rgb[2]);
+        set(rgb, rgb[0] + shift, rgb[1] + shift, rgb[2] + shift);
+
+        float l = luminosity(rgb[0], rgb[1], rgb[2]);
+        float min = Math.min(rgb[0], Math.min(rgb[1], rgb[2]));
+        float max = Math.max(rgb[0], Math.max(rgb[1], rgb[2]));
+        for(int c = 0; c < 3; ++c) {
+            if(min < 0)
+                rgb[c] = l + (rgb[c] - l) * l / (l - min);
+            if(max > 1)
+                rgb[c] = l + (rgb[c] - l) * (1 - l) / (max - l);
+        }
+    }
+
+}
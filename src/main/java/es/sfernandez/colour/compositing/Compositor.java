@@ -0,0 +1,302 @@
+package es.sfernandez.colour.compositing;
+
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>A {@link Compositor} composites buffers of ARGB pixels (see {@link RgbCode#toArgb()}) over others with a
+ * {@link BlendMode}, writing the result over the backdrop pixels, so layers can be flattened one after another into
+ * the same buffer.</p>
+ * <p>Pixels are given with straight alpha (as {@link RgbCode#toArgb()} packs them) or premultiplied by their alpha.
+ * Premultiplied buffers are composited with {@link BlendMode#NORMAL} using integer arithmetic only, around 3 times
+ * faster than straight ones (other modes take about the same time with both): to flatten several layers,
+ * {@link #premultiply(int[], int, int)} them, composite them and {@link #unpremultiply(int[], int, int)} the result
+ * once.</p>
+ * <p>No object is created per pixel. When there are more than {@link #PIXELS_PER_TASK} pixels, they are split into
+ * tasks that are run in a {@link ForkJoinPool}.</p>
+ *
+ * @see BlendMode
+ *
+ * @author Sergio Fernández
+ */
+public class Compositor {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>Number of pixels under which a block of them is composited by a single task.</p>
+     */
+    public static final int PIXELS_PER_TASK = 16_384;
+
+    /** Unpremultiplied channel of every premultiplied channel and alpha, at [alpha << 8 | channel] */
+    private static final byte[] UNPREMULTIPLIED = new byte[0x100 * 0x100];
+
+    static {
+        for(int alpha = 1; alpha <= 0xFF; ++alpha)
+            for(int channel = 0; channel <= 0xFF; ++channel)
+                UNPREMULTIPLIED[alpha << 8 | channel] = (byte) Math.min(0xFF, (channel * 0xFF + alpha / 2) / alpha);
+    }
+
+    @FunctionalInterface
+    private interface PixelsComposition {
+        void composite(int from, int to);
+    }
+
+    //---- Attributes ----
+    private final BlendMode mode;
+    private final ForkJoinPool pool;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link Compositor} that runs in the {@link ForkJoinPool#commonPool()}.</p>
+     * @param mode blend mode of the sources
+     * @throws IllegalArgumentException if mode is null
+     */
+    public Compositor(final BlendMode mode) {
+        this(mode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Creates a new {@link Compositor}.</p>
+     * @param mode blend mode of the sources
+     * @param pool {@link ForkJoinPool} where the pixels are composited when there are many of them
+     * @throws IllegalArgumentException if mode or pool are null
+     */
+    public Compositor(final BlendMode mode, final ForkJoinPool pool) {
+        if(mode == null || pool == null)
+            throw new IllegalArgumentException("Error. The " + BlendMode.class.getSimpleName() + " and the " +
+                    ForkJoinPool.class.getSimpleName() + " are required to create a " + getClass().getSimpleName() + ".");
+
+        this.mode = mode;
+        this.pool = pool;
+    }
+
+    //---- Methods ----
+    /**
+     * @return blend mode of the sources
+     */
+    public BlendMode mode() {
+        return mode;
+    }
+
+    /**
+     * <p>Composites the pixels [sourceOffset, sourceOffset + count) of source over the pixels
+     * [backdropOffset, backdropOffset + count) of backdrop, where the result is written. Pixels have straight alpha.</p>
+     * @param source ARGB pixels composited over the backdrop
+     * @param sourceOffset index of the first pixel of source
+     * @param backdrop ARGB pixels behind the source, replaced by the result
+     * @param backdropOffset index of the first pixel of backdrop
+     * @param count number of pixels
+     * @throws IllegalArgumentException if any array is null or count is negative
+     * @throws IndexOutOfBoundsException if any range is out of its array
+     * @see BlendMode#composite(RgbCode, RgbCode)
+     */
+    public void composite(final int[] source, final int sourceOffset, final int[] backdrop, final int backdropOffset,
+                          final int count) {
+        checkPixels(source, sourceOffset, backdrop, backdropOffset, count);
+
+        invoke(count, (from, to) -> {
+            float[] result = new float[BlendMode.COMPONENTS];
+            for(int i = from; i < to; ++i) {
+                int s = source[sourceOffset + i];
+                int sa = s >>> 24;
+                if(sa == 0)
+                    continue;
+
+                int b = backdrop[backdropOffset + i];
+                if(sa == 0xFF && (mode == BlendMode.NORMAL || (b >>> 24) == 0)) {
+                    backdrop[backdropOffset + i] = s;
+                    continue;
+                }
+
+                mode.composite(channel(b, 16), channel(b, 8), channel(b, 0), channel(b, 24),
+                        channel(s, 16), channel(s, 8), channel(s, 0), sa / 255f, result);
+                backdrop[backdropOffset + i] = pack(result[3], result[0], result[1], result[2]);
+            }
+        });
+    }
+
+    /**
+     * <p>Composites the pixels [sourceOffset, sourceOffset + count) of source over the pixels
+     * [backdropOffset, backdropOffset + count) of backdrop, where the result is written. Pixels are premultiplied by
+     * their alpha (see {@link #premultiply(int[], int, int)}).</p>
+     * @param source premultiplied ARGB pixels composited over the backdrop
+     * @param sourceOffset index of the first pixel of source
+     * @param backdrop premultiplied ARGB pixels behind the source, replaced by the result
+     * @param backdropOffset index of the first pixel of backdrop
+     * @param count number of pixels
+     * @throws IllegalArgumentException if any array is null or count is negative
+     * @throws IndexOutOfBoundsException if any range is out of its array
+     */
+    public void compositePremultiplied(final int[] source, final int sourceOffset, final int[] backdrop,
+                                       final int backdropOffset, final int count) {
+        checkPixels(source, sourceOffset, backdrop, backdropOffset, count);
+
+        if(mode == BlendMode.NORMAL) {
+            invoke(count, (from, to) -> {
+                for(int i = from; i < to; ++i)
+                    backdrop[backdropOffset + i] = sourceOver(source[sourceOffset + i], backdrop[backdropOffset + i]);
+            });
+            return;
+        }
+
+        invoke(count, (from, to) -> {
+            float[] result = new float[BlendMode.COMPONENTS];
+            for(int i = from; i < to; ++i) {
+                int s = source[sourceOffset + i];
+                int b = backdrop[backdropOffset + i];
+                int sa = s >>> 24;
+                int ba = b >>> 24;
+                if(sa == 0 || ba == 0) {
+                    backdrop[backdropOffset + i] = sourceOver(s, b);
+                    continue;
+                }
+
+                mode.composite(unpremultiplied(b, 16, ba), unpremultiplied(b, 8, ba), unpremultiplied(b, 0, ba), ba / 255f,
+                        unpremultiplied(s, 16, sa), unpremultiplied(s, 8, sa), unpremultiplied(s, 0, sa), sa / 255f, result);
+                float alpha = result[3];
+                backdrop[backdropOffset + i] = pack(alpha, result[0] * alpha, result[1] * alpha, result[2] * alpha);
+            }
+        });
+    }
+
+    /**
+     * <p>Multiplies the red, green and blue of the pixels [offset, offset + count) of argb by their alpha.</p>
+     * @throws IllegalArgumentException if argb is null or count is negative
+     * @throws IndexOutOfBoundsException if the range is out of argb
+     */
+    public static void premultiply(final int[] argb, final int offset, final int count) {
+        checkPixels(argb, offset, count);
+
+        for(int i = offset; i < offset + count; ++i) {
+            int pixel = argb[i];
+            int alpha = pixel >>> 24;
+            if(alpha != 0xFF)
+                argb[i] = (alpha << 24) | (multiply(pixel >>> 16 & 0xFF, alpha) << 16)
+                        | (multiply(pixel >>> 8 & 0xFF, alpha) << 8) | multiply(pixel & 0xFF, alpha);
+        }
+    }
+
+    /**
+     * <p>Divides the red, green and blue of the premultiplied pixels [offset, offset + count) of argb by their alpha.
+     * The channels of almost transparent pixels lose precision, and fully transparent pixels become 0.</p>
+     * @throws IllegalArgumentException if argb is null or count is negative
+     * @throws IndexOutOfBoundsException if the range is out of argb
+     */
+    public static void unpremultiply(final int[] argb, final int offset, final int count) {
+        checkPixels(argb, offset, count);
+
+        for(int i = offset; i < offset + count; ++i) {
+            int pixel = argb[i];
+            int alpha = pixel >>> 24;
+            if(alpha == 0)
+                argb[i] = 0;
+            else if(alpha != 0xFF)
+                argb[i] = (alpha << 24) | (divide(pixel, 16, alpha) << 16) | (divide(pixel, 8, alpha) << 8)
+                        | divide(pixel, 0, alpha);
+        }
+    }
+
+    /**
+     * @return premultiplied source over premultiplied backdrop: every channel is source + backdrop * (1 - source alpha)
+     */
+    private static int sourceOver(final int source, final int backdrop) {
+        int transparency = 0xFF - (source >>> 24);
+        if(transparency == 0)
+            return source;
+        if(transparency == 0xFF)
+            return backdrop;
+
+        return ((source >>> 24) + multiply(backdrop >>> 24, transparency)) << 24
+                | ((source >>> 16 & 0xFF) + multiply(backdrop >>> 16 & 0xFF, transparency)) << 16
+                | ((source >>> 8 & 0xFF) + multiply(backdrop >>> 8 & 0xFF, transparency)) << 8
+                | ((source & 0xFF) + multiply(backdrop & 0xFF, transparency));
+    }
+
+    /**
+     * @return value * factor / 255, rounded, for values and factors between [0, 255]
+     */
+    private static int multiply(final int value, final int factor) {
+        int product = value * factor + 128;
+        return (product + (product >>> 8)) >>> 8;
+    }
+
+    /**
+     * @return the channel of a premultiplied pixel divided by alpha (that isn't 0), rounded and at most 255
+     */
+    private static int divide(final int argb, final int shift, final int alpha) {
+        return UNPREMULTIPLIED[alpha << 8 | (argb >>> shift & 0xFF)] & 0xFF;
+    }
+
+    private static float channel(final int argb, final int shift) {
+        return (argb >>> shift & 0xFF) / 255f;
+    }
+
+    /**
+     * @return the channel of a premultiplied pixel as {@link #unpremultiply(int[], int, int)} would leave it, so both
+     * kinds of pixels are blended alike
+     */
+    private static float unpremultiplied(final int argb, final int shift, final int alpha) {
+        return divide(argb, shift, alpha) / 255f;
+    }
+
+    private static int pack(final float alpha, final float red, final float green, final float blue) {
+        return Math.round(alpha * 255) << 24 | Math.round(red * 255) << 16 | Math.round(green * 255) << 8
+                | Math.round(blue * 255);
+    }
+
+    private static void checkPixels(final int[] source, final int sourceOffset, final int[] backdrop,
+                                    final int backdropOffset, final int count) {
+        checkPixels(source, sourceOffset, count);
+        checkPixels(backdrop, backdropOffset, count);
+    }
+
+    private static void checkPixels(final int[] argb, final int offset, final int count) {
+        if(argb == null || count < 0)
+            throw new IllegalArgumentException("Error. The pixels are required and their number can't be negative.");
+
+        Objects.checkFromIndexSize(offset, count, argb.length);
+    }
+
+    private void invoke(final int count, final PixelsComposition composition) {
+        if(count <= PIXELS_PER_TASK)
+            composition.composite(0, count);
+        else
+            pool.invoke(new PixelsCompositionTask(composition, 0, count));
+    }
+
+    /**
+     * <p>Composites the pixels [from, to), splitting them in two halves while they are more than
+     * {@link #PIXELS_PER_TASK}.</p>
+     */
+    private static final class PixelsCompositionTask extends RecursiveAction {
+
+        private final PixelsComposition composition;
+        private final int from;
+        private final int to;
+
+        private PixelsCompositionTask(final PixelsComposition composition, final int from, final int to) {
+            this.composition = composition;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= PIXELS_PER_TASK) {
+                composition.composite(from, to);
+                return;
+            }
+
+            int middle = from + (to - from) / 2;
+            invokeAll(
+                    new PixelsCompositionTask(composition, from, middle),
+                    new PixelsCompositionTask(composition, middle, to)
+            );
+        }
+
+    }
+
+}
@@ -18,6 +18,10 @@ import java.util.function.Function;
 public interface ColourCodeConversion<IN extends ColourCode, OUT extends ColourCode>
         extends Function<IN, OUT> {
 
+    //---- Constants and Definitions ----
+    /** Number of floats that every colour takes in the arrays used by {@link #convertBulk(float[], int, float[], int, int)} */
+    int BULK_COMPONENTS = 4;
+
     /**
      * @return class of the {@link ColourCode} to convert
      */
@@ -40,6 +44,36 @@ public interface ColourCodeConversion<IN extends ColourCode, OUT extends ColourC
         return convert(in);
     }
 
+    /**
+     * @return true if this conversion implements {@link #convertBulk(float[], int, float[], int, int)}
+     */
+    default boolean supportsBulkConversion() {
+        return false;
+    }
+
+    /**
+     * <p>Converts count colours codified as IN, stored one after another in src from srcOffset, to OUT and writes them in
+     * dst from dstOffset. No {@link ColourCode} is created during the conversion.</p>
+     * <p>Every colour takes {@link #BULK_COMPONENTS} floats, which are the properties of the ColourCode in the order they
+     * are declared (e.g.: red, green, blue and alpha for an RgbCode), with the same values as its record components:
+     * between [0, 1] for RGB, HSL, HSV and CMYK, and in their own units for XYZ, CIELAB, LCh, OKLAB and OKLCh. If the ColourCode has less
+     * properties, the remaining floats are ignored when reading and written as 1.0 (full opacity).</p>
+     * <p>src and dst can be the same array with the same offset, so the colours are converted in place. Given values
+     * aren't validated, they must be values accepted by the ColourCode IN.</p>
+     * @param src array with the colours to convert
+     * @param srcOffset index of the first float of src to read
+     * @param dst array where converted colours are written
+     * @param dstOffset index of the first float of dst to write
+     * @param count number of colours to convert
+     * @throws UnsupportedOperationException if the conversion doesn't support bulk conversions
+     * ({@link #supportsBulkConversion()})
+     * @throws IndexOutOfBoundsException if src or dst don't have count colours from the given offsets
+     */
+    default void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        throw new UnsupportedOperationException("Error. Conversion from " + inColourCodeClass().getSimpleName() + " to " +
+                outColourCodeClass().getSimpleName() + " doesn't support bulk conversions.");
+    }
+
     /**
      * <p>Generates a new {@link ColourCodeConversion} from concatenating this conversion and the given as argument.</p>
      * @param after conversion to concatenate after this
@@ -67,6 +101,20 @@ public interface ColourCodeConversion<IN extends ColourCode, OUT extends ColourC
             public V convert(IN codification) {
                 return after.convert(firstStep.convert(codification));
             }
+
+            @Override
+            public boolean supportsBulkConversion() {
+                return firstStep.supportsBulkConversion() && after.supportsBulkConversion();
+            }
+
+            @Override
+            public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+                if(!supportsBulkConversion())
+                    ColourCodeConversion.super.convertBulk(src, srcOffset, dst, dstOffset, count);
+
+                firstStep.convertBulk(src, srcOffset, dst, dstOffset, count);
+                after.convertBulk(dst, dstOffset, dst, dstOffset, count);
+            }
         };
     }
 
@@ -93,6 +141,16 @@ public interface ColourCodeConversion<IN extends ColourCode, OUT extends ColourC
             public CODE convert(CODE codification) {
                 return codification;
             }
+
+            @Override
+            public boolean supportsBulkConversion() {
+                return true;
+            }
+
+            @Override
+            public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+                System.arraycopy(src, srcOffset, dst, dstOffset, count * BULK_COMPONENTS);
+            }
         };
     }
 
@@ -1,6 +1,7 @@
 package es.sfernandez.colour.conversion;
 
 import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.cmyk.CmykToRgbCodeConversion;
 import es.sfernandez.colour.conversion.cmyk.RgbToCmykCodeConversion;
 import es.sfernandez.colour.conversion.hex.HexToRgbCodeConversion;
@@ -9,6 +10,22 @@ import es.sfernandez.colour.conversion.hsv.HsvToRgbCodeConversion;
 import es.sfernandez.colour.conversion.hsv.RgbToHsvCodeConversion;
 import es.sfernandez.colour.conversion.hsl.HslToRgbCodeConversion;
 import es.sfernandez.colour.conversion.hsl.RgbToHslCodeConversion;
+import es.sfernandez.colour.conversion.lab.LabToRgbCodeConversion;
+import es.sfernandez.colour.conversion.lab.LabToXyzCodeConversion;
+import es.sfernandez.colour.conversion.lab.RgbToLabCodeConversion;
+import es.sfernandez.colour.conversion.lab.XyzToLabCodeConversion;
+import es.sfernandez.colour.conversion.lch.LabToLchCodeConversion;
+import es.sfernandez.colour.conversion.lch.LchToLabCodeConversion;
+import es.sfernandez.colour.conversion.lch.LchToRgbCodeConversion;
+import es.sfernandez.colour.conversion.lch.RgbToLchCodeConversion;
+import es.sfernandez.colour.conversion.oklab.OkLabToRgbCodeConversion;
+import es.sfernandez.colour.conversion.oklab.RgbToOkLabCodeConversion;
+import es.sfernandez.colour.conversion.oklch.OkLabToOkLchCodeConversion;
+import es.sfernandez.colour.conversion.oklch.OkLchToOkLabCodeConversion;
+import es.sfernandez.colour.conversion.oklch.OkLchToRgbCodeConversion;
+import es.sfernandez.colour.conversion.oklch.RgbToOkLchCodeConversion;
+import es.sfernandez.colour.conversion.xyz.RgbToXyzCodeConversion;
+import es.sfernandez.colour.conversion.xyz.XyzToRgbCodeConversion;
 
 import java.util.*;
 
@@ -16,9 +33,11 @@ import java.util.*;
  * <p>A {@link ColourCodeConverter} performs the conversion from one {@link ColourCode} to another given ColourCode type.</p>
  * <p>To achieve that, it uses a set of {@link ColourCodeConversion} that can be specified during construction, if not it will
  * use {@link ColourCodeConverter#DEFAULT_AVAILABLE_CONVERSIONS}.</p>
- * <p>The algorithm that it uses to convert one ColourCode A to another B search in the available conversions the one which
- * can convert directly from A to B. If it can't be found, the converter will try to find another path to achieve the
- * conversion to type B, using 1..n middle conversions.</p>
+ * <p>During construction, the converter computes for every pair of ColourCodes (A, B) the shortest path of available
+ * conversions that converts A to B, using 1..n middle conversions if there isn't a direct one. Those paths are composed
+ * once and stored in a table, so converting a ColourCode only needs to look up the conversion to apply.</p>
+ * <p>A converter can't be modified after its creation, so it's safe to share one instance between several threads
+ * (see {@link ColourCodeConverter#defaultConverter()}).</p>
  *
  * @see ColourCodeConversion
  *
@@ -27,21 +46,42 @@ import java.util.*;
 public class ColourCodeConverter {
 
     //---- Constants and Definitions ----
+    private static final List<ToRgbCodeConversion<?>> DEFAULT_TO_RGB_CONVERSIONS = List.of(
+        new HexToRgbCodeConversion(), new CmykToRgbCodeConversion(), new HslToRgbCodeConversion(), new HsvToRgbCodeConversion(),
+        new XyzToRgbCodeConversion(), new LabToRgbCodeConversion(), new LchToRgbCodeConversion(),
+        new OkLabToRgbCodeConversion(), new OkLchToRgbCodeConversion()
+    );
+
+    private static final List<FromRgbCodeConversion<?>> DEFAULT_FROM_RGB_CONVERSIONS = List.of(
+        new RgbToHexCodeConversion(), new RgbToCmykCodeConversion(), new RgbToHslCodeConversion(), new RgbToHsvCodeConversion(),
+        new RgbToXyzCodeConversion(), new RgbToLabCodeConversion(), new RgbToLchCodeConversion(),
+        new RgbToOkLabCodeConversion(), new RgbToOkLchCodeConversion()
+    );
+
+    private static final List<ColourCodeConversion<?,?>> DEFAULT_DIRECT_CONVERSIONS = List.of(
+        new XyzToLabCodeConversion(), new LabToXyzCodeConversion(), new LabToLchCodeConversion(),
+        new LchToLabCodeConversion(), new OkLabToOkLchCodeConversion(), new OkLchToOkLabCodeConversion()
+    );
+
     /**
      * <p>Unmodifiable list with the default available {@link ColourCodeConversion}.</p>
      * <p>It contains one conversion algorithm between every ColourCode defined in this library and
-     * the {@link es.sfernandez.colour.codifications.RgbCode} (one in each direction). Allowing the converter
-     * to convert any pair of two {@link ColourCode} in a maximum of two steps (A -> RGB -> B)</p>
+     * the {@link es.sfernandez.colour.codifications.RgbCode} (one in each direction), and direct conversions between
+     * the ColourCodes of the same CIE space (XYZ, CIELAB and LCh; OKLAB and OKLCh), which don't clip the colours out of
+     * the sRGB gamut. It also contains a {@link FusedColourCodeConversion} between every pair of ColourCodes of different
+     * spaces, which goes through RGB without creating the middle RgbCode. Allowing the converter to convert any pair of
+     * two {@link ColourCode} in one step, except the ColourCodes of the same CIE space, which are converted through the
+     * direct conversions between them.</p>
      */
-    public static final List<ColourCodeConversion<?,?>> DEFAULT_AVAILABLE_CONVERSIONS = List.of(
-        new HexToRgbCodeConversion(), new RgbToHexCodeConversion(), // HexCode
-        new CmykToRgbCodeConversion(), new RgbToCmykCodeConversion(), // CmykCode
-        new HslToRgbCodeConversion(), new RgbToHslCodeConversion(), // HslCode
-        new HsvToRgbCodeConversion(), new RgbToHsvCodeConversion() // HsvCode
-    );
+    public static final List<ColourCodeConversion<?,?>> DEFAULT_AVAILABLE_CONVERSIONS = defaultAvailableConversions();
+
+    private static final class DefaultConverterHolder {
+        private static final ColourCodeConverter INSTANCE = new ColourCodeConverter();
+    }
 
     //---- Attributes ----
     private final List<ColourCodeConversion<?,?>> availableConversions;
+    private final Map<Class<?>, Map<Class<?>, ColourCodeConversion<?,?>>> routes;
 
     //---- Constructor ----
     /**
@@ -49,6 +89,7 @@ public class ColourCodeConverter {
      */
     public ColourCodeConverter() {
         this.availableConversions = DEFAULT_AVAILABLE_CONVERSIONS;
+        this.routes = computeRoutes(availableConversions);
     }
 
     /**
@@ -62,11 +103,24 @@ public class ColourCodeConverter {
         if(availableConversions == null || !availableConversions.iterator().hasNext())
             throw new IllegalArgumentException("Error. You must provide a not empty iterable of available conversions");
 
-        this.availableConversions = new ArrayList<>();
-        availableConversions.forEach(this.availableConversions::add);
+        List<ColourCodeConversion<?,?>> conversions = new ArrayList<>();
+        availableConversions.forEach(conversions::add);
+        this.availableConversions = Collections.unmodifiableList(conversions);
+        this.routes = computeRoutes(this.availableConversions);
     }
 
     //---- Methods ----
+    /**
+     * <p>Returns the process-wide {@link ColourCodeConverter} that uses the
+     * {@link ColourCodeConverter#DEFAULT_AVAILABLE_CONVERSIONS}.</p>
+     * <p>It's created (and its conversion routes computed) only once, the first time it's requested, so it's the one
+     * used by every {@link es.sfernandez.colour.Colour} created without a specific converter.</p>
+     * @return the shared default {@link ColourCodeConverter}
+     */
+    public static ColourCodeConverter defaultConverter() {
+        return DefaultConverterHolder.INSTANCE;
+    }
+
     /**
      * @return an {@link Iterator} with all available conversions
      */
@@ -75,9 +129,9 @@ public class ColourCodeConverter {
     }
 
     /**
-     * <p>Converts colourCode to targetColourCodeClass by searching in the available conversions the one which
-     * can perform the conversion directly. If it can't be found, the converter will try to find another path to achieve the
-     * conversion to targetColourCodeClass, using 1..n middle conversions.</p>
+     * <p>Converts colourCode to targetColourCodeClass by applying the shortest path of available conversions between
+     * them, which has been computed during the construction of the converter. If there is a conversion that can perform
+     * it directly, it will be the one applied.</p>
      * @param colourCode {@link ColourCode} to convert
      * @param targetColourCodeClass {@link ColourCode} type target of the conversion
      * @return <ul>
@@ -107,47 +161,154 @@ public class ColourCodeConverter {
         return conversion.convert(colourCode);
     }
 
-    private <A extends ColourCode, B extends ColourCode> ColourCodeConversion<A, B> searchConversion(
-            Class<A> inClass, Class<B> outClass) {
-        ColourCodeConversion<A, B> directConversion = searchDirectConversion(inClass, outClass);
+    /**
+     * <p>Converts the {@link RgbCode} with the given values to targetColourCodeClass, applying the same conversion as
+     * {@link #convert(ColourCode, Class)}. If that conversion is a {@link FromRgbCodeConversion}, the RgbCode isn't
+     * created, so the only {@link ColourCode} created is the result.</p>
+     * @param red red value between [0, 1]
+     * @param green green value between [0, 1]
+     * @param blue blue value between [0, 1]
+     * @param alpha alpha value between [0, 1]
+     * @param targetColourCodeClass {@link ColourCode} type target of the conversion
+     * @return the corresponding codification of the RGB values in targetColourCodeClass
+     * @param <B> ColourCode type target of the conversion
+     * @throws IllegalArgumentException if targetColourCodeClass is null
+     * @throws ColourCodeConversionUnreachableException if it's not possible to find any path to convert an
+     * {@link RgbCode} to targetColourCodeClass
+     */
+    public <B extends ColourCode> B convert(final float red, final float green, final float blue, final float alpha,
+                                            final Class<B> targetColourCodeClass) {
+        if(targetColourCodeClass == null)
+            throw new IllegalArgumentException("Error. You must indicate the target ColourCode of the conversion.");
+
+        if(targetColourCodeClass.equals(RgbCode.class))
+            return (B) new RgbCode(red, green, blue, alpha);
+
+        ColourCodeConversion<?,?> conversion = searchConversion(RgbCode.class, targetColourCodeClass);
+        if(conversion == null)
+            throw new ColourCodeConversionUnreachableException(RgbCode.class, targetColourCodeClass);
+
+        if(conversion instanceof FromRgbCodeConversion<?> fromRgb)
+            return (B) fromRgb.convert(red, green, blue, alpha);
+
+        return ((ColourCodeConversion<RgbCode, B>) conversion).convert(new RgbCode(red, green, blue, alpha));
+    }
+
+    /**
+     * <p>Converts count colours codified as inColourCodeClass, stored one after another in src from srcOffset, to
+     * targetColourCodeClass and writes them in dst from dstOffset, applying the same path of conversions as
+     * {@link #convert(ColourCode, Class)} but without creating any {@link ColourCode}.</p>
+     * @param inColourCodeClass {@link ColourCode} type of the colours to convert
+     * @param targetColourCodeClass {@link ColourCode} type target of the conversion
+     * @param src array with the colours to convert
+     * @param srcOffset index of the first float of src to read
+     * @param dst array where converted colours are written
+     * @param dstOffset index of the first float of dst to write
+     * @param count number of colours to convert
+     * @throws IllegalArgumentException if inColourCodeClass or targetColourCodeClass are null
+     * @throws ColourCodeConversionUnreachableException if it's not possible to find any path to convert
+     * inColourCodeClass to targetColourCodeClass
+     * @throws UnsupportedOperationException if any conversion of the path doesn't support bulk conversions
+     * @see ColourCodeConversion#convertBulk(float[], int, float[], int, int)
+     */
+    public void convertBulk(final Class<? extends ColourCode> inColourCodeClass, final Class<? extends ColourCode> targetColourCodeClass,
+                            final float[] src, final int srcOffset, final float[] dst, final int dstOffset, final int count) {
+        if(inColourCodeClass == null || targetColourCodeClass == null)
+            throw new IllegalArgumentException("Error. You must indicate the source and target ColourCode of the conversion.");
+
+        if(inColourCodeClass.equals(targetColourCodeClass)) {
+            System.arraycopy(src, srcOffset, dst, dstOffset, count * ColourCodeConversion.BULK_COMPONENTS);
+            return;
+        }
+
+        ColourCodeConversion<?,?> conversion = searchConversion(inColourCodeClass, targetColourCodeClass);
+        if(conversion == null)
+            throw new ColourCodeConversionUnreachableException(inColourCodeClass, targetColourCodeClass);
+
+        conversion.convertBulk(src, srcOffset, dst, dstOffset, count);
+    }
+
+    private ColourCodeConversion<?,?> searchConversion(final Class<?> inClass, final Class<?> outClass) {
+        Map<Class<?>, ColourCodeConversion<?,?>> routesFromInClass = routes.get(inClass);
+
+        return routesFromInClass != null
+                ? routesFromInClass.get(outClass)
+                : null;
+    }
+
+    private static List<ColourCodeConversion<?,?>> defaultAvailableConversions() {
+        // Direct conversions go first, so between routes with the same number of steps (e.g. LCh -> CIELAB -> XYZ and
+        // LCh -> RGB -> XYZ) the route search prefers the one that doesn't go through RGB
+        List<ColourCodeConversion<?,?>> conversions = new ArrayList<>(DEFAULT_DIRECT_CONVERSIONS);
 
-        return directConversion != null
-                ? directConversion
-                : searchDeepConversion(inClass, outClass, new HashSet<>());
+        for(int i = 0; i < DEFAULT_TO_RGB_CONVERSIONS.size(); ++i) {
+            conversions.add(DEFAULT_TO_RGB_CONVERSIONS.get(i));
+            conversions.add(DEFAULT_FROM_RGB_CONVERSIONS.get(i));
+        }
+
+        for(ToRgbCodeConversion<?> toRgb : DEFAULT_TO_RGB_CONVERSIONS)
+            for(FromRgbCodeConversion<?> fromRgb : DEFAULT_FROM_RGB_CONVERSIONS)
+                if(!toRgb.inColourCodeClass().equals(fromRgb.outColourCodeClass())
+                        && !isInSameCieSpace(toRgb.inColourCodeClass(), fromRgb.outColourCodeClass()))
+                    conversions.add(new FusedColourCodeConversion<>(toRgb, fromRgb));
+
+        return List.copyOf(conversions);
     }
 
-    private <A extends ColourCode, B extends ColourCode> ColourCodeConversion<A, B> searchDirectConversion(
-            Class<A> inClass, Class<B> outClass) {
-        for(ColourCodeConversion<?,?> conversion : availableConversions)
-            if(conversion.inColourCodeClass().equals(inClass)
-                    && conversion.outColourCodeClass().equals(outClass))
-                return (ColourCodeConversion<A, B>) conversion;
+    /**
+     * @return true if outClass can be reached from inClass with {@link #DEFAULT_DIRECT_CONVERSIONS} only, so they are
+     * ColourCodes of the same CIE space and mustn't be converted through RGB, which would clip them
+     */
+    private static boolean isInSameCieSpace(final Class<?> inClass, final Class<?> outClass) {
+        Set<Class<?>> visited = new HashSet<>(List.of(inClass));
+        Deque<Class<?>> pending = new ArrayDeque<>(visited);
+        while(!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            for(ColourCodeConversion<?,?> conversion : DEFAULT_DIRECT_CONVERSIONS)
+                if(conversion.inColourCodeClass().equals(current) && visited.add(conversion.outColourCodeClass()))
+                    pending.add(conversion.outColourCodeClass());
+        }
 
-        return null;
+        return visited.contains(outClass);
     }
 
-    private <A extends ColourCode, B extends ColourCode> ColourCodeConversion<A, B> searchDeepConversion(
-            Class<A> inClass, Class<B> outClass, Set<Class<ColourCode>> searchedInputs) {
-
-        for(ColourCodeConversion<?,?> conversion : availableConversions) {
-            if(searchedInputs.contains(conversion.outColourCodeClass())) // Avoid infinite loops
-                continue;
-
-            if (conversion.inColourCodeClass().equals(inClass)) {
-                if(conversion.outColourCodeClass().equals(outClass)) {
-                    return (ColourCodeConversion<A, B>) conversion;
-                } else {
-                    searchedInputs.add((Class<ColourCode>) conversion.inColourCodeClass());
-                    ColourCodeConversion<?, B> middleConversion = searchDeepConversion(conversion.outColourCodeClass(), outClass, searchedInputs);
-                    if(middleConversion != null)
-                        return ((ColourCodeConversion) conversion).andThen(middleConversion);
-                    else
-                        searchedInputs.remove(conversion.inColourCodeClass());
-                }
+    private static Map<Class<?>, Map<Class<?>, ColourCodeConversion<?,?>>> computeRoutes(
+            final List<ColourCodeConversion<?,?>> conversions) {
+        Map<Class<?>, List<ColourCodeConversion<?,?>>> graph = new LinkedHashMap<>();
+        for(ColourCodeConversion<?,?> conversion : conversions)
+            graph.computeIfAbsent(conversion.inColourCodeClass(), inClass -> new ArrayList<>()).add(conversion);
+
+        Map<Class<?>, Map<Class<?>, ColourCodeConversion<?,?>>> routes = new HashMap<>();
+        for(Class<?> inClass : graph.keySet())
+            routes.put(inClass, Map.copyOf(computeRoutesFrom(inClass, graph)));
+
+        return Map.copyOf(routes);
+    }
+
+    private static Map<Class<?>, ColourCodeConversion<?,?>> computeRoutesFrom(
+            final Class<?> inClass, final Map<Class<?>, List<ColourCodeConversion<?,?>>> graph) {
+        Map<Class<?>, ColourCodeConversion<?,?>> routesFromInClass = new HashMap<>();
+        Deque<Class<?>> pendingClasses = new ArrayDeque<>();
+        pendingClasses.add(inClass);
+
+        // Breadth-first search, so the first route found to each class is the one with fewer steps
+        while(!pendingClasses.isEmpty()) {
+            Class<?> currentClass = pendingClasses.poll();
+            ColourCodeConversion<?,?> routeToCurrentClass = routesFromInClass.get(currentClass);
+
+            for(ColourCodeConversion<?,?> conversion : graph.getOrDefault(currentClass, List.of())) {
+                Class<?> nextClass = conversion.outColourCodeClass();
+                if(nextClass.equals(inClass) || routesFromInClass.containsKey(nextClass))
+                    continue;
+
+                routesFromInClass.put(nextClass, routeToCurrentClass == null
+                        ? conversion
+                        : ((ColourCodeConversion) routeToCurrentClass).andThen(conversion));
+                pendingClasses.add(nextClass);
             }
         }
 
-        return null;
+        return routesFromInClass;
     }
 
 }
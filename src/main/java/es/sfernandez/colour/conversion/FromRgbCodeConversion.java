@@ -0,0 +1,40 @@
+package es.sfernandez.colour.conversion;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
+
+/**
+ * <p>A {@link FromRgbCodeConversion} is a {@link ColourCodeConversion} that converts an {@link RgbCode} into a
+ * ColourCode OUT. It can also convert directly the red, green, blue and alpha values of an RgbCode, without creating
+ * it, which allows fusing it with a {@link ToRgbCodeConversion}.</p>
+ *
+ * @param <OUT> ColourCode to get after conversion is applied
+ *
+ * @see FusedColourCodeConversion
+ *
+ * @author Sergio Fernández
+ */
+public interface FromRgbCodeConversion<OUT extends ColourCode>
+        extends ColourCodeConversion<RgbCode, OUT> {
+
+    /**
+     * <p>Converts the {@link RgbCode} with the given values to type OUT.</p>
+     * @param red red value between [0, 1]
+     * @param green green value between [0, 1]
+     * @param blue blue value between [0, 1]
+     * @param alpha alpha value between [0, 1]
+     * @return the result of convert the RGB values to type OUT
+     */
+    OUT convert(float red, float green, float blue, float alpha);
+
+    @Override
+    default Class<RgbCode> inColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    default OUT convert(RgbCode rgb) {
+        return convert(rgb.red(), rgb.green(), rgb.blue(), rgb.alpha());
+    }
+
+}
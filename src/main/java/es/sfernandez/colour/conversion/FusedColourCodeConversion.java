@@ -0,0 +1,71 @@
+package es.sfernandez.colour.conversion;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
+
+/**
+ * <p>A {@link FusedColourCodeConversion} converts a ColourCode IN into a ColourCode OUT in a single step, by fusing a
+ * {@link ToRgbCodeConversion} and a {@link FromRgbCodeConversion}. The RGB values computed by the first one are passed
+ * directly to the second one, so the intermediate {@link RgbCode} is never created.</p>
+ * <p>The result is the same as applying both conversions one after the other.</p>
+ *
+ * @param <IN> ColourCode to convert
+ * @param <OUT> ColourCode to get after conversion is applied
+ *
+ * @author Sergio Fernández
+ */
+public final class FusedColourCodeConversion<IN extends ColourCode, OUT extends ColourCode>
+        implements ColourCodeConversion<IN, OUT> {
+
+    //---- Attributes ----
+    private final ToRgbCodeConversion<IN> toRgb;
+    private final FromRgbCodeConversion<OUT> fromRgb;
+    private final ToRgbCodeConversion.RgbValuesFunction<OUT> fromRgbValues;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link FusedColourCodeConversion}.</p>
+     * @param toRgb conversion from IN to {@link RgbCode}
+     * @param fromRgb conversion from {@link RgbCode} to OUT
+     * @throws IllegalArgumentException if any of the conversions is null
+     */
+    public FusedColourCodeConversion(final ToRgbCodeConversion<IN> toRgb, final FromRgbCodeConversion<OUT> fromRgb) {
+        if(toRgb == null || fromRgb == null)
+            throw new IllegalArgumentException("Error. Both conversions are required to create a " + getClass().getSimpleName() + ".");
+
+        this.toRgb = toRgb;
+        this.fromRgb = fromRgb;
+        this.fromRgbValues = fromRgb::convert;
+    }
+
+    //---- Methods ----
+    @Override
+    public Class<IN> inColourCodeClass() {
+        return toRgb.inColourCodeClass();
+    }
+
+    @Override
+    public Class<OUT> outColourCodeClass() {
+        return fromRgb.outColourCodeClass();
+    }
+
+    @Override
+    public OUT convert(IN codification) {
+        return toRgb.convert(codification, fromRgbValues);
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return toRgb.supportsBulkConversion() && fromRgb.supportsBulkConversion();
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        if(!supportsBulkConversion())
+            ColourCodeConversion.super.convertBulk(src, srcOffset, dst, dstOffset, count);
+
+        toRgb.convertBulk(src, srcOffset, dst, dstOffset, count);
+        fromRgb.convertBulk(dst, dstOffset, dst, dstOffset, count);
+    }
+
+}
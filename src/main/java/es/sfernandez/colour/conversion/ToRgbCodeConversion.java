@@ -0,0 +1,59 @@
+package es.sfernandez.colour.conversion;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
+
+/**
+ * <p>A {@link ToRgbCodeConversion} is a {@link ColourCodeConversion} that converts a ColourCode IN into an
+ * {@link RgbCode}. Instead of creating the RgbCode, it can also pass its red, green, blue and alpha values to a
+ * {@link RgbValuesFunction}, which allows fusing it with a {@link FromRgbCodeConversion}.</p>
+ *
+ * @param <IN> ColourCode to convert
+ *
+ * @see FusedColourCodeConversion
+ *
+ * @author Sergio Fernández
+ */
+public interface ToRgbCodeConversion<IN extends ColourCode>
+        extends ColourCodeConversion<IN, RgbCode> {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>Function that receives the values of an {@link RgbCode} (between [0, 1]).</p>
+     * @param <R> result of the function
+     */
+    @FunctionalInterface
+    interface RgbValuesFunction<R> {
+
+        /**
+         * @param red red value between [0, 1]
+         * @param green green value between [0, 1]
+         * @param blue blue value between [0, 1]
+         * @param alpha alpha value between [0, 1]
+         * @return result of applying the function to the given RGB values
+         */
+        R apply(float red, float green, float blue, float alpha);
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Converts codification to RGB and applies the given function to the values of the resulting {@link RgbCode},
+     * without creating it.</p>
+     * @param codification {@link ColourCode} to convert
+     * @param function function to apply to the RGB values of codification
+     * @return the result of the function
+     * @param <R> result of the function
+     */
+    <R> R convert(IN codification, RgbValuesFunction<R> function);
+
+    @Override
+    default Class<RgbCode> outColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    default RgbCode convert(IN codification) {
+        return convert(codification, RgbCode::new);
+    }
+
+}
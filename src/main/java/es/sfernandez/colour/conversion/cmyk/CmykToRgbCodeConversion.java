@@ -3,6 +3,9 @@ package es.sfernandez.colour.conversion.cmyk;
 import es.sfernandez.colour.codifications.CmykCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
+
+import java.util.Objects;
 
 /**
  * <p>{@link ColourCodeConversion} that converts a {@link CmykCode} into a {@link RgbCode}.</p>
@@ -10,7 +13,7 @@ import es.sfernandez.colour.conversion.ColourCodeConversion;
  * @author Sergio Fernández
  */
 public class CmykToRgbCodeConversion
-        implements ColourCodeConversion<CmykCode, RgbCode> {
+        implements ToRgbCodeConversion<CmykCode> {
 
     @Override
     public Class<CmykCode> inColourCodeClass() {
@@ -23,12 +26,39 @@ public class CmykToRgbCodeConversion
     }
 
     @Override
-    public RgbCode convert(CmykCode cmyk) {
-        float red = (1.0f - cmyk.cyan()) * (1.0f - cmyk.black());
-        float green = (1.0f - cmyk.magenta()) * (1.0f - cmyk.black());
-        float blue = (1.0f - cmyk.yellow()) * (1.0f - cmyk.black());
+    public <R> R convert(CmykCode cmyk, RgbValuesFunction<R> function) {
+        float red = calculateRgbValue(cmyk.cyan(), cmyk.black());
+        float green = calculateRgbValue(cmyk.magenta(), cmyk.black());
+        float blue = calculateRgbValue(cmyk.yellow(), cmyk.black());
+
+        return function.apply(red, green, blue, 1.0f);
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float cyan = src[srcOffset + i];
+            float magenta = src[srcOffset + i + 1];
+            float yellow = src[srcOffset + i + 2];
+            float black = src[srcOffset + i + 3];
+
+            dst[dstOffset + i] = calculateRgbValue(cyan, black);
+            dst[dstOffset + i + 1] = calculateRgbValue(magenta, black);
+            dst[dstOffset + i + 2] = calculateRgbValue(yellow, black);
+            dst[dstOffset + i + 3] = 1.0f;
+        }
+    }
 
-        return new RgbCode(red, green, blue);
+    private static float calculateRgbValue(float cmyValue, float black) {
+        return (1.0f - cmyValue) * (1.0f - black);
     }
 
 }
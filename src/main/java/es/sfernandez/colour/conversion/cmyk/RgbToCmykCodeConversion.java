@@ -3,6 +3,9 @@ package es.sfernandez.colour.conversion.cmyk;
 import es.sfernandez.colour.codifications.CmykCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
+
+import java.util.Objects;
 
 import static es.sfernandez.colour.utils.NumUtils.max;
 
@@ -12,7 +15,7 @@ import static es.sfernandez.colour.utils.NumUtils.max;
  * @author Sergio Fernández
  */
 public class RgbToCmykCodeConversion
-        implements ColourCodeConversion<RgbCode, CmykCode> {
+        implements FromRgbCodeConversion<CmykCode> {
 
     @Override
     public Class<RgbCode> inColourCodeClass() {
@@ -25,17 +28,48 @@ public class RgbToCmykCodeConversion
     }
 
     @Override
-    public CmykCode convert(RgbCode rgb) {
-        float k = 1.0f - max(rgb.red(), rgb.green(), rgb.blue());
-
-        if(k == 1.0f)
-            return new CmykCode(0f, 0f, 0f, k);
+    public CmykCode convert(float red, float green, float blue, float alpha) {
+        float k = calculateBlack(red, green, blue);
 
-        float c = (1.0f - rgb.red() - k) / (1.0f - k);
-        float m = (1.0f - rgb.green() - k) / (1.0f - k);
-        float y = (1.0f - rgb.blue() - k) / (1.0f - k);
+        float c = calculateCmyValue(red, k);
+        float m = calculateCmyValue(green, k);
+        float y = calculateCmyValue(blue, k);
 
         return new CmykCode(c, m, y, k);
     }
 
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float red = src[srcOffset + i];
+            float green = src[srcOffset + i + 1];
+            float blue = src[srcOffset + i + 2];
+            float k = calculateBlack(red, green, blue);
+
+            dst[dstOffset + i] = calculateCmyValue(red, k);
+            dst[dstOffset + i + 1] = calculateCmyValue(green, k);
+            dst[dstOffset + i + 2] = calculateCmyValue(blue, k);
+            dst[dstOffset + i + 3] = k;
+        }
+    }
+
+    private static float calculateBlack(float red, float green, float blue) {
+        return 1.0f - max(red, green, blue);
+    }
+
+    private static float calculateCmyValue(float rgbValue, float black) {
+        if(black == 1.0f)
+            return 0f;
+
+        return (1.0f - rgbValue - black) / (1.0f - black);
+    }
+
 }
@@ -3,8 +3,8 @@ package es.sfernandez.colour.conversion.hex;
 import es.sfernandez.colour.codifications.HexCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
 
-import static es.sfernandez.colour.utils.NumUtils.castHexToInt;
 import static es.sfernandez.colour.utils.NumUtils.denormalize;
 
 /**
@@ -13,7 +13,7 @@ import static es.sfernandez.colour.utils.NumUtils.denormalize;
  * @author Sergio Fernández
  */
 public class HexToRgbCodeConversion
-        implements ColourCodeConversion<HexCode, RgbCode> {
+        implements ToRgbCodeConversion<HexCode> {
 
     @Override
     public Class<HexCode> inColourCodeClass() {
@@ -26,34 +26,27 @@ public class HexToRgbCodeConversion
     }
 
     @Override
-    public RgbCode convert(HexCode codification) {
-        return new RgbCode(
-                extractRedFrom(codification),
-                extractGreenFrom(codification),
-                extractBlueFrom(codification),
-                extractAlphaFrom(codification)
+    public <R> R convert(HexCode codification, RgbValuesFunction<R> function) {
+        int argb = codification.toArgb();
+
+        return function.apply(
+                extractRedFrom(argb) / 255f,
+                extractGreenFrom(argb) / 255f,
+                extractBlueFrom(argb) / 255f,
+                extractAlphaFrom(codification) / 100f
         );
     }
 
-    private int extractRedFrom(HexCode hexCode) {
-        if(hexCode.isSimplified())
-            return castHexToInt(hexCode.value().substring(1, 2).repeat(2));
-        else
-            return castHexToInt(hexCode.value().substring(1, 3));
+    private int extractRedFrom(int argb) {
+        return (argb >>> 16) & 0xFF;
     }
 
-    private int extractGreenFrom(HexCode hexCode) {
-        if(hexCode.isSimplified())
-            return castHexToInt(hexCode.value().substring(2, 3).repeat(2));
-        else
-            return castHexToInt(hexCode.value().substring(3, 5));
+    private int extractGreenFrom(int argb) {
+        return (argb >>> 8) & 0xFF;
     }
 
-    private int extractBlueFrom(HexCode hexCode) {
-        if(hexCode.isSimplified())
-            return castHexToInt(hexCode.value().substring(3, 4).repeat(2));
-        else
-            return castHexToInt(hexCode.value().substring(5, 7));
+    private int extractBlueFrom(int argb) {
+        return argb & 0xFF;
     }
 
     private int extractAlphaFrom(HexCode hexCode) {
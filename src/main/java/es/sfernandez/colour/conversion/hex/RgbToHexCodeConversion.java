@@ -3,6 +3,7 @@ package es.sfernandez.colour.conversion.hex;
 import es.sfernandez.colour.codifications.HexCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
 
 import static es.sfernandez.colour.utils.NumUtils.denormalize;
 
@@ -12,7 +13,7 @@ import static es.sfernandez.colour.utils.NumUtils.denormalize;
  * @author Sergio Fernández
  */
 public class RgbToHexCodeConversion
-        implements ColourCodeConversion<RgbCode, HexCode> {
+        implements FromRgbCodeConversion<HexCode> {
 
     @Override
     public Class<RgbCode> inColourCodeClass() {
@@ -26,22 +27,17 @@ public class RgbToHexCodeConversion
 
     @Override
     public HexCode convert(RgbCode rgbCode) {
-        int rgb = ((denormalize(0, 255, rgbCode.alpha()) & 0xFF) << 24) |
-                ((rgbCode.red255() & 0xFF) << 16) |
-                ((rgbCode.green255() & 0xFF) << 8) |
-                ((rgbCode.blue255() & 0xFF));
-
-        String opacity = castIntToHex(rgb).substring(0, 2);
-        String hexColour = castIntToHex(rgb).substring(2, 8);
-
-        if(opacity.equalsIgnoreCase("FF"))
-            return new HexCode("#" + hexColour);
-        else
-            return new HexCode("#" + hexColour + opacity);
+        return HexCode.ofArgb(rgbCode.toArgb());
     }
 
-    private String castIntToHex(int number) {
-        return Integer.toHexString(number);
+    @Override
+    public HexCode convert(float red, float green, float blue, float alpha) {
+        return HexCode.ofArgb((denormalize255(alpha) << 24) | (denormalize255(red) << 16)
+                | (denormalize255(green) << 8) | denormalize255(blue));
+    }
+
+    private static int denormalize255(float value) {
+        return denormalize(0, 255, value);
     }
 
 }
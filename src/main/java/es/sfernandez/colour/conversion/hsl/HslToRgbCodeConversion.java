@@ -3,6 +3,9 @@ package es.sfernandez.colour.conversion.hsl;
 import es.sfernandez.colour.codifications.HslCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
+
+import java.util.Objects;
 
 import static es.sfernandez.colour.utils.NumUtils.denormalize;
 
@@ -12,7 +15,7 @@ import static es.sfernandez.colour.utils.NumUtils.denormalize;
  * @author Sergio Fernández
  */
 public class HslToRgbCodeConversion
-        implements ColourCodeConversion<HslCode, RgbCode> {
+        implements ToRgbCodeConversion<HslCode> {
 
     @Override
     public Class<HslCode> inColourCodeClass() {
@@ -25,32 +28,87 @@ public class HslToRgbCodeConversion
     }
 
     @Override
-    public RgbCode convert(HslCode hsl) {
-        float r = 0, g = 0, b = 0;
-        int h = hsl.hueDegrees();
-        float c = (1f - Math.abs(2f * hsl.lightness() - 1f)) * hsl.saturation();
-        float x = c * (1f - Math.abs((h / 60f) % 2f - 1f));
+    public <R> R convert(HslCode hsl, RgbValuesFunction<R> function) {
+        int h = hsl.hueDegrees() % 360;
+        float c = calculateChroma(hsl.saturation(), hsl.lightness());
+        float x = calculateX(h, c);
         float m = hsl.lightness() - c / 2f;
 
-        if (0 <= h && h < 60) {
-            r = c; g = x; b = 0;
-        } else if (60 <= h && h < 120) {
-            r = x; g = c; b = 0;
-        } else if (120 <= h && h < 180) {
-            r = 0; g = c; b = x;
-        } else if (180 <= h && h < 240) {
-            r = 0; g = x; b = c;
-        } else if (240 <= h && h < 300) {
-            r = x; g = 0; b = c;
-        } else if (300 <= h && h < 360) {
-            r = c; g = 0; b = x;
+        return function.apply(
+                calculateRed(h, c, x, m) / 255f,
+                calculateGreen(h, c, x, m) / 255f,
+                calculateBlue(h, c, x, m) / 255f,
+                hsl.alphaPercentage() / 100f
+        );
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            int h = denormalize(0, 360, src[srcOffset + i]) % 360;
+            float saturation = src[srcOffset + i + 1];
+            float lightness = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            float c = calculateChroma(saturation, lightness);
+            float x = calculateX(h, c);
+            float m = lightness - c / 2f;
+
+            dst[dstOffset + i] = calculateRed(h, c, x, m) / 255f;
+            dst[dstOffset + i + 1] = calculateGreen(h, c, x, m) / 255f;
+            dst[dstOffset + i + 2] = calculateBlue(h, c, x, m) / 255f;
+            dst[dstOffset + i + 3] = denormalize(0, 100, alpha) / 100f;
         }
+    }
+
+    private static float calculateChroma(float saturation, float lightness) {
+        return (1f - Math.abs(2f * lightness - 1f)) * saturation;
+    }
+
+    private static float calculateX(int h, float c) {
+        return c * (1f - Math.abs((h / 60f) % 2f - 1f));
+    }
+
+    // (value + m) can be slightly out of [0, 1] because of float rounding, so it's clamped before denormalizing it
+    private static int calculateRed(int h, float c, float x, float m) {
+        float r = 0;
+
+        if ((0 <= h && h < 60) || (300 <= h && h < 360))
+            r = c;
+        else if ((60 <= h && h < 120) || (240 <= h && h < 300))
+            r = x;
+
+        return denormalize(0, 255, Math.clamp(r + m, 0f, 1f));
+    }
+
+    private static int calculateGreen(int h, float c, float x, float m) {
+        float g = 0;
+
+        if (60 <= h && h < 180)
+            g = c;
+        else if ((0 <= h && h < 60) || (180 <= h && h < 240))
+            g = x;
+
+        return denormalize(0, 255, Math.clamp(g + m, 0f, 1f));
+    }
+
+    private static int calculateBlue(int h, float c, float x, float m) {
+        float b = 0;
 
-        r = denormalize(0, 255, r + m);
-        g = denormalize(0, 255, g + m);
-        b = denormalize(0, 255, b + m);
+        if (180 <= h && h < 300)
+            b = c;
+        else if ((120 <= h && h < 180) || (300 <= h && h < 360))
+            b = x;
 
-        return new RgbCode((int) r, (int) g, (int) b, hsl.alphaPercentage());
+        return denormalize(0, 255, Math.clamp(b + m, 0f, 1f));
     }
 
 }
@@ -3,17 +3,45 @@ package es.sfernandez.colour.conversion.hsl;
 import es.sfernandez.colour.codifications.HslCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
+import es.sfernandez.colour.utils.EightBitLevels;
+
+import java.util.Objects;
 
 import static es.sfernandez.colour.utils.NumUtils.*;
 
 /**
  * <p>{@link ColourCodeConversion} that converts a {@link RgbCode} into an {@link HslCode}.</p>
+ * <p>It can be created with lookup tables. Then, colours whose red, green and blue are 8-bit levels (n / 255) take
+ * their hue, saturation and lightness from precomputed tables, with the same results as the calculations.</p>
  *
  * @author Sergio Fernández
  */
 public class RgbToHslCodeConversion
-        implements ColourCodeConversion<RgbCode, HslCode> {
+        implements FromRgbCodeConversion<HslCode> {
+
+    //---- Attributes ----
+    private final boolean useLookupTables;
 
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link RgbToHslCodeConversion} that calculates every colour.</p>
+     */
+    public RgbToHslCodeConversion() {
+        this(false);
+    }
+
+    /**
+     * <p>Creates a new {@link RgbToHslCodeConversion}.</p>
+     * <p>Lookup tables take around 900KB and they are computed (from every 8-bit RGB colour) the first time that a
+     * conversion with them is used.</p>
+     * @param useLookupTables true to take 8-bit RGB colours from lookup tables
+     */
+    public RgbToHslCodeConversion(final boolean useLookupTables) {
+        this.useLookupTables = useLookupTables;
+    }
+
+    //---- Methods ----
     @Override
     public Class<RgbCode> inColourCodeClass() {
         return RgbCode.class;
@@ -25,31 +53,71 @@ public class RgbToHslCodeConversion
     }
 
     @Override
-    public HslCode convert(RgbCode rgb) {
+    public HslCode convert(float red, float green, float blue, float alpha) {
+        int hsl = useLookupTables ? LookupTables.hsl(red, green, blue) : EightBitLevels.NOT_FOUND;
+        if(hsl != EightBitLevels.NOT_FOUND)
+            return new HslCode(EightBitLevels.hueOf(hsl), EightBitLevels.saturationOf(hsl), EightBitLevels.thirdOf(hsl), denormalize(0, 100, alpha));
+
         float h, s, l;
 
-        float max = max(rgb.red(), rgb.green(), rgb.blue());
-        float min = min(rgb.red(), rgb.green(), rgb.blue());
+        float max = max(red, green, blue);
+        float min = min(red, green, blue);
         float delta = max - min;
 
-        h = calculateHue(rgb, max, delta);
+        h = calculateHue(red, green, blue, max, delta);
         s = calculateSaturation(max, min, delta);
         l = calculateLightness(max, min);
 
-        return new HslCode((int) h, (int) s, (int) l, rgb.alphaPercentage());
+        return new HslCode((int) h, (int) s, (int) l, denormalize(0, 100, alpha));
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
     }
 
-    private int calculateHue(RgbCode rgb, float max, float delta) {
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float red = src[srcOffset + i];
+            float green = src[srcOffset + i + 1];
+            float blue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            int hsl = useLookupTables ? LookupTables.hsl(red, green, blue) : EightBitLevels.NOT_FOUND;
+            if(hsl != EightBitLevels.NOT_FOUND) {
+                dst[dstOffset + i] = EightBitLevels.hueOf(hsl) / 360f;
+                dst[dstOffset + i + 1] = EightBitLevels.saturationOf(hsl) / 100f;
+                dst[dstOffset + i + 2] = EightBitLevels.thirdOf(hsl) / 100f;
+                dst[dstOffset + i + 3] = denormalize(0, 100, alpha) / 100f;
+                continue;
+            }
+
+            float max = max(red, green, blue);
+            float min = min(red, green, blue);
+            float delta = max - min;
+
+            dst[dstOffset + i] = calculateHue(red, green, blue, max, delta) / 360f;
+            dst[dstOffset + i + 1] = calculateSaturation(max, min, delta) / 100f;
+            dst[dstOffset + i + 2] = calculateLightness(max, min) / 100f;
+            dst[dstOffset + i + 3] = denormalize(0, 100, alpha) / 100f;
+        }
+    }
+
+    private static int calculateHue(float red, float green, float blue, float max, float delta) {
         float h;
 
         if(delta == 0)
             h = 0;
-        else if(max == rgb.red())
-            h = ((rgb.green() - rgb.blue()) / delta) % 6f;
-        else if(max == rgb.green())
-            h = (rgb.blue()) - rgb.red() / delta + 2f;
+        else if(max == red)
+            h = ((green - blue) / delta) % 6f;
+        else if(max == green)
+            h = (blue - red) / delta + 2f;
         else
-            h = (rgb.red() - rgb.green()) / delta + 4f;
+            h = (red - green) / delta + 4f;
 
         h = round(h * 60f, 0);
 
@@ -59,19 +127,37 @@ public class RgbToHslCodeConversion
         return (int) h;
     }
 
-    private int calculateSaturation(float max, float min, float delta) {
+    private static int calculateSaturation(float max, float min, float delta) {
         float l = (max + min) / 2f;
         float s = delta == 0
                 ? 0f
                 : delta / (1 - Math.abs(2f * l - 1f));
 
-        return denormalize(0, 100, s);
+        // s can be slightly greater than 1 because of float rounding
+        return denormalize(0, 100, Math.min(s, 1f));
     }
 
-    private int calculateLightness(float max, float min) {
+    private static int calculateLightness(float max, float min) {
         float l = (max + min) / 2f;
 
         return denormalize(0, 100, l);
     }
 
+    /**
+     * <p>Tables of the saturation and lightness of every pair of max and min 8-bit levels, and of the hue of every 8-bit
+     * RGB colour (see {@link EightBitLevels}), computed with the same calculations as the conversion.</p>
+     */
+    private static final class LookupTables {
+
+        private static final byte[] SATURATIONS = EightBitLevels.maxMinTable(
+                (max, min) -> calculateSaturation(max, min, max - min));
+        private static final byte[] LIGHTNESSES = EightBitLevels.maxMinTable(RgbToHslCodeConversion::calculateLightness);
+        private static final short[] HUES = EightBitLevels.hueTable(RgbToHslCodeConversion::calculateHue);
+
+        static int hsl(float red, float green, float blue) {
+            return EightBitLevels.lookUp(red, green, blue, HUES, SATURATIONS, LIGHTNESSES);
+        }
+
+    }
+
 }
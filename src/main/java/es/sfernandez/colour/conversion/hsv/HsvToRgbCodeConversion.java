@@ -3,6 +3,11 @@ package es.sfernandez.colour.conversion.hsv;
 import es.sfernandez.colour.codifications.HsvCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.NumUtils.denormalize;
 
 /**
  * <p>{@link ColourCodeConversion} that converts an {@link HsvCode} into a {@link RgbCode}.</p>
@@ -10,7 +15,7 @@ import es.sfernandez.colour.conversion.ColourCodeConversion;
  * @author Sergio Fernández
  */
 public class HsvToRgbCodeConversion
-        implements ColourCodeConversion<HsvCode, RgbCode> {
+        implements ToRgbCodeConversion<HsvCode> {
 
     @Override
     public Class<HsvCode> inColourCodeClass() {
@@ -23,45 +28,80 @@ public class HsvToRgbCodeConversion
     }
 
     @Override
-    public RgbCode convert(HsvCode hsv) {
-        float r = 0, g = 0, b = 0;
-
+    public <R> R convert(HsvCode hsv, RgbValuesFunction<R> function) {
         float chroma = hsv.brightness() * hsv.saturation();
-        float segment = (hsv.hueDegrees() / 60f) % 6f;
-        float fX = chroma * (1f - Math.abs(segment % 2f - 1f));
+        float segment = calculateSegment(hsv.hueDegrees());
+        float fX = calculateX(segment, chroma);
         float fM = hsv.brightness() - chroma;
 
-        if(0 <= segment && segment < 1) {
-            r = chroma;
-            g = fX;
-            b = 0;
-        } else if(1 <= segment && segment < 2) {
-            r = fX;
-            g = chroma;
-            b = 0;
-        } else if(2 <= segment && segment < 3) {
-            r = 0;
-            g = chroma;
-            b = fX;
-        } else if(3 <= segment && segment < 4) {
-            r = 0;
-            g = fX;
-            b = chroma;
-        } else if(4 <= segment && segment < 5) {
-            r = fX;
-            g = 0;
-            b = chroma;
-        } else if(5 <= segment && segment < 6) {
-            r = chroma;
-            g = 0;
-            b = fX;
+        return function.apply(
+                calculateRed(segment, chroma, fX) + fM,
+                calculateGreen(segment, chroma, fX) + fM,
+                calculateBlue(segment, chroma, fX) + fM,
+                hsv.alpha()
+        );
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float segment = calculateSegment(denormalize(0, 360, src[srcOffset + i]));
+            float saturation = src[srcOffset + i + 1];
+            float brightness = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            float chroma = brightness * saturation;
+            float fX = calculateX(segment, chroma);
+            float fM = brightness - chroma;
+
+            dst[dstOffset + i] = calculateRed(segment, chroma, fX) + fM;
+            dst[dstOffset + i + 1] = calculateGreen(segment, chroma, fX) + fM;
+            dst[dstOffset + i + 2] = calculateBlue(segment, chroma, fX) + fM;
+            dst[dstOffset + i + 3] = alpha;
         }
+    }
+
+    private static float calculateSegment(int hueDegrees) {
+        return (hueDegrees / 60f) % 6f;
+    }
 
-        r += fM;
-        g += fM;
-        b += fM;
+    private static float calculateX(float segment, float chroma) {
+        return chroma * (1f - Math.abs(segment % 2f - 1f));
+    }
+
+    private static float calculateRed(float segment, float chroma, float fX) {
+        if((0 <= segment && segment < 1) || (5 <= segment && segment < 6))
+            return chroma;
+        else if((1 <= segment && segment < 2) || (4 <= segment && segment < 5))
+            return fX;
+        else
+            return 0;
+    }
+
+    private static float calculateGreen(float segment, float chroma, float fX) {
+        if(1 <= segment && segment < 3)
+            return chroma;
+        else if((0 <= segment && segment < 1) || (3 <= segment && segment < 4))
+            return fX;
+        else
+            return 0;
+    }
 
-        return new RgbCode(r, g, b, hsv.alpha());
+    private static float calculateBlue(float segment, float chroma, float fX) {
+        if(3 <= segment && segment < 5)
+            return chroma;
+        else if((2 <= segment && segment < 3) || (5 <= segment && segment < 6))
+            return fX;
+        else
+            return 0;
     }
 
 }
@@ -3,17 +3,45 @@ package es.sfernandez.colour.conversion.hsv;
 import es.sfernandez.colour.codifications.HsvCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
+import es.sfernandez.colour.utils.EightBitLevels;
+
+import java.util.Objects;
 
 import static es.sfernandez.colour.utils.NumUtils.*;
 
 /**
  * <p>{@link ColourCodeConversion} that converts a {@link RgbCode} into an {@link HsvCode}.</p>
+ * <p>It can be created with lookup tables. Then, colours whose red, green and blue are 8-bit levels (n / 255) take
+ * their hue, saturation and brightness from precomputed tables, with the same results as the calculations.</p>
  *
  * @author Sergio Fernández
  */
 public class RgbToHsvCodeConversion
-        implements ColourCodeConversion<RgbCode, HsvCode> {
+        implements FromRgbCodeConversion<HsvCode> {
+
+    //---- Attributes ----
+    private final boolean useLookupTables;
 
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link RgbToHsvCodeConversion} that calculates every colour.</p>
+     */
+    public RgbToHsvCodeConversion() {
+        this(false);
+    }
+
+    /**
+     * <p>Creates a new {@link RgbToHsvCodeConversion}.</p>
+     * <p>Lookup tables take around 900KB and they are computed (from every 8-bit RGB colour) the first time that a
+     * conversion with them is used.</p>
+     * @param useLookupTables true to take 8-bit RGB colours from lookup tables
+     */
+    public RgbToHsvCodeConversion(final boolean useLookupTables) {
+        this.useLookupTables = useLookupTables;
+    }
+
+    //---- Methods ----
     @Override
     public Class<RgbCode> inColourCodeClass() {
         return RgbCode.class;
@@ -25,38 +53,104 @@ public class RgbToHsvCodeConversion
     }
 
     @Override
-    public HsvCode convert(RgbCode rgb) {
-        float h = 0, s, v;
-        float max = max(rgb.red(), rgb.green(), rgb.blue());
-        float min = min(rgb.red(), rgb.green(), rgb.blue());
+    public HsvCode convert(float red, float green, float blue, float alpha) {
+        int hsv = useLookupTables ? LookupTables.hsv(red, green, blue) : EightBitLevels.NOT_FOUND;
+        if(hsv != EightBitLevels.NOT_FOUND)
+            return new HsvCode(EightBitLevels.hueOf(hsv), EightBitLevels.saturationOf(hsv), EightBitLevels.thirdOf(hsv), denormalize(0, 100, alpha));
+
+        float max = max(red, green, blue);
+        float min = min(red, green, blue);
         float delta = max - min;
 
-        if(delta > 0) {
-            if(max == rgb.red()) {
-                h = 60 * (((rgb.green() - rgb.blue()) / delta) % 6);
-            } else if(max == rgb.green()) {
-                h = 60 * (((rgb.blue() - rgb.red()) / delta) + 2);
-            } else if(max == rgb.blue()) {
-                h = 60 * (((rgb.red() - rgb.green()) / delta) + 4);
+        int h = calculateHue(red, green, blue, max, delta);
+        int s = calculateSaturation(max, delta);
+        int v = calculateBrightness(max);
+
+        return new HsvCode(h, s, v, denormalize(0, 100, alpha));
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float red = src[srcOffset + i];
+            float green = src[srcOffset + i + 1];
+            float blue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            int hsv = useLookupTables ? LookupTables.hsv(red, green, blue) : EightBitLevels.NOT_FOUND;
+            if(hsv != EightBitLevels.NOT_FOUND) {
+                dst[dstOffset + i] = EightBitLevels.hueOf(hsv) / 360f;
+                dst[dstOffset + i + 1] = EightBitLevels.saturationOf(hsv) / 100f;
+                dst[dstOffset + i + 2] = EightBitLevels.thirdOf(hsv) / 100f;
+                dst[dstOffset + i + 3] = denormalize(0, 100, alpha) / 100f;
+                continue;
             }
 
-            s = delta / max;
+            float max = max(red, green, blue);
+            float min = min(red, green, blue);
+            float delta = max - min;
 
-        } else {
-            h = 0;
-            s = 0;
+            dst[dstOffset + i] = calculateHue(red, green, blue, max, delta) / 360f;
+            dst[dstOffset + i + 1] = calculateSaturation(max, delta) / 100f;
+            dst[dstOffset + i + 2] = calculateBrightness(max) / 100f;
+            dst[dstOffset + i + 3] = denormalize(0, 100, alpha) / 100f;
         }
+    }
+
+    private static int calculateHue(float red, float green, float blue, float max, float delta) {
+        float h = 0;
 
-        v = max;
+        if(delta > 0) {
+            if(max == red) {
+                h = 60 * (((green - blue) / delta) % 6);
+            } else if(max == green) {
+                h = 60 * (((blue - red) / delta) + 2);
+            } else if(max == blue) {
+                h = 60 * (((red - green) / delta) + 4);
+            }
+        }
 
         if(h < 0) {
             h = 360 + h;
         }
 
-        s = denormalize(0, 100, s);
-        v = denormalize(0, 100, v);
-        
-        return new HsvCode((int) h, (int) s, (int) v, rgb.alphaPercentage());
+        return (int) h;
+    }
+
+    private static int calculateSaturation(float max, float delta) {
+        float s = delta > 0
+                ? delta / max
+                : 0;
+
+        return denormalize(0, 100, s);
+    }
+
+    private static int calculateBrightness(float max) {
+        return denormalize(0, 100, max);
+    }
+
+    /**
+     * <p>Tables of the saturation and brightness of every pair of max and min 8-bit levels, and of the hue of every
+     * 8-bit RGB colour (see {@link EightBitLevels}), computed with the same calculations as the conversion.</p>
+     */
+    private static final class LookupTables {
+
+        private static final byte[] SATURATIONS = EightBitLevels.maxMinTable((max, min) -> calculateSaturation(max, max - min));
+        private static final byte[] BRIGHTNESSES = EightBitLevels.maxMinTable((max, min) -> calculateBrightness(max));
+        private static final short[] HUES = EightBitLevels.hueTable(RgbToHsvCodeConversion::calculateHue);
+
+        static int hsv(float red, float green, float blue) {
+            return EightBitLevels.lookUp(red, green, blue, HUES, SATURATIONS, BRIGHTNESSES);
+        }
+
     }
 
 }
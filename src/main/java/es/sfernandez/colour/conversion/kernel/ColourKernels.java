@@ -0,0 +1,94 @@
+package es.sfernandez.colour.conversion.kernel;
+
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+
+/**
+ * <p>{@link ColourKernels} convert whole buffers of colours between RGB and the other codifications (HSL, HSV and
+ * CMYK), applying the same math as the corresponding {@link ColourCodeConversion#convertBulk(float[], int, float[], int, int)}.</p>
+ * <p>Buffers are planar (struct-of-arrays): a buffer of planeSize colours stores the {@link #PLANES} components of
+ * the colours one plane after another, so the component c of the colour i is at <code>c * planeSize + i</code>. The
+ * components are the normalized ([0, 1]) values of the colour code, in the order of its record components. That layout
+ * allows converting several colours per instruction.</p>
+ * <p>Source and destination buffers can be the same array.</p>
+ *
+ * @see #preferred()
+ *
+ * @author Sergio Fernández
+ */
+public interface ColourKernels {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>Number of planes of a buffer, one for each component of the colour codes.</p>
+     */
+    int PLANES = ColourCodeConversion.BULK_COMPONENTS;
+
+    //---- Methods ----
+    /**
+     * <p>Returns the kernels that process colours one by one. They are always available.</p>
+     * @return scalar {@link ColourKernels}
+     */
+    static ColourKernels scalar() {
+        return ScalarColourKernels.INSTANCE;
+    }
+
+    /**
+     * <p>Returns the fastest kernels available in the running JVM.</p>
+     * <p>If the <code>jdk.incubator.vector</code> module has been added to the JVM (using
+     * <code>--add-modules jdk.incubator.vector</code>) and the CPU can process several floats per instruction, they are
+     * kernels that use the Vector API (SIMD). Otherwise, they are the {@link #scalar()} ones.</p>
+     * @return the fastest available {@link ColourKernels}
+     */
+    static ColourKernels preferred() {
+        return ColourKernelsLoader.PREFERRED;
+    }
+
+    /**
+     * @return number of colours converted at once by these kernels. It's 1 for the scalar kernels
+     */
+    int lanes();
+
+    /**
+     * <p>Converts count RGB colours, starting at the colour offset, into HSL.</p>
+     * @param src planar buffer with the colours to convert
+     * @param dst planar buffer where converted colours are written
+     * @param planeSize number of colours of each plane of src and dst
+     * @param offset index of the first colour to convert
+     * @param count number of colours to convert
+     * @throws IndexOutOfBoundsException if src or dst can't hold {@link #PLANES} planes of planeSize colours, or if the
+     * colours to convert are out of the planes
+     * @throws IllegalArgumentException if any of the components is not normalized
+     */
+    void rgbToHsl(float[] src, float[] dst, int planeSize, int offset, int count);
+
+    /**
+     * <p>Converts count HSL colours, starting at the colour offset, into RGB.</p>
+     * @see #rgbToHsl(float[], float[], int, int, int)
+     */
+    void hslToRgb(float[] src, float[] dst, int planeSize, int offset, int count);
+
+    /**
+     * <p>Converts count RGB colours, starting at the colour offset, into HSV.</p>
+     * @see #rgbToHsl(float[], float[], int, int, int)
+     */
+    void rgbToHsv(float[] src, float[] dst, int planeSize, int offset, int count);
+
+    /**
+     * <p>Converts count HSV colours, starting at the colour offset, into RGB.</p>
+     * @see #rgbToHsl(float[], float[], int, int, int)
+     */
+    void hsvToRgb(float[] src, float[] dst, int planeSize, int offset, int count);
+
+    /**
+     * <p>Converts count RGB colours, starting at the colour offset, into CMYK.</p>
+     * @see #rgbToHsl(float[], float[], int, int, int)
+     */
+    void rgbToCmyk(float[] src, float[] dst, int planeSize, int offset, int count);
+
+    /**
+     * <p>Converts count CMYK colours, starting at the colour offset, into RGB.</p>
+     * @see #rgbToHsl(float[], float[], int, int, int)
+     */
+    void cmykToRgb(float[] src, float[] dst, int planeSize, int offset, int count);
+
+}
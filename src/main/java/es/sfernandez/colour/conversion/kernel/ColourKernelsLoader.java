@@ -0,0 +1,40 @@
+package es.sfernandez.colour.conversion.kernel;
+
+/**
+ * <p>Chooses the {@link ColourKernels#preferred()} kernels the first time they are requested.</p>
+ * <p>{@link VectorColourKernels} is only loaded (by name) if the <code>jdk.incubator.vector</code> module is present,
+ * because linking it without the module would fail.</p>
+ *
+ * @author Sergio Fernández
+ */
+final class ColourKernelsLoader {
+
+    //---- Constants and Definitions ----
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNELS_CLASS = "es.sfernandez.colour.conversion.kernel.VectorColourKernels";
+    private static final int MIN_LANES = 4;
+
+    static final ColourKernels PREFERRED = loadPreferred();
+
+    //---- Constructor ----
+    private ColourKernelsLoader() {}
+
+    //---- Methods ----
+    private static ColourKernels loadPreferred() {
+        if(ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty())
+            return ScalarColourKernels.INSTANCE;
+
+        try {
+            ColourKernels kernels = (ColourKernels) Class.forName(VECTOR_KERNELS_CLASS)
+                    .getDeclaredConstructor()
+                    .newInstance();
+
+            return kernels.lanes() >= MIN_LANES
+                    ? kernels
+                    : ScalarColourKernels.INSTANCE;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return ScalarColourKernels.INSTANCE;
+        }
+    }
+
+}
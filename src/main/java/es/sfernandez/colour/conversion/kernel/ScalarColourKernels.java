@@ -0,0 +1,102 @@
+package es.sfernandez.colour.conversion.kernel;
+
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.cmyk.CmykToRgbCodeConversion;
+import es.sfernandez.colour.conversion.cmyk.RgbToCmykCodeConversion;
+import es.sfernandez.colour.conversion.hsl.HslToRgbCodeConversion;
+import es.sfernandez.colour.conversion.hsl.RgbToHslCodeConversion;
+import es.sfernandez.colour.conversion.hsv.HsvToRgbCodeConversion;
+import es.sfernandez.colour.conversion.hsv.RgbToHsvCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.conversion.ColourCodeConversion.BULK_COMPONENTS;
+
+/**
+ * <p>{@link ColourKernels} that convert colours one by one.</p>
+ * <p>Colours are copied in small chunks from the planar buffers to an interleaved one, converted by the
+ * {@link ColourCodeConversion#convertBulk(float[], int, float[], int, int)} of the corresponding conversion and copied
+ * back, so the results are always the ones of the conversions.</p>
+ *
+ * @author Sergio Fernández
+ */
+final class ScalarColourKernels implements ColourKernels {
+
+    //---- Constants and Definitions ----
+    static final ScalarColourKernels INSTANCE = new ScalarColourKernels();
+
+    private static final int CHUNK_SIZE = 64;
+
+    private static final ColourCodeConversion<?,?> RGB_TO_HSL = new RgbToHslCodeConversion();
+    private static final ColourCodeConversion<?,?> HSL_TO_RGB = new HslToRgbCodeConversion();
+    private static final ColourCodeConversion<?,?> RGB_TO_HSV = new RgbToHsvCodeConversion();
+    private static final ColourCodeConversion<?,?> HSV_TO_RGB = new HsvToRgbCodeConversion();
+    private static final ColourCodeConversion<?,?> RGB_TO_CMYK = new RgbToCmykCodeConversion();
+    private static final ColourCodeConversion<?,?> CMYK_TO_RGB = new CmykToRgbCodeConversion();
+
+    //---- Constructor ----
+    private ScalarColourKernels() {}
+
+    //---- Methods ----
+    @Override
+    public int lanes() {
+        return 1;
+    }
+
+    @Override
+    public void rgbToHsl(float[] src, float[] dst, int planeSize, int offset, int count) {
+        convert(RGB_TO_HSL, src, dst, planeSize, offset, count);
+    }
+
+    @Override
+    public void hslToRgb(float[] src, float[] dst, int planeSize, int offset, int count) {
+        convert(HSL_TO_RGB, src, dst, planeSize, offset, count);
+    }
+
+    @Override
+    public void rgbToHsv(float[] src, float[] dst, int planeSize, int offset, int count) {
+        convert(RGB_TO_HSV, src, dst, planeSize, offset, count);
+    }
+
+    @Override
+    public void hsvToRgb(float[] src, float[] dst, int planeSize, int offset, int count) {
+        convert(HSV_TO_RGB, src, dst, planeSize, offset, count);
+    }
+
+    @Override
+    public void rgbToCmyk(float[] src, float[] dst, int planeSize, int offset, int count) {
+        convert(RGB_TO_CMYK, src, dst, planeSize, offset, count);
+    }
+
+    @Override
+    public void cmykToRgb(float[] src, float[] dst, int planeSize, int offset, int count) {
+        convert(CMYK_TO_RGB, src, dst, planeSize, offset, count);
+    }
+
+    private static void convert(final ColourCodeConversion<?,?> conversion, final float[] src, final float[] dst,
+                                final int planeSize, final int offset, final int count) {
+        checkBounds(src, dst, planeSize, offset, count);
+
+        float[] chunk = new float[CHUNK_SIZE * BULK_COMPONENTS];
+        for(int start = offset; start < offset + count; start += CHUNK_SIZE) {
+            int chunkSize = Math.min(CHUNK_SIZE, offset + count - start);
+
+            for(int i = 0; i < chunkSize; ++i)
+                for(int component = 0; component < BULK_COMPONENTS; ++component)
+                    chunk[i * BULK_COMPONENTS + component] = src[component * planeSize + start + i];
+
+            conversion.convertBulk(chunk, 0, chunk, 0, chunkSize);
+
+            for(int i = 0; i < chunkSize; ++i)
+                for(int component = 0; component < BULK_COMPONENTS; ++component)
+                    dst[component * planeSize + start + i] = chunk[i * BULK_COMPONENTS + component];
+        }
+    }
+
+    static void checkBounds(final float[] src, final float[] dst, final int planeSize, final int offset, final int count) {
+        Objects.checkFromIndexSize(0, PLANES * planeSize, src.length);
+        Objects.checkFromIndexSize(0, PLANES * planeSize, dst.length);
+        Objects.checkFromIndexSize(offset, count, planeSize);
+    }
+
+}
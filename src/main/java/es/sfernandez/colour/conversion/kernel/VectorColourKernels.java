@@ -0,0 +1,288 @@
+package es.sfernandez.colour.conversion.kernel;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>{@link ColourKernels} that use the Vector API to convert {@link #lanes()} colours per instruction.</p>
+ * <p>Every operation is the same one (and in the same order) as the scalar conversion, including the roundings done by
+ * {@link es.sfernandez.colour.utils.NumUtils#denormalize(int, int, float)}, so results are identical to the
+ * {@link ScalarColourKernels} ones. The colours that don't fill a whole vector are converted by the scalar kernels.</p>
+ * <p>It can only be loaded if the <code>jdk.incubator.vector</code> module is present, see {@link ColourKernelsLoader}.</p>
+ *
+ * @author Sergio Fernández
+ */
+final class VectorColourKernels implements ColourKernels {
+
+    //---- Constants and Definitions ----
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final FloatVector ZERO = FloatVector.zero(SPECIES);
+    private static final FloatVector ONE = FloatVector.broadcast(SPECIES, 1f);
+
+    //---- Constructor ----
+    VectorColourKernels() {}
+
+    //---- Methods ----
+    @Override
+    public int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public void rgbToHsl(float[] src, float[] dst, int planeSize, int offset, int count) {
+        ScalarColourKernels.checkBounds(src, dst, planeSize, offset, count);
+
+        int i = offset;
+        for(int upperBound = offset + SPECIES.loopBound(count); i < upperBound; i += SPECIES.length()) {
+            FloatVector red = FloatVector.fromArray(SPECIES, src, i);
+            FloatVector green = FloatVector.fromArray(SPECIES, src, planeSize + i);
+            FloatVector blue = FloatVector.fromArray(SPECIES, src, 2 * planeSize + i);
+            FloatVector alpha = FloatVector.fromArray(SPECIES, src, 3 * planeSize + i);
+
+            FloatVector max = max(red, green, blue);
+            FloatVector min = min(red, green, blue);
+            FloatVector delta = max.sub(min);
+            VectorMask<Float> achromatic = delta.eq(0f);
+
+            // (x % 6) is always x, because |green - blue| <= delta
+            FloatVector hue = red.sub(green).div(delta).add(4f)
+                    .blend(blue.sub(red).div(delta).add(2f), max.eq(green))
+                    .blend(green.sub(blue).div(delta), max.eq(red))
+                    .blend(0f, achromatic);
+            hue = round(hue.mul(60f));
+            hue = hue.add(360f, hue.lt(0f));
+
+            FloatVector lightness = max.add(min).div(2f);
+            FloatVector saturation = delta.div(ONE.sub(lightness.mul(2f).sub(1f).abs()))
+                    .min(1f)
+                    .blend(0f, achromatic);
+
+            hue.div(360f).intoArray(dst, i);
+            denormalize(100, saturation).div(100f).intoArray(dst, planeSize + i);
+            denormalize(100, lightness).div(100f).intoArray(dst, 2 * planeSize + i);
+            denormalize(100, alpha).div(100f).intoArray(dst, 3 * planeSize + i);
+        }
+
+        ScalarColourKernels.INSTANCE.rgbToHsl(src, dst, planeSize, i, offset + count - i);
+    }
+
+    @Override
+    public void hslToRgb(float[] src, float[] dst, int planeSize, int offset, int count) {
+        ScalarColourKernels.checkBounds(src, dst, planeSize, offset, count);
+
+        int i = offset;
+        for(int upperBound = offset + SPECIES.loopBound(count); i < upperBound; i += SPECIES.length()) {
+            FloatVector hue = denormalize(360, FloatVector.fromArray(SPECIES, src, i));
+            hue = hue.sub(360f, hue.eq(360f));
+            FloatVector saturation = FloatVector.fromArray(SPECIES, src, planeSize + i);
+            FloatVector lightness = FloatVector.fromArray(SPECIES, src, 2 * planeSize + i);
+            FloatVector alpha = FloatVector.fromArray(SPECIES, src, 3 * planeSize + i);
+
+            FloatVector c = ONE.sub(lightness.mul(2f).sub(1f).abs()).mul(saturation);
+            FloatVector x = c.mul(ONE.sub(mod2(hue.div(60f)).sub(1f).abs()));
+            FloatVector m = lightness.sub(c.div(2f));
+
+            VectorMask<Float> from0To60 = hue.lt(60f);
+            VectorMask<Float> from60To120 = between(hue, 60f, 120f);
+            VectorMask<Float> from120To180 = between(hue, 120f, 180f);
+            VectorMask<Float> from180To240 = between(hue, 180f, 240f);
+            VectorMask<Float> from240To300 = between(hue, 240f, 300f);
+            VectorMask<Float> from300To360 = between(hue, 300f, 360f);
+
+            FloatVector red = ZERO
+                    .blend(x, from60To120.or(from240To300))
+                    .blend(c, from0To60.or(from300To360));
+            FloatVector green = ZERO
+                    .blend(x, from0To60.or(from180To240))
+                    .blend(c, from60To120.or(from120To180));
+            FloatVector blue = ZERO
+                    .blend(x, from120To180.or(from300To360))
+                    .blend(c, from180To240.or(from240To300));
+
+            denormalize(255, clamp(red.add(m))).div(255f).intoArray(dst, i);
+            denormalize(255, clamp(green.add(m))).div(255f).intoArray(dst, planeSize + i);
+            denormalize(255, clamp(blue.add(m))).div(255f).intoArray(dst, 2 * planeSize + i);
+            denormalize(100, alpha).div(100f).intoArray(dst, 3 * planeSize + i);
+        }
+
+        ScalarColourKernels.INSTANCE.hslToRgb(src, dst, planeSize, i, offset + count - i);
+    }
+
+    @Override
+    public void rgbToHsv(float[] src, float[] dst, int planeSize, int offset, int count) {
+        ScalarColourKernels.checkBounds(src, dst, planeSize, offset, count);
+
+        int i = offset;
+        for(int upperBound = offset + SPECIES.loopBound(count); i < upperBound; i += SPECIES.length()) {
+            FloatVector red = FloatVector.fromArray(SPECIES, src, i);
+            FloatVector green = FloatVector.fromArray(SPECIES, src, planeSize + i);
+            FloatVector blue = FloatVector.fromArray(SPECIES, src, 2 * planeSize + i);
+            FloatVector alpha = FloatVector.fromArray(SPECIES, src, 3 * planeSize + i);
+
+            FloatVector max = max(red, green, blue);
+            FloatVector min = min(red, green, blue);
+            FloatVector delta = max.sub(min);
+            VectorMask<Float> chromatic = delta.compare(VectorOperators.GT, 0f);
+
+            // (x % 6) is always x, because |green - blue| <= delta
+            FloatVector hue = ZERO
+                    .blend(red.sub(green).div(delta).add(4f).mul(60f), max.eq(blue))
+                    .blend(blue.sub(red).div(delta).add(2f).mul(60f), max.eq(green))
+                    .blend(green.sub(blue).div(delta).mul(60f), max.eq(red));
+            hue = ZERO.blend(hue, chromatic);
+            hue = trunc(hue.add(360f, hue.lt(0f)));
+
+            FloatVector saturation = ZERO.blend(delta.div(max), chromatic);
+
+            hue.div(360f).intoArray(dst, i);
+            denormalize(100, saturation).div(100f).intoArray(dst, planeSize + i);
+            denormalize(100, max).div(100f).intoArray(dst, 2 * planeSize + i);
+            denormalize(100, alpha).div(100f).intoArray(dst, 3 * planeSize + i);
+        }
+
+        ScalarColourKernels.INSTANCE.rgbToHsv(src, dst, planeSize, i, offset + count - i);
+    }
+
+    @Override
+    public void hsvToRgb(float[] src, float[] dst, int planeSize, int offset, int count) {
+        ScalarColourKernels.checkBounds(src, dst, planeSize, offset, count);
+
+        int i = offset;
+        for(int upperBound = offset + SPECIES.loopBound(count); i < upperBound; i += SPECIES.length()) {
+            FloatVector hueSegment = denormalize(360, FloatVector.fromArray(SPECIES, src, i)).div(60f);
+            FloatVector saturation = FloatVector.fromArray(SPECIES, src, planeSize + i);
+            FloatVector brightness = FloatVector.fromArray(SPECIES, src, 2 * planeSize + i);
+            FloatVector alpha = FloatVector.fromArray(SPECIES, src, 3 * planeSize + i);
+
+            // Hue is in [0, 360], so (segment % 6) only changes 6 into 0
+            FloatVector segment = hueSegment.blend(0f, hueSegment.eq(6f));
+            FloatVector chroma = brightness.mul(saturation);
+            FloatVector fX = chroma.mul(ONE.sub(mod2(segment).sub(1f).abs()));
+            FloatVector fM = brightness.sub(chroma);
+
+            VectorMask<Float> from0To1 = segment.lt(1f);
+            VectorMask<Float> from1To2 = between(segment, 1f, 2f);
+            VectorMask<Float> from2To3 = between(segment, 2f, 3f);
+            VectorMask<Float> from3To4 = between(segment, 3f, 4f);
+            VectorMask<Float> from4To5 = between(segment, 4f, 5f);
+            VectorMask<Float> from5To6 = between(segment, 5f, 6f);
+
+            FloatVector red = ZERO
+                    .blend(fX, from1To2.or(from4To5))
+                    .blend(chroma, from0To1.or(from5To6));
+            FloatVector green = ZERO
+                    .blend(fX, from0To1.or(from3To4))
+                    .blend(chroma, from1To2.or(from2To3));
+            FloatVector blue = ZERO
+                    .blend(fX, from2To3.or(from5To6))
+                    .blend(chroma, from3To4.or(from4To5));
+
+            red.add(fM).intoArray(dst, i);
+            green.add(fM).intoArray(dst, planeSize + i);
+            blue.add(fM).intoArray(dst, 2 * planeSize + i);
+            alpha.intoArray(dst, 3 * planeSize + i);
+        }
+
+        ScalarColourKernels.INSTANCE.hsvToRgb(src, dst, planeSize, i, offset + count - i);
+    }
+
+    @Override
+    public void rgbToCmyk(float[] src, float[] dst, int planeSize, int offset, int count) {
+        ScalarColourKernels.checkBounds(src, dst, planeSize, offset, count);
+
+        int i = offset;
+        for(int upperBound = offset + SPECIES.loopBound(count); i < upperBound; i += SPECIES.length()) {
+            FloatVector red = FloatVector.fromArray(SPECIES, src, i);
+            FloatVector green = FloatVector.fromArray(SPECIES, src, planeSize + i);
+            FloatVector blue = FloatVector.fromArray(SPECIES, src, 2 * planeSize + i);
+
+            FloatVector black = ONE.sub(max(red, green, blue));
+            FloatVector notBlack = ONE.sub(black);
+            VectorMask<Float> pureBlack = black.eq(1f);
+
+            ONE.sub(red).sub(black).div(notBlack).blend(0f, pureBlack).intoArray(dst, i);
+            ONE.sub(green).sub(black).div(notBlack).blend(0f, pureBlack).intoArray(dst, planeSize + i);
+            ONE.sub(blue).sub(black).div(notBlack).blend(0f, pureBlack).intoArray(dst, 2 * planeSize + i);
+            black.intoArray(dst, 3 * planeSize + i);
+        }
+
+        ScalarColourKernels.INSTANCE.rgbToCmyk(src, dst, planeSize, i, offset + count - i);
+    }
+
+    @Override
+    public void cmykToRgb(float[] src, float[] dst, int planeSize, int offset, int count) {
+        ScalarColourKernels.checkBounds(src, dst, planeSize, offset, count);
+
+        int i = offset;
+        for(int upperBound = offset + SPECIES.loopBound(count); i < upperBound; i += SPECIES.length()) {
+            FloatVector cyan = FloatVector.fromArray(SPECIES, src, i);
+            FloatVector magenta = FloatVector.fromArray(SPECIES, src, planeSize + i);
+            FloatVector yellow = FloatVector.fromArray(SPECIES, src, 2 * planeSize + i);
+            FloatVector notBlack = ONE.sub(FloatVector.fromArray(SPECIES, src, 3 * planeSize + i));
+
+            ONE.sub(cyan).mul(notBlack).intoArray(dst, i);
+            ONE.sub(magenta).mul(notBlack).intoArray(dst, planeSize + i);
+            ONE.sub(yellow).mul(notBlack).intoArray(dst, 2 * planeSize + i);
+            ONE.intoArray(dst, 3 * planeSize + i);
+        }
+
+        ScalarColourKernels.INSTANCE.cmykToRgb(src, dst, planeSize, i, offset + count - i);
+    }
+
+    private static FloatVector max(FloatVector a, FloatVector b, FloatVector c) {
+        FloatVector max = a.blend(b, a.lt(b));
+        return max.blend(c, max.lt(c));
+    }
+
+    private static FloatVector min(FloatVector a, FloatVector b, FloatVector c) {
+        FloatVector min = a.blend(b, a.compare(VectorOperators.GT, b));
+        return min.blend(c, min.compare(VectorOperators.GT, c));
+    }
+
+    private static FloatVector clamp(FloatVector values) {
+        return values.max(0f).min(1f);
+    }
+
+    private static VectorMask<Float> between(FloatVector values, float from, float to) {
+        return values.compare(VectorOperators.GE, from).and(values.lt(to));
+    }
+
+    /**
+     * <p>Same as <code>Math.round(value * max)</code> for every lane, after checking that values are in [0, 1].</p>
+     */
+    private static FloatVector denormalize(int max, FloatVector values) {
+        if(!values.compare(VectorOperators.GE, 0f).and(values.compare(VectorOperators.LE, 1f)).allTrue())
+            throw new IllegalArgumentException("Error. There is a value out of range [0, 1], it's not possible to denormalize it.");
+
+        return round(values.mul((float) max));
+    }
+
+    /**
+     * <p>Same as {@link Math#round(float)} for every lane (the result is kept as a float).</p>
+     */
+    private static FloatVector round(FloatVector values) {
+        // floor(x + 0.5) is exact, but for |x| < 0.5 the sum may round up to 1
+        return floor(values.add(0.5f)).blend(0f, values.abs().lt(0.5f));
+    }
+
+    private static FloatVector floor(FloatVector values) {
+        FloatVector truncated = trunc(values);
+        return truncated.sub(1f, truncated.compare(VectorOperators.GT, values));
+    }
+
+    private static FloatVector trunc(FloatVector values) {
+        return (FloatVector) values
+                .convert(VectorOperators.F2I, 0)
+                .convert(VectorOperators.I2F, 0);
+    }
+
+    /**
+     * <p>Same as <code>value % 2f</code> for every non-negative lane.</p>
+     */
+    private static FloatVector mod2(FloatVector values) {
+        return values.sub(trunc(values.div(2f)).mul(2f));
+    }
+
+}
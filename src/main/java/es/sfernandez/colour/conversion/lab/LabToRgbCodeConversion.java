@@ -0,0 +1,66 @@
+package es.sfernandez.colour.conversion.lab;
+
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.labToXyz;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.xyzToRgb;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link LabCode} into a {@link RgbCode}. Colours out of the sRGB
+ * gamut are clipped.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class LabToRgbCodeConversion
+        implements ToRgbCodeConversion<LabCode> {
+
+    @Override
+    public Class<LabCode> inColourCodeClass() {
+        return LabCode.class;
+    }
+
+    @Override
+    public Class<RgbCode> outColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public <R> R convert(LabCode lab, RgbValuesFunction<R> function) {
+        float[] rgb = new float[3];
+        toRgb(lab.lightness(), lab.a(), lab.b(), rgb, 0);
+
+        return function.apply(rgb[0], rgb[1], rgb[2], lab.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float a = src[srcOffset + i + 1];
+            float b = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            toRgb(lightness, a, b, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void toRgb(final float lightness, final float a, final float b, final float[] rgb, final int offset) {
+        labToXyz(lightness, a, b, rgb, offset);
+        xyzToRgb(rgb[offset], rgb[offset + 1], rgb[offset + 2], rgb, offset);
+    }
+
+}
@@ -0,0 +1,59 @@
+package es.sfernandez.colour.conversion.lab;
+
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.XyzCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.labToXyz;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link LabCode} into an {@link XyzCode} directly, without
+ * going through RGB, so colours out of the sRGB gamut are kept.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class LabToXyzCodeConversion
+        implements ColourCodeConversion<LabCode, XyzCode> {
+
+    @Override
+    public Class<LabCode> inColourCodeClass() {
+        return LabCode.class;
+    }
+
+    @Override
+    public Class<XyzCode> outColourCodeClass() {
+        return XyzCode.class;
+    }
+
+    @Override
+    public XyzCode convert(LabCode lab) {
+        float[] xyz = new float[3];
+        labToXyz(lab.lightness(), lab.a(), lab.b(), xyz, 0);
+
+        return new XyzCode(xyz[0], xyz[1], xyz[2], lab.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float a = src[srcOffset + i + 1];
+            float b = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            labToXyz(lightness, a, b, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+}
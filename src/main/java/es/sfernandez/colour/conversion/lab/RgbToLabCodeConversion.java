@@ -0,0 +1,65 @@
+package es.sfernandez.colour.conversion.lab;
+
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.rgbToXyz;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.xyzToLab;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link RgbCode} into a {@link LabCode}.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class RgbToLabCodeConversion
+        implements FromRgbCodeConversion<LabCode> {
+
+    @Override
+    public Class<RgbCode> inColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public Class<LabCode> outColourCodeClass() {
+        return LabCode.class;
+    }
+
+    @Override
+    public LabCode convert(float red, float green, float blue, float alpha) {
+        float[] lab = new float[3];
+        fromRgb(red, green, blue, lab, 0);
+
+        return new LabCode(lab[0], lab[1], lab[2], alpha);
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float red = src[srcOffset + i];
+            float green = src[srcOffset + i + 1];
+            float blue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            fromRgb(red, green, blue, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void fromRgb(final float red, final float green, final float blue, final float[] lab, final int offset) {
+        rgbToXyz(red, green, blue, lab, offset);
+        xyzToLab(lab[offset], lab[offset + 1], lab[offset + 2], lab, offset);
+    }
+
+}
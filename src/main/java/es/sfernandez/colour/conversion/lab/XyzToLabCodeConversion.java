@@ -0,0 +1,59 @@
+package es.sfernandez.colour.conversion.lab;
+
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.XyzCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.xyzToLab;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts an {@link XyzCode} into a {@link LabCode} directly, without
+ * going through RGB, so colours out of the sRGB gamut are kept.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class XyzToLabCodeConversion
+        implements ColourCodeConversion<XyzCode, LabCode> {
+
+    @Override
+    public Class<XyzCode> inColourCodeClass() {
+        return XyzCode.class;
+    }
+
+    @Override
+    public Class<LabCode> outColourCodeClass() {
+        return LabCode.class;
+    }
+
+    @Override
+    public LabCode convert(XyzCode xyz) {
+        float[] lab = new float[3];
+        xyzToLab(xyz.x(), xyz.y(), xyz.z(), lab, 0);
+
+        return new LabCode(lab[0], lab[1], lab[2], xyz.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float x = src[srcOffset + i];
+            float y = src[srcOffset + i + 1];
+            float z = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            xyzToLab(x, y, z, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+}
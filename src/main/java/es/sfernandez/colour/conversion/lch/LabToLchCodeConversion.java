@@ -0,0 +1,59 @@
+package es.sfernandez.colour.conversion.lch;
+
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.LchCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.labToLch;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link LabCode} into a {@link LchCode} directly, without
+ * going through RGB, so colours out of the sRGB gamut are kept.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class LabToLchCodeConversion
+        implements ColourCodeConversion<LabCode, LchCode> {
+
+    @Override
+    public Class<LabCode> inColourCodeClass() {
+        return LabCode.class;
+    }
+
+    @Override
+    public Class<LchCode> outColourCodeClass() {
+        return LchCode.class;
+    }
+
+    @Override
+    public LchCode convert(LabCode lab) {
+        float[] lch = new float[3];
+        labToLch(lab.lightness(), lab.a(), lab.b(), lch, 0);
+
+        return new LchCode(lch[0], lch[1], lch[2], lab.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float a = src[srcOffset + i + 1];
+            float b = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            labToLch(lightness, a, b, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package es.sfernandez.colour.conversion.lch;
+
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.LchCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.lchToLab;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link LchCode} into a {@link LabCode} directly, without
+ * going through RGB, so colours out of the sRGB gamut are kept.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class LchToLabCodeConversion
+        implements ColourCodeConversion<LchCode, LabCode> {
+
+    @Override
+    public Class<LchCode> inColourCodeClass() {
+        return LchCode.class;
+    }
+
+    @Override
+    public Class<LabCode> outColourCodeClass() {
+        return LabCode.class;
+    }
+
+    @Override
+    public LabCode convert(LchCode lch) {
+        float[] lab = new float[3];
+        lchToLab(lch.lightness(), lch.chroma(), lch.hue(), lab, 0);
+
+        return new LabCode(lab[0], lab[1], lab[2], lch.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float chroma = src[srcOffset + i + 1];
+            float hue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            lchToLab(lightness, chroma, hue, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+}
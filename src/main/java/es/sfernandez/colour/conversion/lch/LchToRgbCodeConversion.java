@@ -0,0 +1,68 @@
+package es.sfernandez.colour.conversion.lch;
+
+import es.sfernandez.colour.codifications.LchCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.labToXyz;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.lchToLab;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.xyzToRgb;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link LchCode} into a {@link RgbCode}. Colours out of the sRGB
+ * gamut are clipped.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class LchToRgbCodeConversion
+        implements ToRgbCodeConversion<LchCode> {
+
+    @Override
+    public Class<LchCode> inColourCodeClass() {
+        return LchCode.class;
+    }
+
+    @Override
+    public Class<RgbCode> outColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public <R> R convert(LchCode lch, RgbValuesFunction<R> function) {
+        float[] rgb = new float[3];
+        toRgb(lch.lightness(), lch.chroma(), lch.hue(), rgb, 0);
+
+        return function.apply(rgb[0], rgb[1], rgb[2], lch.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float chroma = src[srcOffset + i + 1];
+            float hue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            toRgb(lightness, chroma, hue, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void toRgb(final float lightness, final float chroma, final float hue, final float[] rgb, final int offset) {
+        lchToLab(lightness, chroma, hue, rgb, offset);
+        labToXyz(rgb[offset], rgb[offset + 1], rgb[offset + 2], rgb, offset);
+        xyzToRgb(rgb[offset], rgb[offset + 1], rgb[offset + 2], rgb, offset);
+    }
+
+}
@@ -0,0 +1,67 @@
+package es.sfernandez.colour.conversion.lch;
+
+import es.sfernandez.colour.codifications.LchCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.labToLch;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.rgbToXyz;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.xyzToLab;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link RgbCode} into a {@link LchCode}.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class RgbToLchCodeConversion
+        implements FromRgbCodeConversion<LchCode> {
+
+    @Override
+    public Class<RgbCode> inColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public Class<LchCode> outColourCodeClass() {
+        return LchCode.class;
+    }
+
+    @Override
+    public LchCode convert(float red, float green, float blue, float alpha) {
+        float[] lch = new float[3];
+        fromRgb(red, green, blue, lch, 0);
+
+        return new LchCode(lch[0], lch[1], lch[2], alpha);
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float red = src[srcOffset + i];
+            float green = src[srcOffset + i + 1];
+            float blue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            fromRgb(red, green, blue, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void fromRgb(final float red, final float green, final float blue, final float[] lch, final int offset) {
+        rgbToXyz(red, green, blue, lch, offset);
+        xyzToLab(lch[offset], lch[offset + 1], lch[offset + 2], lch, offset);
+        labToLch(lch[offset], lch[offset + 1], lch[offset + 2], lch, offset);
+    }
+
+}
@@ -0,0 +1,64 @@
+package es.sfernandez.colour.conversion.oklab;
+
+import es.sfernandez.colour.codifications.OkLabCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.okLabToRgb;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts an {@link OkLabCode} into a {@link RgbCode}. Colours out of the sRGB
+ * gamut are clipped.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class OkLabToRgbCodeConversion
+        implements ToRgbCodeConversion<OkLabCode> {
+
+    @Override
+    public Class<OkLabCode> inColourCodeClass() {
+        return OkLabCode.class;
+    }
+
+    @Override
+    public Class<RgbCode> outColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public <R> R convert(OkLabCode okLab, RgbValuesFunction<R> function) {
+        float[] rgb = new float[3];
+        toRgb(okLab.lightness(), okLab.a(), okLab.b(), rgb, 0);
+
+        return function.apply(rgb[0], rgb[1], rgb[2], okLab.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float a = src[srcOffset + i + 1];
+            float b = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            toRgb(lightness, a, b, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void toRgb(final float lightness, final float a, final float b, final float[] rgb, final int offset) {
+        okLabToRgb(lightness, a, b, rgb, offset);
+    }
+
+}
@@ -0,0 +1,59 @@
+package es.sfernandez.colour.conversion.oklch;
+
+import es.sfernandez.colour.codifications.OkLabCode;
+import es.sfernandez.colour.codifications.OkLchCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.labToLch;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts an {@link OkLabCode} into an {@link OkLchCode} directly, without
+ * going through RGB, so colours out of the sRGB gamut are kept.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class OkLabToOkLchCodeConversion
+        implements ColourCodeConversion<OkLabCode, OkLchCode> {
+
+    @Override
+    public Class<OkLabCode> inColourCodeClass() {
+        return OkLabCode.class;
+    }
+
+    @Override
+    public Class<OkLchCode> outColourCodeClass() {
+        return OkLchCode.class;
+    }
+
+    @Override
+    public OkLchCode convert(OkLabCode okLab) {
+        float[] okLch = new float[3];
+        labToLch(okLab.lightness(), okLab.a(), okLab.b(), okLch, 0);
+
+        return new OkLchCode(okLch[0], okLch[1], okLch[2], okLab.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float a = src[srcOffset + i + 1];
+            float b = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            labToLch(lightness, a, b, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package es.sfernandez.colour.conversion.oklch;
+
+import es.sfernandez.colour.codifications.OkLabCode;
+import es.sfernandez.colour.codifications.OkLchCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.lchToLab;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts an {@link OkLchCode} into an {@link OkLabCode} directly, without
+ * going through RGB, so colours out of the sRGB gamut are kept.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class OkLchToOkLabCodeConversion
+        implements ColourCodeConversion<OkLchCode, OkLabCode> {
+
+    @Override
+    public Class<OkLchCode> inColourCodeClass() {
+        return OkLchCode.class;
+    }
+
+    @Override
+    public Class<OkLabCode> outColourCodeClass() {
+        return OkLabCode.class;
+    }
+
+    @Override
+    public OkLabCode convert(OkLchCode okLch) {
+        float[] okLab = new float[3];
+        lchToLab(okLch.lightness(), okLch.chroma(), okLch.hue(), okLab, 0);
+
+        return new OkLabCode(okLab[0], okLab[1], okLab[2], okLch.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float lightness = src[srcOffset + i];
+            float chroma = src[srcOffset + i + 1];
+            float hue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            lchToLab(lightness, chroma, hue, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+}
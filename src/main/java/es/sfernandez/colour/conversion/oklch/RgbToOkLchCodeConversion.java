@@ -0,0 +1,65 @@
+package es.sfernandez.colour.conversion.oklch;
+
+import es.sfernandez.colour.codifications.OkLchCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.labToLch;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.rgbToOkLab;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link RgbCode} into an {@link OkLchCode}.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class RgbToOkLchCodeConversion
+        implements FromRgbCodeConversion<OkLchCode> {
+
+    @Override
+    public Class<RgbCode> inColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public Class<OkLchCode> outColourCodeClass() {
+        return OkLchCode.class;
+    }
+
+    @Override
+    public OkLchCode convert(float red, float green, float blue, float alpha) {
+        float[] okLch = new float[3];
+        fromRgb(red, green, blue, okLch, 0);
+
+        return new OkLchCode(okLch[0], okLch[1], okLch[2], alpha);
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float red = src[srcOffset + i];
+            float green = src[srcOffset + i + 1];
+            float blue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            fromRgb(red, green, blue, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void fromRgb(final float red, final float green, final float blue, final float[] okLch, final int offset) {
+        rgbToOkLab(red, green, blue, okLch, offset);
+        labToLch(okLch[offset], okLch[offset + 1], okLch[offset + 2], okLch, offset);
+    }
+
+}
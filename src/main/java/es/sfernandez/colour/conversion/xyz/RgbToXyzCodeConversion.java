@@ -0,0 +1,63 @@
+package es.sfernandez.colour.conversion.xyz;
+
+import es.sfernandez.colour.codifications.XyzCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.FromRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.rgbToXyz;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts a {@link RgbCode} into an {@link XyzCode}.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class RgbToXyzCodeConversion
+        implements FromRgbCodeConversion<XyzCode> {
+
+    @Override
+    public Class<RgbCode> inColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public Class<XyzCode> outColourCodeClass() {
+        return XyzCode.class;
+    }
+
+    @Override
+    public XyzCode convert(float red, float green, float blue, float alpha) {
+        float[] xyz = new float[3];
+        fromRgb(red, green, blue, xyz, 0);
+
+        return new XyzCode(xyz[0], xyz[1], xyz[2], alpha);
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float red = src[srcOffset + i];
+            float green = src[srcOffset + i + 1];
+            float blue = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            fromRgb(red, green, blue, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void fromRgb(final float red, final float green, final float blue, final float[] xyz, final int offset) {
+        rgbToXyz(red, green, blue, xyz, offset);
+    }
+
+}
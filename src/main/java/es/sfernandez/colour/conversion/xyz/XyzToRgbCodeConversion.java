@@ -0,0 +1,64 @@
+package es.sfernandez.colour.conversion.xyz;
+
+import es.sfernandez.colour.codifications.XyzCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ToRgbCodeConversion;
+
+import java.util.Objects;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.xyzToRgb;
+
+/**
+ * <p>{@link ColourCodeConversion} that converts an {@link XyzCode} into a {@link RgbCode}. Colours out of the sRGB
+ * gamut are clipped.</p>
+ *
+ * @author Sergio Fernández
+ */
+public class XyzToRgbCodeConversion
+        implements ToRgbCodeConversion<XyzCode> {
+
+    @Override
+    public Class<XyzCode> inColourCodeClass() {
+        return XyzCode.class;
+    }
+
+    @Override
+    public Class<RgbCode> outColourCodeClass() {
+        return RgbCode.class;
+    }
+
+    @Override
+    public <R> R convert(XyzCode xyz, RgbValuesFunction<R> function) {
+        float[] rgb = new float[3];
+        toRgb(xyz.x(), xyz.y(), xyz.z(), rgb, 0);
+
+        return function.apply(rgb[0], rgb[1], rgb[2], xyz.alpha());
+    }
+
+    @Override
+    public boolean supportsBulkConversion() {
+        return true;
+    }
+
+    @Override
+    public void convertBulk(float[] src, int srcOffset, float[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(srcOffset, count * BULK_COMPONENTS, src.length);
+        Objects.checkFromIndexSize(dstOffset, count * BULK_COMPONENTS, dst.length);
+
+        for(int i = 0; i < count * BULK_COMPONENTS; i += BULK_COMPONENTS) {
+            float x = src[srcOffset + i];
+            float y = src[srcOffset + i + 1];
+            float z = src[srcOffset + i + 2];
+            float alpha = src[srcOffset + i + 3];
+
+            toRgb(x, y, z, dst, dstOffset + i);
+            dst[dstOffset + i + 3] = alpha;
+        }
+    }
+
+    private static void toRgb(final float x, final float y, final float z, final float[] rgb, final int offset) {
+        xyzToRgb(x, y, z, rgb, offset);
+    }
+
+}
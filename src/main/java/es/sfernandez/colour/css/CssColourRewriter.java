@@ -0,0 +1,424 @@
+package es.sfernandez.colour.css;
+
+import es.sfernandez.colour.codifications.AcceptedByCssColourCode;
+import es.sfernandez.colour.codifications.CssColourCodeCache;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <p>A {@link CssColourRewriter} copies a CSS stylesheet from a {@link Reader} to a {@link Writer}, replacing every
+ * colour literal accepted by {@link HexCode}, {@link RgbCode} or {@link HslCode} (e.g.: "#fa39e4",
+ * "rgb(30, 90, 220)" or "hsla(300, 90%, 20%, 0.5)") with the result of a rewrite function.</p>
+ * <p>The stylesheet is read in a single pass, char by char, and it's never loaded in memory: the rewriter only keeps
+ * fixed size buffers and the colour literal being read. Only the values of declarations are rewritten, so selectors
+ * (e.g.: "#add", also inside at-rules such as <code>@media</code>), comments, strings and urls are copied untouched.
+ * Literals that aren't valid colour codes are copied untouched too. Names of colour functions are case-insensitive
+ * (e.g.: "RGB(1, 2, 3)").</p>
+ * <p>Colour literals are parsed with a {@link CssColourCodeCache}, since stylesheets tend to repeat the same few
+ * colours. A rewriter can be used several times, and from several threads if its rewrite function can.</p>
+ *
+ * @author Sergio Fernández
+ */
+public final class CssColourRewriter {
+
+    //---- Constants and Definitions ----
+    private static final int BUFFER_SIZE = 8192;
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final int MAX_HEX_LENGTH = 9;
+    private static final int MAX_FUNCTION_NAME_LENGTH = 4;
+    private static final int MAX_FUNCTION_LENGTH = 64;
+    private static final int MAX_AT_KEYWORD_LENGTH = 24;
+    /** Maximum nesting depth whose kind of block is tracked, deeper blocks are taken as blocks of declarations */
+    private static final int MAX_TRACKED_DEPTH = Long.SIZE - 1;
+
+    /** At-rules whose blocks contain rules instead of declarations (without their vendor prefixes) */
+    private static final Set<String> AT_RULES_WITH_RULES = Set.of(
+            "media", "supports", "document", "layer", "container", "scope", "starting-style", "keyframes"
+    );
+
+    private enum State {
+        CSS, COMMENT, STRING, URL, HEX, FUNCTION_NAME, FUNCTION
+    }
+
+    //---- Attributes ----
+    private final Function<? super AcceptedByCssColourCode, ? extends AcceptedByCssColourCode> rewrite;
+    private final CssColourCodeCache cache;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link CssColourRewriter} with its own {@link CssColourCodeCache}.</p>
+     * @param rewrite function that receives each colour of the stylesheet and returns the colour that will replace it,
+     *                or null to keep it as it is
+     * @throws IllegalArgumentException if rewrite is null
+     */
+    public CssColourRewriter(final Function<? super AcceptedByCssColourCode, ? extends AcceptedByCssColourCode> rewrite) {
+        this(rewrite, new CssColourCodeCache(DEFAULT_CACHE_SIZE));
+    }
+
+    /**
+     * <p>Creates a new {@link CssColourRewriter}.</p>
+     * @param rewrite function that receives each colour of the stylesheet and returns the colour that will replace it,
+     *                or null to keep it as it is
+     * @param cache cache used to parse colour literals
+     * @throws IllegalArgumentException if rewrite or cache are null
+     */
+    public CssColourRewriter(final Function<? super AcceptedByCssColourCode, ? extends AcceptedByCssColourCode> rewrite,
+                             final CssColourCodeCache cache) {
+        if(rewrite == null || cache == null)
+            throw new IllegalArgumentException("Error. The rewrite function and the cache are required.");
+
+        this.rewrite = rewrite;
+        this.cache = cache;
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Reads the whole stylesheet from in and writes it into out, with its colours rewritten. Neither in nor out are
+     * closed, but out is flushed.</p>
+     * @param in stylesheet to rewrite
+     * @param out where the rewritten stylesheet is written
+     * @return number of colours rewritten
+     * @throws IllegalArgumentException if in or out are null
+     * @throws IOException if the stylesheet can't be read or written
+     */
+    public long rewrite(final Reader in, final Writer out) throws IOException {
+        if(in == null || out == null)
+            throw new IllegalArgumentException("Error. The stylesheet to read and the writer are required.");
+
+        return new Rewriting(out).run(in);
+    }
+
+    /**
+     * <p>Reads the whole stylesheet from a channel, decoding it with charset, and writes it into out with its colours
+     * rewritten. Neither in nor out are closed, but out is flushed.</p>
+     * @param in channel with the stylesheet to rewrite
+     * @param charset charset of the stylesheet
+     * @param out where the rewritten stylesheet is written
+     * @return number of colours rewritten
+     * @throws IllegalArgumentException if in, charset or out are null
+     * @throws IOException if the stylesheet can't be read or written
+     */
+    public long rewrite(final ReadableByteChannel in, final Charset charset, final Writer out) throws IOException {
+        if(in == null || charset == null)
+            throw new IllegalArgumentException("Error. The channel to read and its charset are required.");
+
+        return rewrite(Channels.newReader(in, charset.newDecoder(), BUFFER_SIZE), out);
+    }
+
+    /**
+     * <p>State of one rewriting of a stylesheet.</p>
+     */
+    private final class Rewriting {
+
+        private final Writer out;
+        private final char[] output = new char[BUFFER_SIZE];
+        private final StringBuilder literal = new StringBuilder(MAX_FUNCTION_LENGTH);
+        private final StringBuilder replacementCode = new StringBuilder(MAX_FUNCTION_LENGTH);
+        private int outputLength;
+        private State state = State.CSS;
+        private int depth;
+        /** Bit i is set if the blocks of depth i contain rules (the top level always does) */
+        private long ruleBlocks = 1L;
+        private final StringBuilder atKeyword = new StringBuilder(MAX_AT_KEYWORD_LENGTH);
+        private boolean preludeStarted;
+        private boolean inAtKeyword;
+        private boolean inValue;
+        private boolean escaped;
+        private char quote;
+        private char previous = ' ';
+        private long rewritten;
+
+        private Rewriting(final Writer out) {
+            this.out = out;
+        }
+
+        private long run(final Reader in) throws IOException {
+            char[] input = new char[BUFFER_SIZE];
+            int read;
+            while((read = in.read(input)) != -1)
+                for(int i = 0; i < read; ++i)
+                    accept(input[i]);
+
+            if(state == State.HEX)
+                rewriteLiteral();
+            else
+                copyLiteral();
+
+            out.write(output, 0, outputLength);
+            out.flush();
+            return rewritten;
+        }
+
+        private void accept(final char c) throws IOException {
+            switch(state) {
+                case COMMENT -> acceptInComment(c);
+                case STRING -> acceptInString(c);
+                case URL -> acceptInUrl(c);
+                case HEX -> acceptInHex(c);
+                case FUNCTION_NAME -> acceptInFunctionName(c);
+                case FUNCTION -> acceptInFunction(c);
+                default -> acceptInCss(c);
+            }
+        }
+
+        private void acceptInCss(final char c) throws IOException {
+            if(c == '*' && previous == '/') {
+                state = State.COMMENT;
+                emit(c);
+                previous = ' ';
+                return;
+            }
+
+            if(!inValue)
+                acceptInPrelude(c);
+
+            if(c == '"' || c == '\'') {
+                state = State.STRING;
+                quote = c;
+            } else if(inValue && !isIdentChar(previous) && (c == '#' || isLetter(c))) {
+                state = c == '#' ? State.HEX : State.FUNCTION_NAME;
+                literal.append(c);
+                previous = c;
+                return;
+            } else if(c == '{') {
+                boolean hasRules = isAtRuleWithRules();
+                depth++;
+                if(depth <= MAX_TRACKED_DEPTH)
+                    ruleBlocks = hasRules ? ruleBlocks | (1L << depth) : ruleBlocks & ~(1L << depth);
+                endPrelude();
+            } else if(c == '}') {
+                depth = Math.max(0, depth - 1);
+                endPrelude();
+            } else if(c == ';') {
+                endPrelude();
+            } else if(c == ':') {
+                inValue = !isRuleBlock(depth);
+            }
+
+            emit(c);
+            previous = c;
+        }
+
+        /**
+         * <p>Keeps the name of the at-rule (if any) of the selector, at-rule or property being read.</p>
+         */
+        private void acceptInPrelude(final char c) {
+            if(!preludeStarted) {
+                if(Character.isWhitespace(c) || c == '/')
+                    return;
+
+                preludeStarted = true;
+                inAtKeyword = c == '@';
+                atKeyword.setLength(0);
+                return;
+            }
+
+            if(inAtKeyword && isIdentChar(c) && atKeyword.length() < MAX_AT_KEYWORD_LENGTH)
+                atKeyword.append(Character.toLowerCase(c));
+            else
+                inAtKeyword = false;
+        }
+
+        private boolean isAtRuleWithRules() {
+            if(atKeyword.isEmpty())
+                return false;
+
+            String name = atKeyword.toString();
+            if(name.charAt(0) == '-')
+                name = name.substring(name.indexOf('-', 1) + 1);
+
+            return AT_RULES_WITH_RULES.contains(name);
+        }
+
+        private void endPrelude() {
+            preludeStarted = false;
+            inAtKeyword = false;
+            atKeyword.setLength(0);
+            inValue = false;
+        }
+
+        private boolean isRuleBlock(final int depth) {
+            return depth <= MAX_TRACKED_DEPTH && (ruleBlocks & (1L << depth)) != 0;
+        }
+
+        private void acceptInComment(final char c) throws IOException {
+            emit(c);
+            if(previous == '*' && c == '/') {
+                state = State.CSS;
+                previous = ' ';
+            } else {
+                previous = c;
+            }
+        }
+
+        private void acceptInString(final char c) throws IOException {
+            emit(c);
+            if(escaped)
+                escaped = false;
+            else if(c == '\\')
+                escaped = true;
+            else if(c == quote)
+                state = State.CSS;
+            previous = c;
+        }
+
+        /**
+         * <p>Copies a url until its closing parenthesis, skipping the ones inside quotes (e.g.: in data URIs).</p>
+         */
+        private void acceptInUrl(final char c) throws IOException {
+            emit(c);
+            if(escaped)
+                escaped = false;
+            else if(c == '\\')
+                escaped = true;
+            else if(quote != 0)
+                quote = c == quote ? 0 : quote;
+            else if(c == '"' || c == '\'')
+                quote = c;
+            else if(c == ')')
+                state = State.CSS;
+            previous = c;
+        }
+
+        private void acceptInHex(final char c) throws IOException {
+            if(isIdentChar(c) && literal.length() < MAX_HEX_LENGTH) {
+                literal.append(c);
+                previous = c;
+                return;
+            }
+
+            if(isIdentChar(c))
+                copyLiteral();
+            else
+                rewriteLiteral();
+            acceptInCss(c);
+        }
+
+        private void acceptInFunctionName(final char c) throws IOException {
+            if(isIdentChar(c) && literal.length() < MAX_FUNCTION_NAME_LENGTH) {
+                literal.append(c);
+                previous = c;
+                return;
+            }
+
+            if(c == '(' && isColourFunction(literal)) {
+                state = State.FUNCTION;
+                literal.append(c);
+                previous = c;
+                return;
+            }
+
+            boolean isUrl = c == '(' && equalsIgnoreCase("url", literal);
+            copyLiteral();
+            if(isUrl) {
+                state = State.URL;
+                quote = 0;
+                emit(c);
+                previous = c;
+            } else {
+                acceptInCss(c);
+            }
+        }
+
+        private void acceptInFunction(final char c) throws IOException {
+            if(c == '{' || c == '}' || c == ';' || literal.length() == MAX_FUNCTION_LENGTH) {
+                copyLiteral();
+                acceptInCss(c);
+                return;
+            }
+
+            literal.append(c);
+            previous = c;
+            if(c == ')')
+                rewriteLiteral();
+        }
+
+        private void rewriteLiteral() throws IOException {
+            Optional<AcceptedByCssColourCode> code = cache.fromCssCode(cssCodeOfLiteral());
+            AcceptedByCssColourCode replacement = code.isPresent() ? rewrite.apply(code.get()) : null;
+
+            if(replacement == null) {
+                copyLiteral();
+                return;
+            }
+
+            replacementCode.setLength(0);
+            emit(replacement.appendCssCode(replacementCode));
+            literal.setLength(0);
+            state = State.CSS;
+            ++rewritten;
+        }
+
+        /**
+         * @return the literal with the name of its function (if any) in lower case, as colour codes are parsed
+         */
+        private String cssCodeOfLiteral() {
+            String cssCode = literal.toString();
+            int nameEnd = cssCode.indexOf('(');
+            if(nameEnd <= 0)
+                return cssCode;
+
+            String name = cssCode.substring(0, nameEnd);
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            return name.equals(lowerCaseName) ? cssCode : lowerCaseName + cssCode.substring(nameEnd);
+        }
+
+        private void copyLiteral() throws IOException {
+            emit(literal);
+            literal.setLength(0);
+            state = State.CSS;
+        }
+
+        private void emit(final CharSequence chars) throws IOException {
+            for(int i = 0; i < chars.length(); ++i)
+                emit(chars.charAt(i));
+        }
+
+        private void emit(final char c) throws IOException {
+            if(outputLength == output.length) {
+                out.write(output, 0, outputLength);
+                outputLength = 0;
+            }
+
+            output[outputLength++] = c;
+        }
+
+    }
+
+    private static boolean isColourFunction(final CharSequence name) {
+        return equalsIgnoreCase("rgb", name) || equalsIgnoreCase("rgba", name)
+                || equalsIgnoreCase("hsl", name) || equalsIgnoreCase("hsla", name);
+    }
+
+    private static boolean equalsIgnoreCase(final String lowerCaseName, final CharSequence name) {
+        if(lowerCaseName.length() != name.length())
+            return false;
+
+        for(int i = 0; i < name.length(); ++i)
+            if(Character.toLowerCase(name.charAt(i)) != lowerCaseName.charAt(i))
+                return false;
+
+        return true;
+    }
+
+    private static boolean isLetter(final char c) {
+        return ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z');
+    }
+
+    private static boolean isIdentChar(final char c) {
+        return isLetter(c) || ('0' <= c && c <= '9') || c == '-' || c == '_' || c >= 0x80;
+    }
+
+}
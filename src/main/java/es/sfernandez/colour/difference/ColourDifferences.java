@@ -0,0 +1,242 @@
+package es.sfernandez.colour.difference;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.LabCode;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>{@link ColourDifferences} computes the {@link DeltaE} differences between one colour and many others, or between
+ * every pair of two groups of colours (a matrix), into <code>float[]</code>.</p>
+ * <p>Every colour is converted into CIELAB only once, no matter how many times it's compared, and the comparisons are
+ * done over arrays with the lightness, a and b of the colours ({@link #LAB_COMPONENTS} floats per colour, see
+ * {@link #labOf(List)}), which can also be computed once and reused between several calls.</p>
+ * <p>When there are more than {@link #COMPARISONS_PER_TASK} comparisons, they are split into tasks that are run in a
+ * {@link ForkJoinPool}.</p>
+ *
+ * @see DeltaE
+ *
+ * @author Sergio Fernández
+ */
+public class ColourDifferences {
+
+    //---- Constants and Definitions ----
+    /** Number of floats that every colour takes in the CIELAB arrays: lightness, a and b */
+    public static final int LAB_COMPONENTS = 3;
+
+    /**
+     * <p>Number of comparisons under which a block of them is computed by a single task.</p>
+     */
+    public static final int COMPARISONS_PER_TASK = 16_384;
+
+    @FunctionalInterface
+    private interface RowsComparison {
+        void compare(int fromRow, int toRow);
+    }
+
+    //---- Attributes ----
+    private final DeltaE formula;
+    private final ForkJoinPool pool;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link ColourDifferences} that runs in the {@link ForkJoinPool#commonPool()}.</p>
+     * @param formula formula of the differences
+     * @throws IllegalArgumentException if formula is null
+     */
+    public ColourDifferences(final DeltaE formula) {
+        this(formula, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Creates a new {@link ColourDifferences}.</p>
+     * @param formula formula of the differences
+     * @param pool {@link ForkJoinPool} where the comparisons are run when there are many of them
+     * @throws IllegalArgumentException if formula or pool are null
+     */
+    public ColourDifferences(final DeltaE formula, final ForkJoinPool pool) {
+        if(formula == null || pool == null)
+            throw new IllegalArgumentException("Error. The " + DeltaE.class.getSimpleName() + " formula and the " +
+                    ForkJoinPool.class.getSimpleName() + " are required to create " + getClass().getSimpleName() + ".");
+
+        this.formula = formula;
+        this.pool = pool;
+    }
+
+    //---- Methods ----
+    /**
+     * @return formula of the differences
+     */
+    public DeltaE formula() {
+        return formula;
+    }
+
+    /**
+     * @param colours colours to convert into CIELAB
+     * @return the lightness, a and b of every colour, one colour after another
+     * @throws IllegalArgumentException if colours is null or contains null colours
+     */
+    public static float[] labOf(final List<? extends Colour> colours) {
+        if(colours == null || colours.stream().anyMatch(Objects::isNull))
+            throw new IllegalArgumentException("Error. It's not possible to compare null colours.");
+
+        float[] labs = new float[colours.size() * LAB_COMPONENTS];
+        for(int i = 0; i < colours.size(); ++i) {
+            LabCode lab = colours.get(i).as(LabCode.class);
+            labs[i * LAB_COMPONENTS] = lab.lightness();
+            labs[i * LAB_COMPONENTS + 1] = lab.a();
+            labs[i * LAB_COMPONENTS + 2] = lab.b();
+        }
+
+        return labs;
+    }
+
+    /**
+     * @param colour colour to compare (the reference one for {@link DeltaE#CIE94})
+     * @param colours colours to compare with colour
+     * @return the difference between colour and every one of colours, in the same order
+     * @throws IllegalArgumentException if any colour is null
+     */
+    public float[] oneToMany(final Colour colour, final List<? extends Colour> colours) {
+        if(colour == null)
+            throw new IllegalArgumentException("Error. It's not possible to compare null colours.");
+
+        float[] labs = labOf(colours);
+        float[] differences = new float[colours.size()];
+        oneToMany(labOf(List.of(colour)), 0, labs, colours.size(), differences);
+
+        return differences;
+    }
+
+    /**
+     * @param rows colours of the rows of the matrix (the reference ones for {@link DeltaE#CIE94})
+     * @param columns colours of the columns of the matrix
+     * @return a matrix, row after row, with the difference between every colour of rows and every colour of columns,
+     * so the difference between rows[i] and columns[j] is at [i * columns.size() + j]
+     * @throws IllegalArgumentException if any colour is null or if the matrix doesn't fit in an array
+     */
+    public float[] manyToMany(final List<? extends Colour> rows, final List<? extends Colour> columns) {
+        float[] rowLabs = labOf(rows);
+        float[] columnLabs = labOf(columns);
+        float[] differences = new float[matrixSize(rows.size(), columns.size())];
+        manyToMany(rowLabs, rows.size(), columnLabs, columns.size(), differences);
+
+        return differences;
+    }
+
+    /**
+     * <p>Writes in differences[i] the difference between the colour at labOffset of lab and the i-th colour of labs.</p>
+     * @param lab array with the CIELAB values of the colour to compare
+     * @param labOffset index of the lightness of the colour to compare
+     * @param labs CIELAB values of the colours to compare with (see {@link #labOf(List)})
+     * @param count number of colours of labs
+     * @param differences array where the differences are written
+     * @throws IllegalArgumentException if any array is null or count is negative
+     * @throws IndexOutOfBoundsException if any array is too small
+     */
+    public void oneToMany(final float[] lab, final int labOffset, final float[] labs, final int count, final float[] differences) {
+        if(lab == null || labs == null || differences == null || count < 0)
+            throw new IllegalArgumentException("Error. The colours to compare and the array of differences are required.");
+
+        Objects.checkFromIndexSize(labOffset, LAB_COMPONENTS, lab.length);
+        Objects.checkFromIndexSize(0, count * LAB_COMPONENTS, labs.length);
+        Objects.checkFromIndexSize(0, count, differences.length);
+
+        float l = lab[labOffset];
+        float a = lab[labOffset + 1];
+        float b = lab[labOffset + 2];
+        invoke(count, 1, (from, to) -> {
+            for(int i = from; i < to; ++i)
+                differences[i] = formula.difference(l, a, b,
+                        labs[i * LAB_COMPONENTS], labs[i * LAB_COMPONENTS + 1], labs[i * LAB_COMPONENTS + 2]);
+        });
+    }
+
+    /**
+     * <p>Writes in differences[i * columns + j] the difference between the i-th colour of rowLabs and the j-th colour
+     * of columnLabs.</p>
+     * @param rowLabs CIELAB values of the colours of the rows (see {@link #labOf(List)})
+     * @param rows number of colours of rowLabs
+     * @param columnLabs CIELAB values of the colours of the columns
+     * @param columns number of colours of columnLabs
+     * @param differences array where the matrix is written
+     * @throws IllegalArgumentException if any array is null, rows or columns are negative, or the matrix doesn't fit in
+     * an array
+     * @throws IndexOutOfBoundsException if any array is too small
+     */
+    public void manyToMany(final float[] rowLabs, final int rows, final float[] columnLabs, final int columns,
+                           final float[] differences) {
+        if(rowLabs == null || columnLabs == null || differences == null || rows < 0 || columns < 0)
+            throw new IllegalArgumentException("Error. The colours to compare and the array of differences are required.");
+
+        Objects.checkFromIndexSize(0, rows * LAB_COMPONENTS, rowLabs.length);
+        Objects.checkFromIndexSize(0, columns * LAB_COMPONENTS, columnLabs.length);
+        Objects.checkFromIndexSize(0, matrixSize(rows, columns), differences.length);
+
+        invoke(rows, columns, (fromRow, toRow) -> {
+            for(int i = fromRow; i < toRow; ++i) {
+                float l = rowLabs[i * LAB_COMPONENTS];
+                float a = rowLabs[i * LAB_COMPONENTS + 1];
+                float b = rowLabs[i * LAB_COMPONENTS + 2];
+
+                for(int j = 0; j < columns; ++j)
+                    differences[i * columns + j] = formula.difference(l, a, b,
+                            columnLabs[j * LAB_COMPONENTS], columnLabs[j * LAB_COMPONENTS + 1], columnLabs[j * LAB_COMPONENTS + 2]);
+            }
+        });
+    }
+
+    private static int matrixSize(final int rows, final int columns) {
+        long size = (long) rows * columns;
+        if(size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Error. A matrix of " + rows + "x" + columns + " differences doesn't fit in an array.");
+
+        return (int) size;
+    }
+
+    private void invoke(final int rows, final int columns, final RowsComparison comparison) {
+        if((long) rows * columns <= COMPARISONS_PER_TASK)
+            comparison.compare(0, rows);
+        else
+            pool.invoke(new RowsComparisonTask(comparison, columns, 0, rows));
+    }
+
+    /**
+     * <p>Compares the rows [fromRow, toRow), splitting them in two halves while they have more than
+     * {@link #COMPARISONS_PER_TASK} comparisons.</p>
+     */
+    private static final class RowsComparisonTask extends RecursiveAction {
+
+        private final RowsComparison comparison;
+        private final int columns;
+        private final int fromRow;
+        private final int toRow;
+
+        private RowsComparisonTask(final RowsComparison comparison, final int columns, final int fromRow, final int toRow) {
+            this.comparison = comparison;
+            this.columns = columns;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = toRow - fromRow;
+            if(rows == 1 || (long) rows * columns <= COMPARISONS_PER_TASK) {
+                comparison.compare(fromRow, toRow);
+                return;
+            }
+
+            int middleRow = fromRow + rows / 2;
+            invokeAll(
+                    new RowsComparisonTask(comparison, columns, fromRow, middleRow),
+                    new RowsComparisonTask(comparison, columns, middleRow, toRow)
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package es.sfernandez.colour.difference;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.LabCode;
+
+/**
+ * <p>Formulas of the CIE colour difference (ΔE) between two colours, measured between their {@link LabCode}s. A
+ * difference around 1 is the smallest that humans notice, and 0 means that both colours are the same.</p>
+ * <p>To compare many colours, {@link ColourDifferences} converts each of them into CIELAB only once.</p>
+ *
+ * @see ColourDifferences
+ * @see <a href="https://en.wikipedia.org/wiki/Color_difference">Colour difference in Wikipedia.</a>
+ *
+ * @author Sergio Fernández
+ */
+public enum DeltaE {
+
+    /**
+     * <p>CIE76: the euclidean distance between both colours in CIELAB. It's the fastest, but it overestimates the
+     * differences between saturated colours.</p>
+     */
+    CIE76 {
+        @Override
+        public float difference(final float lightness1, final float a1, final float b1,
+                                final float lightness2, final float a2, final float b2) {
+            float dL = lightness1 - lightness2;
+            float da = a1 - a2;
+            float db = b1 - b2;
+
+            return (float) Math.sqrt(dL * dL + da * da + db * db);
+        }
+    },
+    /**
+     * <p>CIE94 (graphic arts weights), which corrects the chroma and hue differences of CIE76 with the chroma of the
+     * first colour. So it isn't symmetric: the first colour is taken as the reference.</p>
+     */
+    CIE94 {
+        @Override
+        public float difference(final float lightness1, final float a1, final float b1,
+                                final float lightness2, final float a2, final float b2) {
+            double chroma1 = Math.sqrt(a1 * a1 + b1 * b1);
+            double chroma2 = Math.sqrt(a2 * a2 + b2 * b2);
+            double dL = lightness1 - lightness2;
+            double dC = chroma1 - chroma2;
+            double da = a1 - a2;
+            double db = b1 - b2;
+            double dH2 = Math.max(0, da * da + db * db - dC * dC);
+
+            double sC = 1 + 0.045 * chroma1;
+            double sH = 1 + 0.015 * chroma1;
+
+            return (float) Math.sqrt(dL * dL + (dC / sC) * (dC / sC) + dH2 / (sH * sH));
+        }
+    },
+    /**
+     * <p>CIEDE2000, the most accurate for the human perception (above all for blue colours and greys) and the
+     * slowest.</p>
+     * @see <a href="https://hajim.rochester.edu/ece/sites/gsharma/ciede2000/">The CIEDE2000 colour difference formula.</a>
+     */
+    CIEDE2000 {
+        @Override
+        public float difference(final float lightness1, final float a1, final float b1,
+                                final float lightness2, final float a2, final float b2) {
+            double meanChroma = (Math.sqrt(a1 * a1 + b1 * b1) + Math.sqrt(a2 * a2 + b2 * b2)) / 2;
+            double g = 0.5 * (1 - chromaWeight(meanChroma));
+            double a1p = (1 + g) * a1;
+            double a2p = (1 + g) * a2;
+            double c1p = Math.sqrt(a1p * a1p + b1 * b1);
+            double c2p = Math.sqrt(a2p * a2p + b2 * b2);
+            double h1p = hueDegrees(b1, a1p);
+            double h2p = hueDegrees(b2, a2p);
+            boolean anyGrey = c1p * c2p == 0;
+
+            double dLp = lightness2 - lightness1;
+            double dCp = c2p - c1p;
+            double dhp = anyGrey ? 0 : h2p - h1p;
+            if(dhp > 180)
+                dhp -= 360;
+            else if(dhp < -180)
+                dhp += 360;
+            double dHp = 2 * Math.sqrt(c1p * c2p) * Math.sin(Math.toRadians(dhp / 2));
+
+            double meanLp = (lightness1 + lightness2) / 2.0;
+            double meanCp = (c1p + c2p) / 2;
+            double meanHp = h1p + h2p;
+            if(!anyGrey)
+                meanHp = Math.abs(h1p - h2p) <= 180 ? meanHp / 2 : (meanHp < 360 ? meanHp + 360 : meanHp - 360) / 2;
+
+            double t = 1 - 0.17 * Math.cos(Math.toRadians(meanHp - 30))
+                    + 0.24 * Math.cos(Math.toRadians(2 * meanHp))
+                    + 0.32 * Math.cos(Math.toRadians(3 * meanHp + 6))
+                    - 0.20 * Math.cos(Math.toRadians(4 * meanHp - 63));
+            double dTheta = 30 * Math.exp(-((meanHp - 275) / 25) * ((meanHp - 275) / 25));
+            double rT = -2 * chromaWeight(meanCp) * Math.sin(Math.toRadians(2 * dTheta));
+
+            double lightnessOffset = (meanLp - 50) * (meanLp - 50);
+            double l = dLp / (1 + 0.015 * lightnessOffset / Math.sqrt(20 + lightnessOffset));
+            double c = dCp / (1 + 0.045 * meanCp);
+            double h = dHp / (1 + 0.015 * meanCp * t);
+
+            return (float) Math.sqrt(l * l + c * c + h * h + rT * c * h);
+        }
+
+        private static double chromaWeight(final double chroma) {
+            double chroma7 = Math.pow(chroma, 7);
+            return Math.sqrt(chroma7 / (chroma7 + 6103515625.0));
+        }
+
+        private static double hueDegrees(final double b, final double a) {
+            if(a == 0 && b == 0)
+                return 0;
+
+            double degrees = Math.toDegrees(Math.atan2(b, a));
+            return degrees < 0 ? degrees + 360 : degrees;
+        }
+    };
+
+    //---- Methods ----
+    /**
+     * @return the difference between the colours with the given CIELAB lightness, a and b
+     */
+    public abstract float difference(float lightness1, float a1, float b1, float lightness2, float a2, float b2);
+
+    /**
+     * @param lab1 first colour (the reference one for {@link #CIE94})
+     * @param lab2 second colour
+     * @return the difference between both colours
+     * @throws IllegalArgumentException if any of the colours is null
+     */
+    public float difference(final LabCode lab1, final LabCode lab2) {
+        if(lab1 == null || lab2 == null)
+            throw new IllegalArgumentException("Error. It's not possible to compare null colours.");
+
+        return difference(lab1.lightness(), lab1.a(), lab1.b(), lab2.lightness(), lab2.a(), lab2.b());
+    }
+
+    /**
+     * @param colour1 first colour (the reference one for {@link #CIE94})
+     * @param colour2 second colour
+     * @return the difference between both colours, converted into {@link LabCode}
+     * @throws IllegalArgumentException if any of the colours is null
+     */
+    public float difference(final Colour colour1, final Colour colour2) {
+        if(colour1 == null || colour2 == null)
+            throw new IllegalArgumentException("Error. It's not possible to compare null colours.");
+
+        return difference(colour1.as(LabCode.class), colour2.as(LabCode.class));
+    }
+
+}
@@ -0,0 +1,180 @@
+package es.sfernandez.colour.gradient;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.buffer.ColourBuffer;
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.HsvCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.kernel.ColourKernels;
+
+import java.util.Objects;
+
+/**
+ * <p>Spaces in which colours are interpolated: every component (and the alpha) of the colour in the space changes
+ * linearly between both colours.</p>
+ * <p>In {@link #HSL} and {@link #HSV} the hue goes around the hue circle by the shortest way (from 350º to 10º it
+ * passes through 0º, not through 180º), and the hue of a grey, which has no hue, is taken from the other colour, so a
+ * gradient from grey to red doesn't pass through other hues.</p>
+ * <p>Ramps of N colours are written into {@link ColourBuffer}s, converted with the {@link ColourKernels}, or into ARGB
+ * arrays.</p>
+ *
+ * @see ColourRamp
+ *
+ * @author Sergio Fernández
+ */
+public enum ColourInterpolation {
+
+    /** Interpolation of the red, green and blue components */
+    RGB(RgbCode.class, false),
+    /** Interpolation of the hue, saturation and lightness components */
+    HSL(HslCode.class, true),
+    /** Interpolation of the hue, saturation and value components */
+    HSV(HsvCode.class, true);
+
+    //---- Constants and Definitions ----
+    private static final int PLANES = ColourKernels.PLANES;
+
+    //---- Attributes ----
+    private final Class<? extends ColourCode> space;
+    private final boolean hasHue;
+
+    //---- Constructor ----
+    ColourInterpolation(final Class<? extends ColourCode> space, final boolean hasHue) {
+        this.space = space;
+        this.hasHue = hasHue;
+    }
+
+    //---- Methods ----
+    /**
+     * @return {@link ColourCode} of the space where colours are interpolated
+     */
+    public Class<? extends ColourCode> space() {
+        return space;
+    }
+
+    /**
+     * @param from first colour
+     * @param to last colour
+     * @param t position between both colours, between [0, 1]: 0 is from and 1 is to
+     * @return the colour at t
+     * @throws IllegalArgumentException if any colour is null or t is out of [0, 1]
+     */
+    public RgbCode interpolate(final Colour from, final Colour to, final float t) {
+        if(!(0f <= t && t <= 1f))
+            throw new IllegalArgumentException("Error. The position of the colour must be between [0, 1]. (t=" + t + ")");
+
+        float[] colour = new float[PLANES];
+        mix(componentsOf(from), componentsOf(to), t, colour, 1, 0);
+        convert(colour, 1, 0, 1, space, RgbCode.class);
+
+        return new RgbCode(colour[0], colour[1], colour[2], colour[3]);
+    }
+
+    /**
+     * <p>Writes steps colours evenly spaced from from to to, both included, into the colours [offset, offset + steps)
+     * of buffer, in the space of the buffer. The rest of the buffer isn't modified.</p>
+     * @param from first colour
+     * @param to last colour
+     * @param buffer buffer where the colours are written
+     * @param offset index of the buffer where from is written
+     * @param steps number of colours. If it's 1, only from is written
+     * @throws IllegalArgumentException if any argument is null or steps is negative
+     * @throws IndexOutOfBoundsException if the colours don't fit in the buffer
+     */
+    public void ramp(final Colour from, final Colour to, final ColourBuffer buffer, final int offset, final int steps) {
+        if(buffer == null || steps < 0)
+            throw new IllegalArgumentException("Error. The buffer is required and the number of steps can't be negative.");
+
+        Objects.checkFromIndexSize(offset, steps, buffer.size());
+        float[] first = componentsOf(from);
+        float[] last = componentsOf(to);
+
+        float[] planes = buffer.array();
+        for(int i = 0; i < steps; ++i)
+            mix(first, last, steps == 1 ? 0f : (float) i / (steps - 1), planes, buffer.size(), offset + i);
+        convert(planes, buffer.size(), offset, steps, space, buffer.space());
+    }
+
+    /**
+     * <p>Writes steps colours evenly spaced from from to to, both included, into [offset, offset + steps) of argb.</p>
+     * @param from first colour
+     * @param to last colour
+     * @param argb array where the colours are written as ARGB ints (see {@link RgbCode#toArgb()})
+     * @param offset index of argb where from is written
+     * @param steps number of colours. If it's 1, only from is written
+     * @throws IllegalArgumentException if any argument is null or steps is negative
+     * @throws IndexOutOfBoundsException if the colours don't fit in argb
+     * @see #ramp(Colour, Colour, ColourBuffer, int, int)
+     */
+    public void ramp(final Colour from, final Colour to, final int[] argb, final int offset, final int steps) {
+        if(argb == null || steps < 0)
+            throw new IllegalArgumentException("Error. The array is required and the number of steps can't be negative.");
+
+        Objects.checkFromIndexSize(offset, steps, argb.length);
+        ColourBuffer buffer = new ColourBuffer(RgbCode.class, steps);
+        ramp(from, to, buffer, 0, steps);
+        buffer.toArgb(argb, offset);
+    }
+
+    /**
+     * @return the components of colour in the space of this interpolation, in a planar buffer of one colour
+     * @throws IllegalArgumentException if colour is null
+     */
+    float[] componentsOf(final Colour colour) {
+        if(colour == null)
+            throw new IllegalArgumentException("Error. It's not possible to interpolate null colours.");
+
+        RgbCode rgb = colour.as(RgbCode.class);
+        float[] components = {rgb.red(), rgb.green(), rgb.blue(), rgb.alpha()};
+        convert(components, 1, 0, 1, RgbCode.class, space);
+
+        return components;
+    }
+
+    /**
+     * <p>Writes the colour at t between first and last (see {@link #componentsOf(Colour)}) as the colour index of the
+     * planar buffer planes, whose planes have size colours.</p>
+     */
+    void mix(final float[] first, final float[] last, final float t, final float[] planes, final int size, final int index) {
+        for(int c = 0; c < PLANES; ++c)
+            planes[c * size + index] = Math.min(1f, (1 - t) * first[c] + t * last[c]);
+
+        if(hasHue) {
+            float firstHue = first[1] == 0 ? last[0] : first[0];
+            float lastHue = last[1] == 0 ? first[0] : last[0];
+            float difference = lastHue - firstHue;
+            if(difference > 0.5f)
+                difference -= 1f;
+            else if(difference < -0.5f)
+                difference += 1f;
+
+            float hue = firstHue + t * difference;
+            planes[index] = hue - (float) Math.floor(hue);
+        }
+    }
+
+    /**
+     * <p>Converts count colours of a planar buffer, starting at offset, from the space source into target.</p>
+     */
+    static void convert(final float[] planes, final int size, final int offset, final int count,
+                        final Class<? extends ColourCode> source, final Class<? extends ColourCode> target) {
+        if(source == target || count == 0)
+            return;
+
+        ColourKernels kernels = ColourKernels.preferred();
+
+        if(source == HslCode.class)
+            kernels.hslToRgb(planes, planes, size, offset, count);
+        else if(source == HsvCode.class)
+            kernels.hsvToRgb(planes, planes, size, offset, count);
+
+        if(target == HslCode.class)
+            kernels.rgbToHsl(planes, planes, size, offset, count);
+        else if(target == HsvCode.class)
+            kernels.rgbToHsv(planes, planes, size, offset, count);
+        else if(target != RgbCode.class)
+            kernels.rgbToCmyk(planes, planes, size, offset, count);
+    }
+
+}
@@ -0,0 +1,126 @@
+package es.sfernandez.colour.gradient;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.buffer.ColourBuffer;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.kernel.ColourKernels;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>{@link ColourRamp} maps values between [0, 1] to the colours of a gradient, e.g. to paint heatmaps.</p>
+ * <p>The gradient goes through its stops, evenly spaced (the first one at 0 and the last one at 1), interpolated with a
+ * {@link ColourInterpolation}. The colours of {@link #resolution()} evenly spaced values are computed when the ramp is
+ * created, so every lookup takes constant time and doesn't create any object: a value gets the colour of its nearest
+ * precomputed value.</p>
+ * <p>A ramp can't be modified once it's created, so it's safe to use it from several threads at the same time.</p>
+ *
+ * @see ColourInterpolation
+ *
+ * @author Sergio Fernández
+ */
+public final class ColourRamp {
+
+    //---- Constants and Definitions ----
+    /** Default number of precomputed colours */
+    public static final int DEFAULT_RESOLUTION = 1024;
+
+    //---- Attributes ----
+    private final int[] table;
+    private final float scale;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link ColourRamp} with {@link #DEFAULT_RESOLUTION} precomputed colours.</p>
+     * @see #ColourRamp(List, ColourInterpolation, int)
+     */
+    public ColourRamp(final List<? extends Colour> stops, final ColourInterpolation interpolation) {
+        this(stops, interpolation, DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * <p>Creates a new {@link ColourRamp}.</p>
+     * @param stops colours of the gradient, evenly spaced between [0, 1]
+     * @param interpolation how colours are interpolated between two stops
+     * @param resolution number of precomputed colours, at least 2
+     * @throws IllegalArgumentException if stops is null, empty or contains null colours, interpolation is null or
+     * resolution is less than 2
+     */
+    public ColourRamp(final List<? extends Colour> stops, final ColourInterpolation interpolation, final int resolution) {
+        if(stops == null || stops.isEmpty() || stops.stream().anyMatch(Objects::isNull) || interpolation == null)
+            throw new IllegalArgumentException("Error. A " + getClass().getSimpleName() + " needs at least one stop and the " +
+                    ColourInterpolation.class.getSimpleName() + ".");
+
+        if(resolution < 2)
+            throw new IllegalArgumentException("Error. A " + getClass().getSimpleName() + " needs at least 2 colours. " +
+                    "(resolution=" + resolution + ")");
+
+        float[][] components = new float[stops.size()][];
+        for(int i = 0; i < stops.size(); ++i)
+            components[i] = interpolation.componentsOf(stops.get(i));
+
+        float[] planes = new float[ColourKernels.PLANES * resolution];
+        int segments = Math.max(1, stops.size() - 1);
+        for(int i = 0; i < resolution; ++i) {
+            double position = (double) i * segments / (resolution - 1);
+            int segment = Math.min(segments - 1, (int) position);
+            float[] first = components[segment];
+            float[] last = components[Math.min(stops.size() - 1, segment + 1)];
+            interpolation.mix(first, last, (float) (position - segment), planes, resolution, i);
+        }
+        ColourInterpolation.convert(planes, resolution, 0, resolution, interpolation.space(), RgbCode.class);
+
+        this.table = new int[resolution];
+        ColourBuffer.wrap(RgbCode.class, planes, resolution).toArgb(table, 0);
+        this.scale = resolution - 1;
+    }
+
+    //---- Methods ----
+    /**
+     * @return number of precomputed colours
+     */
+    public int resolution() {
+        return table.length;
+    }
+
+    /**
+     * @param value value between [0, 1]. Values out of the range (or NaN) are clamped to the nearest end
+     * @return the ARGB value (see {@link RgbCode#toArgb()}) of the colour of value
+     */
+    public int argbAt(final float value) {
+        if(!(value > 0f))
+            return table[0];
+        if(value >= 1f)
+            return table[table.length - 1];
+
+        return table[(int) (value * scale + 0.5f)];
+    }
+
+    /**
+     * @param value value between [0, 1]. Values out of the range (or NaN) are clamped to the nearest end
+     * @return the colour of value
+     * @see #argbAt(float)
+     */
+    public RgbCode colourAt(final float value) {
+        return RgbCode.ofArgb(argbAt(value));
+    }
+
+    /**
+     * <p>Writes the ARGB colour of every value of [valuesOffset, valuesOffset + count) of values into
+     * [argbOffset, argbOffset + count) of argb.</p>
+     * @throws IllegalArgumentException if any array is null or count is negative
+     * @throws IndexOutOfBoundsException if any range is out of its array
+     * @see #argbAt(float)
+     */
+    public void argbAt(final float[] values, final int valuesOffset, final int[] argb, final int argbOffset, final int count) {
+        if(values == null || argb == null || count < 0)
+            throw new IllegalArgumentException("Error. The values and the array of colours are required.");
+
+        Objects.checkFromIndexSize(valuesOffset, count, values.length);
+        Objects.checkFromIndexSize(argbOffset, count, argb.length);
+        for(int i = 0; i < count; ++i)
+            argb[argbOffset + i] = argbAt(values[valuesOffset + i]);
+    }
+
+}
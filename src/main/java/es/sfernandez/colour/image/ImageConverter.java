@@ -0,0 +1,264 @@
+package es.sfernandez.colour.image;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static es.sfernandez.colour.conversion.ColourCodeConversion.BULK_COMPONENTS;
+
+/**
+ * <p>An {@link ImageConverter} converts every pixel of an image into a given {@link ColourCode}, using the conversions
+ * of a {@link ColourCodeConverter}.</p>
+ * <p>Images are given as ARGB pixels (an <code>int[]</code> with one pixel after another, row by row, or a
+ * {@link BufferedImage}). Rows are split into tasks of about {@link #PIXELS_PER_TASK} pixels, which are run in a
+ * {@link ForkJoinPool}, so idle threads steal the pending rows of the busy ones.</p>
+ * <p>The values of the pixels are passed to the conversions without creating an {@link RgbCode} per pixel (see
+ * {@link ColourCodeConverter#convert(float, float, float, float, Class)}), so the only {@link ColourCode} created are
+ * the converted ones, and none when converting in bulk.</p>
+ *
+ * @see ColourCodeConverter
+ *
+ * @author Sergio Fernández
+ */
+public class ImageConverter {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>Number of pixels under which a block of rows is converted by a single task.</p>
+     */
+    public static final int PIXELS_PER_TASK = 16_384;
+
+    @FunctionalInterface
+    private interface RowsConversion {
+        void convert(int fromRow, int toRow);
+    }
+
+    //---- Attributes ----
+    private final ColourCodeConverter converter;
+    private final ForkJoinPool pool;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link ImageConverter} that uses the {@link ColourCodeConverter#defaultConverter()} and the
+     * {@link ForkJoinPool#commonPool()}.</p>
+     */
+    public ImageConverter() {
+        this(ColourCodeConverter.defaultConverter(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Creates a new {@link ImageConverter}.</p>
+     * @param converter {@link ColourCodeConverter} whose conversions are applied to the pixels
+     * @param pool {@link ForkJoinPool} where the conversion tasks are run
+     * @throws IllegalArgumentException if converter or pool are null
+     */
+    public ImageConverter(final ColourCodeConverter converter, final ForkJoinPool pool) {
+        if(converter == null || pool == null)
+            throw new IllegalArgumentException("Error. The " + ColourCodeConverter.class.getSimpleName() + " and the " +
+                    ForkJoinPool.class.getSimpleName() + " are required to create an " + getClass().getSimpleName() + ".");
+
+        this.converter = converter;
+        this.pool = pool;
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Converts every pixel of the image into targetColourCodeClass.</p>
+     * @param argbPixels ARGB pixels of the image, row by row (see {@link RgbCode#ofArgb(int)})
+     * @param width number of pixels of each row
+     * @param height number of rows
+     * @param targetColourCodeClass {@link ColourCode} type target of the conversion
+     * @return unmodifiable list with the converted pixels, in the same order as argbPixels
+     * @param <T> ColourCode type target of the conversion
+     * @throws IllegalArgumentException if argbPixels or targetColourCodeClass are null, or if argbPixels hasn't got
+     * width * height pixels
+     */
+    public <T extends ColourCode> List<T> convert(final int[] argbPixels, final int width, final int height,
+                                                  final Class<T> targetColourCodeClass) {
+        checkImage(argbPixels, width, height, targetColourCodeClass);
+
+        T[] converted = newArray(targetColourCodeClass, width * height);
+        invoke(width, height, (fromRow, toRow) ->
+                convertPixels(argbPixels, fromRow * width, toRow * width, targetColourCodeClass, converted, fromRow * width));
+
+        return Collections.unmodifiableList(Arrays.asList(converted));
+    }
+
+    /**
+     * <p>Converts every pixel of the image into targetColourCodeClass.</p>
+     * @param image image to convert
+     * @param targetColourCodeClass {@link ColourCode} type target of the conversion
+     * @return unmodifiable list with the converted pixels, row by row
+     * @param <T> ColourCode type target of the conversion
+     * @throws IllegalArgumentException if image or targetColourCodeClass are null
+     * @see #convert(int[], int, int, Class)
+     */
+    public <T extends ColourCode> List<T> convert(final BufferedImage image, final Class<T> targetColourCodeClass) {
+        checkImage(image, targetColourCodeClass);
+
+        int width = image.getWidth();
+        T[] converted = newArray(targetColourCodeClass, width * image.getHeight());
+        invoke(width, image.getHeight(), (fromRow, toRow) -> {
+            int[] argbPixels = image.getRGB(0, fromRow, width, toRow - fromRow, null, 0, width);
+            convertPixels(argbPixels, 0, argbPixels.length, targetColourCodeClass, converted, fromRow * width);
+        });
+
+        return Collections.unmodifiableList(Arrays.asList(converted));
+    }
+
+    /**
+     * <p>Converts every pixel of the image into targetColourCodeClass without creating any {@link ColourCode}.</p>
+     * @param argbPixels ARGB pixels of the image, row by row (see {@link RgbCode#ofArgb(int)})
+     * @param width number of pixels of each row
+     * @param height number of rows
+     * @param targetColourCodeClass {@link ColourCode} type target of the conversion
+     * @return the {@link ColourCodeConversion#BULK_COMPONENTS} components of every converted pixel, one pixel after
+     * another (see {@link ColourCodeConverter#convertBulk(Class, Class, float[], int, float[], int, int)})
+     * @throws IllegalArgumentException if argbPixels or targetColourCodeClass are null, if argbPixels hasn't got
+     * width * height pixels or if their components don't fit in an array
+     * @throws UnsupportedOperationException if the conversion to targetColourCodeClass doesn't support bulk conversions
+     */
+    public float[] convertBulk(final int[] argbPixels, final int width, final int height,
+                               final Class<? extends ColourCode> targetColourCodeClass) {
+        checkImage(argbPixels, width, height, targetColourCodeClass);
+
+        float[] converted = new float[bulkSize(width, height)];
+        invoke(width, height, (fromRow, toRow) ->
+                convertPixelsBulk(argbPixels, fromRow * width, toRow * width, targetColourCodeClass, converted));
+
+        return converted;
+    }
+
+    /**
+     * <p>Converts every pixel of the image into targetColourCodeClass without creating any {@link ColourCode}.</p>
+     * @param image image to convert
+     * @param targetColourCodeClass {@link ColourCode} type target of the conversion
+     * @return the {@link ColourCodeConversion#BULK_COMPONENTS} components of every converted pixel, row by row
+     * @throws IllegalArgumentException if image or targetColourCodeClass are null, or if the components of its pixels
+     * don't fit in an array
+     * @throws UnsupportedOperationException if the conversion to targetColourCodeClass doesn't support bulk conversions
+     * @see #convertBulk(int[], int, int, Class)
+     */
+    public float[] convertBulk(final BufferedImage image, final Class<? extends ColourCode> targetColourCodeClass) {
+        checkImage(image, targetColourCodeClass);
+
+        int width = image.getWidth();
+        float[] converted = new float[bulkSize(width, image.getHeight())];
+        invoke(width, image.getHeight(), (fromRow, toRow) -> {
+            int[] argbPixels = image.getRGB(0, fromRow, width, toRow - fromRow, null, 0, width);
+            writeRgbComponents(argbPixels, 0, argbPixels.length, converted, fromRow * width * BULK_COMPONENTS);
+            converter.convertBulk(RgbCode.class, targetColourCodeClass, converted, fromRow * width * BULK_COMPONENTS,
+                    converted, fromRow * width * BULK_COMPONENTS, argbPixels.length);
+        });
+
+        return converted;
+    }
+
+    private <T extends ColourCode> void convertPixels(final int[] argbPixels, final int from, final int to,
+                                                      final Class<T> targetColourCodeClass, final T[] converted,
+                                                      final int convertedOffset) {
+        for(int i = from, j = convertedOffset; i < to; ++i, ++j) {
+            int argb = argbPixels[i];
+            converted[j] = converter.convert(((argb >>> 16) & 0xFF) / 255f, ((argb >>> 8) & 0xFF) / 255f,
+                    (argb & 0xFF) / 255f, ((argb >>> 24) & 0xFF) / 255f, targetColourCodeClass);
+        }
+    }
+
+    private void convertPixelsBulk(final int[] argbPixels, final int from, final int to,
+                                   final Class<? extends ColourCode> targetColourCodeClass, final float[] converted) {
+        writeRgbComponents(argbPixels, from, to, converted, from * BULK_COMPONENTS);
+        converter.convertBulk(RgbCode.class, targetColourCodeClass, converted, from * BULK_COMPONENTS,
+                converted, from * BULK_COMPONENTS, to - from);
+    }
+
+    private static void writeRgbComponents(final int[] argbPixels, final int from, final int to,
+                                           final float[] dst, final int dstOffset) {
+        for(int i = from, j = dstOffset; i < to; ++i, j += BULK_COMPONENTS) {
+            int argb = argbPixels[i];
+            dst[j] = ((argb >>> 16) & 0xFF) / 255f;
+            dst[j + 1] = ((argb >>> 8) & 0xFF) / 255f;
+            dst[j + 2] = (argb & 0xFF) / 255f;
+            dst[j + 3] = ((argb >>> 24) & 0xFF) / 255f;
+        }
+    }
+
+    private void invoke(final int width, final int height, final RowsConversion conversion) {
+        if(width == 0 || height == 0)
+            return;
+
+        pool.invoke(new RowsConversionTask(conversion, width, 0, height));
+    }
+
+    private static int bulkSize(final int width, final int height) {
+        long size = (long) width * height * BULK_COMPONENTS;
+        if(size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Error. The components of an image of " + width + "x" + height +
+                    " pixels don't fit in an array.");
+
+        return (int) size;
+    }
+
+    private static void checkImage(final int[] argbPixels, final int width, final int height, final Class<?> targetColourCodeClass) {
+        if(argbPixels == null || targetColourCodeClass == null)
+            throw new IllegalArgumentException("Error. You must provide the pixels and the target ColourCode of the conversion.");
+
+        if(width < 0 || height < 0 || (long) width * height != argbPixels.length)
+            throw new IllegalArgumentException("Error. An image of " + width + "x" + height + " pixels can't have " +
+                    argbPixels.length + " pixels.");
+    }
+
+    private static void checkImage(final BufferedImage image, final Class<?> targetColourCodeClass) {
+        if(image == null || targetColourCodeClass == null)
+            throw new IllegalArgumentException("Error. You must provide the image and the target ColourCode of the conversion.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(final Class<T> componentClass, final int length) {
+        return (T[]) Array.newInstance(componentClass, length);
+    }
+
+    /**
+     * <p>Converts the rows [fromRow, toRow) of an image, splitting them in two halves while they have more than
+     * {@link #PIXELS_PER_TASK} pixels.</p>
+     */
+    private static final class RowsConversionTask extends RecursiveAction {
+
+        private final RowsConversion conversion;
+        private final int width;
+        private final int fromRow;
+        private final int toRow;
+
+        private RowsConversionTask(final RowsConversion conversion, final int width, final int fromRow, final int toRow) {
+            this.conversion = conversion;
+            this.width = width;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = toRow - fromRow;
+            if(rows == 1 || (long) rows * width <= PIXELS_PER_TASK) {
+                conversion.convert(fromRow, toRow);
+                return;
+            }
+
+            int middleRow = fromRow + rows / 2;
+            invokeAll(
+                    new RowsConversionTask(conversion, width, fromRow, middleRow),
+                    new RowsConversionTask(conversion, width, middleRow, toRow)
+            );
+        }
+
+    }
+
+}
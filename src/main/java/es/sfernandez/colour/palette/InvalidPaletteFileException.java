@@ -0,0 +1,24 @@
+package es.sfernandez.colour.palette;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <p>{@link IOException} thrown when a file doesn't follow the format of a {@link PaletteFile}.</p>
+ *
+ * @see PaletteFile
+ *
+ * @author Sergio Fernández
+ */
+public class InvalidPaletteFileException extends IOException {
+
+    /**
+     * <p>Creates a new InvalidPaletteFileException.</p>
+     * @param path path of the file
+     * @param reason why the file isn't a valid palette file
+     */
+    public InvalidPaletteFileException(Path path, String reason) {
+        super("Error. " + path + " is not a valid palette file: " + reason);
+    }
+
+}
@@ -0,0 +1,278 @@
+package es.sfernandez.colour.palette;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.buffer.OffHeapColourStore;
+import es.sfernandez.colour.buffer.OffHeapColourStore.Format;
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A {@link PaletteFile} is a palette of colours (and optionally their names) stored in a compact binary file, which
+ * is memory-mapped when it's opened. Colours and names are decoded only when they are requested, so opening a
+ * palette takes the same time no matter how many colours it has.</p>
+ * <p>The file is little-endian and it has three sections:</p>
+ * <ul>
+ *     <li>Header ({@link #HEADER_BYTES} bytes): magic number "CPAL", version (short), colour format (byte, 0 for
+ *     {@link Format#RGBA8} and 1 for {@link Format#RGBA_FLOAT32}), flags (byte, 1 if it has names), number of colours
+ *     (int) and 4 reserved bytes.</li>
+ *     <li>Colours: every colour one after another, in the {@link OffHeapColourStore} layout of its format.</li>
+ *     <li>Names (only if the flag is set): number of colours + 1 int offsets and then the UTF-8 bytes of the names. The
+ *     name of the colour i takes the bytes between the offsets i and i + 1.</li>
+ * </ul>
+ *
+ * @author Sergio Fernández
+ */
+public final class PaletteFile {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>First four bytes of every palette file: "CPAL".</p>
+     */
+    public static final int MAGIC = 'C' | 'P' << 8 | 'A' << 16 | 'L' << 24;
+
+    /**
+     * <p>Version of the format written by {@link #write(Path, Format, List, List)}.</p>
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * <p>Size in bytes of the header of a palette file.</p>
+     */
+    public static final int HEADER_BYTES = 16;
+
+    private static final byte HAS_NAMES = 1;
+
+    //---- Attributes ----
+    private final Path path;
+    private final OffHeapColourStore colours;
+    private final ByteBuffer names;
+
+    //---- Constructor ----
+    private PaletteFile(final Path path, final OffHeapColourStore colours, final ByteBuffer names) {
+        this.path = path;
+        this.colours = colours;
+        this.names = names;
+    }
+
+    //---- Methods ----
+    /**
+     * <p>Memory-maps a palette file. Only the header and the end of the names are read, colours and names are read
+     * (and the offsets of each name are checked) when they are requested.</p>
+     * @param path path of the palette file
+     * @return the opened {@link PaletteFile}
+     * @throws IllegalArgumentException if path is null
+     * @throws InvalidPaletteFileException if the file doesn't follow the palette file format
+     * @throws IOException if the file can't be read
+     */
+    public static PaletteFile open(final Path path) throws IOException {
+        if(path == null)
+            throw new IllegalArgumentException("Error. The path of the palette file is required.");
+
+        MappedByteBuffer mapped;
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE)
+                throw new InvalidPaletteFileException(path, "it's bigger than 2GB.");
+
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+        if(mapped.capacity() < HEADER_BYTES || mapped.getInt(0) != MAGIC)
+            throw new InvalidPaletteFileException(path, "it doesn't start with the palette header.");
+
+        if(mapped.getShort(4) != VERSION)
+            throw new InvalidPaletteFileException(path, "version " + mapped.getShort(4) + " is not supported.");
+
+        Format format = formatWithCode(mapped.get(6));
+        boolean hasNames = (mapped.get(7) & HAS_NAMES) != 0;
+        int size = mapped.getInt(8);
+        if(format == null || size < 0)
+            throw new InvalidPaletteFileException(path, "its header is corrupted.");
+
+        long coloursEnd = HEADER_BYTES + (long) size * format.bytesPerColour();
+        long namesStart = coloursEnd + (hasNames ? 4L * (size + 1) : 0);
+        if(namesStart > mapped.capacity())
+            throw new InvalidPaletteFileException(path, "it's truncated.");
+
+        int namesLength = hasNames ? mapped.getInt((int) namesStart - 4) : 0;
+        if(namesLength < 0 || namesLength > mapped.capacity() - namesStart)
+            throw new InvalidPaletteFileException(path, "its names end at byte " + namesLength + " but there are only "
+                    + (mapped.capacity() - namesStart) + " bytes of names.");
+
+        OffHeapColourStore colours = OffHeapColourStore.wrap(format,
+                mapped.slice(HEADER_BYTES, (int) coloursEnd - HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN));
+        ByteBuffer names = hasNames
+                ? mapped.slice((int) coloursEnd, (int) (namesStart - coloursEnd) + namesLength).order(ByteOrder.LITTLE_ENDIAN)
+                : null;
+
+        return new PaletteFile(path, colours, names);
+    }
+
+    /**
+     * <p>Writes a palette file without names.</p>
+     * @see #write(Path, Format, List, List)
+     */
+    public static void write(final Path path, final Format format, final List<? extends ColourCode> colours) throws IOException {
+        write(path, format, colours, null);
+    }
+
+    /**
+     * <p>Writes a palette file, replacing it if it already exists.</p>
+     * @param path path of the palette file
+     * @param format binary format of the colours
+     * @param colours colours of the palette, of any {@link ColourCode} (they are stored as RGB)
+     * @param names name of each colour, or null if the palette hasn't got names
+     * @throws IllegalArgumentException if path, format, colours or any colour are null, if names hasn't got the same size
+     * as colours or it contains null names, or if the palette doesn't fit in 2GB
+     * @throws IOException if the file can't be written
+     */
+    public static void write(final Path path, final Format format, final List<? extends ColourCode> colours,
+                             final List<String> names) throws IOException {
+        if(path == null || format == null || colours == null)
+            throw new IllegalArgumentException("Error. The path, the format and the colours of the palette are required.");
+
+        if(names != null && (names.size() != colours.size() || names.stream().anyMatch(Objects::isNull)))
+            throw new IllegalArgumentException("Error. If the palette has names, every colour must have a not null name.");
+
+        byte[][] encodedNames = names != null ? new byte[names.size()][] : new byte[0][];
+        long namesBytes = 0;
+        for(int i = 0; i < encodedNames.length; ++i) {
+            encodedNames[i] = names.get(i).getBytes(StandardCharsets.UTF_8);
+            namesBytes += encodedNames[i].length;
+        }
+
+        int size = colours.size();
+        long coloursEnd = HEADER_BYTES + (long) size * format.bytesPerColour();
+        long fileBytes = coloursEnd + (names != null ? 4L * (size + 1) + namesBytes : 0);
+        if(fileBytes > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Error. A palette file can't be bigger than 2GB (" + fileBytes + " bytes).");
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes);
+            mapped.order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC)
+                    .putShort(VERSION)
+                    .put(codeOf(format))
+                    .put(names != null ? HAS_NAMES : 0)
+                    .putInt(size)
+                    .putInt(0);
+
+            OffHeapColourStore store = OffHeapColourStore.wrap(format,
+                    mapped.slice(HEADER_BYTES, (int) coloursEnd - HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN));
+            for(int i = 0; i < size; ++i)
+                store.set(i, colours.get(i));
+
+            if(names != null) {
+                mapped.position((int) coloursEnd);
+                int offset = 0;
+                for(byte[] name : encodedNames) {
+                    mapped.putInt(offset);
+                    offset += name.length;
+                }
+                mapped.putInt(offset);
+
+                for(byte[] name : encodedNames)
+                    mapped.put(name);
+            }
+
+            mapped.force();
+        }
+    }
+
+    /**
+     * @return number of colours of the palette
+     */
+    public int size() {
+        return colours.size();
+    }
+
+    /**
+     * @return binary format of the colours of the palette
+     */
+    public Format format() {
+        return colours.format();
+    }
+
+    /**
+     * @return true if the palette has a name for each colour
+     */
+    public boolean hasNames() {
+        return names != null;
+    }
+
+    /**
+     * <p>Returns the colours of the palette, backed by the mapped file. They can't be modified.</p>
+     * @return read-only {@link OffHeapColourStore} with the colours of the palette
+     */
+    public OffHeapColourStore colours() {
+        return colours;
+    }
+
+    /**
+     * @param index index of the colour
+     * @return the colour as a new {@link RgbCode}
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public RgbCode get(final int index) {
+        return colours.get(index);
+    }
+
+    /**
+     * @param index index of the colour
+     * @return the colour as a new {@link Colour}
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     */
+    public Colour colour(final int index) {
+        return new Colour(get(index));
+    }
+
+    /**
+     * @param index index of the colour
+     * @return the name of the colour, or an empty Optional if the palette hasn't got names
+     * @throws IndexOutOfBoundsException if index is out of bounds
+     * @throws InvalidPaletteFileException if the offsets of the name are out of the names of the file
+     */
+    public Optional<String> name(final int index) throws InvalidPaletteFileException {
+        Objects.checkIndex(index, size());
+        if(names == null)
+            return Optional.empty();
+
+        int namesStart = 4 * (size() + 1);
+        int start = names.getInt(4 * index);
+        int end = names.getInt(4 * (index + 1));
+        if(start < 0 || start > end || end > names.capacity() - namesStart)
+            throw new InvalidPaletteFileException(path, "the name of the colour " + index + " takes the bytes ["
+                    + start + ", " + end + ") but there are " + (names.capacity() - namesStart) + " bytes of names.");
+
+        byte[] name = new byte[end - start];
+        names.get(namesStart + start, name);
+
+        return Optional.of(new String(name, StandardCharsets.UTF_8));
+    }
+
+    private static byte codeOf(final Format format) {
+        return (byte) (format == Format.RGBA8 ? 0 : 1);
+    }
+
+    private static Format formatWithCode(final byte code) {
+        return switch(code) {
+            case 0 -> Format.RGBA8;
+            case 1 -> Format.RGBA_FLOAT32;
+            default -> null;
+        };
+    }
+
+}
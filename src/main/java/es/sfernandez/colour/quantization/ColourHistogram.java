@@ -0,0 +1,331 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * <p>{@link ColourHistogram} counts how many times every colour appears, fed pixel by pixel or by blocks of pixels, so
+ * it can be built while an image is read or streamed.</p>
+ * <p>Colours are counted by their packed 32-bit ARGB value (see {@link RgbCode#toArgb()}) in an open addressing hash
+ * table over primitive arrays, so counting a pixel doesn't create any object nor converts it into a
+ * {@link es.sfernandez.colour.Colour}. {@link ColourCode}s are converted into {@link RgbCode} once, when they are
+ * added.</p>
+ * <p>A histogram isn't thread-safe: parallel workers should fill their own histograms and {@link #merge} them at the
+ * end, which is what {@link #collector()} does for parallel streams.</p>
+ *
+ * @see ColourQuantizer
+ *
+ * @author Sergio Fernández
+ */
+public final class ColourHistogram {
+
+    //---- Constants and Definitions ----
+    private static final int DEFAULT_EXPECTED_COLOURS = 512;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    //---- Attributes ----
+    private int[] keys;
+    private long[] counts;
+    private int size;
+    private long total;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new empty {@link ColourHistogram}.</p>
+     */
+    public ColourHistogram() {
+        this(DEFAULT_EXPECTED_COLOURS);
+    }
+
+    /**
+     * <p>Creates a new empty {@link ColourHistogram} that doesn't need to grow until it has expectedColours colours.</p>
+     * @param expectedColours number of different colours that are expected
+     * @throws IllegalArgumentException if expectedColours is negative
+     */
+    public ColourHistogram(final int expectedColours) {
+        if(expectedColours < 0)
+            throw new IllegalArgumentException("Error. The number of expected colours can't be negative. " +
+                    "(expectedColours=" + expectedColours + ")");
+
+        int capacity = MIN_CAPACITY;
+        while(capacity < 2L * expectedColours && capacity < MAX_CAPACITY)
+            capacity <<= 1;
+        keys = new int[capacity];
+        counts = new long[capacity];
+    }
+
+    //---- Methods ----
+    /**
+     * @return a {@link Collector} that counts {@link ColourCode}s in a {@link ColourHistogram}, merging the partial
+     * histograms of parallel streams
+     */
+    public static Collector<ColourCode, ColourHistogram, ColourHistogram> collector() {
+        return Collector.of(ColourHistogram::new, ColourHistogram::add, ColourHistogram::merge,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * @return number of different colours
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of counted colours, including the repeated ones
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * <p>Counts one pixel.</p>
+     * @param argb ARGB value of the pixel (see {@link RgbCode#ofArgb(int)})
+     * @return this histogram
+     */
+    public ColourHistogram add(final int argb) {
+        increment(argb, 1);
+        return this;
+    }
+
+    /**
+     * <p>Counts the same pixel several times.</p>
+     * @param argb ARGB value of the pixel (see {@link RgbCode#ofArgb(int)})
+     * @param count number of times the pixel is counted
+     * @return this histogram
+     * @throws IllegalArgumentException if count is negative
+     */
+    public ColourHistogram add(final int argb, final long count) {
+        if(count < 0)
+            throw new IllegalArgumentException("Error. A colour can't be counted a negative number of times. (count=" + count + ")");
+
+        if(count > 0)
+            increment(argb, count);
+        return this;
+    }
+
+    /**
+     * <p>Counts one colour.</p>
+     * @param code colour to count, in any {@link ColourCode}
+     * @return this histogram
+     * @throws IllegalArgumentException if code is null
+     */
+    public ColourHistogram add(final ColourCode code) {
+        increment(argbOf(code), 1);
+        return this;
+    }
+
+    /**
+     * <p>Counts every pixel of argbPixels.</p>
+     * @param argbPixels ARGB values of the pixels (see {@link RgbCode#ofArgb(int)})
+     * @return this histogram
+     * @throws IllegalArgumentException if argbPixels is null
+     */
+    public ColourHistogram addAll(final int[] argbPixels) {
+        if(argbPixels == null)
+            throw new IllegalArgumentException("Error. It's not possible to count null pixels.");
+
+        return addAll(argbPixels, 0, argbPixels.length);
+    }
+
+    /**
+     * <p>Counts the pixels [offset, offset + length) of argbPixels.</p>
+     * @param argbPixels ARGB values of the pixels (see {@link RgbCode#ofArgb(int)})
+     * @param offset index of the first pixel to count
+     * @param length number of pixels to count
+     * @return this histogram
+     * @throws IllegalArgumentException if argbPixels is null
+     * @throws IndexOutOfBoundsException if the pixels are out of the bounds of argbPixels
+     */
+    public ColourHistogram addAll(final int[] argbPixels, final int offset, final int length) {
+        if(argbPixels == null)
+            throw new IllegalArgumentException("Error. It's not possible to count null pixels.");
+
+        Objects.checkFromIndexSize(offset, length, argbPixels.length);
+        for(int i = offset; i < offset + length; ++i)
+            increment(argbPixels[i], 1);
+
+        return this;
+    }
+
+    /**
+     * <p>Adds the counts of other to this histogram. other isn't modified.</p>
+     * @param other histogram to merge
+     * @return this histogram
+     * @throws IllegalArgumentException if other is null
+     */
+    public ColourHistogram merge(final ColourHistogram other) {
+        if(other == null)
+            throw new IllegalArgumentException("Error. It's not possible to merge a null " + getClass().getSimpleName() + ".");
+
+        for(int slot = 0; slot < other.counts.length; ++slot)
+            if(other.counts[slot] > 0)
+                increment(other.keys[slot], other.counts[slot]);
+
+        return this;
+    }
+
+    /**
+     * @param argb ARGB value of a pixel
+     * @return number of times that the pixel has been counted
+     */
+    public long count(final int argb) {
+        return counts[slotOf(argb)];
+    }
+
+    /**
+     * @param code colour, in any {@link ColourCode}
+     * @return number of times that the colour has been counted
+     * @throws IllegalArgumentException if code is null
+     */
+    public long count(final ColourCode code) {
+        return count(argbOf(code));
+    }
+
+    /**
+     * @param k maximum number of colours
+     * @return the ARGB values of the k most counted colours, from the most counted one. Colours counted the same number
+     * of times are sorted by their ARGB value
+     * @throws IllegalArgumentException if k is negative
+     */
+    public int[] topArgb(final int k) {
+        if(k < 0)
+            throw new IllegalArgumentException("Error. The number of colours can't be negative. (k=" + k + ")");
+
+        int[] heap = new int[Math.min(k, size)];
+        int heapSize = 0;
+        for(int slot = 0; slot < counts.length && heap.length > 0; ++slot) {
+            if(counts[slot] == 0)
+                continue;
+
+            if(heapSize < heap.length) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++);
+            } else if(isBefore(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(heap, 0, heapSize);
+            }
+        }
+
+        int[] top = new int[heapSize];
+        for(int i = heapSize - 1; i >= 0; --i) {
+            top[i] = keys[heap[0]];
+            heap[0] = heap[i];
+            siftDown(heap, 0, i);
+        }
+
+        return top;
+    }
+
+    /**
+     * @param k maximum number of colours
+     * @return unmodifiable list with the k most counted colours, from the most counted one
+     * @throws IllegalArgumentException if k is negative
+     * @see #topArgb(int)
+     */
+    public List<RgbCode> top(final int k) {
+        int[] top = topArgb(k);
+        List<RgbCode> colours = new ArrayList<>(top.length);
+        for(int argb : top)
+            colours.add(RgbCode.ofArgb(argb));
+
+        return Collections.unmodifiableList(colours);
+    }
+
+    private static int argbOf(final ColourCode code) {
+        if(code == null)
+            throw new IllegalArgumentException("Error. It's not possible to count null colours.");
+
+        return ColourCodeConverter.defaultConverter().convert(code, RgbCode.class).toArgb();
+    }
+
+    /**
+     * @return the slot of key, or the empty slot where it should be
+     */
+    private int slotOf(final int key) {
+        int mask = keys.length - 1;
+        int slot = (key * 0x9E3779B9) >>> (32 - Integer.numberOfTrailingZeros(keys.length));
+        while(counts[slot] > 0 && keys[slot] != key)
+            slot = (slot + 1) & mask;
+
+        return slot;
+    }
+
+    private void increment(final int key, final long count) {
+        int slot = slotOf(key);
+        if(counts[slot] == 0) {
+            if(2 * (size + 1) > keys.length && keys.length < MAX_CAPACITY) {
+                grow();
+                slot = slotOf(key);
+            }
+            keys[slot] = key;
+            ++size;
+        }
+
+        counts[slot] += count;
+        total += count;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        long[] oldCounts = counts;
+        keys = new int[oldKeys.length * 2];
+        counts = new long[oldCounts.length * 2];
+
+        for(int slot = 0; slot < oldKeys.length; ++slot) {
+            if(oldCounts[slot] > 0) {
+                int newSlot = slotOf(oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                counts[newSlot] = oldCounts[slot];
+            }
+        }
+    }
+
+    /**
+     * @return if the colour at slot goes before the colour at other in the top: it's counted more times or, with the same
+     * count, it has a lower ARGB value
+     */
+    private boolean isBefore(final int slot, final int other) {
+        return counts[slot] > counts[other] || (counts[slot] == counts[other] && Integer.compareUnsigned(keys[slot], keys[other]) < 0);
+    }
+
+    /** The heap keeps at its root the colour that goes last in the top */
+    private void siftUp(final int[] heap, int i) {
+        while(i > 0) {
+            int parent = (i - 1) / 2;
+            if(!isBefore(heap[parent], heap[i]))
+                return;
+
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(final int[] heap, int i, final int heapSize) {
+        while(2 * i + 1 < heapSize) {
+            int child = 2 * i + 1;
+            if(child + 1 < heapSize && isBefore(heap[child], heap[child + 1]))
+                ++child;
+            if(!isBefore(heap[i], heap[child]))
+                return;
+
+            swap(heap, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(final int[] heap, final int i, final int j) {
+        int aux = heap[i];
+        heap[i] = heap[j];
+        heap[j] = aux;
+    }
+
+}
@@ -0,0 +1,58 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.buffer.ColourBuffer;
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.util.List;
+
+/**
+ * <p>A {@link ColourQuantizer} reduces the colours of an image to a small palette of {@link RgbCode}s that represents
+ * them.</p>
+ * <p>Every quantizer starts with a single pass over the pixels that builds a histogram with 5 bits per channel (at most
+ * 32768 colours, each with its number of pixels and its exact mean colour), and then it works over the histogram, so
+ * the cost of the quantization itself doesn't depend on the size of the image. Fully transparent pixels are ignored
+ * and the palette colours are opaque.</p>
+ *
+ * @see MedianCutQuantizer
+ * @see OctreeQuantizer
+ * @see KMeansQuantizer
+ *
+ * @author Sergio Fernández
+ */
+public interface ColourQuantizer {
+
+    /**
+     * @param argbPixels ARGB pixels of the image (see {@link RgbCode#ofArgb(int)})
+     * @param colours maximum number of colours of the palette
+     * @return unmodifiable palette with at most colours colours, from the one that represents most pixels to the one
+     * that represents fewer. It's empty if there aren't pixels that aren't fully transparent
+     * @throws IllegalArgumentException if argbPixels is null or colours is not positive
+     */
+    List<RgbCode> quantize(int[] argbPixels, int colours);
+
+    /**
+     * @param buffer colours of the image, in any space
+     * @param colours maximum number of colours of the palette
+     * @return unmodifiable palette with at most colours colours, from the one that represents most pixels to the one
+     * that represents fewer
+     * @throws IllegalArgumentException if buffer is null or colours is not positive
+     * @see #quantize(int[], int)
+     */
+    default List<RgbCode> quantize(ColourBuffer buffer, int colours) {
+        if(buffer == null)
+            throw new IllegalArgumentException("Error. It's not possible to quantize a null buffer.");
+
+        int size = buffer.size();
+        ColourBuffer rgb = buffer;
+        if(buffer.space() != RgbCode.class) {
+            rgb = ColourBuffer.wrap(buffer.space(), buffer.array().clone(), size);
+            rgb.convertTo(RgbCode.class);
+        }
+
+        int[] argbPixels = new int[size];
+        rgb.toArgb(argbPixels, 0);
+
+        return quantize(argbPixels, colours);
+    }
+
+}
@@ -0,0 +1,173 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.WebColour;
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>{@link DominantColours} finds the colours that represent most of an image: the palette of a
+ * {@link ColourQuantizer}, as {@link WebColour}s ordered from the one that represents most pixels.</p>
+ * <p>To bound the time for big images, at most {@link #maxSamples()} pixels are read, taken from the image with the
+ * chosen {@link Sampling}, so the cost of the quantization doesn't depend on the size of the image.</p>
+ * <p>{@link #extractAsync(int[], int)} runs the extraction in the {@link Executor} given in the constructor, instead of
+ * in the caller thread.</p>
+ *
+ * @see ColourQuantizer
+ *
+ * @author Sergio Fernández
+ */
+public final class DominantColours {
+
+    //---- Constants and Definitions ----
+    /** Default maximum number of sampled pixels: one megapixel */
+    public static final int DEFAULT_MAX_SAMPLES = 1 << 20;
+
+    /**
+     * <p>How the pixels of an image are sampled when it has more than {@link #maxSamples()} pixels.</p>
+     */
+    public enum Sampling {
+        /**
+         * <p>One pixel of every fixed number of them. It's the fastest, but images with regular patterns whose period
+         * divides the stride can be misrepresented.</p>
+         */
+        STRIDE,
+        /**
+         * <p>One pixel chosen at random of every block of stride pixels (jittered sampling), so every pixel has about the
+         * same probability of being sampled and regular patterns aren't misrepresented. It draws a random number per
+         * sample, with a fixed seed, so the same image always gives the same samples.</p>
+         */
+        RANDOM
+    }
+
+    private static final long RANDOM_SEED = 0x5DEECE66DL;
+
+    //---- Attributes ----
+    private final ColourQuantizer quantizer;
+    private final Sampling sampling;
+    private final int maxSamples;
+    private final Executor executor;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link DominantColours} that uses a {@link MedianCutQuantizer} over at most
+     * {@link #DEFAULT_MAX_SAMPLES} pixels taken with {@link Sampling#STRIDE}.</p>
+     * @param executor {@link Executor} where asynchronous extractions are run
+     * @throws IllegalArgumentException if executor is null
+     */
+    public DominantColours(final Executor executor) {
+        this(new MedianCutQuantizer(), Sampling.STRIDE, DEFAULT_MAX_SAMPLES, executor);
+    }
+
+    /**
+     * <p>Creates a new {@link DominantColours}.</p>
+     * @param quantizer {@link ColourQuantizer} that computes the colours
+     * @param sampling how the pixels are sampled
+     * @param maxSamples maximum number of pixels that are passed to the quantizer
+     * @param executor {@link Executor} where asynchronous extractions are run
+     * @throws IllegalArgumentException if any argument is null or maxSamples is not positive
+     */
+    public DominantColours(final ColourQuantizer quantizer, final Sampling sampling, final int maxSamples,
+                           final Executor executor) {
+        if(quantizer == null || sampling == null || executor == null)
+            throw new IllegalArgumentException("Error. The " + ColourQuantizer.class.getSimpleName() + ", the " +
+                    Sampling.class.getSimpleName() + " and the " + Executor.class.getSimpleName() +
+                    " are required to create " + getClass().getSimpleName() + ".");
+
+        if(maxSamples <= 0)
+            throw new IllegalArgumentException("Error. At least one pixel has to be sampled. (maxSamples=" + maxSamples + ")");
+
+        this.quantizer = quantizer;
+        this.sampling = sampling;
+        this.maxSamples = maxSamples;
+        this.executor = executor;
+    }
+
+    //---- Methods ----
+    /**
+     * @return maximum number of pixels that are passed to the quantizer
+     */
+    public int maxSamples() {
+        return maxSamples;
+    }
+
+    /**
+     * @return how the pixels are sampled
+     */
+    public Sampling sampling() {
+        return sampling;
+    }
+
+    /**
+     * <p>Extracts the dominant colours in the caller thread.</p>
+     * @param argbPixels ARGB pixels of the image (see {@link RgbCode#ofArgb(int)})
+     * @param colours maximum number of colours
+     * @return unmodifiable list with at most colours colours, from the one that represents most pixels
+     * @throws IllegalArgumentException if argbPixels is null or colours is not positive
+     */
+    public List<WebColour> extract(final int[] argbPixels, final int colours) {
+        ReducedColourHistogram.checkQuantization(argbPixels, colours);
+
+        List<RgbCode> palette = quantizer.quantize(sample(argbPixels), colours);
+        List<WebColour> dominant = new ArrayList<>(palette.size());
+        for(RgbCode colour : palette)
+            dominant.add(new WebColour(colour));
+
+        return Collections.unmodifiableList(dominant);
+    }
+
+    /**
+     * <p>Extracts the dominant colours in the {@link Executor} of this {@link DominantColours}. argbPixels mustn't be
+     * modified until the returned future is completed.</p>
+     * @param argbPixels ARGB pixels of the image (see {@link RgbCode#ofArgb(int)})
+     * @param colours maximum number of colours
+     * @return a future completed with the result of {@link #extract(int[], int)}
+     * @throws IllegalArgumentException if argbPixels is null or colours is not positive
+     */
+    public CompletableFuture<List<WebColour>> extractAsync(final int[] argbPixels, final int colours) {
+        ReducedColourHistogram.checkQuantization(argbPixels, colours);
+
+        return CompletableFuture.supplyAsync(() -> extract(argbPixels, colours), executor);
+    }
+
+    /**
+     * @return argbPixels if they aren't more than {@link #maxSamples()}, or a new array with {@link #maxSamples()} of them
+     */
+    int[] sample(final int[] argbPixels) {
+        if(argbPixels.length <= maxSamples)
+            return argbPixels;
+
+        return switch(sampling) {
+            case STRIDE -> strideSample(argbPixels);
+            case RANDOM -> randomSample(argbPixels);
+        };
+    }
+
+    private int[] strideSample(final int[] argbPixels) {
+        int[] samples = new int[maxSamples];
+        double stride = (double) argbPixels.length / maxSamples;
+        for(int i = 0; i < maxSamples; ++i)
+            samples[i] = argbPixels[(int) (i * stride)];
+
+        return samples;
+    }
+
+    private int[] randomSample(final int[] argbPixels) {
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+        int[] samples = new int[maxSamples];
+        double stride = (double) argbPixels.length / maxSamples;
+        for(int i = 0; i < maxSamples; ++i) {
+            int from = (int) (i * stride);
+            int to = (int) ((i + 1) * stride);
+            samples[i] = argbPixels[random.nextInt(from, Math.min(to, argbPixels.length))];
+        }
+
+        return samples;
+    }
+
+}
@@ -0,0 +1,254 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.utils.ColourSpaceUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static es.sfernandez.colour.quantization.ReducedColourHistogram.CHANNELS;
+
+/**
+ * <p>{@link KMeansQuantizer} refines the palette of {@link MedianCutQuantizer} with the k-means (Lloyd) algorithm:
+ * every colour of the image is assigned to its nearest colour of the palette, and every colour of the palette is moved
+ * to the mean of its assigned colours, until no assignment changes or after a maximum number of iterations.</p>
+ * <p>The distances can be measured in RGB or in OKLAB, which is perceptually uniform, so its palettes look closer to
+ * the image. The assignments are split into tasks of {@link #DISTANCES_PER_TASK} distances that are run in a
+ * {@link ForkJoinPool}.</p>
+ *
+ * @see ColourQuantizer
+ * @see <a href="https://en.wikipedia.org/wiki/K-means_clustering">K-means clustering in Wikipedia.</a>
+ *
+ * @author Sergio Fernández
+ */
+public final class KMeansQuantizer implements ColourQuantizer {
+
+    //---- Constants and Definitions ----
+    /** Default maximum number of iterations */
+    public static final int DEFAULT_MAX_ITERATIONS = 16;
+
+    /**
+     * <p>Number of distances under which a block of assignments is computed by a single task.</p>
+     */
+    public static final int DISTANCES_PER_TASK = 16_384;
+
+    /**
+     * <p>Colour space where the distances between colours are measured.</p>
+     */
+    public enum Space {
+        /** Euclidean distance between the RGB values */
+        RGB,
+        /** Euclidean distance in OKLAB, which is close to the perceived difference */
+        OKLAB
+    }
+
+    //---- Attributes ----
+    private final Space space;
+    private final int maxIterations;
+    private final ForkJoinPool pool;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link KMeansQuantizer} that measures distances in {@link Space#RGB}, with at most
+     * {@link #DEFAULT_MAX_ITERATIONS} iterations and that runs in the {@link ForkJoinPool#commonPool()}.</p>
+     */
+    public KMeansQuantizer() {
+        this(Space.RGB);
+    }
+
+    /**
+     * <p>Creates a new {@link KMeansQuantizer} with at most {@link #DEFAULT_MAX_ITERATIONS} iterations and that runs
+     * in the {@link ForkJoinPool#commonPool()}.</p>
+     * @param space space where distances are measured
+     * @throws IllegalArgumentException if space is null
+     */
+    public KMeansQuantizer(final Space space) {
+        this(space, DEFAULT_MAX_ITERATIONS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Creates a new {@link KMeansQuantizer}.</p>
+     * @param space space where distances are measured
+     * @param maxIterations maximum number of iterations
+     * @param pool {@link ForkJoinPool} where the assignments are run when there are many of them
+     * @throws IllegalArgumentException if space or pool are null, or maxIterations is negative
+     */
+    public KMeansQuantizer(final Space space, final int maxIterations, final ForkJoinPool pool) {
+        if(space == null || pool == null)
+            throw new IllegalArgumentException("Error. The " + Space.class.getSimpleName() + " and the " +
+                    ForkJoinPool.class.getSimpleName() + " are required to create " + getClass().getSimpleName() + ".");
+
+        if(maxIterations < 0)
+            throw new IllegalArgumentException("Error. The maximum number of iterations can't be negative. " +
+                    "(maxIterations=" + maxIterations + ")");
+
+        this.space = space;
+        this.maxIterations = maxIterations;
+        this.pool = pool;
+    }
+
+    //---- Methods ----
+    /**
+     * @return space where distances are measured
+     */
+    public Space space() {
+        return space;
+    }
+
+    @Override
+    public List<RgbCode> quantize(final int[] argbPixels, final int colours) {
+        ReducedColourHistogram.checkQuantization(argbPixels, colours);
+
+        ReducedColourHistogram histogram = ReducedColourHistogram.of(argbPixels);
+        int size = histogram.size();
+        int[] entries = new int[size];
+        int[] boundaries = MedianCutQuantizer.boxesOf(histogram, colours, entries);
+        int clusters = boundaries.length - 1;
+
+        float[] points = pointsOf(histogram);
+        int[] assignments = new int[size];
+        for(int cluster = 0; cluster < clusters; ++cluster)
+            for(int i = boundaries[cluster]; i < boundaries[cluster + 1]; ++i)
+                assignments[entries[i]] = cluster;
+
+        double[] centroids = new double[CHANNELS * clusters];
+        long[] weights = new long[clusters];
+        accumulate(histogram, points, assignments, centroids, weights);
+
+        for(int iteration = 0; iteration < maxIterations && size > clusters; ++iteration) {
+            float[] means = new float[centroids.length];
+            for(int i = 0; i < centroids.length; ++i)
+                means[i] = (float) centroids[i];
+
+            if(pool.invoke(new AssignmentTask(points, means, assignments, 0, size)) == 0)
+                break;
+
+            accumulate(histogram, points, assignments, centroids, weights);
+        }
+
+        double[] rgbMeans = new double[CHANNELS * clusters];
+        for(int entry = 0; entry < size; ++entry)
+            for(int channel = 0; channel < CHANNELS; ++channel)
+                rgbMeans[CHANNELS * assignments[entry] + channel] +=
+                        (double) histogram.weight(entry) * histogram.mean(entry, channel);
+        for(int cluster = 0; cluster < clusters; ++cluster)
+            for(int channel = 0; channel < CHANNELS; ++channel)
+                rgbMeans[CHANNELS * cluster + channel] /= Math.max(1, weights[cluster]);
+
+        return ReducedColourHistogram.paletteOf(rgbMeans, weights, clusters);
+    }
+
+    /**
+     * @return the coordinates in the space of the mean colour of every entry of the histogram
+     */
+    private float[] pointsOf(final ReducedColourHistogram histogram) {
+        float[] points = new float[CHANNELS * histogram.size()];
+        for(int entry = 0; entry < histogram.size(); ++entry) {
+            float red = histogram.mean(entry, 0);
+            float green = histogram.mean(entry, 1);
+            float blue = histogram.mean(entry, 2);
+
+            if(space == Space.OKLAB) {
+                ColourSpaceUtils.rgbToOkLab(red / 255f, green / 255f, blue / 255f, points, CHANNELS * entry);
+            } else {
+                points[CHANNELS * entry] = red;
+                points[CHANNELS * entry + 1] = green;
+                points[CHANNELS * entry + 2] = blue;
+            }
+        }
+
+        return points;
+    }
+
+    /**
+     * <p>Moves every centroid to the weighted mean of the points assigned to its cluster, and writes the weight of every
+     * cluster. Empty clusters keep their centroid, so they can take points again.</p>
+     */
+    private static void accumulate(final ReducedColourHistogram histogram, final float[] points, final int[] assignments,
+                                   final double[] centroids, final long[] weights) {
+        double[] sums = new double[centroids.length];
+        Arrays.fill(weights, 0);
+        for(int entry = 0; entry < assignments.length; ++entry) {
+            int cluster = assignments[entry];
+            int weight = histogram.weight(entry);
+            weights[cluster] += weight;
+            for(int c = 0; c < CHANNELS; ++c)
+                sums[CHANNELS * cluster + c] += (double) weight * points[CHANNELS * entry + c];
+        }
+
+        for(int cluster = 0; cluster < weights.length; ++cluster)
+            if(weights[cluster] > 0)
+                for(int c = 0; c < CHANNELS; ++c)
+                    centroids[CHANNELS * cluster + c] = sums[CHANNELS * cluster + c] / weights[cluster];
+    }
+
+    /**
+     * <p>Assigns the entries [from, to) to their nearest centroid, splitting them in two halves while they need more
+     * than {@link #DISTANCES_PER_TASK} distances, and returns how many assignments changed.</p>
+     */
+    private static final class AssignmentTask extends RecursiveTask<Integer> {
+
+        private final float[] points;
+        private final float[] centroids;
+        private final int[] assignments;
+        private final int from;
+        private final int to;
+
+        private AssignmentTask(final float[] points, final float[] centroids, final int[] assignments,
+                               final int from, final int to) {
+            this.points = points;
+            this.centroids = centroids;
+            this.assignments = assignments;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            int clusters = centroids.length / CHANNELS;
+            int entries = to - from;
+            if(entries == 1 || (long) entries * clusters <= DISTANCES_PER_TASK)
+                return assign();
+
+            int middle = from + entries / 2;
+            AssignmentTask first = new AssignmentTask(points, centroids, assignments, from, middle);
+            AssignmentTask second = new AssignmentTask(points, centroids, assignments, middle, to);
+            first.fork();
+
+            return second.compute() + first.join();
+        }
+
+        private int assign() {
+            int changes = 0;
+            for(int entry = from; entry < to; ++entry) {
+                float x = points[CHANNELS * entry];
+                float y = points[CHANNELS * entry + 1];
+                float z = points[CHANNELS * entry + 2];
+
+                int nearest = assignments[entry];
+                float nearestDistance = Float.POSITIVE_INFINITY;
+                for(int cluster = 0; cluster < centroids.length / CHANNELS; ++cluster) {
+                    float dx = x - centroids[CHANNELS * cluster];
+                    float dy = y - centroids[CHANNELS * cluster + 1];
+                    float dz = z - centroids[CHANNELS * cluster + 2];
+                    float distance = dx * dx + dy * dy + dz * dz;
+                    if(distance < nearestDistance) {
+                        nearestDistance = distance;
+                        nearest = cluster;
+                    }
+                }
+
+                if(nearest != assignments[entry]) {
+                    assignments[entry] = nearest;
+                    ++changes;
+                }
+            }
+
+            return changes;
+        }
+
+    }
+
+}
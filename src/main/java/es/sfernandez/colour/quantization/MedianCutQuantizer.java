@@ -0,0 +1,145 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static es.sfernandez.colour.quantization.ReducedColourHistogram.BITS_PER_CHANNEL;
+import static es.sfernandez.colour.quantization.ReducedColourHistogram.CHANNELS;
+
+/**
+ * <p>{@link MedianCutQuantizer} splits the colours of the image in boxes: it starts with a box with all of them and,
+ * until there are as many boxes as colours, it splits the box with most pixels and widest channel range through the
+ * weighted median of that channel. Each box gives the mean colour of its pixels.</p>
+ * <p>It's fast and deterministic, although it can give less colours to small groups of distinct pixels than
+ * {@link KMeansQuantizer}, which refines its result.</p>
+ *
+ * @see ColourQuantizer
+ * @see <a href="https://en.wikipedia.org/wiki/Median_cut">Median cut in Wikipedia.</a>
+ *
+ * @author Sergio Fernández
+ */
+public final class MedianCutQuantizer implements ColourQuantizer {
+
+    //---- Methods ----
+    @Override
+    public List<RgbCode> quantize(final int[] argbPixels, final int colours) {
+        ReducedColourHistogram.checkQuantization(argbPixels, colours);
+
+        ReducedColourHistogram histogram = ReducedColourHistogram.of(argbPixels);
+        int[] entries = new int[histogram.size()];
+        int[] boundaries = boxesOf(histogram, colours, entries);
+
+        return histogram.paletteOf(entries, boundaries);
+    }
+
+    /**
+     * <p>Splits the entries of the histogram in at most colours boxes.</p>
+     * @param histogram histogram to split
+     * @param colours maximum number of boxes
+     * @param entries array, with the size of the histogram, where the entries are written sorted by box
+     * @return the boundaries of the boxes: the box b are the entries [boundaries[b], boundaries[b + 1]) of entries
+     */
+    static int[] boxesOf(final ReducedColourHistogram histogram, final int colours, final int[] entries) {
+        for(int entry = 0; entry < entries.length; ++entry)
+            entries[entry] = entry;
+
+        if(entries.length == 0)
+            return new int[] {0};
+
+        PriorityQueue<Box> splittable = new PriorityQueue<>();
+        int[] unsplittable = new int[colours];
+        int boxes = 1;
+        int unsplittableBoxes = 0;
+        long[] keys = new long[entries.length];
+
+        Box first = Box.of(histogram, entries, 0, entries.length);
+        if(first.range() > 0)
+            splittable.add(first);
+        else
+            unsplittable[unsplittableBoxes++] = first.from();
+
+        while(boxes < colours && !splittable.isEmpty()) {
+            Box box = splittable.poll();
+            int middle = split(histogram, entries, box, keys);
+            ++boxes;
+
+            for(Box half : new Box[] {Box.of(histogram, entries, box.from(), middle), Box.of(histogram, entries, middle, box.to())})
+                if(half.range() > 0)
+                    splittable.add(half);
+                else
+                    unsplittable[unsplittableBoxes++] = half.from();
+        }
+
+        int[] boundaries = new int[boxes + 1];
+        int box = 0;
+        for(Box remaining : splittable)
+            boundaries[box++] = remaining.from();
+        System.arraycopy(unsplittable, 0, boundaries, box, unsplittableBoxes);
+        boundaries[boxes] = entries.length;
+        Arrays.sort(boundaries, 0, boxes);
+
+        return boundaries;
+    }
+
+    /**
+     * <p>Sorts the entries of the box by its widest channel and returns the index where the box has to be split, which
+     * leaves at both sides about the half of its pixels.</p>
+     */
+    private static int split(final ReducedColourHistogram histogram, final int[] entries, final Box box, final long[] keys) {
+        for(int i = box.from(); i < box.to(); ++i)
+            keys[i] = ((long) histogram.coordinate(entries[i], box.channel()) << 32) | entries[i];
+        Arrays.sort(keys, box.from(), box.to());
+        for(int i = box.from(); i < box.to(); ++i)
+            entries[i] = (int) keys[i];
+
+        long accumulated = 0;
+        int middle = box.from() + 1;
+        for(int i = box.from(); i < box.to() - 1; ++i) {
+            accumulated += histogram.weight(entries[i]);
+            middle = i + 1;
+            if(2 * accumulated >= box.weight())
+                break;
+        }
+
+        return middle;
+    }
+
+    /**
+     * <p>Entries [from, to) of the sorted entries, with the channel where they have the widest range of coordinates.</p>
+     */
+    private record Box(int from, int to, long weight, int channel, int range) implements Comparable<Box> {
+
+        private static Box of(final ReducedColourHistogram histogram, final int[] entries, final int from, final int to) {
+            int[] min = new int[CHANNELS];
+            int[] max = new int[CHANNELS];
+            Arrays.fill(min, 1 << BITS_PER_CHANNEL);
+            long weight = 0;
+
+            for(int i = from; i < to; ++i) {
+                weight += histogram.weight(entries[i]);
+                for(int channel = 0; channel < CHANNELS; ++channel) {
+                    int coordinate = histogram.coordinate(entries[i], channel);
+                    min[channel] = Math.min(min[channel], coordinate);
+                    max[channel] = Math.max(max[channel], coordinate);
+                }
+            }
+
+            int channel = 0;
+            for(int c = 1; c < CHANNELS; ++c)
+                if(max[c] - min[c] > max[channel] - min[channel])
+                    channel = c;
+
+            return new Box(from, to, weight, channel, to - from > 1 ? max[channel] - min[channel] : 0);
+        }
+
+        @Override
+        public int compareTo(final Box other) {
+            return Long.compare(other.weight * other.range, weight * range);
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static es.sfernandez.colour.quantization.ReducedColourHistogram.BITS_PER_CHANNEL;
+import static es.sfernandez.colour.quantization.ReducedColourHistogram.CHANNELS;
+
+/**
+ * <p>{@link OctreeQuantizer} puts the colours of the image in an octree, where every level takes one more bit of each
+ * channel, and then merges the leaves into their parents, from the deepest level and from the parents with fewer
+ * pixels, until there are as many leaves as colours. Each leaf gives the mean colour of its pixels.</p>
+ * <p>Its boxes are aligned to the bits of the channels, so it's the fastest quantizer, but the palettes of
+ * {@link MedianCutQuantizer} and {@link KMeansQuantizer} usually fit the image better.</p>
+ *
+ * @see ColourQuantizer
+ * @see <a href="https://en.wikipedia.org/wiki/Octree#Color_quantization">Octree colour quantization in Wikipedia.</a>
+ *
+ * @author Sergio Fernández
+ */
+public final class OctreeQuantizer implements ColourQuantizer {
+
+    //---- Constants and Definitions ----
+    private static final int UNMERGED = 1 << 30;
+
+    //---- Methods ----
+    @Override
+    public List<RgbCode> quantize(final int[] argbPixels, final int colours) {
+        ReducedColourHistogram.checkQuantization(argbPixels, colours);
+
+        ReducedColourHistogram histogram = ReducedColourHistogram.of(argbPixels);
+        int size = histogram.size();
+        int[] leaves = new int[size];
+        int depth = BITS_PER_CHANNEL;
+        for(int entry = 0; entry < size; ++entry)
+            leaves[entry] = nodeOf(histogram, entry, depth);
+
+        int leavesCount = size;
+        while(leavesCount > colours)
+            leavesCount = reduce(histogram, leaves, --depth, leavesCount, colours);
+
+        int[] entries = new int[size];
+        int[] boundaries = clustersOf(leaves, entries);
+        return histogram.paletteOf(entries, boundaries);
+    }
+
+    /**
+     * <p>Merges the leaves at depth + 1 into their parents at depth, from the parent with fewer pixels, until there are
+     * colours leaves or all of them are merged.</p>
+     * <p>The leaves of the entries are rewritten as the nodes at depth, or as the nodes at depth + 1 with the
+     * {@link #UNMERGED} flag for the ones whose parent isn't merged, which only happens in the last reduction.</p>
+     * @return the number of leaves after the reduction
+     */
+    private static int reduce(final ReducedColourHistogram histogram, final int[] leaves, final int depth,
+                              final int leavesCount, final int colours) {
+        int remainingLeaves = leavesCount;
+        int parents = 1 << (CHANNELS * depth);
+        long[] weights = new long[parents];
+        int[] children = new int[parents];
+        boolean[] counted = new boolean[parents << CHANNELS];
+
+        for(int entry = 0; entry < leaves.length; ++entry) {
+            int child = leaves[entry];
+            int parent = parentOf(child, depth);
+            weights[parent] += histogram.weight(entry);
+            if(!counted[child]) {
+                counted[child] = true;
+                ++children[parent];
+            }
+        }
+
+        long[] order = new long[parents];
+        int used = 0;
+        for(int parent = 0; parent < parents; ++parent)
+            if(children[parent] > 0)
+                order[used++] = (weights[parent] << 32) | parent;
+        Arrays.sort(order, 0, used);
+
+        boolean[] merged = new boolean[parents];
+        for(int i = 0; i < used && remainingLeaves > colours; ++i) {
+            int parent = (int) order[i];
+            merged[parent] = true;
+            remainingLeaves -= children[parent] - 1;
+        }
+
+        for(int entry = 0; entry < leaves.length; ++entry) {
+            int parent = parentOf(leaves[entry], depth);
+            leaves[entry] = merged[parent] ? parent : leaves[entry] | UNMERGED;
+        }
+
+        return remainingLeaves;
+    }
+
+    private static int parentOf(final int child, final int depth) {
+        int childDepth = depth + 1;
+        int mask = (1 << childDepth) - 1;
+        int red = (child >>> (2 * childDepth)) & mask;
+        int green = (child >>> childDepth) & mask;
+        int blue = child & mask;
+
+        return ((red >>> 1) << (2 * depth)) | ((green >>> 1) << depth) | (blue >>> 1);
+    }
+
+    private static int nodeOf(final ReducedColourHistogram histogram, final int entry, final int depth) {
+        int shift = BITS_PER_CHANNEL - depth;
+        return ((histogram.coordinate(entry, 0) >>> shift) << (2 * depth))
+                | ((histogram.coordinate(entry, 1) >>> shift) << depth)
+                | (histogram.coordinate(entry, 2) >>> shift);
+    }
+
+    /**
+     * <p>Writes in entries the entries sorted by leaf and returns the boundaries of every leaf in them.</p>
+     */
+    private static int[] clustersOf(final int[] leaves, final int[] entries) {
+        long[] keys = new long[leaves.length];
+        for(int entry = 0; entry < leaves.length; ++entry)
+            keys[entry] = ((long) leaves[entry] << 32) | entry;
+        Arrays.sort(keys);
+
+        int[] boundaries = new int[leaves.length + 1];
+        int clusters = 0;
+        for(int i = 0; i < keys.length; ++i) {
+            entries[i] = (int) keys[i];
+            if(i == 0 || (keys[i] >>> 32) != (keys[i - 1] >>> 32))
+                boundaries[clusters++] = i;
+        }
+        boundaries[clusters] = leaves.length;
+
+        return Arrays.copyOf(boundaries, clusters + 1);
+    }
+
+}
@@ -0,0 +1,184 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.codifications.RgbCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Histogram of the pixels of an image with {@link #BITS_PER_CHANNEL} bits per channel, which is the pre-pass of
+ * every {@link ColourQuantizer}: quantizers work over its (at most {@link #BINS}) bins instead of over the pixels.</p>
+ * <p>Each bin keeps how many pixels fall in it and their exact mean colour, so the precision lost by the reduction
+ * doesn't reach the palette. Fully transparent pixels are ignored.</p>
+ *
+ * @author Sergio Fernández
+ */
+final class ReducedColourHistogram {
+
+    //---- Constants and Definitions ----
+    static final int BITS_PER_CHANNEL = 5;
+    static final int BINS = 1 << (3 * BITS_PER_CHANNEL);
+    static final int CHANNELS = 3;
+
+    private static final int CHANNEL_MASK = (1 << BITS_PER_CHANNEL) - 1;
+
+    //---- Attributes ----
+    private final int size;
+    private final int[] bins;
+    private final int[] weights;
+    private final float[] means;
+
+    //---- Constructor ----
+    private ReducedColourHistogram(final int size, final int[] bins, final int[] weights, final float[] means) {
+        this.size = size;
+        this.bins = bins;
+        this.weights = weights;
+        this.means = means;
+    }
+
+    //---- Methods ----
+    /**
+     * @throws IllegalArgumentException if argbPixels is null or colours is not positive
+     */
+    static void checkQuantization(final int[] argbPixels, final int colours) {
+        if(argbPixels == null)
+            throw new IllegalArgumentException("Error. It's not possible to quantize null pixels.");
+
+        if(colours <= 0)
+            throw new IllegalArgumentException("Error. The palette must have at least one colour. (colours=" + colours + ")");
+    }
+
+    /**
+     * @param argbPixels ARGB pixels (see {@link RgbCode#ofArgb(int)})
+     * @return the histogram of the pixels
+     */
+    static ReducedColourHistogram of(final int[] argbPixels) {
+        int[] counts = new int[BINS];
+        long[] sums = new long[CHANNELS * BINS];
+
+        for(int argb : argbPixels) {
+            if((argb >>> 24) == 0)
+                continue;
+
+            int red = (argb >>> 16) & 0xFF;
+            int green = (argb >>> 8) & 0xFF;
+            int blue = argb & 0xFF;
+            int bin = binOf(red, green, blue);
+
+            ++counts[bin];
+            sums[CHANNELS * bin] += red;
+            sums[CHANNELS * bin + 1] += green;
+            sums[CHANNELS * bin + 2] += blue;
+        }
+
+        int size = 0;
+        for(int count : counts)
+            if(count > 0)
+                ++size;
+
+        int[] bins = new int[size];
+        int[] weights = new int[size];
+        float[] means = new float[CHANNELS * size];
+        for(int bin = 0, entry = 0; bin < BINS; ++bin) {
+            if(counts[bin] == 0)
+                continue;
+
+            bins[entry] = bin;
+            weights[entry] = counts[bin];
+            for(int channel = 0; channel < CHANNELS; ++channel)
+                means[CHANNELS * entry + channel] = (float) ((double) sums[CHANNELS * bin + channel] / counts[bin]);
+            ++entry;
+        }
+
+        return new ReducedColourHistogram(size, bins, weights, means);
+    }
+
+    private static int binOf(final int red, final int green, final int blue) {
+        int shift = 8 - BITS_PER_CHANNEL;
+        return ((red >>> shift) << (2 * BITS_PER_CHANNEL)) | ((green >>> shift) << BITS_PER_CHANNEL) | (blue >>> shift);
+    }
+
+    /**
+     * @return number of non empty bins
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return number of pixels of the entry-th non empty bin
+     */
+    int weight(final int entry) {
+        return weights[entry];
+    }
+
+    /**
+     * @return mean value, between [0, 255], of the channel (0 red, 1 green, 2 blue) of the pixels of the entry-th non
+     * empty bin
+     */
+    float mean(final int entry, final int channel) {
+        return means[CHANNELS * entry + channel];
+    }
+
+    /**
+     * @return the reduced value, between [0, 2^{@link #BITS_PER_CHANNEL}), of the channel of the entry-th non empty bin
+     */
+    int coordinate(final int entry, final int channel) {
+        return (bins[entry] >>> ((CHANNELS - 1 - channel) * BITS_PER_CHANNEL)) & CHANNEL_MASK;
+    }
+
+    /**
+     * <p>Creates a palette from clusters of entries: the cluster c are the entries [boundaries[c], boundaries[c + 1])
+     * of entries. Each colour of the palette is the mean of the pixels of its cluster.</p>
+     * @see #paletteOf(double[], long[], int)
+     */
+    List<RgbCode> paletteOf(final int[] entries, final int[] boundaries) {
+        int clusters = boundaries.length - 1;
+        double[] clusterMeans = new double[CHANNELS * clusters];
+        long[] clusterWeights = new long[clusters];
+
+        for(int cluster = 0; cluster < clusters; ++cluster) {
+            for(int i = boundaries[cluster]; i < boundaries[cluster + 1]; ++i) {
+                int entry = entries[i];
+                clusterWeights[cluster] += weights[entry];
+                for(int channel = 0; channel < CHANNELS; ++channel)
+                    clusterMeans[CHANNELS * cluster + channel] += (double) weights[entry] * mean(entry, channel);
+            }
+
+            for(int channel = 0; channel < CHANNELS; ++channel)
+                clusterMeans[CHANNELS * cluster + channel] /= Math.max(1, clusterWeights[cluster]);
+        }
+
+        return paletteOf(clusterMeans, clusterWeights, clusters);
+    }
+
+    /**
+     * <p>Creates a palette from clusters of pixels, ordered from the cluster with most pixels to the one with fewer.
+     * Empty clusters are skipped.</p>
+     * @param means mean red, green and blue, between [0, 255], of every cluster
+     * @param weights number of pixels of every cluster
+     * @param clusters number of clusters
+     * @return unmodifiable palette
+     */
+    static List<RgbCode> paletteOf(final double[] means, final long[] weights, final int clusters) {
+        Integer[] order = new Integer[clusters];
+        for(int i = 0; i < clusters; ++i)
+            order[i] = i;
+        Arrays.sort(order, (i, j) -> Long.compare(weights[j], weights[i]));
+
+        List<RgbCode> palette = new ArrayList<>(clusters);
+        for(int cluster : order)
+            if(weights[cluster] > 0)
+                palette.add(new RgbCode(level(means[CHANNELS * cluster]), level(means[CHANNELS * cluster + 1]),
+                        level(means[CHANNELS * cluster + 2])));
+
+        return Collections.unmodifiableList(palette);
+    }
+
+    private static int level(final double mean) {
+        return (int) Math.max(0, Math.min(255, Math.round(mean)));
+    }
+
+}
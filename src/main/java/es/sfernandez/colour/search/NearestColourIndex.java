@@ -0,0 +1,357 @@
+package es.sfernandez.colour.search;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static es.sfernandez.colour.utils.ColourSpaceUtils.rgbToXyz;
+import static es.sfernandez.colour.utils.ColourSpaceUtils.xyzToLab;
+
+/**
+ * <p>A {@link NearestColourIndex} finds the colours of a palette that are the closest to any given colour, without
+ * comparing it with every colour of the palette.</p>
+ * <p>Colours are placed in a 3D {@link Space} (RGB, or CIELAB when the distance has to be perceptual) and indexed in a
+ * balanced k-d tree, which answers nearest and k-nearest queries in logarithmic time on average. The tree is stored in
+ * flat arrays (colour i of the tree and its three coordinates are next to each other), without a node object per
+ * colour.</p>
+ * <p>An index can't be modified once it's built, so it's safe to query it from several threads at the same time.</p>
+ *
+ * @param <T> {@link ColourCode} of the colours of the palette
+ *
+ * @author Sergio Fernández
+ */
+public final class NearestColourIndex<T extends ColourCode> {
+
+    //---- Constants and Definitions ----
+    /**
+     * <p>Space in which colours are placed to measure the distance between them, which is the euclidean distance
+     * between their coordinates.</p>
+     */
+    public enum Space {
+        /**
+         * <p>Red, green and blue components, between [0, 1].</p>
+         */
+        RGB {
+            @Override
+            void coordinatesOf(final RgbCode rgb, final float[] coordinates, final int offset) {
+                coordinates[offset] = rgb.red();
+                coordinates[offset + 1] = rgb.green();
+                coordinates[offset + 2] = rgb.blue();
+            }
+        },
+        /**
+         * <p>CIELAB (D65 white) lightness, a and b, so the distance is the CIE76 colour difference (ΔE*ab), which is
+         * close to the difference perceived by humans. They are the values of the {@link LabCode} of the colour.</p>
+         */
+        CIELAB {
+            @Override
+            void coordinatesOf(final RgbCode rgb, final float[] coordinates, final int offset) {
+                rgbToXyz(rgb.red(), rgb.green(), rgb.blue(), coordinates, offset);
+                xyzToLab(coordinates[offset], coordinates[offset + 1], coordinates[offset + 2], coordinates, offset);
+            }
+        };
+
+        abstract void coordinatesOf(RgbCode rgb, float[] coordinates, int offset);
+    }
+
+    private static final int DIMENSIONS = 3;
+
+    //---- Attributes ----
+    private final List<T> colours;
+    private final Space space;
+    private final float[] coordinates;
+    private final int[] entries;
+    private final byte[] axes;
+
+    //---- Constructor ----
+    /**
+     * <p>Creates a new {@link NearestColourIndex} that measures distances in {@link Space#RGB}.</p>
+     * @see #NearestColourIndex(Collection, Space)
+     */
+    public NearestColourIndex(final Collection<? extends T> colours) {
+        this(colours, Space.RGB);
+    }
+
+    /**
+     * <p>Creates a new {@link NearestColourIndex}, converting every colour into RGB with the default
+     * {@link ColourCodeConverter}.</p>
+     * @param colours colours of the palette, which can be repeated
+     * @param space space in which distances are measured
+     * @throws IllegalArgumentException if colours is null, empty or contains null colours, or if space is null
+     */
+    public NearestColourIndex(final Collection<? extends T> colours, final Space space) {
+        if(colours == null || colours.isEmpty() || space == null)
+            throw new IllegalArgumentException("Error. An index needs a space and at least one colour.");
+
+        if(colours.stream().anyMatch(colour -> colour == null))
+            throw new IllegalArgumentException("Error. It's not possible to index null colours.");
+
+        this.colours = Collections.unmodifiableList(new ArrayList<>(colours));
+        this.space = space;
+        this.coordinates = new float[DIMENSIONS * this.colours.size()];
+        this.entries = new int[this.colours.size()];
+        this.axes = new byte[this.colours.size()];
+
+        ColourCodeConverter converter = ColourCodeConverter.defaultConverter();
+        for(int i = 0; i < entries.length; ++i) {
+            space.coordinatesOf(converter.convert(this.colours.get(i), RgbCode.class), coordinates, DIMENSIONS * i);
+            entries[i] = i;
+        }
+
+        build(0, entries.length);
+    }
+
+    //---- Methods ----
+    /**
+     * @return number of colours of the index
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @return space in which distances are measured
+     */
+    public Space space() {
+        return space;
+    }
+
+    /**
+     * @return the colours of the palette, in the same order as they were given
+     */
+    public List<T> colours() {
+        return colours;
+    }
+
+    /**
+     * @param colour colour to look for, of any {@link ColourCode}
+     * @return the colour of the palette closest to colour
+     * @throws IllegalArgumentException if colour is null
+     */
+    public T nearest(final ColourCode colour) {
+        return colours.get(nearestIndex(colour));
+    }
+
+    /**
+     * @param colour colour to look for
+     * @return the colour of the palette closest to colour
+     * @throws IllegalArgumentException if colour is null
+     */
+    public T nearest(final Colour colour) {
+        if(colour == null)
+            throw new IllegalArgumentException("Error. It's not possible to look for a null colour.");
+
+        return nearest(colour.as(RgbCode.class));
+    }
+
+    /**
+     * @param colour colour to look for, of any {@link ColourCode}
+     * @return the position, in {@link #colours()}, of the colour of the palette closest to colour
+     * @throws IllegalArgumentException if colour is null
+     */
+    public int nearestIndex(final ColourCode colour) {
+        Neighbours neighbours = new Neighbours(1);
+        search(0, entries.length, coordinatesOf(colour), neighbours);
+
+        return entries[neighbours.positions[0]];
+    }
+
+    /**
+     * @param colour colour to look for, of any {@link ColourCode}
+     * @param k number of colours to return
+     * @return the k colours of the palette closest to colour (or all of them if it has less than k), from the closest
+     * to the farthest
+     * @throws IllegalArgumentException if colour is null or k is not positive
+     */
+    public List<T> nearest(final ColourCode colour, final int k) {
+        if(k <= 0)
+            throw new IllegalArgumentException("Error. The number of colours to look for must be positive. (k=" + k + ")");
+
+        Neighbours neighbours = new Neighbours(Math.min(k, entries.length));
+        search(0, entries.length, coordinatesOf(colour), neighbours);
+
+        return neighbours.sortedColours();
+    }
+
+    private float[] coordinatesOf(final ColourCode colour) {
+        if(colour == null)
+            throw new IllegalArgumentException("Error. It's not possible to look for a null colour.");
+
+        float[] target = new float[DIMENSIONS];
+        space.coordinatesOf(ColourCodeConverter.defaultConverter().convert(colour, RgbCode.class), target, 0);
+        return target;
+    }
+
+    private void build(final int from, final int to) {
+        if(to - from <= 0)
+            return;
+
+        int axis = widestAxis(from, to);
+        int median = (from + to) >>> 1;
+        select(from, to - 1, median, axis);
+        axes[median] = (byte) axis;
+
+        build(from, median);
+        build(median + 1, to);
+    }
+
+    private int widestAxis(final int from, final int to) {
+        int widest = 0;
+        float widestSpread = -1;
+
+        for(int axis = 0; axis < DIMENSIONS; ++axis) {
+            float min = Float.POSITIVE_INFINITY;
+            float max = Float.NEGATIVE_INFINITY;
+            for(int i = from; i < to; ++i) {
+                float value = coordinates[DIMENSIONS * i + axis];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+
+            if(max - min > widestSpread) {
+                widest = axis;
+                widestSpread = max - min;
+            }
+        }
+
+        return widest;
+    }
+
+    /**
+     * <p>Quickselect: moves to position k the colour that would be there if [left, right] were sorted by axis, with
+     * smaller or equal colours before it and greater or equal ones after it.</p>
+     */
+    private void select(int left, int right, final int k, final int axis) {
+        while(left < right) {
+            float pivot = coordinates[DIMENSIONS * ((left + right) >>> 1) + axis];
+            int i = left;
+            int j = right;
+
+            while(i <= j) {
+                while(coordinates[DIMENSIONS * i + axis] < pivot)
+                    ++i;
+                while(coordinates[DIMENSIONS * j + axis] > pivot)
+                    --j;
+                if(i <= j)
+                    swap(i++, j--);
+            }
+
+            if(k <= j)
+                right = j;
+            else if(k >= i)
+                left = i;
+            else
+                return;
+        }
+    }
+
+    private void swap(final int i, final int j) {
+        int entry = entries[i];
+        entries[i] = entries[j];
+        entries[j] = entry;
+
+        for(int axis = 0; axis < DIMENSIONS; ++axis) {
+            float value = coordinates[DIMENSIONS * i + axis];
+            coordinates[DIMENSIONS * i + axis] = coordinates[DIMENSIONS * j + axis];
+            coordinates[DIMENSIONS * j + axis] = value;
+        }
+    }
+
+    private void search(final int from, final int to, final float[] target, final Neighbours neighbours) {
+        if(to - from <= 0)
+            return;
+
+        int median = (from + to) >>> 1;
+        float dx = target[0] - coordinates[DIMENSIONS * median];
+        float dy = target[1] - coordinates[DIMENSIONS * median + 1];
+        float dz = target[2] - coordinates[DIMENSIONS * median + 2];
+        neighbours.offer(median, dx * dx + dy * dy + dz * dz);
+
+        int axis = axes[median];
+        float difference = target[axis] - coordinates[DIMENSIONS * median + axis];
+        if(difference < 0) {
+            search(from, median, target, neighbours);
+            if(difference * difference < neighbours.farthestDistance())
+                search(median + 1, to, target, neighbours);
+        } else {
+            search(median + 1, to, target, neighbours);
+            if(difference * difference < neighbours.farthestDistance())
+                search(from, median, target, neighbours);
+        }
+    }
+
+    /**
+     * <p>The k closest colours found by a query so far, in a max-heap by distance.</p>
+     */
+    private final class Neighbours {
+
+        private final float[] distances;
+        private final int[] positions;
+        private int size;
+
+        private Neighbours(final int k) {
+            this.distances = new float[k];
+            this.positions = new int[k];
+        }
+
+        private float farthestDistance() {
+            return size < distances.length ? Float.POSITIVE_INFINITY : distances[0];
+        }
+
+        private void offer(final int position, final float distance) {
+            if(size < distances.length) {
+                int i = size++;
+                while(i > 0 && distances[(i - 1) / 2] < distance) {
+                    distances[i] = distances[(i - 1) / 2];
+                    positions[i] = positions[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                distances[i] = distance;
+                positions[i] = position;
+            } else if(distance < distances[0]) {
+                siftDown(position, distance);
+            }
+        }
+
+        private void siftDown(final int position, final float distance) {
+            int i = 0;
+            while(2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if(child + 1 < size && distances[child + 1] > distances[child])
+                    ++child;
+                if(distances[child] <= distance)
+                    break;
+
+                distances[i] = distances[child];
+                positions[i] = positions[child];
+                i = child;
+            }
+            distances[i] = distance;
+            positions[i] = position;
+        }
+
+        /**
+         * <p>Empties the heap, from the farthest colour to the closest one.</p>
+         */
+        private List<T> sortedColours() {
+            List<T> sorted = new ArrayList<>(size);
+            while(size > 0) {
+                sorted.add(colours.get(entries[positions[0]]));
+                --size;
+                siftDown(positions[size], distances[size]);
+            }
+
+            Collections.reverse(sorted);
+            return sorted;
+        }
+
+    }
+
+}
@@ -0,0 +1,200 @@
+package es.sfernandez.colour.utils;
+
+/**
+ * <p>Maths shared by the conversions between sRGB and the CIE XYZ, CIELAB and OKLAB colour spaces (and their polar
+ * forms, LCh and OKLCh).</p>
+ * <p>Every method writes its three results in an array from an offset, so the same code is used to create a single
+ * colour code and to convert arrays of colours in bulk, without allocating anything.</p>
+ * <p>Decoding the sRGB gamma (the first step of every conversion from RGB) needs a power per component. Components
+ * that are 8-bit levels (n / 255), which are the ones of colours read from images, hex codes or 8-bit buffers, take it
+ * from a precomputed table with the same result as the calculation (see {@link EightBitLevels}).</p>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/SRGB">sRGB in Wikipedia.</a>
+ * @see <a href="https://bottosson.github.io/posts/oklab/">OKLAB definition.</a>
+ *
+ * @author Sergio Fernández
+ */
+public final class ColourSpaceUtils {
+
+    //---- Constants and Definitions ----
+    /** X of the D65 reference white, the white of sRGB */
+    public static final float D65_WHITE_X = 0.95047f;
+    /** Y of the D65 reference white, the white of sRGB */
+    public static final float D65_WHITE_Y = 1f;
+    /** Z of the D65 reference white, the white of sRGB */
+    public static final float D65_WHITE_Z = 1.08883f;
+
+    private static final double LAB_EPSILON = 216.0 / 24389.0;
+    private static final double LAB_KAPPA = 24389.0 / 27.0;
+
+    private static final float[] LINEAR_LEVELS = new float[256];
+
+    static {
+        for(int level = 0; level < LINEAR_LEVELS.length; ++level)
+            LINEAR_LEVELS[level] = (float) decode(EightBitLevels.valueOf(level));
+    }
+
+    //---- Constructor ----
+    private ColourSpaceUtils() {}
+
+    //---- Methods ----
+    /**
+     * @param component gamma encoded sRGB component, between [0, 1]
+     * @return the linear light value of component, between [0, 1]
+     */
+    public static float toLinear(final float component) {
+        int level = EightBitLevels.levelOf(component);
+        if(level != EightBitLevels.NOT_FOUND)
+            return LINEAR_LEVELS[level];
+
+        return (float) decode(component);
+    }
+
+    /**
+     * @param linear linear light value of a sRGB component, which is clamped to [0, 1] if it's out of the gamut
+     * @return the gamma encoded sRGB component, between [0, 1]
+     */
+    public static float toGammaEncoded(final float linear) {
+        if(!(linear > 0f))
+            return 0f;
+        if(linear >= 1f)
+            return 1f;
+
+        return (float) (linear <= 0.0031308
+                ? linear * 12.92
+                : 1.055 * Math.pow(linear, 1 / 2.4) - 0.055);
+    }
+
+    /**
+     * <p>Converts gamma encoded sRGB components into CIE XYZ (D65, with Y between [0, 1]).</p>
+     */
+    public static void rgbToXyz(final float red, final float green, final float blue, final float[] xyz, final int offset) {
+        float r = toLinear(red);
+        float g = toLinear(green);
+        float b = toLinear(blue);
+
+        xyz[offset] = 0.4124564f * r + 0.3575761f * g + 0.1804375f * b;
+        xyz[offset + 1] = 0.2126729f * r + 0.7151522f * g + 0.0721750f * b;
+        xyz[offset + 2] = 0.0193339f * r + 0.1191920f * g + 0.9503041f * b;
+    }
+
+    /**
+     * <p>Converts CIE XYZ (D65, with Y between [0, 1]) into gamma encoded sRGB components. Colours out of the sRGB gamut
+     * are clipped, so the components are always between [0, 1].</p>
+     */
+    public static void xyzToRgb(final float x, final float y, final float z, final float[] rgb, final int offset) {
+        rgb[offset] = toGammaEncoded(3.2404542f * x - 1.5371385f * y - 0.4985314f * z);
+        rgb[offset + 1] = toGammaEncoded(-0.9692660f * x + 1.8760108f * y + 0.0415560f * z);
+        rgb[offset + 2] = toGammaEncoded(0.0556434f * x - 0.2040259f * y + 1.0572252f * z);
+    }
+
+    /**
+     * <p>Converts CIE XYZ (D65, with Y between [0, 1]) into CIELAB lightness (clamped to [0, 100]), a and b.</p>
+     */
+    public static void xyzToLab(final float x, final float y, final float z, final float[] lab, final int offset) {
+        double fx = labF(x / D65_WHITE_X);
+        double fy = labF(y / D65_WHITE_Y);
+        double fz = labF(z / D65_WHITE_Z);
+
+        lab[offset] = clamp((float) (116 * fy - 16), 100f);
+        lab[offset + 1] = (float) (500 * (fx - fy));
+        lab[offset + 2] = (float) (200 * (fy - fz));
+    }
+
+    /**
+     * <p>Converts CIELAB lightness, a and b into CIE XYZ (D65, with Y between [0, 1]).</p>
+     */
+    public static void labToXyz(final float lightness, final float a, final float b, final float[] xyz, final int offset) {
+        double fy = (lightness + 16) / 116.0;
+        double fx = fy + a / 500.0;
+        double fz = fy - b / 200.0;
+
+        xyz[offset] = (float) (D65_WHITE_X * labInverseF(fx));
+        xyz[offset + 1] = (float) (D65_WHITE_Y * labInverseF(fy));
+        xyz[offset + 2] = (float) (D65_WHITE_Z * labInverseF(fz));
+    }
+
+    /**
+     * <p>Converts gamma encoded sRGB components into OKLAB lightness (clamped to [0, 1]), a and b.</p>
+     */
+    public static void rgbToOkLab(final float red, final float green, final float blue, final float[] lab, final int offset) {
+        float r = toLinear(red);
+        float g = toLinear(green);
+        float b = toLinear(blue);
+
+        double l = Math.cbrt(0.4122214708 * r + 0.5363325363 * g + 0.0514459929 * b);
+        double m = Math.cbrt(0.2119034982 * r + 0.6806995451 * g + 0.1073969566 * b);
+        double s = Math.cbrt(0.0883024619 * r + 0.2817188376 * g + 0.6299787005 * b);
+
+        lab[offset] = clamp((float) (0.2104542553 * l + 0.7936177850 * m - 0.0040720468 * s), 1f);
+        lab[offset + 1] = (float) (1.9779984951 * l - 2.4285922050 * m + 0.4505937099 * s);
+        lab[offset + 2] = (float) (0.0259040371 * l + 0.7827717662 * m - 0.8086757660 * s);
+    }
+
+    /**
+     * <p>Converts OKLAB lightness, a and b into gamma encoded sRGB components. Colours out of the sRGB gamut are
+     * clipped, so the components are always between [0, 1].</p>
+     */
+    public static void okLabToRgb(final float lightness, final float a, final float b, final float[] rgb, final int offset) {
+        double l = cube(lightness + 0.3963377774 * a + 0.2158037573 * b);
+        double m = cube(lightness - 0.1055613458 * a - 0.0638541728 * b);
+        double s = cube(lightness - 0.0894841775 * a - 1.2914855480 * b);
+
+        rgb[offset] = toGammaEncoded((float) (4.0767416621 * l - 3.3077115913 * m + 0.2309699292 * s));
+        rgb[offset + 1] = toGammaEncoded((float) (-1.2684380046 * l + 2.6097574011 * m - 0.3413193965 * s));
+        rgb[offset + 2] = toGammaEncoded((float) (-0.0041960863 * l - 0.7034186147 * m + 1.7076147010 * s));
+    }
+
+    /**
+     * <p>Converts the cartesian a and b of a lab space (CIELAB or OKLAB) into its polar form: the lightness as it is,
+     * the chroma and the hue in degrees, between [0, 360).</p>
+     */
+    public static void labToLch(final float lightness, final float a, final float b, final float[] lch, final int offset) {
+        double hue = Math.toDegrees(Math.atan2(b, a));
+        float degrees = (float) (hue < 0 ? hue + 360 : hue);
+
+        lch[offset] = lightness;
+        lch[offset + 1] = (float) Math.sqrt((double) a * a + (double) b * b);
+        lch[offset + 2] = degrees < 360f ? degrees : 0f;
+    }
+
+    /**
+     * <p>Converts the polar form of a lab space (CIELAB or OKLAB), with the hue in degrees, into its lightness, a and
+     * b.</p>
+     */
+    public static void lchToLab(final float lightness, final float chroma, final float hue, final float[] lab, final int offset) {
+        double radians = Math.toRadians(hue);
+
+        lab[offset] = lightness;
+        lab[offset + 1] = (float) (chroma * Math.cos(radians));
+        lab[offset + 2] = (float) (chroma * Math.sin(radians));
+    }
+
+    private static double decode(final float component) {
+        return component <= 0.04045
+                ? component / 12.92
+                : Math.pow((component + 0.055) / 1.055, 2.4);
+    }
+
+    private static double labF(final double t) {
+        return t > LAB_EPSILON
+                ? Math.cbrt(t)
+                : (LAB_KAPPA * t + 16) / 116;
+    }
+
+    private static double labInverseF(final double f) {
+        double cube = f * f * f;
+        return cube > LAB_EPSILON
+                ? cube
+                : (116 * f - 16) / LAB_KAPPA;
+    }
+
+    private static double cube(final double value) {
+        return value * value * value;
+    }
+
+    private static float clamp(final float value, final float max) {
+        return Math.max(0f, Math.min(max, value));
+    }
+
+}
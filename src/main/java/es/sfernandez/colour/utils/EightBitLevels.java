@@ -0,0 +1,173 @@
+package es.sfernandez.colour.utils;
+
+import java.util.Arrays;
+
+/**
+ * <p>Lookup of the components of colours whose red, green and blue are 8-bit levels (n / 255), which are the ones of
+ * colours read from images, hex codes or 8-bit buffers, shared by the conversions that precompute their results for
+ * every 8-bit colour.</p>
+ * <p>The conversions into hue, saturation and lightness/brightness build their tables with
+ * {@link #hueTable(HueCalculation)} and {@link #maxMinTable(MaxMinCalculation)}, and look colours up with
+ * {@link #lookUp(float, float, float, short[], byte[], byte[])}. Saturation, lightness and brightness only depend on
+ * the max and min levels of the colour. The hue is keyed by the channel with the max level, the difference between the
+ * other two levels and the delta between max and min. A few keys don't give the same hue for every colour (because of
+ * float rounding), and those colours aren't found, so they have to be calculated.</p>
+ *
+ * @author Sergio Fernández
+ */
+public final class EightBitLevels {
+
+    //---- Constants and Definitions ----
+    /** Result of the lookups of values that aren't 8-bit levels or colours that aren't in the tables */
+    public static final int NOT_FOUND = -1;
+
+    private static final int LEVELS = 256;
+    private static final short AMBIGUOUS = -2;
+    private static final int DIFFS = 2 * LEVELS - 1;
+    private static final float[] VALUES = new float[LEVELS];
+
+    static {
+        for(int level = 0; level < LEVELS; ++level)
+            VALUES[level] = NumUtils.normalize(0, LEVELS - 1, level);
+    }
+
+    /**
+     * <p>Hue, in degrees, of a colour whose components are between [0, 1].</p>
+     */
+    @FunctionalInterface
+    public interface HueCalculation {
+        int hue(float red, float green, float blue, float max, float delta);
+    }
+
+    /**
+     * <p>Component of a colour that only depends on its max and min components, which are between [0, 1].</p>
+     */
+    @FunctionalInterface
+    public interface MaxMinCalculation {
+        int calculate(float max, float min);
+    }
+
+    //---- Constructor ----
+    private EightBitLevels() {}
+
+    //---- Methods ----
+    /**
+     * @param level 8-bit level, between [0, 255]
+     * @return the value of level, between [0, 1]
+     */
+    public static float valueOf(final int level) {
+        return VALUES[level];
+    }
+
+    /**
+     * @param value value between [0, 1]
+     * @return the 8-bit level whose value is exactly value, or {@link #NOT_FOUND} if there isn't any
+     */
+    public static int levelOf(final float value) {
+        int level = (int) (value * 255f + 0.5f);
+
+        return level >= 0 && level < LEVELS && VALUES[level] == value ? level : NOT_FOUND;
+    }
+
+    /**
+     * @return table with the hue of every 8-bit colour (but greys), keyed as {@link #lookUp} reads it
+     */
+    public static short[] hueTable(final HueCalculation calculation) {
+        short[] hues = new short[3 * LEVELS * DIFFS];
+        Arrays.fill(hues, (short) NOT_FOUND);
+
+        for(int r = 0; r < LEVELS; ++r) {
+            for(int g = 0; g < LEVELS; ++g) {
+                for(int b = 0; b < LEVELS; ++b) {
+                    int max = Math.max(r, Math.max(g, b));
+                    int min = Math.min(r, Math.min(g, b));
+                    if(max == min)
+                        continue;
+
+                    int key = hueKey(r, g, b, max, min);
+                    short hue = (short) calculation.hue(VALUES[r], VALUES[g], VALUES[b], VALUES[max], VALUES[max] - VALUES[min]);
+                    if(hues[key] == NOT_FOUND)
+                        hues[key] = hue;
+                    else if(hues[key] != hue)
+                        hues[key] = AMBIGUOUS;
+                }
+            }
+        }
+
+        return hues;
+    }
+
+    /**
+     * @return table with the result of calculation (between [0, 127]) for every pair of max and min 8-bit levels
+     */
+    public static byte[] maxMinTable(final MaxMinCalculation calculation) {
+        byte[] table = new byte[LEVELS * LEVELS];
+        for(int max = 0; max < LEVELS; ++max)
+            for(int min = 0; min <= max; ++min)
+                table[max * LEVELS + min] = (byte) calculation.calculate(VALUES[max], VALUES[min]);
+
+        return table;
+    }
+
+    /**
+     * @param hues table built with {@link #hueTable(HueCalculation)}
+     * @param saturations table built with {@link #maxMinTable(MaxMinCalculation)}
+     * @param thirds table of the lightness or brightness, built with {@link #maxMinTable(MaxMinCalculation)}
+     * @return hue, saturation and lightness or brightness of the colour packed in an int (see {@link #hueOf(int)},
+     * {@link #saturationOf(int)} and {@link #thirdOf(int)}), or {@link #NOT_FOUND} if it isn't in the tables
+     */
+    public static int lookUp(final float red, final float green, final float blue,
+                             final short[] hues, final byte[] saturations, final byte[] thirds) {
+        int r = levelOf(red);
+        int g = levelOf(green);
+        int b = levelOf(blue);
+        if((r | g | b) < 0)
+            return NOT_FOUND;
+
+        int max = Math.max(r, Math.max(g, b));
+        int min = Math.min(r, Math.min(g, b));
+        int hue = max == min ? 0 : hues[hueKey(r, g, b, max, min)];
+        if(hue == AMBIGUOUS)
+            return NOT_FOUND;
+
+        return hue | saturations[max * LEVELS + min] << 9 | thirds[max * LEVELS + min] << 16;
+    }
+
+    /**
+     * @return hue of a colour packed by {@link #lookUp}
+     */
+    public static int hueOf(final int packed) {
+        return packed & 0x1FF;
+    }
+
+    /**
+     * @return saturation of a colour packed by {@link #lookUp}
+     */
+    public static int saturationOf(final int packed) {
+        return (packed >>> 9) & 0x7F;
+    }
+
+    /**
+     * @return lightness or brightness of a colour packed by {@link #lookUp}
+     */
+    public static int thirdOf(final int packed) {
+        return packed >>> 16;
+    }
+
+    private static int hueKey(final int r, final int g, final int b, final int max, final int min) {
+        int channel, diff;
+        if(max == r) {
+            channel = 0;
+            diff = g - b;
+        } else if(max == g) {
+            channel = 1;
+            diff = b - r;
+        } else {
+            channel = 2;
+            diff = r - g;
+        }
+
+        return (channel * LEVELS + max - min) * DIFFS + diff + LEVELS - 1;
+    }
+
+}
@@ -15,6 +15,17 @@ public class NumUtils {
         return max;
     }
 
+    public static float max(final float a, final float b, final float c) {
+        float max = a;
+
+        if(max < b)
+            max = b;
+        if(max < c)
+            max = c;
+
+        return max;
+    }
+
     public static float min(final float ... numbers) {
         if(numbers == null || numbers.length == 0)
             throw new IllegalArgumentException("Error. It's necessary to specify at least one number");
@@ -28,6 +39,17 @@ public class NumUtils {
         return min;
     }
 
+    public static float min(final float a, final float b, final float c) {
+        float min = a;
+
+        if(min > b)
+            min = b;
+        if(min > c)
+            min = c;
+
+        return min;
+    }
+
     public static float round(final float number, final int numOfDecimals) {
         float offset = (float) Math.pow(10.0, numOfDecimals);
         return Math.round(number * offset) / offset;
@@ -50,7 +72,7 @@ public class NumUtils {
         if(isNotBetween(0f, 1f, number))
             throw new IllegalArgumentException(number + " is out of range [0, 1], it's not possible to denormalize it.");
 
-        return (int) round((number * max + min * (1 - number)), 0);
+        return Math.round(number * max + min * (1 - number));
     }
 
     public static boolean isBetween(int min, int max, int number) {
@@ -115,4 +115,28 @@ class ColourTest {
         assertThat(colourGreenAsHexCode.hashCode()).isNotEqualTo(colourRedAsRgbCode.hashCode());
     }
 
-}
\ No newline at end of file
+    @Test
+    void coloursAreDifferent_ifTheyOnlyDifferInOpacityTest() {
+        Colour opaqueGreen = new Colour(greenRgbCode);
+        Colour transparentGreen = new Colour(new RgbCode(0f, 1f, 0f, 0.5f));
+
+        assertThat(opaqueGreen).isNotEqualTo(transparentGreen);
+    }
+
+    @Test
+    void fullyTransparentBlackColours_areEqual_noMatterTheirCodificationTest() {
+        Colour transparentBlackAsRgbCode = new Colour(new RgbCode(0, 0, 0, 0));
+        Colour transparentBlackAsHexCode = new Colour(new HexCode("#00000000"));
+
+        assertThat(transparentBlackAsRgbCode).isEqualTo(transparentBlackAsHexCode);
+        assertThat(transparentBlackAsRgbCode.hashCode()).isEqualTo(transparentBlackAsHexCode.hashCode());
+    }
+
+    @Test
+    void hashCode_isTheSame_everyTimeItIsCalledTest() {
+        Colour colour = new Colour(new HslCodeFixtures().green());
+
+        assertThat(colour.hashCode()).isEqualTo(colour.hashCode());
+    }
+
+}
@@ -1,6 +1,7 @@
 package es.sfernandez.colour;
 
 import es.sfernandez.colour.codifications.AcceptedByCssColourCode;
+import es.sfernandez.colour.codifications.CssColourCodeCache;
 import es.sfernandez.colour.codifications.HexCode;
 import es.sfernandez.colour.codifications.HslCode;
 import es.sfernandez.colour.codifications.RgbCode;
@@ -28,7 +29,8 @@ class WebColourTest {
                 "hls(0,0,0)", "hsl[0,0,0]", "hsl(0)", "hsl(-1,0,0)", "hsl(0,0.5,0)", "hsl(90,0%,45)", // hsl
                 "hlsa(0,0,0,0)", "hsla[0,0,0,0]", "hsla(0)", "hsl(0,0,0,0)", "hsla(0,0,0,-0.5)", "hsla(0,0,0,0,5)", // hsla
                 "rgv(0,0,0)", "rgb[0,0,0]", "rgb(0)", "rgb(-1,0,0)", "rgb(0,0.5,0)", // rgb
-                "rgv(0,0,0,0)", "rgba[0,0,0,0]", "rgba(0)", "rgb(0,0,0,0)", "rgba(0,0,0,-0.5)", "rgba(0,0,0,0,5)" // rgba
+                "rgv(0,0,0,0)", "rgba[0,0,0,0]", "rgba(0)", "rgb(0,0,0,0)", "rgba(0,0,0,-0.5)", "rgba(0,0,0,0,5)", // rgba
+                "rgb(256,0,0)", "rgba(0,300,0,0.5)", "hsl(361,0%,0%)", "hsl(0,101%,0%)", "hsla(0,0%,101%,0.5)" // out of range
         );
     }
 
@@ -126,4 +128,25 @@ class WebColourTest {
         assertThat(WebColour.from(cssCode)).isEqualTo(expectedColour);
     }
 
-}
\ No newline at end of file
+    @ParameterizedTest
+    @MethodSource(value = "validCssColourCodesWithColourInstance")
+    void from_validCssColourCode_usingCache_worksTest(final String cssCode, final Colour expectedColour) {
+        CssColourCodeCache cache = new CssColourCodeCache(10);
+
+        assertThat(WebColour.from(cssCode, cache)).isEqualTo(expectedColour);
+        assertThat(WebColour.from(cssCode, cache)).isEqualTo(expectedColour);
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = "notValidCssColourCodes")
+    void from_notCssColourCode_usingCache_throwsIllegalArgumentExceptionTest(final String cssCode) {
+        assertThrows(IllegalArgumentException.class, () -> WebColour.from(cssCode, new CssColourCodeCache(10)));
+    }
+
+    @Test
+    void from_withoutCache_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> WebColour.from("#FFF", null));
+    }
+
+}
@@ -0,0 +1,199 @@
+package es.sfernandez.colour.buffer;
+
+import es.sfernandez.colour.codifications.CmykCode;
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.HsvCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColourBufferTest {
+
+    //---- Constants and Definitions ----
+    private static final int SIZE = 100;
+
+    //---- Fixtures ----
+    private static RgbCode[] randomRgbCodes(final int size) {
+        Random rnd = new Random(size);
+        RgbCode[] codes = new RgbCode[size];
+
+        for(int i = 0; i < size; ++i)
+            codes[i] = RgbCode.ofArgb(rnd.nextInt());
+
+        return codes;
+    }
+
+    private static ColourBuffer rgbBufferOf(final RgbCode[] codes) {
+        ColourBuffer buffer = new ColourBuffer(RgbCode.class, codes.length);
+        for(int i = 0; i < codes.length; ++i)
+            buffer.set(i, codes[i]);
+
+        return buffer;
+    }
+
+    private static Stream<Arguments> spacePairs() {
+        return ColourBuffer.SUPPORTED_SPACES.stream()
+                .flatMap(from -> ColourBuffer.SUPPORTED_SPACES.stream()
+                        .map(to -> Arguments.of(from.getSimpleName(), to.getSimpleName(), from, to)));
+    }
+
+    //---- Tests ----
+    @Test
+    void create_withNotSupportedSpace_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ColourBuffer(HexCode.class, SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new ColourBuffer(null, SIZE));
+    }
+
+    @Test
+    void create_withNegativeSize_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ColourBuffer(RgbCode.class, -1));
+    }
+
+    @Test
+    void create_withSizeWhosePlanesDoNotFitInAnArray_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ColourBuffer(RgbCode.class, 1 << 30));
+        assertThrows(IllegalArgumentException.class, () -> new ColourBuffer(RgbCode.class, 600_000_000));
+    }
+
+    @Test
+    void wrap_arrayWithoutEnoughComponents_throwsIllegalArgumentExceptionTest() {
+        float[] planes = new float[ColourBuffer.COMPONENTS * SIZE - 1];
+
+        assertThrows(IllegalArgumentException.class, () -> ColourBuffer.wrap(RgbCode.class, planes, SIZE));
+        assertThrows(IllegalArgumentException.class, () -> ColourBuffer.wrap(RgbCode.class, null, SIZE));
+    }
+
+    @Test
+    void wrap_usesTheArrayWithoutCopyingItTest() {
+        float[] planes = new float[ColourBuffer.COMPONENTS * SIZE];
+        ColourBuffer buffer = ColourBuffer.wrap(HslCode.class, planes, SIZE);
+
+        planes[2 * SIZE + 5] = 0.5f;
+        buffer.set(7, 0, 0.25f);
+
+        assertThat(buffer.array()).isSameAs(planes);
+        assertThat(buffer.get(5, 2)).isEqualTo(0.5f);
+        assertThat(planes[7]).isEqualTo(0.25f);
+    }
+
+    @Test
+    void newBuffer_hasEveryComponentEqualToZeroTest() {
+        ColourBuffer buffer = new ColourBuffer(CmykCode.class, SIZE);
+
+        assertThat(buffer.size()).isEqualTo(SIZE);
+        assertThat(buffer.space()).isEqualTo(CmykCode.class);
+        assertThat(buffer.get(SIZE - 1)).isEqualTo(new CmykCode(0f, 0f, 0f, 0f));
+    }
+
+    @Test
+    void getAndSet_outOfBounds_throwIndexOutOfBoundsExceptionTest() {
+        ColourBuffer buffer = new ColourBuffer(RgbCode.class, SIZE);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0, ColourBuffer.COMPONENTS));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, 0, 0f));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(SIZE, new RgbCode(0, 0, 0)));
+    }
+
+    @Test
+    void set_nullColourCode_throwsIllegalArgumentExceptionTest() {
+        ColourBuffer buffer = new ColourBuffer(RgbCode.class, SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> buffer.set(0, (ColourCode) null));
+    }
+
+    @Test
+    void set_colourCodeOfAnotherSpace_storesItConvertedTest() {
+        ColourBuffer buffer = new ColourBuffer(HsvCode.class, SIZE);
+        HexCode hex = new HexCode("#3A7BD5");
+
+        buffer.set(3, hex);
+
+        assertThat(buffer.get(3)).isEqualTo(ColourCodeConverter.defaultConverter().convert(hex, HsvCode.class));
+        assertThat(buffer.getRgb(3)).isEqualTo(ColourCodeConverter.defaultConverter().convert(buffer.get(3), RgbCode.class));
+    }
+
+    @Test
+    void setComponents_areReadOneByOneTest() {
+        ColourBuffer buffer = new ColourBuffer(RgbCode.class, SIZE);
+
+        buffer.set(10, 0.1f, 0.2f, 0.3f, 0.4f);
+
+        assertThat(buffer.get(10, 0)).isEqualTo(0.1f);
+        assertThat(buffer.get(10, 1)).isEqualTo(0.2f);
+        assertThat(buffer.get(10, 2)).isEqualTo(0.3f);
+        assertThat(buffer.get(10, 3)).isEqualTo(0.4f);
+    }
+
+    @Test
+    void toArgb_packsEveryColourAsItsRgbCodeTest() {
+        RgbCode[] codes = randomRgbCodes(SIZE);
+        int[] argb = new int[SIZE + 1];
+
+        rgbBufferOf(codes).toArgb(argb, 1);
+
+        assertThat(argb[0]).isZero();
+        for(int i = 0; i < SIZE; ++i)
+            assertThat(argb[i + 1]).isEqualTo(codes[i].toArgb());
+    }
+
+    @Test
+    void toArgb_componentsOutOfRange_areClampedTest() {
+        ColourBuffer buffer = new ColourBuffer(RgbCode.class, 2);
+        buffer.set(0, 1.003f, 0f, 0f, 1f);
+        buffer.set(1, -0.5f, 0.5f, Float.NaN, 1.5f);
+        int[] argb = new int[2];
+
+        buffer.toArgb(argb, 0);
+
+        assertThat(argb).containsExactly(0xFFFF0000, 0xFF008000);
+    }
+
+    @Test
+    void toArgb_invalidArguments_throwsExceptionTest() {
+        ColourBuffer buffer = new ColourBuffer(HslCode.class, SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> buffer.toArgb(null, 0));
+        assertThrows(IllegalStateException.class, () -> buffer.toArgb(new int[SIZE], 0));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new ColourBuffer(RgbCode.class, SIZE).toArgb(new int[SIZE], 1));
+    }
+
+    @Test
+    void convertTo_notSupportedSpace_throwsIllegalArgumentExceptionTest() {
+        ColourBuffer buffer = new ColourBuffer(RgbCode.class, SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> buffer.convertTo(HexCode.class));
+    }
+
+    @ParameterizedTest(name = "{0} to {1}")
+    @MethodSource("spacePairs")
+    void convertTo_convertsEveryColourAsTheConverterTest(String fromName, String toName,
+                                                          Class<? extends ColourCode> from, Class<? extends ColourCode> to) {
+        ColourCodeConverter converter = ColourCodeConverter.defaultConverter();
+        RgbCode[] codes = randomRgbCodes(SIZE);
+        ColourBuffer buffer = rgbBufferOf(codes);
+        buffer.convertTo(from);
+        ColourCode[] expected = new ColourCode[SIZE];
+        for(int i = 0; i < SIZE; ++i)
+            expected[i] = converter.convert(buffer.get(i), to);
+
+        buffer.convertTo(to);
+
+        assertThat(buffer.space()).isEqualTo(to);
+        for(int i = 0; i < SIZE; ++i)
+            assertThat(buffer.get(i)).isEqualTo(expected[i]);
+    }
+
+}
@@ -0,0 +1,146 @@
+package es.sfernandez.colour.buffer;
+
+import es.sfernandez.colour.buffer.OffHeapColourStore.Format;
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapColourStoreTest {
+
+    //---- Constants and Definitions ----
+    private static final int SIZE = 50;
+
+    //---- Tests ----
+    @Test
+    void allocate_withoutFormat_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> OffHeapColourStore.allocate(null, SIZE));
+    }
+
+    @Test
+    void allocate_negativeOrTooManyColours_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> OffHeapColourStore.allocate(Format.RGBA8, -1));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapColourStore.allocate(Format.RGBA_FLOAT32, Integer.MAX_VALUE / 8));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void allocate_createsDirectBufferWithEveryColourToZeroTest(Format format) {
+        OffHeapColourStore store = OffHeapColourStore.allocate(format, SIZE);
+
+        assertThat(store.size()).isEqualTo(SIZE);
+        assertThat(store.format()).isEqualTo(format);
+        assertThat(store.buffer().isDirect()).isTrue();
+        assertThat(store.buffer().capacity()).isEqualTo(SIZE * format.bytesPerColour());
+        assertThat(store.get(SIZE - 1)).isEqualTo(new RgbCode(0f, 0f, 0f, 0f));
+    }
+
+    @Test
+    void wrap_bufferWithIncompleteColours_throwsIllegalArgumentExceptionTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Format.RGBA_FLOAT32.bytesPerColour() + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> OffHeapColourStore.wrap(Format.RGBA_FLOAT32, buffer));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapColourStore.wrap(Format.RGBA8, null));
+    }
+
+    @Test
+    void wrap_sharesTheBytesOfTheBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        buffer.put(0, new byte[] {(byte) 0xFF, 0x00, (byte) 0x80, (byte) 0xFF, 0, 0, 0, 0});
+
+        OffHeapColourStore store = OffHeapColourStore.wrap(Format.RGBA8, buffer);
+        store.set(1, new RgbCode(0, 255, 0));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.get(0)).isEqualTo(new RgbCode(255, 0, 128));
+        assertThat(buffer.get(5)).isEqualTo((byte) 0xFF);
+    }
+
+    @Test
+    void wrap_readsFloatsWithTheByteOrderOfTheBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocate(Format.RGBA_FLOAT32.bytesPerColour()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putFloat(0, 0.25f).putFloat(4, 0.5f).putFloat(8, 0.75f).putFloat(12, 1f);
+
+        OffHeapColourStore store = OffHeapColourStore.wrap(Format.RGBA_FLOAT32, buffer);
+
+        assertThat(store.get(0, 0)).isEqualTo(0.25f);
+        assertThat(store.get(0, 2)).isEqualTo(0.75f);
+    }
+
+    @Test
+    void wrap_onlyUsesTheRemainingBytesOfTheBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3 * Format.RGBA8.bytesPerColour());
+        buffer.position(Format.RGBA8.bytesPerColour());
+
+        OffHeapColourStore store = OffHeapColourStore.wrap(Format.RGBA8, buffer);
+        store.set(0, 0, 1f);
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(buffer.get(Format.RGBA8.bytesPerColour())).isEqualTo((byte) 0xFF);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void getAndSet_outOfBounds_throwIndexOutOfBoundsExceptionTest(Format format) {
+        OffHeapColourStore store = OffHeapColourStore.allocate(format, SIZE);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.set(-1, 0, 0f));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void set_notNormalizedComponent_throwsIllegalArgumentExceptionTest(Format format) {
+        OffHeapColourStore store = OffHeapColourStore.allocate(format, SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> store.set(0, 0, 1.5f));
+        assertThrows(IllegalArgumentException.class, () -> store.set(0, (ColourCode) null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void set_colourCode_isReadAsTheSameColourTest(Format format) {
+        OffHeapColourStore store = OffHeapColourStore.allocate(format, SIZE);
+        HexCode hex = new HexCode("#3A7BD580");
+
+        store.set(7, hex);
+
+        assertThat(store.get(7, HexCode.class)).isEqualTo(hex);
+        assertThat(store.get(7, HslCode.class)).isEqualTo(ColourCodeConverter.defaultConverter().convert(hex, HslCode.class));
+    }
+
+    @Test
+    void rgba8Component_isRoundedToTheNearestLevelTest() {
+        OffHeapColourStore store = OffHeapColourStore.allocate(Format.RGBA8, SIZE);
+
+        store.set(0, 1, 0.5f);
+
+        assertThat(store.get(0, 1)).isEqualTo(128 / 255f);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void toColourBuffer_containsEveryColourConvertedTest(Format format) {
+        OffHeapColourStore store = OffHeapColourStore.allocate(format, SIZE);
+        for(int i = 0; i < SIZE; ++i)
+            store.set(i, RgbCode.ofArgb(0xFF000000 | i * 0x030507));
+
+        ColourBuffer buffer = store.toColourBuffer(HslCode.class);
+
+        assertThat(buffer.space()).isEqualTo(HslCode.class);
+        for(int i = 0; i < SIZE; ++i)
+            assertThat(buffer.get(i)).isEqualTo(store.get(i, HslCode.class));
+    }
+
+}
@@ -6,6 +6,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -161,6 +164,17 @@ class CmykCodeTest {
         assertThat(cmyk.toCode()).isEqualTo("C3 M0 Y19 K100");
     }
 
+    @Test
+    void appendCode_writesTheCodeAtTheEndTest() throws IOException {
+        CmykCode cmyk = new CmykCode(3, 0, 19, 100);
+        StringWriter writer = new StringWriter();
+
+        cmyk.appendCode((Appendable) writer);
+
+        assertThat(cmyk.appendCode(new StringBuilder("cmyk: ")).toString()).isEqualTo("cmyk: C3 M0 Y19 K100");
+        assertThat(writer.toString()).isEqualTo("C3 M0 Y19 K100");
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     void createFromNullOrEmptyRepresentation_throwsIllegalArgumentExceptionTest(final String notValidRepresentation) {
@@ -0,0 +1,46 @@
+package es.sfernandez.colour.codifications;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColourCodeFormatterTest {
+
+    //---- Tests ----
+    @Test
+    void appendNumber_isTheSameAsFormattedTest() throws IOException {
+        for(int number = 0; number < 1000; ++number) {
+            StringBuilder builder = new StringBuilder();
+            ColourCodeFormatter.appendNumber(builder, number);
+
+            assertThat(builder.toString()).isEqualTo(String.format(Locale.US, "%d", number));
+        }
+    }
+
+    @Test
+    void appendAlpha_isTheSameAsFormattedTest() throws IOException {
+        Random rnd = new Random(17);
+
+        for(int i = 0; i <= 100_000; ++i) {
+            float alpha = i % 2 == 0 ? i / 100_000f : rnd.nextFloat();
+            StringBuilder builder = new StringBuilder();
+            ColourCodeFormatter.appendAlpha(builder, alpha);
+
+            assertThat(builder.toString()).as("alpha %s", alpha).isEqualTo(String.format(Locale.US, "%.2f", alpha));
+        }
+    }
+
+    @Test
+    void appendAlpha_halfHundredth_isRoundedUpTest() throws IOException {
+        StringBuilder builder = new StringBuilder();
+
+        ColourCodeFormatter.appendAlpha(builder, 0.125f);
+
+        assertThat(builder.toString()).isEqualTo("0.13");
+    }
+
+}
@@ -0,0 +1,86 @@
+package es.sfernandez.colour.codifications;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CssColourCodeCacheTest {
+
+    //---- Tests ----
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void createWith_notPositiveMaximumSize_throwsIllegalArgumentExceptionTest(int maximumSize) {
+        assertThrows(IllegalArgumentException.class, () -> new CssColourCodeCache(maximumSize));
+    }
+
+    @Test
+    void fromCssCode_returnsTheSameCodeAsParsingItTest() {
+        CssColourCodeCache cache = new CssColourCodeCache(10);
+
+        assertThat(cache.fromCssCode("rgb(63, 127, 88)")).contains(new RgbCode(63, 127, 88));
+        assertThat(cache.fromCssCode("#AE12FA")).contains(new HexCode("#AE12FA"));
+        assertThat(cache.fromCssCode("hsl(63, 27%, 88%)")).contains(new HslCode(63, 27, 88));
+    }
+
+    @Test
+    void fromCssCode_ofNotValidCssCode_returnsEmptyTest() {
+        CssColourCodeCache cache = new CssColourCodeCache(10);
+
+        assertThat(cache.fromCssCode(null)).isEmpty();
+        assertThat(cache.fromCssCode("rgb(256, 0, 0)")).isEmpty();
+        assertThat(cache.fromCssCode("rgb(256, 0, 0)")).isEmpty();
+    }
+
+    @Test
+    void fromCssCode_ofRepeatedCssCode_returnsTheCachedInstanceTest() {
+        CssColourCodeCache cache = new CssColourCodeCache(10);
+
+        AcceptedByCssColourCode first = cache.fromCssCode("#FFF").orElseThrow();
+        AcceptedByCssColourCode second = cache.fromCssCode("#FFF").orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void fromCssCode_whenCacheIsFull_evictsTheLeastRecentlyUsedCodeTest() {
+        CssColourCodeCache cache = new CssColourCodeCache(1);
+
+        cache.fromCssCode("#000");
+        cache.fromCssCode("#FFF");
+        cache.fromCssCode("#000");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.evictions()).isEqualTo(2);
+        assertThat(cache.misses()).isEqualTo(3);
+    }
+
+    @Test
+    void size_neverExceedsMaximumSizeTest() {
+        CssColourCodeCache cache = new CssColourCodeCache(50);
+
+        IntStream.range(0, 1000).parallel()
+                .forEach(i -> cache.fromCssCode("rgb(" + (i % 256) + ", " + (i / 256) + ", 0)"));
+
+        assertThat(cache.size()).isLessThanOrEqualTo(cache.maximumSize());
+        assertThat(cache.hits() + cache.misses()).isEqualTo(1000);
+        assertThat(cache.evictions()).isEqualTo(1000 - cache.size());
+    }
+
+    @Test
+    void clear_removesEveryCachedCodeTest() {
+        CssColourCodeCache cache = new CssColourCodeCache(10);
+        cache.fromCssCode("#FFF");
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+    }
+
+}
@@ -0,0 +1,69 @@
+package es.sfernandez.colour.codifications;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CssColourCodeScannerTest {
+
+    //---- Fixtures ----
+    private static Stream<String> codes() {
+        return Stream.of("", "#", "#F", "#FFF", "FFF", "#fFaA", "#12345", "#123456", "#1234567", "#12345678", "#123456789",
+                "#GGG", " #FFF", "#FFF ", "rgb", "hsl",
+                "rgb(0,0,0)", "rgb( 1 , 22 , 255 )", "rgb(\t1,\n2,\r3\f)", "rgb(1234,0,0)", "rgb(999,0,0)", "rgb(,0,0)",
+                "rgb(0,0,0", "rgb(0,0,0))", " rgb(0,0,0)", "rgb (0,0,0)", "rgb(0,0,0,0)", "rgb(0%,0,0)", "RGB(0,0,0)",
+                "rgba(0,0,0,0)", "rgba(0,0,0,1)", "rgba(0,0,0,0.5)", "rgba(0,0,0,0.05)", "rgba(0,0,0, 0.18 )",
+                "rgba(0,0,0,0.)", "rgba(0,0,0,.5)", "rgba(0,0,0,0.123)", "rgba(0,0,0,1.0)", "rgba(0,0,0,2)", "rgba(0,0,0)",
+                "hsl(0,0%,0%)", "hsl( 360 , 100% , 100% )", "hsl(0,0,0)", "hsl(0%,0%,0%)", "hsl(0,0 %,0%)", "hsl(0,0%,0%,0)",
+                "hsla(0,0%,0%,0)", "hsla(10,20%,30%,0.99)", "hsla(10,20%,30%,1)", "hsla(10,20%,30%)", "hsla(10,20%,30%,0.5 )"
+        );
+    }
+
+    //---- Tests ----
+    @ParameterizedTest
+    @MethodSource("codes")
+    void scanHex_acceptsTheSameCodesAsHexCodePatternTest(String code) {
+        Matcher matcher = HexCode.HEX_CODE_PATTERN.matcher(code);
+
+        if(matcher.matches())
+            assertThat(CssColourCodeScanner.scanHex(code)).isEqualTo(matcher.group(1).toUpperCase());
+        else
+            assertThat(CssColourCodeScanner.scanHex(code)).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("codes")
+    void scanRgb_acceptsTheSameCodesAsRgbCodePatternsTest(String code) {
+        assertScannedValuesMatch(CssColourCodeScanner.scanRgb(code), code,
+                RgbCode.CSS_CODE_PATTERN, RgbCode.CSS_CODE_WITH_TRANSPARENCY_PATTERN);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codes")
+    void scanHsl_acceptsTheSameCodesAsHslCodePatternsTest(String code) {
+        assertScannedValuesMatch(CssColourCodeScanner.scanHsl(code), code,
+                HslCode.CSS_CODE_PATTERN, HslCode.CSS_CODE_WITH_TRANSPARENCY_PATTERN);
+    }
+
+    private static void assertScannedValuesMatch(int[] scannedValues, String code, Pattern opaquePattern, Pattern transparentPattern) {
+        Matcher opaqueMatcher = opaquePattern.matcher(code);
+        Matcher transparentMatcher = transparentPattern.matcher(code);
+
+        if(opaqueMatcher.matches())
+            assertThat(scannedValues).containsExactly(
+                    Integer.parseInt(opaqueMatcher.group(1)), Integer.parseInt(opaqueMatcher.group(2)),
+                    Integer.parseInt(opaqueMatcher.group(3)), 100);
+        else if(transparentMatcher.matches())
+            assertThat(scannedValues).containsExactly(
+                    Integer.parseInt(transparentMatcher.group(1)), Integer.parseInt(transparentMatcher.group(2)),
+                    Integer.parseInt(transparentMatcher.group(3)), Math.round(Float.parseFloat(transparentMatcher.group(4)) * 100));
+        else
+            assertThat(scannedValues).isNull();
+    }
+
+}
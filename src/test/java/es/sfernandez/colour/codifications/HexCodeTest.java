@@ -171,4 +171,27 @@ class HexCodeTest {
         assertThat(code1.hashCode()).isNotEqualTo(code3.hashCode());
     }
 
-}
\ No newline at end of file
+    @Test
+    void toArgb_ofSimplifiedHexCode_expandsEveryDigitTest() {
+        assertThat(new HexCode("#1A2").toArgb()).isEqualTo(0xFF11AA22);
+        assertThat(new HexCode("#1A28").toArgb()).isEqualTo(0x8811AA22);
+    }
+
+    @Test
+    void ofArgb_fullyOpaque_omitsOpacityTest() {
+        assertThat(HexCode.ofArgb(0xFF0A0B0C).toCssCode()).isEqualTo("#0A0B0C");
+    }
+
+    @Test
+    void ofArgb_withOpacityLowerThanSixteen_keepsLeadingZeroTest() {
+        assertThat(HexCode.ofArgb(0x050A0B0C).toCssCode()).isEqualTo("#0A0B0C05");
+    }
+
+    @Test
+    void ofArgb_isTheInverseOfToArgbTest() {
+        HexCode code = new HexCode("#AB12CD34");
+
+        assertThat(HexCode.ofArgb(code.toArgb())).isEqualTo(code);
+    }
+
+}
@@ -6,6 +6,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -182,6 +187,31 @@ class HslCodeTest {
         assertThat(hsl.toCssCode()).isEqualTo("hsla(3, 9%, 19%, 0.95)");
     }
 
+    @Test
+    void appendCssCode_writesTheCssCodeAtTheEndTest() throws IOException {
+        HslCode hsl = new HslCode(300, 9, 19, 50);
+        StringWriter writer = new StringWriter();
+
+        hsl.appendCssCode((Appendable) writer);
+
+        assertThat(hsl.appendCssCode(new StringBuilder("color: ")).toString()).isEqualTo("color: hsla(300, 9%, 19%, 0.50)");
+        assertThat(writer.toString()).isEqualTo("hsla(300, 9%, 19%, 0.50)");
+    }
+
+    @Test
+    void cssCode_isTheSameAsFormattedTest() {
+        Random rnd = new Random(17);
+
+        for(int i = 0; i < 10_000; ++i) {
+            HslCode hsl = new HslCode(rnd.nextFloat(), rnd.nextFloat(), rnd.nextFloat(), i % 2 == 0 ? 1f : rnd.nextFloat());
+            String expected = hsl.isOpaque()
+                    ? String.format(Locale.US, "hsl(%d, %d%%, %d%%)", hsl.hueDegrees(), hsl.saturationPercentage(), hsl.lightnessPercentage())
+                    : String.format(Locale.US, "hsla(%d, %d%%, %d%%, %.2f)", hsl.hueDegrees(), hsl.saturationPercentage(), hsl.lightnessPercentage(), hsl.alpha());
+
+            assertThat(hsl.toCssCode()).isEqualTo(expected);
+        }
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     void createFromNullOrEmptyCssCode_throwsIllegalArgumentExceptionTest(final String notValidHslCode) {
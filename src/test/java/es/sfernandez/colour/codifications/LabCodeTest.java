@@ -0,0 +1,39 @@
+package es.sfernandez.colour.codifications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LabCodeTest {
+
+    @Test
+    void createWith_lightnessValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new LabCode(-1f, 0f, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LabCode(100.1f, 0f, 0f));
+    }
+
+    @Test
+    void createWith_notFiniteAOrBValue_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new LabCode(50f, Float.NaN, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LabCode(50f, 0f, Float.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void createWith_alphaValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new LabCode(50f, 0f, 0f, -0.1f));
+        assertThrows(IllegalArgumentException.class, () -> new LabCode(50f, 0f, 0f, 1.1f));
+    }
+
+    @Test
+    void createWith_negativeAAndBValues_worksTest() {
+        assertDoesNotThrow(() -> new LabCode(50f, -120f, -200f));
+    }
+
+    @Test
+    void createWithoutAlpha_isOpaqueTest() {
+        assertThat(new LabCode(50f, 10f, 10f).isOpaque()).isTrue();
+    }
+
+}
@@ -0,0 +1,39 @@
+package es.sfernandez.colour.codifications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OkLabCodeTest {
+
+    @Test
+    void createWith_lightnessValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OkLabCode(-0.1f, 0f, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLabCode(1.1f, 0f, 0f));
+    }
+
+    @Test
+    void createWith_notFiniteAOrBValue_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OkLabCode(0.5f, Float.NaN, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLabCode(0.5f, 0f, Float.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void createWith_alphaValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OkLabCode(0.5f, 0f, 0f, -0.1f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLabCode(0.5f, 0f, 0f, 1.1f));
+    }
+
+    @Test
+    void createWith_negativeAAndBValues_worksTest() {
+        assertDoesNotThrow(() -> new OkLabCode(0.5f, -0.3f, -0.3f));
+    }
+
+    @Test
+    void createWithoutAlpha_isOpaqueTest() {
+        assertThat(new OkLabCode(0.5f, 0.1f, 0.1f).isOpaque()).isTrue();
+    }
+
+}
@@ -0,0 +1,41 @@
+package es.sfernandez.colour.codifications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OkLchCodeTest {
+
+    @Test
+    void createWith_lightnessValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(-0.1f, 0f, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(1.1f, 0f, 0f));
+    }
+
+    @Test
+    void createWith_negativeOrNotFiniteChromaValue_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, -0.1f, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, Float.POSITIVE_INFINITY, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, Float.NaN, 0f));
+    }
+
+    @Test
+    void createWith_hueValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, 0f, -1f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, 0f, 360f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, 0f, Float.NaN));
+    }
+
+    @Test
+    void createWith_alphaValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, 0f, 0f, -0.1f));
+        assertThrows(IllegalArgumentException.class, () -> new OkLchCode(0.5f, 0f, 0f, 1.1f));
+    }
+
+    @Test
+    void createWithoutAlpha_isOpaqueTest() {
+        assertThat(new OkLchCode(0.5f, 0f, 0f).isOpaque()).isTrue();
+    }
+
+}
@@ -6,6 +6,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -182,6 +187,31 @@ class RgbCodeTest {
         assertThat(rgb.toCssCode()).isEqualTo("rgba(3, 9, 19, 0.33)");
     }
 
+    @Test
+    void appendCssCode_writesTheCssCodeAtTheEndTest() throws IOException {
+        RgbCode rgb = new RgbCode(3, 9, 19, 33);
+        StringWriter writer = new StringWriter();
+
+        rgb.appendCssCode((Appendable) writer);
+
+        assertThat(rgb.appendCssCode(new StringBuilder("color: ")).toString()).isEqualTo("color: rgba(3, 9, 19, 0.33)");
+        assertThat(writer.toString()).isEqualTo("rgba(3, 9, 19, 0.33)");
+    }
+
+    @Test
+    void cssCode_isTheSameAsFormattedTest() {
+        Random rnd = new Random(17);
+
+        for(int i = 0; i < 10_000; ++i) {
+            RgbCode rgb = new RgbCode(rnd.nextFloat(), rnd.nextFloat(), rnd.nextFloat(), i % 2 == 0 ? 1f : rnd.nextFloat());
+            String expected = rgb.isOpaque()
+                    ? String.format(Locale.US, "rgb(%d, %d, %d)", rgb.red255(), rgb.green255(), rgb.blue255())
+                    : String.format(Locale.US, "rgba(%d, %d, %d, %.2f)", rgb.red255(), rgb.green255(), rgb.blue255(), rgb.alpha());
+
+            assertThat(rgb.toCssCode()).isEqualTo(expected);
+        }
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     void createFromNullOrEmptyCssCode_throwsIllegalArgumentExceptionTest(final String notValidRgbCode) {
@@ -249,4 +279,27 @@ class RgbCodeTest {
         assertThat(rgbA.hashCode()).isNotEqualTo(rgbC.hashCode());
     }
 
-}
\ No newline at end of file
+    @Test
+    void createFromArgb_worksTest() {
+        RgbCode rgb = RgbCode.ofArgb(0x80E07038);
+
+        assertThat(rgb.red255()).isEqualTo(224);
+        assertThat(rgb.green255()).isEqualTo(112);
+        assertThat(rgb.blue255()).isEqualTo(56);
+        assertThat(rgb.alpha()).isEqualTo(128 / 255f);
+    }
+
+    @Test
+    void toArgb_packsAlphaRedGreenBlueValuesTest() {
+        RgbCode rgb = new RgbCode(224, 112, 56);
+
+        assertThat(rgb.toArgb()).isEqualTo(0xFFE07038);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0x00000000, 0xFFFFFFFF, 0x80E07038, 0x0A0B0C0D})
+    void toArgb_ofCodeCreatedFromArgb_returnsTheSameArgbTest(int argb) {
+        assertThat(RgbCode.ofArgb(argb).toArgb()).isEqualTo(argb);
+    }
+
+}
@@ -0,0 +1,34 @@
+package es.sfernandez.colour.codifications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class XyzCodeTest {
+
+    @Test
+    void createWith_notFiniteValue_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new XyzCode(Float.NaN, 0f, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new XyzCode(0f, Float.POSITIVE_INFINITY, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new XyzCode(0f, 0f, Float.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void createWith_alphaValueOutOfRange_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new XyzCode(0f, 0f, 0f, -0.1f));
+        assertThrows(IllegalArgumentException.class, () -> new XyzCode(0f, 0f, 0f, 1.1f));
+    }
+
+    @Test
+    void createWith_valuesOutOfTheSrgbGamut_worksTest() {
+        assertDoesNotThrow(() -> new XyzCode(-0.2f, 1.5f, 3f));
+    }
+
+    @Test
+    void createWithoutAlpha_isOpaqueTest() {
+        assertThat(new XyzCode(0.5f, 0.5f, 0.5f).isOpaque()).isTrue();
+    }
+
+}
@@ -0,0 +1,119 @@
+package es.sfernandez.colour.compositing;
+
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BlendModeTest {
+
+    //---- Constants and Definitions ----
+    private static final RgbCode ORANGE = new RgbCode(255, 128, 0);
+    private static final RgbCode GREY = new RgbCode(128, 128, 128);
+    private static final RgbCode BLUE = new RgbCode(0, 0, 255);
+    private static final RgbCode TRANSPARENT = new RgbCode(0f, 0f, 0f, 0f);
+
+    //---- Fixtures ----
+    private static float luminosity(final RgbCode colour) {
+        return 0.3f * colour.red() + 0.59f * colour.green() + 0.11f * colour.blue();
+    }
+
+    //---- Tests ----
+    @ParameterizedTest
+    @EnumSource(BlendMode.class)
+    void composite_nullColours_throwsIllegalArgumentExceptionTest(final BlendMode mode) {
+        assertThrows(IllegalArgumentException.class, () -> mode.composite(null, ORANGE));
+        assertThrows(IllegalArgumentException.class, () -> mode.composite(ORANGE, null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlendMode.class)
+    void composite_transparentSource_isTheBackdropTest(final BlendMode mode) {
+        assertThat(mode.composite(ORANGE, TRANSPARENT)).isEqualTo(ORANGE);
+        assertThat(mode.composite(TRANSPARENT, TRANSPARENT).alpha()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlendMode.class)
+    void composite_transparentBackdrop_isTheSourceTest(final BlendMode mode) {
+        RgbCode halfTransparentBlue = new RgbCode(0f, 0f, 1f, 0.5f);
+
+        assertThat(mode.composite(TRANSPARENT, ORANGE)).isEqualTo(ORANGE);
+        assertThat(mode.composite(TRANSPARENT, halfTransparentBlue)).isEqualTo(halfTransparentBlue);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BlendMode.class, names = {"NORMAL", "DARKEN", "LIGHTEN", "HUE", "SATURATION", "COLOR", "LUMINOSITY"})
+    void composite_sameColour_isTheColourTest(final BlendMode mode) {
+        assertThat(mode.composite(ORANGE, ORANGE)).isEqualTo(ORANGE);
+        assertThat(mode.composite(GREY, GREY)).isEqualTo(GREY);
+    }
+
+    @Test
+    void composite_normal_isSourceOverTest() {
+        RgbCode halfTransparentRed = new RgbCode(1f, 0f, 0f, 0.5f);
+
+        assertThat(BlendMode.NORMAL.composite(BLUE, ORANGE)).isEqualTo(ORANGE);
+        assertThat(BlendMode.NORMAL.composite(BLUE, halfTransparentRed)).isEqualTo(new RgbCode(0.5f, 0f, 0.5f));
+        assertThat(BlendMode.NORMAL.composite(halfTransparentRed, new RgbCode(0f, 0f, 1f, 0.5f)))
+                .isEqualTo(new RgbCode(1 / 3f, 0f, 2 / 3f, 0.75f));
+    }
+
+    @Test
+    void composite_separableModes_blendEveryChannelTest() {
+        assertThat(BlendMode.MULTIPLY.composite(ORANGE, GREY)).isEqualTo(new RgbCode(128, 64, 0));
+        assertThat(BlendMode.SCREEN.composite(ORANGE, GREY)).isEqualTo(new RgbCode(255, 192, 128));
+        assertThat(BlendMode.DARKEN.composite(ORANGE, BLUE)).isEqualTo(new RgbCode(0, 0, 0));
+        assertThat(BlendMode.LIGHTEN.composite(ORANGE, BLUE)).isEqualTo(new RgbCode(255, 128, 255));
+        assertThat(BlendMode.DIFFERENCE.composite(ORANGE, GREY)).isEqualTo(new RgbCode(127, 0, 128));
+        assertThat(BlendMode.EXCLUSION.composite(ORANGE, BLUE)).isEqualTo(new RgbCode(255, 128, 255));
+        assertThat(BlendMode.COLOR_DODGE.composite(GREY, ORANGE)).isEqualTo(new RgbCode(255, 255, 128));
+        assertThat(BlendMode.COLOR_BURN.composite(GREY, ORANGE)).isEqualTo(new RgbCode(128, 2, 0));
+        assertThat(BlendMode.SOFT_LIGHT.composite(ORANGE, new RgbCode(0, 0, 0))).isEqualTo(new RgbCode(255, 64, 0));
+    }
+
+    @Test
+    void composite_overlay_isHardLightWithTheColoursSwappedTest() {
+        RgbCode pink = new RgbCode(230, 90, 170);
+
+        assertThat(BlendMode.OVERLAY.composite(ORANGE, pink)).isEqualTo(BlendMode.HARD_LIGHT.composite(pink, ORANGE));
+        assertThat(BlendMode.OVERLAY.composite(pink, GREY)).isEqualTo(BlendMode.HARD_LIGHT.composite(GREY, pink));
+    }
+
+    @Test
+    void composite_luminosity_keepsTheHueOfTheBackdropTest() {
+        RgbCode result = BlendMode.LUMINOSITY.composite(ORANGE, GREY);
+
+        assertThat(luminosity(result)).isCloseTo(luminosity(GREY), within(0.01f));
+        assertThat(result.red255()).isGreaterThan(result.green255());
+        assertThat(result.green255()).isGreaterThan(result.blue255());
+    }
+
+    @Test
+    void composite_color_keepsTheLuminosityOfTheBackdropTest() {
+        RgbCode result = BlendMode.COLOR.composite(GREY, BLUE);
+
+        assertThat(luminosity(result)).isCloseTo(luminosity(GREY), within(0.01f));
+        assertThat(result.blue255()).isGreaterThan(result.red255());
+        assertThat(result.red255()).isPositive().isEqualTo(result.green255());
+    }
+
+    @Test
+    void composite_saturation_ofGreyIsGreyTest() {
+        RgbCode result = BlendMode.SATURATION.composite(ORANGE, GREY);
+
+        assertThat(result.red255()).isEqualTo(result.green255()).isEqualTo(result.blue255());
+    }
+
+    @Test
+    void isSeparable_nonSeparableModes_isFalseTest() {
+        assertThat(BlendMode.MULTIPLY.isSeparable()).isTrue();
+        assertThat(BlendMode.HUE.isSeparable()).isFalse();
+        assertThat(BlendMode.LUMINOSITY.isSeparable()).isFalse();
+    }
+
+}
@@ -0,0 +1,145 @@
+package es.sfernandez.colour.compositing;
+
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompositorTest {
+
+    //---- Fixtures ----
+    /**
+     * @return random pixels, a fifth of them fully transparent and another fifth opaque
+     */
+    private static int[] randomPixels(final int size, final long seed, final int minAlpha) {
+        Random rnd = new Random(seed);
+        int[] pixels = new int[size];
+        for(int i = 0; i < size; ++i) {
+            int alpha = switch(rnd.nextInt(5)) {
+                case 0 -> 0;
+                case 1 -> 0xFF;
+                default -> minAlpha + rnd.nextInt(0x100 - minAlpha);
+            };
+            pixels[i] = alpha << 24 | (rnd.nextInt() & 0xFFFFFF);
+        }
+
+        return pixels;
+    }
+
+    private static void assertSamePixel(final int actual, final int expected, final int tolerance) {
+        if(actual >>> 24 == 0 && expected >>> 24 == 0)
+            return;
+
+        for(int shift = 0; shift < 32; shift += 8)
+            assertThat(actual >>> shift & 0xFF).isCloseTo(expected >>> shift & 0xFF, within(tolerance));
+    }
+
+    //---- Tests ----
+    @Test
+    void create_withoutModeOrPool_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new Compositor(null));
+        assertThrows(IllegalArgumentException.class, () -> new Compositor(BlendMode.NORMAL, null));
+    }
+
+    @Test
+    void composite_invalidPixels_throwsExceptionTest() {
+        Compositor compositor = new Compositor(BlendMode.MULTIPLY);
+
+        assertThrows(IllegalArgumentException.class, () -> compositor.composite(null, 0, new int[2], 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> compositor.compositePremultiplied(new int[2], 0, null, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> compositor.composite(new int[2], 0, new int[2], 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> compositor.composite(new int[2], 1, new int[2], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> compositor.compositePremultiplied(new int[2], 0, new int[3], 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> Compositor.premultiply(null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Compositor.unpremultiply(new int[2], 1, 2));
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlendMode.class)
+    void composite_pixels_isTheCompositionOfEveryPixelTest(final BlendMode mode) {
+        int[] source = randomPixels(1000, 1, 1);
+        int[] backdrop = randomPixels(1002, 2, 1);
+        int[] expected = backdrop.clone();
+        for(int i = 0; i < source.length; ++i)
+            expected[i + 1] = mode.composite(RgbCode.ofArgb(backdrop[i + 1]), RgbCode.ofArgb(source[i])).toArgb();
+
+        new Compositor(mode).composite(source, 0, backdrop, 1, source.length);
+
+        assertThat(backdrop[0]).isEqualTo(expected[0]);
+        assertThat(backdrop[backdrop.length - 1]).isEqualTo(expected[expected.length - 1]);
+        for(int i = 0; i < backdrop.length; ++i)
+            assertSamePixel(backdrop[i], expected[i], 1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BlendMode.class)
+    void compositePremultiplied_pixels_isTheCompositionOfTheStraightPixelsTest(final BlendMode mode) {
+        int[] source = randomPixels(1000, 3, 0x80);
+        int[] backdrop = randomPixels(1000, 4, 0x80);
+        Compositor.premultiply(source, 0, source.length);
+        Compositor.premultiply(backdrop, 0, backdrop.length);
+        int[] straightSource = source.clone();
+        int[] expected = backdrop.clone();
+        Compositor.unpremultiply(straightSource, 0, source.length);
+        Compositor.unpremultiply(expected, 0, expected.length);
+        new Compositor(mode).composite(straightSource, 0, expected, 0, source.length);
+
+        new Compositor(mode).compositePremultiplied(source, 0, backdrop, 0, source.length);
+        Compositor.unpremultiply(backdrop, 0, backdrop.length);
+
+        for(int i = 0; i < backdrop.length; ++i)
+            assertSamePixel(backdrop[i], expected[i], 2);
+    }
+
+    @Test
+    void compositePremultiplied_normal_isSourceOverTest() {
+        int[] source = {0x80800000, 0xFF00FF00, 0x00000000};
+        int[] backdrop = {0xFF0000FF, 0x80000080, 0x80008000};
+
+        new Compositor(BlendMode.NORMAL).compositePremultiplied(source, 0, backdrop, 0, 3);
+
+        assertThat(backdrop).containsExactly(0xFF80007F, 0xFF00FF00, 0x80008000);
+    }
+
+    @Test
+    void premultiply_pixels_multipliesTheChannelsByTheAlphaTest() {
+        int[] pixels = {0x80FF8040, 0xFF123456, 0x00FFFFFF};
+
+        Compositor.premultiply(pixels, 0, 3);
+        assertThat(pixels).containsExactly(0x80804020, 0xFF123456, 0x00000000);
+
+        Compositor.unpremultiply(pixels, 0, 3);
+        assertThat(pixels).containsExactly(0x80FF8040, 0xFF123456, 0x00000000);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BlendMode.class, names = {"NORMAL", "SOFT_LIGHT", "HUE"})
+    void composite_manyPixels_isTheSameAsInSmallBlocksTest(final BlendMode mode) {
+        int size = 10 * Compositor.PIXELS_PER_TASK + 7;
+        int[] source = randomPixels(size, 5, 1);
+        int[] backdrop = randomPixels(size, 6, 1);
+        int[] premultipliedBackdrop = backdrop.clone();
+        int[] expected = backdrop.clone();
+        int[] premultipliedExpected = backdrop.clone();
+        Compositor compositor = new Compositor(mode, new ForkJoinPool(4));
+
+        compositor.composite(source, 0, backdrop, 0, size);
+        compositor.compositePremultiplied(source, 0, premultipliedBackdrop, 0, size);
+        for(int from = 0; from < size; from += 1000) {
+            int count = Math.min(1000, size - from);
+            compositor.composite(source, from, expected, from, count);
+            compositor.compositePremultiplied(source, from, premultipliedExpected, from, count);
+        }
+
+        assertThat(backdrop).isEqualTo(expected);
+        assertThat(premultipliedBackdrop).isEqualTo(premultipliedExpected);
+    }
+
+}
@@ -0,0 +1,122 @@
+package es.sfernandez.colour.conversion;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.LchCode;
+import es.sfernandez.colour.codifications.OkLabCode;
+import es.sfernandez.colour.codifications.OkLchCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.codifications.XyzCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Random;
+
+import static es.sfernandez.colour.conversion.ColourCodeConversion.BULK_COMPONENTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class CieColourCodeConversionTest {
+
+    //---- Attributes ----
+    private final ColourCodeConverter converter = ColourCodeConverter.defaultConverter();
+
+    //---- Fixtures ----
+    private static float[] bulkComponentsOf(final ColourCode colourCode) throws ReflectiveOperationException {
+        RecordComponent[] components = colourCode.getClass().getRecordComponents();
+        float[] values = new float[BULK_COMPONENTS];
+        for(int i = 0; i < components.length; ++i)
+            values[i] = (float) components[i].getAccessor().invoke(colourCode);
+
+        return values;
+    }
+
+    //---- Tests ----
+    @ParameterizedTest
+    @ValueSource(classes = {XyzCode.class, LabCode.class, LchCode.class, OkLabCode.class, OkLchCode.class})
+    void conversion_fromRgb_canBeInvertedForEvery8BitColourTest(Class<? extends ColourCode> colourCodeClass) {
+        for(int red = 0; red < 256; red += 3)
+            for(int green = 0; green < 256; green += 3)
+                for(int blue = 0; blue < 256; blue += 3) {
+                    RgbCode rgb = new RgbCode(red, green, blue);
+
+                    assertThat(converter.convert(converter.convert(rgb, colourCodeClass), RgbCode.class)).isEqualTo(rgb);
+                }
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {XyzCode.class, LabCode.class, LchCode.class, OkLabCode.class, OkLchCode.class})
+    void bulkConversion_fromAndToRgb_generatesTheSameResultAsConvertTest(Class<? extends ColourCode> colourCodeClass) throws ReflectiveOperationException {
+        Random rnd = new Random(19);
+        for(int i = 0; i < 1_000; ++i) {
+            RgbCode rgb = new RgbCode(rnd.nextFloat(), rnd.nextFloat(), rnd.nextFloat(), rnd.nextFloat());
+            ColourCode code = converter.convert(rgb, colourCodeClass);
+            float[] colour = {rgb.red(), rgb.green(), rgb.blue(), rgb.alpha()};
+
+            converter.convertBulk(RgbCode.class, colourCodeClass, colour, 0, colour, 0, 1);
+            assertThat(colour).isEqualTo(bulkComponentsOf(code));
+
+            converter.convertBulk(colourCodeClass, HslCode.class, colour, 0, colour, 0, 1);
+            assertThat(colour).isEqualTo(bulkComponentsOf(converter.convert(code, HslCode.class)));
+        }
+    }
+
+    @Test
+    void conversion_betweenLabAndLch_keepsColoursOutOfTheSrgbGamutTest() {
+        LabCode lab = new LabCode(50f, -120f, 90f, 0.5f);
+
+        LchCode lch = converter.convert(lab, LchCode.class);
+        LabCode reconverted = converter.convert(lch, LabCode.class);
+
+        assertThat(lch.chroma()).isCloseTo(150f, offset(0.001f));
+        assertThat(lch.alpha()).isEqualTo(0.5f);
+        assertThat(reconverted.a()).isCloseTo(lab.a(), offset(0.001f));
+        assertThat(reconverted.b()).isCloseTo(lab.b(), offset(0.001f));
+    }
+
+    @Test
+    void conversion_betweenLchAndXyz_goesThroughLabWithoutClippingTest() {
+        LchCode lch = new LchCode(50f, 120f, 140f);
+
+        XyzCode xyz = converter.convert(lch, XyzCode.class);
+        XyzCode throughLab = converter.convert(converter.convert(lch, LabCode.class), XyzCode.class);
+        LchCode reconverted = converter.convert(xyz, LchCode.class);
+
+        assertThat(xyz.x()).isCloseTo(throughLab.x(), offset(0.0001f));
+        assertThat(xyz.y()).isCloseTo(throughLab.y(), offset(0.0001f));
+        assertThat(xyz.z()).isCloseTo(throughLab.z(), offset(0.0001f));
+        assertThat(reconverted.chroma()).isCloseTo(lch.chroma(), offset(0.01f));
+        assertThat(reconverted.hue()).isCloseTo(lch.hue(), offset(0.01f));
+    }
+
+    @Test
+    void conversion_betweenOkLabAndOkLch_keepsColoursOutOfTheSrgbGamutTest() {
+        OkLabCode okLab = new OkLabCode(0.7f, 0.3f, -0.4f);
+
+        OkLchCode okLch = converter.convert(okLab, OkLchCode.class);
+
+        assertThat(okLch.chroma()).isCloseTo(0.5f, offset(0.0001f));
+        assertThat(converter.convert(okLch, OkLabCode.class).b()).isCloseTo(okLab.b(), offset(0.0001f));
+    }
+
+    @Test
+    void conversion_ofAColourOutOfTheSrgbGamut_toRgb_isClippedTest() {
+        RgbCode rgb = converter.convert(new LabCode(50f, -120f, 90f), RgbCode.class);
+
+        assertThat(rgb.red()).isZero();
+        assertThat(rgb.blue()).isZero();
+    }
+
+    @Test
+    void conversion_fromXyzToLab_isDirectAndUsesD65WhiteTest() {
+        LabCode lab = converter.convert(new XyzCode(0.95047f, 1f, 1.08883f), LabCode.class);
+
+        assertThat(lab.lightness()).isCloseTo(100f, offset(0.001f));
+        assertThat(lab.a()).isCloseTo(0f, offset(0.001f));
+        assertThat(lab.b()).isCloseTo(0f, offset(0.001f));
+    }
+
+}
@@ -3,16 +3,24 @@ package es.sfernandez.colour.conversion;
 import es.sfernandez.colour.codifications.AcceptedByCssColourCode;
 import es.sfernandez.colour.codifications.ColourCode;
 import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.LchCode;
 import es.sfernandez.colour.codifications.RgbCode;
 import es.sfernandez.colour.conversion.fixtures.*;
+import es.sfernandez.colour.conversion.lab.RgbToLabCodeConversion;
+import es.sfernandez.colour.conversion.lch.LabToLchCodeConversion;
 import es.sfernandez.colour.conversion.fixtures.ColourCodeFixtures.HasOpacityFixtures;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -83,6 +91,23 @@ class ColourCodeConverterTest {
         return arguments.stream();
     }
 
+    static Stream<Arguments> directBulkConversionsBetweenDefaultColourCodesAndRgbTestCases() {
+        return directConversionsBetweenDefaultColourCodesAndRgbTestCases().filter(ColourCodeConverterTest::supportsBulkConversion);
+    }
+
+    static Stream<Arguments> deepBulkConversionsBetweenAllColourCodesTestCases() {
+        return deepConversionsBetweenAllColourCodesTestCases().filter(ColourCodeConverterTest::supportsBulkConversion);
+    }
+
+    /**
+     * @return true if both ColourCodes of the test case are records, whose components can be converted in bulk (e.g.:
+     * {@link HexCode} isn't)
+     */
+    private static boolean supportsBulkConversion(final Arguments arguments) {
+        TestCase<?,?> testCase = (TestCase<?,?>) arguments.get()[1];
+        return testCase.input() instanceof Record && testCase.expected() instanceof Record;
+    }
+
     private static Collection<Arguments> createTestCasesOf(ColourCodeFixtures<?> fixture1, ColourCodeFixtures<?> fixture2) {
         List<TestCase<?,?>> testCases = new ArrayList<>();
 
@@ -116,6 +141,26 @@ class ColourCodeConverterTest {
                 .containsExactlyInAnyOrderElementsOf(ColourCodeConverter.DEFAULT_AVAILABLE_CONVERSIONS);
     }
 
+    @Test
+    void defaultConverter_isAlwaysTheSameInstanceTest() {
+        assertThat(ColourCodeConverter.defaultConverter()).isSameAs(ColourCodeConverter.defaultConverter());
+    }
+
+    @Test
+    void defaultConverter_usesDefaultAvailableConversionsTest() {
+        assertThat(ColourCodeConverter.defaultConverter().availableConversions()).toIterable()
+                .containsExactlyInAnyOrderElementsOf(ColourCodeConverter.DEFAULT_AVAILABLE_CONVERSIONS);
+    }
+
+    @Test
+    void availableConversions_cannotBeRemovedThroughItsIteratorTest() {
+        ColourCodeConverter converter = new ColourCodeConverter(List.of(ColourCodeConversion.identity(HexCode.class)));
+        Iterator<ColourCodeConversion<?,?>> availableConversions = converter.availableConversions();
+        availableConversions.next();
+
+        assertThrows(UnsupportedOperationException.class, availableConversions::remove);
+    }
+
     @Test
     void create_withoutAvailableConversions_throwsIllegalArgumentExceptionTest() {
         assertThrows(IllegalArgumentException.class, () -> new ColourCodeConverter(null));
@@ -176,6 +221,27 @@ class ColourCodeConverterTest {
         assertThat(conversion).isEqualTo(anRgbCode);
     }
 
+    @Test
+    void convertRgbValues_isTheSameAsConvertingTheRgbCodeTest() {
+        ColourCodeConverter converter = ColourCodeConverter.defaultConverter();
+        RgbCode rgb = new RgbCode(0.2f, 0.6f, 0.4f, 0.8f);
+
+        for(Class<? extends ColourCode> target : List.of(RgbCode.class, HexCode.class, HslCode.class, LchCode.class))
+            assertThat(converter.convert(0.2f, 0.6f, 0.4f, 0.8f, target)).isEqualTo(converter.convert(rgb, target));
+    }
+
+    @Test
+    void convertRgbValues_throughSeveralConversions_isTheSameAsConvertingTheRgbCodeTest() {
+        ColourCodeConverter converter = new ColourCodeConverter(
+                List.of(new RgbToLabCodeConversion(), new LabToLchCodeConversion())
+        );
+
+        assertThat(converter.convert(0.2f, 0.6f, 0.4f, 1f, LchCode.class))
+                .isEqualTo(converter.convert(new RgbCode(0.2f, 0.6f, 0.4f), LchCode.class));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(0f, 0f, 0f, 1f, null));
+        assertThrows(ColourCodeConversionUnreachableException.class, () -> converter.convert(0f, 0f, 0f, 1f, HexCode.class));
+    }
+
     @ParameterizedTest(name = "{0}")
     @MethodSource("eachColourCodeConversionsToItselfTestCases")
     <IN extends ColourCode, OUT extends ColourCode>
@@ -223,6 +289,75 @@ class ColourCodeConverterTest {
         assertThat(reconvertedInput).isEqualTo(testCase.input);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("directBulkConversionsBetweenDefaultColourCodesAndRgbTestCases")
+    <IN extends ColourCode, OUT extends ColourCode>
+    void bulkConversion_betweenAvailableColourCodes_and_Rgb_generatesTheSameResultAsConvertTest(String name, TestCase<IN, OUT> testCase) {
+        float[] colours = bulkComponentsOf(testCase.input);
+
+        converter.convertBulk(testCase.input.getClass(), testCase.expected.getClass(), colours, 0, colours, 0, 1);
+
+        assertThat(colourCodeFrom(testCase.expected.getClass(), colours)).isEqualTo(converter.convert(testCase.input, testCase.expected.getClass()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("deepBulkConversionsBetweenAllColourCodesTestCases")
+    <IN extends ColourCode, OUT extends ColourCode>
+    void bulkConversion_betweenAllColourCodesAvailable_generatesTheSameResultAsConvertTest(String name, TestCase<IN, OUT> testCase) {
+        float[] colours = new float[3 * ColourCodeConversion.BULK_COMPONENTS];
+        System.arraycopy(bulkComponentsOf(testCase.input), 0, colours, ColourCodeConversion.BULK_COMPONENTS, ColourCodeConversion.BULK_COMPONENTS);
+        float[] converted = new float[colours.length];
+
+        converter.convertBulk(testCase.input.getClass(), testCase.expected.getClass(), colours, ColourCodeConversion.BULK_COMPONENTS, converted, ColourCodeConversion.BULK_COMPONENTS, 1);
+
+        assertThat(colourCodeFrom(testCase.expected.getClass(), Arrays.copyOfRange(converted, ColourCodeConversion.BULK_COMPONENTS, 2 * ColourCodeConversion.BULK_COMPONENTS)))
+                .isEqualTo(converter.convert(testCase.input, testCase.expected.getClass()));
+    }
+
+    @Test
+    void bulkConversion_withNotEnoughColours_throwsIndexOutOfBoundsExceptionTest() {
+        float[] colours = new float[ColourCodeConversion.BULK_COMPONENTS];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convertBulk(RgbCode.class, HslCode.class, colours, 0, colours, 0, 2));
+    }
+
+    @Test
+    void bulkConversion_fromHexCode_throwsUnsupportedOperationExceptionTest() {
+        float[] colours = new float[ColourCodeConversion.BULK_COMPONENTS];
+
+        assertThrows(UnsupportedOperationException.class, () -> converter.convertBulk(HexCode.class, HslCode.class, colours, 0, colours, 0, 1));
+    }
+
+    @Test
+    void conversion_fromRgb_toHsl_ofAColourWhoseMaxValueIsGreen_worksTest() {
+        HslCode hsl = converter.convert(new RgbCode(64, 191, 128), HslCode.class);
+
+        assertThat(hsl).isEqualTo(new HslCode(150, 50, 50));
+    }
+
+    private static float[] bulkComponentsOf(ColourCode colourCode) {
+        RecordComponent[] components = colourCode.getClass().getRecordComponents();
+        float[] values = new float[ColourCodeConversion.BULK_COMPONENTS];
+
+        try {
+            for(int i = 0; i < components.length; ++i)
+                values[i] = (float) components[i].getAccessor().invoke(colourCode);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+
+        return values;
+    }
+
+    private static ColourCode colourCodeFrom(Class<? extends ColourCode> colourCodeClass, float[] values) {
+        try {
+            return colourCodeClass.getConstructor(float.class, float.class, float.class, float.class)
+                    .newInstance(values[0], values[1], values[2], values[3]);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     static class A implements ColourCode {}
     static class B implements ColourCode {}
     static class C implements ColourCode {}
@@ -243,4 +378,45 @@ class ColourCodeConverterTest {
         assertDoesNotThrow(() -> converter.convert(new A(), E.class));
     }
 
+    @Test
+    void deepConversion_appliesThePathWithFewerStepsTest() {
+        List<Class<?>> appliedConversions = new ArrayList<>();
+        ColourCodeConverter converter = new ColourCodeConverter(
+                List.of(
+                        recordingConversion(A.class, B.class, appliedConversions),
+                        recordingConversion(B.class, C.class, appliedConversions),
+                        recordingConversion(C.class, E.class, appliedConversions),
+                        recordingConversion(A.class, D.class, appliedConversions),
+                        recordingConversion(D.class, E.class, appliedConversions)
+                )
+        );
+
+        converter.convert(new A(), E.class);
+
+        assertThat(appliedConversions).containsExactly(D.class, E.class);
+    }
+
+    private static <IN extends ColourCode, OUT extends ColourCode> ColourCodeConversion<IN, OUT> recordingConversion(
+            Class<IN> in, Class<OUT> out, List<Class<?>> appliedConversions) {
+        ColourCodeConversion<IN, OUT> conversion = dummyConversion(in, out);
+
+        return new ColourCodeConversion<>() {
+            @Override
+            public Class<IN> inColourCodeClass() {
+                return in;
+            }
+
+            @Override
+            public Class<OUT> outColourCodeClass() {
+                return out;
+            }
+
+            @Override
+            public OUT convert(IN codification) {
+                appliedConversions.add(out);
+                return conversion.convert(codification);
+            }
+        };
+    }
+
 }
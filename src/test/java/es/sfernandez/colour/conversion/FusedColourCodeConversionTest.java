@@ -0,0 +1,71 @@
+package es.sfernandez.colour.conversion;
+
+import es.sfernandez.colour.codifications.CmykCode;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.HsvCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.cmyk.RgbToCmykCodeConversion;
+import es.sfernandez.colour.conversion.hex.HexToRgbCodeConversion;
+import es.sfernandez.colour.conversion.hex.RgbToHexCodeConversion;
+import es.sfernandez.colour.conversion.hsl.HslToRgbCodeConversion;
+import es.sfernandez.colour.conversion.hsl.RgbToHslCodeConversion;
+import es.sfernandez.colour.conversion.hsv.HsvToRgbCodeConversion;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FusedColourCodeConversionTest {
+
+    @Test
+    void create_withoutAnyConversion_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new FusedColourCodeConversion<>(null, new RgbToHslCodeConversion()));
+        assertThrows(IllegalArgumentException.class, () -> new FusedColourCodeConversion<>(new HexToRgbCodeConversion(), null));
+    }
+
+    @Test
+    void classesOfFusedConversion_areTheInAndOutClassesOfItsPartsTest() {
+        FusedColourCodeConversion<HexCode, HslCode> conversion =
+                new FusedColourCodeConversion<>(new HexToRgbCodeConversion(), new RgbToHslCodeConversion());
+
+        assertThat(conversion.inColourCodeClass()).isEqualTo(HexCode.class);
+        assertThat(conversion.outColourCodeClass()).isEqualTo(HslCode.class);
+    }
+
+    @Test
+    void fusedConversion_returnsTheSameResultAsApplyingBothConversionsTest() {
+        HexToRgbCodeConversion hexToRgb = new HexToRgbCodeConversion();
+        RgbToHslCodeConversion rgbToHsl = new RgbToHslCodeConversion();
+        HexCode hex = new HexCode("#3A7BD580");
+
+        assertThat(new FusedColourCodeConversion<>(hexToRgb, rgbToHsl).convert(hex))
+                .isEqualTo(hexToRgb.andThen(rgbToHsl).convert(hex));
+    }
+
+    @Test
+    void fusedConversion_toHexCode_keepsLowOpacityTest() {
+        FusedColourCodeConversion<HslCode, HexCode> conversion =
+                new FusedColourCodeConversion<>(new HslToRgbCodeConversion(), new RgbToHexCodeConversion());
+
+        assertThat(conversion.convert(new HslCode(0, 0, 0, 0)).toCssCode()).isEqualTo("#00000000");
+    }
+
+    @Test
+    void bulkFusedConversion_returnsTheSameResultAsSingleConversionTest() {
+        FusedColourCodeConversion<HsvCode, CmykCode> conversion =
+                new FusedColourCodeConversion<>(new HsvToRgbCodeConversion(), new RgbToCmykCodeConversion());
+        HsvCode hsv = new HsvCode(0.25f, 0.5f, 0.75f, 1f);
+        float[] colours = { hsv.hue(), hsv.saturation(), hsv.brightness(), hsv.alpha() };
+
+        conversion.convertBulk(colours, 0, colours, 0, 1);
+
+        assertThat(new CmykCode(colours[0], colours[1], colours[2], colours[3])).isEqualTo(conversion.convert(hsv));
+    }
+
+    @Test
+    void rgbToHexConversion_withOpacityLowerThanSixteen_keepsLeadingZeroTest() {
+        assertThat(new RgbToHexCodeConversion().convert(new RgbCode(0, 0, 0, 0)).toCssCode()).isEqualTo("#00000000");
+    }
+
+}
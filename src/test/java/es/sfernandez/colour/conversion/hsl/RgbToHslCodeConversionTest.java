@@ -0,0 +1,57 @@
+package es.sfernandez.colour.conversion.hsl;
+
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static es.sfernandez.colour.conversion.ColourCodeConversion.BULK_COMPONENTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RgbToHslCodeConversionTest {
+
+    //---- Attributes ----
+    private final RgbToHslCodeConversion calculated = new RgbToHslCodeConversion();
+    private final RgbToHslCodeConversion withLookupTables = new RgbToHslCodeConversion(true);
+
+    //---- Tests ----
+    @Test
+    void convertBulk_withLookupTables_isBitIdenticalForEvery8BitColourTest() {
+        float[] src = new float[256 * 256 * BULK_COMPONENTS];
+        float[] expected = new float[src.length];
+        float[] actual = new float[src.length];
+
+        for(int red = 0; red < 256; ++red) {
+            for(int i = 0; i < 256 * 256; ++i) {
+                src[i * BULK_COMPONENTS] = red / 255f;
+                src[i * BULK_COMPONENTS + 1] = (i >>> 8) / 255f;
+                src[i * BULK_COMPONENTS + 2] = (i & 0xFF) / 255f;
+                src[i * BULK_COMPONENTS + 3] = (i % 101) / 100f;
+            }
+
+            calculated.convertBulk(src, 0, expected, 0, 256 * 256);
+            withLookupTables.convertBulk(src, 0, actual, 0, 256 * 256);
+
+            assertThat(actual).as("red %d", red).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void convert_withLookupTables_isTheSameAsCalculatedTest() {
+        Random rnd = new Random(15);
+
+        for(int i = 0; i < 10_000; ++i) {
+            RgbCode rgb = RgbCode.ofArgb(rnd.nextInt());
+
+            assertThat(withLookupTables.convert(rgb)).isEqualTo(calculated.convert(rgb));
+        }
+    }
+
+    @Test
+    void convert_withLookupTablesAndNot8BitColour_isCalculatedTest() {
+        RgbCode rgb = new RgbCode(0.1234f, 0.5f, 0.987f, 0.3f);
+
+        assertThat(withLookupTables.convert(rgb)).isEqualTo(calculated.convert(rgb));
+    }
+
+}
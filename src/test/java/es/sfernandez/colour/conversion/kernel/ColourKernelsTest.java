@@ -0,0 +1,190 @@
+package es.sfernandez.colour.conversion.kernel;
+
+import es.sfernandez.colour.conversion.ColourCodeConversion;
+import es.sfernandez.colour.conversion.cmyk.CmykToRgbCodeConversion;
+import es.sfernandez.colour.conversion.cmyk.RgbToCmykCodeConversion;
+import es.sfernandez.colour.conversion.hsl.HslToRgbCodeConversion;
+import es.sfernandez.colour.conversion.hsl.RgbToHslCodeConversion;
+import es.sfernandez.colour.conversion.hsv.HsvToRgbCodeConversion;
+import es.sfernandez.colour.conversion.hsv.RgbToHsvCodeConversion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static es.sfernandez.colour.conversion.ColourCodeConversion.BULK_COMPONENTS;
+import static es.sfernandez.colour.conversion.kernel.ColourKernels.PLANES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColourKernelsTest {
+
+    //---- Constants and Definitions ----
+    private static final int COLOURS = 1_000;
+
+    @FunctionalInterface
+    private interface Kernel {
+        void convert(ColourKernels kernels, float[] src, float[] dst, int planeSize, int offset, int count);
+    }
+
+    /**
+     * <p>Components of the input colours are multiples of 1/maxValues[c], as if they came from a ColourCode.</p>
+     */
+    private record KernelTestCase(String name, Kernel kernel, ColourCodeConversion<?,?> conversion, int[] maxValues) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    //---- Fixtures ----
+    private static Stream<KernelTestCase> kernelTestCases() {
+        int[] rgbMaxValues = {255, 255, 255, 100};
+        int[] hueBasedMaxValues = {360, 100, 100, 100};
+        int[] cmykMaxValues = {100, 100, 100, 100};
+
+        return Stream.of(
+                new KernelTestCase("RGB to HSL", ColourKernels::rgbToHsl, new RgbToHslCodeConversion(), rgbMaxValues),
+                new KernelTestCase("HSL to RGB", ColourKernels::hslToRgb, new HslToRgbCodeConversion(), hueBasedMaxValues),
+                new KernelTestCase("RGB to HSV", ColourKernels::rgbToHsv, new RgbToHsvCodeConversion(), rgbMaxValues),
+                new KernelTestCase("HSV to RGB", ColourKernels::hsvToRgb, new HsvToRgbCodeConversion(), hueBasedMaxValues),
+                new KernelTestCase("RGB to CMYK", ColourKernels::rgbToCmyk, new RgbToCmykCodeConversion(), rgbMaxValues),
+                new KernelTestCase("CMYK to RGB", ColourKernels::cmykToRgb, new CmykToRgbCodeConversion(), cmykMaxValues)
+        );
+    }
+
+    private static Stream<ColourKernels> kernels() {
+        return Stream.of(ColourKernels.scalar(), ColourKernels.preferred());
+    }
+
+    private static Stream<Arguments> kernelsAndTestCases() {
+        return kernels()
+                .flatMap(kernels -> kernelTestCases().map(testCase -> Arguments.of(kernels.lanes(), testCase, kernels)));
+    }
+
+    private static float[] planarColours(final int[] maxValues, final int colours) {
+        Random rnd = new Random(colours);
+        float[] planes = new float[PLANES * colours];
+
+        for(int component = 0; component < PLANES; ++component)
+            for(int i = 0; i < colours; ++i)
+                planes[component * colours + i] = rnd.nextInt(maxValues[component] + 1) / (float) maxValues[component];
+
+        return planes;
+    }
+
+    private static float[] expectedPlanes(final ColourCodeConversion<?,?> conversion, final float[] planes, final int colours) {
+        float[] interleaved = new float[planes.length];
+        for(int i = 0; i < colours; ++i)
+            for(int component = 0; component < BULK_COMPONENTS; ++component)
+                interleaved[i * BULK_COMPONENTS + component] = planes[component * colours + i];
+
+        conversion.convertBulk(interleaved, 0, interleaved, 0, colours);
+
+        float[] expected = new float[planes.length];
+        for(int i = 0; i < colours; ++i)
+            for(int component = 0; component < BULK_COMPONENTS; ++component)
+                expected[component * colours + i] = interleaved[i * BULK_COMPONENTS + component];
+
+        return expected;
+    }
+
+    //---- Tests ----
+    @Test
+    void scalarKernels_convertOneColourAtOnceTest() {
+        assertThat(ColourKernels.scalar().lanes()).isEqualTo(1);
+    }
+
+    @Test
+    void preferredKernels_areAlwaysTheSameInstanceTest() {
+        assertThat(ColourKernels.preferred()).isSameAs(ColourKernels.preferred());
+    }
+
+    @Test
+    void preferredKernels_useVectorApi_ifItsModuleIsPresentTest() {
+        boolean vectorModulePresent = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+        if(vectorModulePresent && ColourKernels.preferred().lanes() > 1)
+            assertThat(ColourKernels.preferred()).isInstanceOf(VectorColourKernels.class);
+        else
+            assertThat(ColourKernels.preferred()).isSameAs(ColourKernels.scalar());
+    }
+
+    @ParameterizedTest(name = "{1} ({0} lanes)")
+    @MethodSource("kernelsAndTestCases")
+    void kernels_returnTheSameResultAsBulkConversionTest(int lanes, KernelTestCase testCase, ColourKernels kernels) {
+        float[] src = planarColours(testCase.maxValues, COLOURS);
+        float[] dst = new float[src.length];
+
+        testCase.kernel.convert(kernels, src, dst, COLOURS, 0, COLOURS);
+
+        assertThat(dst).containsExactly(expectedPlanes(testCase.conversion, src, COLOURS));
+    }
+
+    @ParameterizedTest(name = "{1} ({0} lanes)")
+    @MethodSource("kernelsAndTestCases")
+    void kernels_canConvertInPlaceTest(int lanes, KernelTestCase testCase, ColourKernels kernels) {
+        float[] colours = planarColours(testCase.maxValues, COLOURS);
+        float[] expected = expectedPlanes(testCase.conversion, colours, COLOURS);
+
+        testCase.kernel.convert(kernels, colours, colours, COLOURS, 0, COLOURS);
+
+        assertThat(colours).containsExactly(expected);
+    }
+
+    @ParameterizedTest(name = "{1} ({0} lanes)")
+    @MethodSource("kernelsAndTestCases")
+    void kernels_onlyConvertColoursBetweenOffsetAndCountTest(int lanes, KernelTestCase testCase, ColourKernels kernels) {
+        int offset = 3, count = COLOURS - 10;
+        float[] src = planarColours(testCase.maxValues, COLOURS);
+        float[] dst = new float[src.length];
+        float[] expected = expectedPlanes(testCase.conversion, src, COLOURS);
+
+        testCase.kernel.convert(kernels, src, dst, COLOURS, offset, count);
+
+        for(int component = 0; component < PLANES; ++component)
+            for(int i = 0; i < COLOURS; ++i)
+                assertThat(dst[component * COLOURS + i])
+                        .isEqualTo(offset <= i && i < offset + count ? expected[component * COLOURS + i] : 0f);
+    }
+
+    @ParameterizedTest(name = "{1} ({0} lanes)")
+    @MethodSource("kernelsAndTestCases")
+    void kernels_withBuffersSmallerThanPlanes_throwIndexOutOfBoundsExceptionTest(int lanes, KernelTestCase testCase, ColourKernels kernels) {
+        float[] src = new float[PLANES * COLOURS - 1];
+        float[] dst = new float[PLANES * COLOURS];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> testCase.kernel.convert(kernels, src, dst, COLOURS, 0, COLOURS));
+        assertThrows(IndexOutOfBoundsException.class, () -> testCase.kernel.convert(kernels, dst, dst, COLOURS, 1, COLOURS));
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void kernels_withNotNormalizedAlpha_throwIllegalArgumentExceptionTest(ColourKernels kernels) {
+        float[] colours = planarColours(new int[] {255, 255, 255, 100}, COLOURS);
+        colours[3 * COLOURS] = 2f;
+
+        assertThrows(IllegalArgumentException.class, () -> kernels.rgbToHsl(colours, colours, COLOURS, 0, COLOURS));
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void hslToRgb_hueOf360Degrees_isTheHueOf0DegreesTest(ColourKernels kernels) {
+        float[] colours = new float[PLANES * COLOURS];
+        for(int i = 0; i < COLOURS; ++i) {
+            colours[i] = i % 2 == 0 ? 1f : 0.9999f;
+            colours[COLOURS + i] = 1f;
+            colours[2 * COLOURS + i] = 0.5f;
+            colours[3 * COLOURS + i] = 1f;
+        }
+
+        kernels.hslToRgb(colours, colours, COLOURS, 0, COLOURS);
+
+        for(int i = 0; i < COLOURS; ++i)
+            assertThat(new float[] {colours[i], colours[COLOURS + i], colours[2 * COLOURS + i]}).containsExactly(1f, 0f, 0f);
+    }
+
+}
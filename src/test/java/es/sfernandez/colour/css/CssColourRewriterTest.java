@@ -0,0 +1,160 @@
+package es.sfernandez.colour.css;
+
+import es.sfernandez.colour.codifications.AcceptedByCssColourCode;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CssColourRewriterTest {
+
+    //---- Constants and Definitions ----
+    private static final Function<AcceptedByCssColourCode, AcceptedByCssColourCode> TO_HEX =
+            code -> ColourCodeConverter.defaultConverter().convert(code, HexCode.class);
+
+    //---- Fixtures ----
+    private static String rewrite(final CssColourRewriter rewriter, final String css) throws IOException {
+        StringWriter out = new StringWriter();
+        rewriter.rewrite(new StringReader(css), out);
+
+        return out.toString();
+    }
+
+    //---- Tests ----
+    @Test
+    void create_withoutRewriteFunction_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new CssColourRewriter(null));
+        assertThrows(IllegalArgumentException.class, () -> new CssColourRewriter(TO_HEX, null));
+    }
+
+    @Test
+    void rewrite_withoutReaderOrWriter_throwsIllegalArgumentExceptionTest() {
+        CssColourRewriter rewriter = new CssColourRewriter(TO_HEX);
+
+        assertThrows(IllegalArgumentException.class, () -> rewriter.rewrite(null, new StringWriter()));
+        assertThrows(IllegalArgumentException.class, () -> rewriter.rewrite(new StringReader(""), null));
+    }
+
+    @Test
+    void rewrite_everyColourLiteral_isReplacedTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(TO_HEX);
+        String css = "a { color: rgb(255, 0, 0); background: hsla(120, 100%, 50%, 0.5) no-repeat; }\n" +
+                ".b{border:1px solid #00f;outline-color:rgba(0,0,255,1)}";
+
+        assertThat(rewrite(rewriter, css)).isEqualTo(
+                "a { color: #FF0000; background: #00FF0080 no-repeat; }\n" +
+                ".b{border:1px solid #00F;outline-color:#0000FF}");
+    }
+
+    @Test
+    void rewrite_returnsTheNumberOfRewrittenColoursTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(TO_HEX);
+
+        long rewritten = rewriter.rewrite(new StringReader("a { color: #fff; background: rgb(0, 0, 0) }"), new StringWriter());
+
+        assertThat(rewritten).isEqualTo(2);
+    }
+
+    @Test
+    void rewrite_selectorsCommentsStringsAndUrls_areNotRewrittenTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(code -> new HexCode("#000"));
+        String css = "#add, a:hover { /* color: #fff */ content: \"#fff \\\" #fff\"; filter: url(#bad); mask: url('#fed') }";
+
+        assertThat(rewrite(rewriter, css)).isEqualTo(css);
+    }
+
+    @Test
+    void rewrite_quotedUrlsWithParentheses_areNotRewrittenTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(code -> new HexCode("#000"));
+        String css = "a{background:url(\"data:image/svg+xml,<svg fill='rgb(1,2,3)'/>\");color:rgb(255,0,0)} " +
+                "b{color:rgb(0,255,0)} c{mask:url('x).png') #fff; border: url(\"\\\")\") #abc}";
+        StringWriter out = new StringWriter();
+
+        long rewritten = rewriter.rewrite(new StringReader(css), out);
+
+        assertThat(out.toString()).isEqualTo(
+                "a{background:url(\"data:image/svg+xml,<svg fill='rgb(1,2,3)'/>\");color:#000} " +
+                "b{color:#000} c{mask:url('x).png') #000; border: url(\"\\\")\") #000}");
+        assertThat(rewritten).isEqualTo(4);
+    }
+
+    @Test
+    void rewrite_selectorsInsideAtRules_areNotRewrittenTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(code -> new HexCode("#000"));
+        String css = "@media screen { a:hover #add { color: #fff } @supports (display: grid) { b:focus #bad { c: #fed } } }\n" +
+                "@-webkit-keyframes pulse { from { color: #fff } 50% { color: #abc } }\n" +
+                "@font-face { font-family: x; color: #fff } @page :first { color: #fff }";
+
+        assertThat(rewrite(rewriter, css)).isEqualTo(
+                "@media screen { a:hover #add { color: #000 } @supports (display: grid) { b:focus #bad { c: #000 } } }\n" +
+                "@-webkit-keyframes pulse { from { color: #000 } 50% { color: #000 } }\n" +
+                "@font-face { font-family: x; color: #000 } @page :first { color: #000 }");
+    }
+
+    @Test
+    void rewrite_colourFunctionsInUpperCase_areReplacedTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(TO_HEX);
+
+        assertThat(rewrite(rewriter, "a { color: RGB(255, 0, 0); background: Hsla(120, 100%, 50%, 0.5) URL(#fff) }"))
+                .isEqualTo("a { color: #FF0000; background: #00FF0080 URL(#fff) }");
+    }
+
+    @Test
+    void rewrite_invalidColourLiterals_areCopiedUntouchedTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(code -> new HexCode("#000"));
+        String css = "a { color: #abcd1; b: #abcdefabc; c: rgb(300, 0, 0); d: rgb(0 0 0 / 50%); e: myrgb(1, 2, 3); " +
+                "f: rgbx(1, 2, 3); g: hsl(10, 20%, 30%; h: #fffx }";
+
+        assertThat(rewrite(rewriter, css)).isEqualTo(css);
+    }
+
+    @Test
+    void rewrite_whenFunctionReturnsNull_keepsTheColourTest() throws IOException {
+        Map<String, AcceptedByCssColourCode> replacements = Map.of("#F00", new HexCode("#c00"));
+        CssColourRewriter rewriter = new CssColourRewriter(code -> replacements.get(code.toCssCode()));
+
+        assertThat(rewrite(rewriter, "a { color: #f00; background: #0f0 }"))
+                .isEqualTo("a { color: #C00; background: #0f0 }");
+    }
+
+    @Test
+    void rewrite_colourAtTheEndOfTheStylesheet_isReplacedTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(TO_HEX);
+
+        assertThat(rewrite(rewriter, "a{color:#abc")).isEqualTo("a{color:#ABC");
+    }
+
+    @Test
+    void rewrite_stylesheetBiggerThanTheBuffers_isRewrittenCompletelyTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(TO_HEX);
+        String rule = ".rule { color: hsl(0, 100%, 50%); background: #0f08 }\n";
+        String expectedRule = ".rule { color: #FF0000; background: #0F08 }\n";
+
+        String rewritten = rewrite(rewriter, rule.repeat(1000));
+
+        assertThat(rewritten).isEqualTo(expectedRule.repeat(1000));
+    }
+
+    @Test
+    void rewrite_fromChannel_decodesItWithTheCharsetTest() throws IOException {
+        CssColourRewriter rewriter = new CssColourRewriter(TO_HEX);
+        byte[] css = "/* ñandú */ a { color: rgb(0, 255, 0) }".getBytes(StandardCharsets.UTF_8);
+        StringWriter out = new StringWriter();
+
+        rewriter.rewrite(Channels.newChannel(new ByteArrayInputStream(css)), StandardCharsets.UTF_8, out);
+
+        assertThat(out.toString()).isEqualTo("/* ñandú */ a { color: #00FF00 }");
+    }
+
+}
@@ -0,0 +1,117 @@
+package es.sfernandez.colour.difference;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColourDifferencesTest {
+
+    //---- Fixtures ----
+    private static List<Colour> randomColours(final int size, final long seed) {
+        Random rnd = new Random(seed);
+        List<Colour> colours = new ArrayList<>(size);
+        for(int i = 0; i < size; ++i)
+            colours.add(new Colour(RgbCode.ofArgb(rnd.nextInt() | 0xFF000000)));
+
+        return colours;
+    }
+
+    //---- Tests ----
+    @Test
+    void create_withoutFormulaOrPool_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ColourDifferences(null));
+        assertThrows(IllegalArgumentException.class, () -> new ColourDifferences(DeltaE.CIE76, null));
+    }
+
+    @Test
+    void compare_nullColours_throwsIllegalArgumentExceptionTest() {
+        ColourDifferences differences = new ColourDifferences(DeltaE.CIE76);
+        Colour colour = new Colour(new RgbCode(0, 0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> differences.oneToMany(null, List.of(colour)));
+        assertThrows(IllegalArgumentException.class, () -> differences.oneToMany(colour, Arrays.asList(colour, null)));
+        assertThrows(IllegalArgumentException.class, () -> differences.manyToMany(List.of(colour), null));
+    }
+
+    @Test
+    void labOf_colours_isTheirLabCodeTest() {
+        List<Colour> colours = randomColours(10, 1);
+
+        float[] labs = ColourDifferences.labOf(colours);
+
+        for(int i = 0; i < colours.size(); ++i) {
+            LabCode lab = colours.get(i).as(LabCode.class);
+            assertThat(Arrays.copyOfRange(labs, 3 * i, 3 * i + 3)).containsExactly(lab.lightness(), lab.a(), lab.b());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DeltaE.class)
+    void oneToMany_isTheDifferenceWithEveryColourTest(DeltaE formula) {
+        Colour colour = new Colour(new RgbCode(200, 40, 90));
+        List<Colour> colours = randomColours(ColourDifferences.COMPARISONS_PER_TASK * 3, 2);
+
+        float[] differences = new ColourDifferences(formula).oneToMany(colour, colours);
+
+        assertThat(differences).hasSize(colours.size());
+        for(int i = 0; i < colours.size(); ++i)
+            assertThat(differences[i]).isEqualTo(formula.difference(colour, colours.get(i)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DeltaE.class)
+    void manyToMany_isAMatrixWithTheDifferenceOfEveryPairTest(DeltaE formula) {
+        List<Colour> rows = randomColours(300, 3);
+        List<Colour> columns = randomColours(150, 4);
+
+        float[] differences = new ColourDifferences(formula, new ForkJoinPool(3)).manyToMany(rows, columns);
+
+        assertThat(differences).hasSize(rows.size() * columns.size());
+        for(int i = 0; i < rows.size(); ++i)
+            for(int j = 0; j < columns.size(); ++j)
+                assertThat(differences[i * columns.size() + j]).isEqualTo(formula.difference(rows.get(i), columns.get(j)));
+    }
+
+    @Test
+    void manyToMany_ofEmptyColours_isEmptyTest() {
+        ColourDifferences differences = new ColourDifferences(DeltaE.CIEDE2000);
+
+        assertThat(differences.manyToMany(List.of(), randomColours(5, 5))).isEmpty();
+    }
+
+    @Test
+    void oneToMany_ofLabArrays_readsTheColourFromItsOffsetTest() {
+        ColourDifferences differences = new ColourDifferences(DeltaE.CIE76);
+        float[] lab = {0, 0, 0, 50, 10, 10};
+        float[] labs = {53, 14, 10, 50, 10, 10};
+        float[] result = new float[2];
+
+        differences.oneToMany(lab, 3, labs, 2, result);
+
+        assertThat(result).containsExactly(5f, 0f);
+    }
+
+    @Test
+    void compare_withTooSmallArrays_throwsIndexOutOfBoundsExceptionTest() {
+        ColourDifferences differences = new ColourDifferences(DeltaE.CIE76);
+        float[] labs = new float[6];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> differences.oneToMany(labs, 4, labs, 2, new float[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> differences.oneToMany(labs, 0, labs, 2, new float[1]));
+        assertThrows(IndexOutOfBoundsException.class, () -> differences.manyToMany(labs, 2, labs, 3, new float[6]));
+        assertThrows(IndexOutOfBoundsException.class, () -> differences.manyToMany(labs, 2, labs, 2, new float[3]));
+    }
+
+}
@@ -0,0 +1,85 @@
+package es.sfernandez.colour.difference;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.LabCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeltaETest {
+
+    //---- Tests ----
+    @ParameterizedTest
+    @EnumSource(DeltaE.class)
+    void difference_withNullColours_throwsIllegalArgumentExceptionTest(DeltaE formula) {
+        assertThrows(IllegalArgumentException.class, () -> formula.difference(null, new Colour(new RgbCode(0, 0, 0))));
+        assertThrows(IllegalArgumentException.class, () -> formula.difference(new LabCode(0, 0, 0), null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DeltaE.class)
+    void difference_ofTheSameColour_isZeroTest(DeltaE formula) {
+        Colour colour = new Colour(new HexCode("#3A7BD5"));
+
+        assertThat(formula.difference(colour, new Colour(new RgbCode(58, 123, 213)))).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(DeltaE.class)
+    void difference_ofBlackAndWhite_isAboutOneHundredTest(DeltaE formula) {
+        float difference = formula.difference(new Colour(new RgbCode(0, 0, 0)), new Colour(new RgbCode(255, 255, 255)));
+
+        assertThat(difference).isCloseTo(100f, offset(0.01f));
+    }
+
+    @Test
+    void cie76_isTheEuclideanDistanceTest() {
+        assertThat(DeltaE.CIE76.difference(new LabCode(50, 10, 10), new LabCode(53, 14, 10))).isEqualTo(5f);
+    }
+
+    @Test
+    void cie94_ofOnlyLightnessDifference_isTheLightnessDifferenceTest() {
+        assertThat(DeltaE.CIE94.difference(new LabCode(50, 30, -20), new LabCode(54, 30, -20))).isCloseTo(4f, offset(0.0001f));
+    }
+
+    @Test
+    void cie94_ofSaturatedColours_isSmallerThanCie76Test() {
+        LabCode lab1 = new LabCode(50, 60, 40);
+        LabCode lab2 = new LabCode(50, 66, 30);
+
+        assertThat(DeltaE.CIE94.difference(lab1, lab2)).isLessThan(DeltaE.CIE76.difference(lab1, lab2));
+    }
+
+    /**
+     * <p>Test data of Sharma, Wu and Dalal, "The CIEDE2000 color-difference formula: implementation notes,
+     * supplementary test data, and mathematical observations".</p>
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "50.0000, 2.6772, -79.7751, 50.0000, 0.0000, -82.7485, 2.0425",
+            "50.0000, 3.1571, -77.2803, 50.0000, 0.0000, -82.7485, 2.8615",
+            "50.0000, 2.8361, -74.0200, 50.0000, 0.0000, -82.7485, 3.4412",
+            "50.0000, -1.3802, -84.2814, 50.0000, 0.0000, -82.7485, 1.0000",
+            "50.0000, 0.0000, 0.0000, 50.0000, -1.0000, 2.0000, 2.3669",
+            "50.0000, 2.4900, -0.0010, 50.0000, -2.4900, 0.0009, 7.1792",
+            "50.0000, 2.4900, -0.0010, 50.0000, -2.4900, 0.0011, 7.2195",
+            "50.0000, 2.5000, 0.0000, 73.0000, 25.0000, -18.0000, 27.1492",
+            "50.0000, 2.5000, 0.0000, 61.0000, -5.0000, 29.0000, 22.8977",
+            "50.0000, 2.5000, 0.0000, 56.0000, -27.0000, -3.0000, 31.9030",
+            "60.2574, -34.0099, 36.2677, 60.4626, -34.1751, 39.4387, 1.2644",
+            "22.7233, 20.0904, -46.6940, 23.0331, 14.9730, -42.5619, 2.0373",
+            "2.0776, 0.0795, -1.1350, 0.9033, -0.0636, -0.5514, 0.9082"
+    })
+    void ciede2000_ofSharmaTestData_isTheExpectedDifferenceTest(float l1, float a1, float b1, float l2, float a2, float b2, float expected) {
+        assertThat(DeltaE.CIEDE2000.difference(l1, a1, b1, l2, a2, b2)).isCloseTo(expected, offset(0.0001f));
+        assertThat(DeltaE.CIEDE2000.difference(l2, a2, b2, l1, a1, b1)).isCloseTo(expected, offset(0.0001f));
+    }
+
+}
@@ -0,0 +1,125 @@
+package es.sfernandez.colour.gradient;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.buffer.ColourBuffer;
+import es.sfernandez.colour.codifications.CmykCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.HsvCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColourInterpolationTest {
+
+    //---- Constants and Definitions ----
+    private static final Colour BROWN = new Colour(new RgbCode(200, 100, 50));
+    private static final Colour BLACK = new Colour(new RgbCode(0, 0, 0));
+
+    //---- Tests ----
+    @ParameterizedTest
+    @EnumSource(ColourInterpolation.class)
+    void interpolate_invalidArguments_throwsIllegalArgumentExceptionTest(final ColourInterpolation interpolation) {
+        assertThrows(IllegalArgumentException.class, () -> interpolation.interpolate(null, BROWN, 0.5f));
+        assertThrows(IllegalArgumentException.class, () -> interpolation.interpolate(BROWN, BLACK, 1.5f));
+        assertThrows(IllegalArgumentException.class, () -> interpolation.interpolate(BROWN, BLACK, Float.NaN));
+        assertThrows(IllegalArgumentException.class, () -> interpolation.ramp(BROWN, BLACK, (int[]) null, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> interpolation.ramp(BROWN, BLACK, new int[2], 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> interpolation.ramp(BROWN, BLACK, new int[2], 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> interpolation.ramp(BROWN, BLACK, new ColourBuffer(RgbCode.class, 2), 0, 3));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ColourInterpolation.class, names = {"RGB", "HSL"})
+    void interpolate_ends_areTheColoursTest(final ColourInterpolation interpolation) {
+        assertThat(interpolation.interpolate(BROWN, BLACK, 0f)).isEqualTo(BROWN.as(RgbCode.class));
+        assertThat(interpolation.interpolate(BROWN, BLACK, 1f)).isEqualTo(BLACK.as(RgbCode.class));
+    }
+
+    @Test
+    void interpolate_rgb_isTheMeanOfTheComponentsTest() {
+        Colour transparentWhite = new Colour(new RgbCode(255, 255, 255, 0));
+
+        assertThat(ColourInterpolation.RGB.interpolate(BROWN, BLACK, 0.5f)).isEqualTo(new RgbCode(100, 50, 25));
+        assertThat(ColourInterpolation.RGB.interpolate(BLACK, transparentWhite, 0.2f).toArgb()).isEqualTo(0xCC333333);
+    }
+
+    @Test
+    void interpolate_hsl_goesAroundTheHueCircleByTheShortestWayTest() {
+        Colour magentaRed = new Colour(new HslCode(340, 100, 50));
+        Colour orangeRed = new Colour(new HslCode(20, 100, 50));
+
+        assertThat(ColourInterpolation.HSL.interpolate(magentaRed, orangeRed, 0.5f)).isEqualTo(new RgbCode(255, 0, 0));
+        assertThat(ColourInterpolation.HSL.interpolate(orangeRed, magentaRed, 0.5f)).isEqualTo(new RgbCode(255, 0, 0));
+    }
+
+    @Test
+    void interpolate_hsv_goesAroundTheHueCircleByTheShortestWayTest() {
+        Colour magentaRed = new Colour(new HsvCode(340, 100, 100));
+        Colour orangeRed = new Colour(new HsvCode(20, 100, 100));
+
+        assertThat(ColourInterpolation.HSV.interpolate(magentaRed, orangeRed, 0.5f)).isEqualTo(new RgbCode(255, 0, 0));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ColourInterpolation.class, names = {"HSL", "HSV"})
+    void interpolate_fromGrey_keepsTheHueOfTheOtherColourTest(final ColourInterpolation interpolation) {
+        Colour grey = new Colour(new RgbCode(128, 128, 128));
+        Colour blue = new Colour(new RgbCode(0, 0, 255));
+
+        RgbCode middle = interpolation.interpolate(grey, blue, 0.5f);
+
+        assertThat(middle.red255()).isEqualTo(middle.green255()).isLessThan(middle.blue255());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ColourInterpolation.class)
+    void ramp_intoArgb_isEveryInterpolationTest(final ColourInterpolation interpolation) {
+        int[] argb = new int[12];
+
+        interpolation.ramp(BROWN, new Colour(new HslCode(200, 80, 60)), argb, 1, 11);
+
+        assertThat(argb[0]).isZero();
+        for(int i = 0; i < 11; ++i)
+            assertThat(RgbCode.ofArgb(argb[i + 1]))
+                    .isEqualTo(interpolation.interpolate(BROWN, new Colour(new HslCode(200, 80, 60)), i / 10f));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ColourInterpolation.class)
+    void ramp_intoBufferOfOtherSpace_isConvertedAndKeepsTheRestOfTheBufferTest(final ColourInterpolation interpolation) {
+        Colour to = new Colour(new HsvCode(300, 40, 90));
+        ColourBuffer expected = new ColourBuffer(RgbCode.class, 8);
+        interpolation.ramp(BROWN, to, expected, 0, 8);
+        expected.convertTo(CmykCode.class);
+        ColourBuffer buffer = new ColourBuffer(CmykCode.class, 10);
+        buffer.set(0, new CmykCode(0.1f, 0.2f, 0.3f, 0.4f));
+        float[] last = {buffer.get(9, 0), buffer.get(9, 1), buffer.get(9, 2), buffer.get(9, 3)};
+
+        interpolation.ramp(BROWN, to, buffer, 1, 8);
+
+        assertThat(buffer.get(0)).isEqualTo(new CmykCode(0.1f, 0.2f, 0.3f, 0.4f));
+        assertThat(new float[] {buffer.get(9, 0), buffer.get(9, 1), buffer.get(9, 2), buffer.get(9, 3)}).containsExactly(last);
+        for(int i = 0; i < 8; ++i)
+            for(int c = 0; c < 4; ++c)
+                assertThat(buffer.get(i + 1, c)).isEqualTo(expected.get(i, c));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ColourInterpolation.class, names = {"RGB", "HSL"})
+    void ramp_oneOrNoSteps_writesOnlyTheFirstColourTest(final ColourInterpolation interpolation) {
+        int[] argb = new int[3];
+
+        interpolation.ramp(BROWN, BLACK, argb, 1, 1);
+        interpolation.ramp(BROWN, BLACK, argb, 3, 0);
+
+        assertThat(argb).containsExactly(0, BROWN.as(RgbCode.class).toArgb(), 0);
+        assertThat(Arrays.stream(argb).filter(c -> c != 0).count()).isOne();
+    }
+
+}
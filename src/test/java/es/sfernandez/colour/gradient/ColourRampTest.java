@@ -0,0 +1,92 @@
+package es.sfernandez.colour.gradient;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColourRampTest {
+
+    //---- Constants and Definitions ----
+    private static final Colour BLUE = new Colour(new RgbCode(0, 0, 255));
+    private static final Colour YELLOW = new Colour(new RgbCode(255, 255, 0));
+    private static final Colour RED = new Colour(new RgbCode(255, 0, 0));
+    private static final List<Colour> HEATMAP = List.of(BLUE, YELLOW, RED);
+
+    //---- Tests ----
+    @Test
+    void create_invalidArguments_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ColourRamp(null, ColourInterpolation.RGB));
+        assertThrows(IllegalArgumentException.class, () -> new ColourRamp(List.of(), ColourInterpolation.RGB));
+        assertThrows(IllegalArgumentException.class, () -> new ColourRamp(Arrays.asList(BLUE, null), ColourInterpolation.RGB));
+        assertThrows(IllegalArgumentException.class, () -> new ColourRamp(HEATMAP, null));
+        assertThrows(IllegalArgumentException.class, () -> new ColourRamp(HEATMAP, ColourInterpolation.RGB, 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ColourInterpolation.class)
+    void colourAt_stops_areTheStopsTest(final ColourInterpolation interpolation) {
+        ColourRamp ramp = new ColourRamp(HEATMAP, interpolation, 101);
+
+        assertThat(ramp.resolution()).isEqualTo(101);
+        assertThat(ramp.colourAt(0f)).isEqualTo(BLUE.as(RgbCode.class));
+        assertThat(ramp.colourAt(0.5f)).isEqualTo(YELLOW.as(RgbCode.class));
+        assertThat(ramp.colourAt(1f)).isEqualTo(RED.as(RgbCode.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ColourInterpolation.class)
+    void colourAt_betweenStops_isTheInterpolationOfTheStopsTest(final ColourInterpolation interpolation) {
+        ColourRamp ramp = new ColourRamp(HEATMAP, interpolation, 21);
+
+        for(int i = 0; i <= 10; ++i) {
+            assertThat(ramp.colourAt(i / 20f)).isEqualTo(interpolation.interpolate(BLUE, YELLOW, i / 10f));
+            assertThat(ramp.colourAt(0.5f + i / 20f)).isEqualTo(interpolation.interpolate(YELLOW, RED, i / 10f));
+        }
+    }
+
+    @Test
+    void colourAt_outOfRange_isClampedTest() {
+        ColourRamp ramp = new ColourRamp(HEATMAP, ColourInterpolation.HSL);
+
+        assertThat(ramp.argbAt(-0.5f)).isEqualTo(BLUE.as(RgbCode.class).toArgb());
+        assertThat(ramp.argbAt(Float.NaN)).isEqualTo(BLUE.as(RgbCode.class).toArgb());
+        assertThat(ramp.argbAt(7f)).isEqualTo(RED.as(RgbCode.class).toArgb());
+    }
+
+    @Test
+    void colourAt_oneStop_isAlwaysTheStopTest() {
+        ColourRamp ramp = new ColourRamp(List.of(YELLOW), ColourInterpolation.HSV, 16);
+
+        for(float value = 0; value <= 1; value += 0.1f)
+            assertThat(ramp.colourAt(value)).isEqualTo(YELLOW.as(RgbCode.class));
+    }
+
+    @Test
+    void argbAt_values_isTheColourOfEveryValueTest() {
+        ColourRamp ramp = new ColourRamp(HEATMAP, ColourInterpolation.RGB);
+        Random rnd = new Random(1);
+        float[] values = new float[1000];
+        for(int i = 0; i < values.length; ++i)
+            values[i] = rnd.nextFloat() * 1.2f - 0.1f;
+        int[] argb = new int[values.length + 2];
+
+        ramp.argbAt(values, 0, argb, 1, values.length);
+
+        assertThat(argb[0]).isZero();
+        assertThat(argb[argb.length - 1]).isZero();
+        for(int i = 0; i < values.length; ++i)
+            assertThat(argb[i + 1]).isEqualTo(ramp.argbAt(values[i]));
+        assertThrows(IndexOutOfBoundsException.class, () -> ramp.argbAt(values, 0, argb, 3, values.length));
+        assertThrows(IllegalArgumentException.class, () -> ramp.argbAt(null, 0, argb, 0, 1));
+    }
+
+}
@@ -0,0 +1,176 @@
+package es.sfernandez.colour.image;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.HsvCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.conversion.ColourCodeConverter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static es.sfernandez.colour.conversion.ColourCodeConversion.BULK_COMPONENTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImageConverterTest {
+
+    //---- Constants and Definitions ----
+    private static final int WIDTH = 300;
+    private static final int HEIGHT = 200;
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    //---- Attributes ----
+    private final ColourCodeConverter converter = ColourCodeConverter.defaultConverter();
+    private final ImageConverter imageConverter = new ImageConverter(converter, POOL);
+
+    //---- Fixtures ----
+    private static int[] randomArgbPixels(final int width, final int height) {
+        Random rnd = new Random(width * height);
+        int[] pixels = new int[width * height];
+
+        for(int i = 0; i < pixels.length; ++i)
+            pixels[i] = rnd.nextInt();
+
+        return pixels;
+    }
+
+    private static BufferedImage imageWith(final int[] argbPixels, final int width, final int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, argbPixels, 0, width);
+        return image;
+    }
+
+    @AfterAll
+    static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    //---- Tests ----
+    @Test
+    void create_withoutConverterOrPool_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ImageConverter(null, POOL));
+        assertThrows(IllegalArgumentException.class, () -> new ImageConverter(converter, null));
+    }
+
+    @Test
+    void convert_pixelsThatDoNotMatchImageSize_throwsIllegalArgumentExceptionTest() {
+        int[] pixels = new int[10];
+
+        assertThrows(IllegalArgumentException.class, () -> imageConverter.convert(pixels, 3, 3, HslCode.class));
+        assertThrows(IllegalArgumentException.class, () -> imageConverter.convertBulk(pixels, -2, -5, HslCode.class));
+    }
+
+    @Test
+    void convert_withoutPixelsOrTarget_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> imageConverter.convert((int[]) null, 0, 0, HslCode.class));
+        assertThrows(IllegalArgumentException.class, () -> imageConverter.convert(new int[1], 1, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> imageConverter.convert((BufferedImage) null, HslCode.class));
+    }
+
+    @Test
+    void convert_emptyImage_returnsEmptyListTest() {
+        assertThat(imageConverter.convert(new int[0], 0, 10, HslCode.class)).isEmpty();
+    }
+
+    @Test
+    void convert_returnsTheConversionOfEveryPixelTest() {
+        int[] pixels = randomArgbPixels(WIDTH, HEIGHT);
+
+        List<HslCode> converted = imageConverter.convert(pixels, WIDTH, HEIGHT, HslCode.class);
+
+        assertThat(converted).hasSize(pixels.length);
+        for(int i = 0; i < pixels.length; ++i)
+            assertThat(converted.get(i)).isEqualTo(converter.convert(RgbCode.ofArgb(pixels[i]), HslCode.class));
+    }
+
+    @Test
+    void convert_toColourCodeWithoutBulkConversion_worksTest() {
+        int[] pixels = randomArgbPixels(WIDTH, HEIGHT);
+
+        List<HexCode> converted = imageConverter.convert(pixels, WIDTH, HEIGHT, HexCode.class);
+
+        for(int i = 0; i < pixels.length; ++i)
+            assertThat(converted.get(i).toArgb()).isEqualTo(pixels[i]);
+    }
+
+    @Test
+    void convert_bufferedImage_returnsTheSameAsItsPixelsTest() {
+        int[] pixels = randomArgbPixels(WIDTH, HEIGHT);
+
+        assertThat(imageConverter.convert(imageWith(pixels, WIDTH, HEIGHT), HsvCode.class))
+                .isEqualTo(imageConverter.convert(pixels, WIDTH, HEIGHT, HsvCode.class));
+    }
+
+    @Test
+    void convertBulk_returnsTheComponentsOfTheConversionOfEveryPixelTest() {
+        int[] pixels = randomArgbPixels(WIDTH, HEIGHT);
+
+        float[] converted = imageConverter.convertBulk(pixels, WIDTH, HEIGHT, HsvCode.class);
+
+        assertThat(converted).hasSize(pixels.length * BULK_COMPONENTS);
+        for(int i = 0; i < pixels.length; ++i) {
+            int j = i * BULK_COMPONENTS;
+            assertThat(new HsvCode(converted[j], converted[j + 1], converted[j + 2], converted[j + 3]))
+                    .isEqualTo(converter.convert(RgbCode.ofArgb(pixels[i]), HsvCode.class));
+        }
+    }
+
+    @Test
+    void convertBulk_bufferedImage_returnsTheSameAsItsPixelsTest() {
+        int[] pixels = randomArgbPixels(WIDTH, HEIGHT);
+
+        assertThat(imageConverter.convertBulk(imageWith(pixels, WIDTH, HEIGHT), HslCode.class))
+                .containsExactly(imageConverter.convertBulk(pixels, WIDTH, HEIGHT, HslCode.class));
+    }
+
+    @Test
+    void convertBulk_toRgbCode_returnsTheNormalizedComponentsTest() {
+        int[] pixels = {0x80FF0000, 0xFF00FF7F};
+
+        float[] converted = imageConverter.convertBulk(pixels, 2, 1, RgbCode.class);
+
+        assertThat(new RgbCode(converted[0], converted[1], converted[2], converted[3])).isEqualTo(RgbCode.ofArgb(pixels[0]));
+        assertThat(new RgbCode(converted[4], converted[5], converted[6], converted[7])).isEqualTo(RgbCode.ofArgb(pixels[1]));
+    }
+
+    @Test
+    void convertBulk_imageWhoseComponentsDoNotFitInAnArray_throwsIllegalArgumentExceptionTest() {
+        BufferedImage hugeImage = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB) {
+            @Override
+            public int getWidth() {
+                return 30_000;
+            }
+
+            @Override
+            public int getHeight() {
+                return 20_000;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> imageConverter.convertBulk(hugeImage, HslCode.class));
+    }
+
+    @Test
+    void convertBulk_toColourCodeWithoutBulkConversion_throwsUnsupportedOperationExceptionTest() {
+        int[] pixels = randomArgbPixels(WIDTH, HEIGHT);
+
+        assertThrows(UnsupportedOperationException.class, () -> imageConverter.convertBulk(pixels, WIDTH, HEIGHT, HexCode.class));
+    }
+
+    @Test
+    void convert_withDefaultImageConverter_worksTest() {
+        int[] pixels = randomArgbPixels(WIDTH, HEIGHT);
+        ColourCode expected = converter.convert(RgbCode.ofArgb(pixels[pixels.length - 1]), HslCode.class);
+
+        List<HslCode> converted = new ImageConverter().convert(pixels, WIDTH, HEIGHT, HslCode.class);
+
+        assertThat(converted.get(pixels.length - 1)).isEqualTo(expected);
+    }
+
+}
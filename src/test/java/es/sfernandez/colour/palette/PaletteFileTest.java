@@ -0,0 +1,177 @@
+package es.sfernandez.colour.palette;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.buffer.OffHeapColourStore.Format;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaletteFileTest {
+
+    //---- Constants and Definitions ----
+    private static final List<RgbCode> COLOURS = List.of(
+            new RgbCode(255, 0, 0),
+            new RgbCode(0, 128, 0),
+            new RgbCode(0.25f, 0.5f, 0.75f, 0.5f)
+    );
+    private static final List<String> NAMES = List.of("red", "green", "azul cielo ñ");
+
+    //---- Attributes ----
+    @TempDir
+    private Path dir;
+
+    //---- Tests ----
+    @Test
+    void write_withoutRequiredArguments_throwsIllegalArgumentExceptionTest() {
+        Path path = dir.resolve("palette.cpal");
+
+        assertThrows(IllegalArgumentException.class, () -> PaletteFile.write(null, Format.RGBA8, COLOURS));
+        assertThrows(IllegalArgumentException.class, () -> PaletteFile.write(path, null, COLOURS));
+        assertThrows(IllegalArgumentException.class, () -> PaletteFile.write(path, Format.RGBA8, null));
+    }
+
+    @Test
+    void write_withWrongNames_throwsIllegalArgumentExceptionTest() {
+        Path path = dir.resolve("palette.cpal");
+
+        assertThrows(IllegalArgumentException.class, () -> PaletteFile.write(path, Format.RGBA8, COLOURS, List.of("red")));
+        assertThrows(IllegalArgumentException.class, () -> PaletteFile.write(path, Format.RGBA8, COLOURS,
+                Arrays.asList("red", null, "blue")));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void open_writtenPalette_hasTheSameColoursTest(Format format) throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, format, COLOURS);
+
+        PaletteFile palette = PaletteFile.open(path);
+
+        assertThat(palette.size()).isEqualTo(COLOURS.size());
+        assertThat(palette.format()).isEqualTo(format);
+        assertThat(palette.hasNames()).isFalse();
+        assertThat(palette.name(0)).isEmpty();
+        for(int i = 0; i < COLOURS.size(); ++i)
+            assertThat(palette.get(i)).isEqualTo(COLOURS.get(i));
+        assertThat(Files.size(path)).isEqualTo(PaletteFile.HEADER_BYTES + COLOURS.size() * format.bytesPerColour());
+    }
+
+    @Test
+    void open_writtenPaletteWithNames_hasTheSameNamesTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, Format.RGBA8, COLOURS, NAMES);
+
+        PaletteFile palette = PaletteFile.open(path);
+
+        assertThat(palette.hasNames()).isTrue();
+        for(int i = 0; i < NAMES.size(); ++i)
+            assertThat(palette.name(i)).contains(NAMES.get(i));
+    }
+
+    @Test
+    void write_colourCodesOfAnySpace_areStoredAsRgbTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        HexCode hex = new HexCode("#3A7BD5");
+        PaletteFile.write(path, Format.RGBA8, List.of(hex));
+
+        PaletteFile palette = PaletteFile.open(path);
+
+        assertThat(palette.colour(0)).isEqualTo(new Colour(hex));
+        assertThat(palette.colours().get(0, HslCode.class)).isEqualTo(new Colour(hex).as(HslCode.class));
+    }
+
+    @Test
+    void write_existingFile_replacesItTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, Format.RGBA_FLOAT32, COLOURS, NAMES);
+        PaletteFile.write(path, Format.RGBA8, COLOURS.subList(0, 1));
+
+        PaletteFile palette = PaletteFile.open(path);
+
+        assertThat(palette.size()).isOne();
+        assertThat(palette.hasNames()).isFalse();
+        assertThat(Files.size(path)).isEqualTo(PaletteFile.HEADER_BYTES + Format.RGBA8.bytesPerColour());
+    }
+
+    @Test
+    void openedPalette_canNotBeModifiedTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, Format.RGBA8, COLOURS);
+
+        PaletteFile palette = PaletteFile.open(path);
+
+        assertThrows(ReadOnlyBufferException.class, () -> palette.colours().set(0, 0, 0f));
+    }
+
+    @Test
+    void getAndName_outOfBounds_throwIndexOutOfBoundsExceptionTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, Format.RGBA8, COLOURS, NAMES);
+
+        PaletteFile palette = PaletteFile.open(path);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> palette.get(COLOURS.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> palette.name(-1));
+    }
+
+    @Test
+    void open_fileWithoutHeader_throwsInvalidPaletteFileExceptionTest() throws IOException {
+        Path path = Files.writeString(dir.resolve("palette.cpal"), "#FF0000 red\n#00FF00 green\n");
+
+        assertThrows(InvalidPaletteFileException.class, () -> PaletteFile.open(path));
+    }
+
+    @Test
+    void open_truncatedFile_throwsInvalidPaletteFileExceptionTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, Format.RGBA8, COLOURS, NAMES);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+
+        assertThrows(InvalidPaletteFileException.class, () -> PaletteFile.open(path));
+    }
+
+    @Test
+    void name_corruptedOffset_throwsInvalidPaletteFileExceptionTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, Format.RGBA8, COLOURS, NAMES);
+        byte[] bytes = Files.readAllBytes(path);
+        int secondOffset = PaletteFile.HEADER_BYTES + COLOURS.size() * Format.RGBA8.bytesPerColour() + 4;
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(secondOffset, 1000);
+        Files.write(path, bytes);
+
+        PaletteFile palette = PaletteFile.open(path);
+
+        assertThrows(InvalidPaletteFileException.class, () -> palette.name(0));
+        assertThrows(InvalidPaletteFileException.class, () -> palette.name(1));
+        assertThat(palette.name(2)).contains(NAMES.get(2));
+    }
+
+    @Test
+    void open_fileWithUnknownFormat_throwsInvalidPaletteFileExceptionTest() throws IOException {
+        Path path = dir.resolve("palette.cpal");
+        PaletteFile.write(path, Format.RGBA8, COLOURS);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[6] = 7;
+        Files.write(path, bytes);
+
+        assertThrows(InvalidPaletteFileException.class, () -> PaletteFile.open(path));
+    }
+
+}
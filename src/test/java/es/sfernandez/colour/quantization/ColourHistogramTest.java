@@ -0,0 +1,141 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColourHistogramTest {
+
+    //---- Fixtures ----
+    private static int[] randomPixels(final int size, final int colours, final long seed) {
+        Random rnd = new Random(seed);
+        int[] palette = rnd.ints(colours).toArray();
+        int[] pixels = new int[size];
+        for(int i = 0; i < size; ++i)
+            pixels[i] = palette[Math.min(colours - 1, (int) Math.abs(rnd.nextGaussian() * colours / 3))];
+
+        return pixels;
+    }
+
+    private static Map<Integer, Long> countsOf(final int[] pixels) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for(int pixel : pixels)
+            counts.merge(pixel, 1L, Long::sum);
+
+        return counts;
+    }
+
+    //---- Tests ----
+    @Test
+    void create_negativeExpectedColours_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new ColourHistogram(-1));
+    }
+
+    @Test
+    void add_invalidArguments_throwsIllegalArgumentExceptionTest() {
+        ColourHistogram histogram = new ColourHistogram();
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.add((ColourCode) null));
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(0xFF000000, -1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.addAll(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> histogram.addAll(new int[4], 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> histogram.merge(null));
+        assertThrows(IllegalArgumentException.class, () -> histogram.topArgb(-1));
+    }
+
+    @Test
+    void addAll_pixels_countsEveryColourTest() {
+        int[] pixels = randomPixels(100_000, 5_000, 1);
+        Map<Integer, Long> expected = countsOf(pixels);
+
+        ColourHistogram histogram = new ColourHistogram(4).addAll(pixels);
+
+        assertThat(histogram.size()).isEqualTo(expected.size());
+        assertThat(histogram.total()).isEqualTo(pixels.length);
+        expected.forEach((argb, count) -> assertThat(histogram.count(argb)).isEqualTo(count));
+        assertThat(histogram.count(0x12345678)).isEqualTo(expected.getOrDefault(0x12345678, 0L));
+    }
+
+    @Test
+    void add_transparentBlack_isCountedTest() {
+        ColourHistogram histogram = new ColourHistogram().add(0).add(0).add(0, 3);
+
+        assertThat(histogram.count(0)).isEqualTo(5);
+        assertThat(histogram.size()).isEqualTo(1);
+    }
+
+    @Test
+    void add_colourCodes_countsTheirRgbCodeTest() {
+        ColourHistogram histogram = new ColourHistogram()
+                .add(new RgbCode(255, 0, 0))
+                .add(new HexCode("#FF0000"))
+                .add(new HslCode(0f, 1f, 0.5f));
+
+        assertThat(histogram.count(new RgbCode(255, 0, 0))).isEqualTo(3);
+        assertThat(histogram.count(0xFFFF0000)).isEqualTo(3);
+    }
+
+    @Test
+    void merge_partialHistograms_isTheHistogramOfAllPixelsTest() {
+        int[] pixels = randomPixels(100_000, 2_000, 2);
+        ColourHistogram first = new ColourHistogram().addAll(pixels, 0, 30_000);
+        ColourHistogram second = new ColourHistogram().addAll(pixels, 30_000, pixels.length - 30_000);
+
+        ColourHistogram merged = first.merge(second);
+
+        ColourHistogram whole = new ColourHistogram().addAll(pixels);
+        assertThat(merged.size()).isEqualTo(whole.size());
+        assertThat(merged.total()).isEqualTo(whole.total());
+        assertThat(merged.topArgb(whole.size())).containsExactly(whole.topArgb(whole.size()));
+    }
+
+    @Test
+    void collector_parallelStream_isTheHistogramOfAllColoursTest() {
+        int[] pixels = randomPixels(50_000, 500, 3);
+
+        ColourHistogram histogram = IntStream.of(pixels).parallel()
+                .mapToObj(RgbCode::ofArgb)
+                .collect(ColourHistogram.collector());
+
+        ColourHistogram expected = new ColourHistogram().addAll(pixels);
+        assertThat(histogram.total()).isEqualTo(pixels.length);
+        assertThat(histogram.topArgb(10)).containsExactly(expected.topArgb(10));
+    }
+
+    @Test
+    void topArgb_isSortedByCountAndThenByArgbTest() {
+        int[] pixels = randomPixels(100_000, 5_000, 4);
+        Map<Integer, Long> counts = countsOf(pixels);
+        int[] expected = counts.entrySet().stream()
+                .sorted((e1, e2) -> !e1.getValue().equals(e2.getValue()) ? Long.compare(e2.getValue(), e1.getValue())
+                        : Integer.compareUnsigned(e1.getKey(), e2.getKey()))
+                .limit(25)
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+
+        ColourHistogram histogram = new ColourHistogram().addAll(pixels);
+
+        assertThat(histogram.topArgb(25)).containsExactly(expected);
+        assertThat(histogram.top(25)).extracting(RgbCode::toArgb).containsExactly(IntStream.of(expected).boxed().toArray(Integer[]::new));
+    }
+
+    @Test
+    void topArgb_moreThanSize_returnsEveryColourTest() {
+        ColourHistogram histogram = new ColourHistogram().add(0xFF000001, 2).add(0xFF000002, 5);
+
+        assertThat(histogram.topArgb(10)).containsExactly(0xFF000002, 0xFF000001);
+        assertThat(histogram.topArgb(0)).isEmpty();
+        assertThat(new ColourHistogram().top(3)).isEmpty();
+    }
+
+}
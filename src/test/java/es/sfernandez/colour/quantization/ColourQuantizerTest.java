@@ -0,0 +1,134 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.buffer.ColourBuffer;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColourQuantizerTest {
+
+    //---- Fixtures ----
+    private static Stream<ColourQuantizer> quantizers() {
+        return Stream.of(
+                new MedianCutQuantizer(),
+                new OctreeQuantizer(),
+                new KMeansQuantizer(),
+                new KMeansQuantizer(KMeansQuantizer.Space.OKLAB)
+        );
+    }
+
+    private static final List<RgbCode> COLOURS = List.of(
+            new RgbCode(200, 16, 32), new RgbCode(16, 200, 32), new RgbCode(16, 32, 200),
+            new RgbCode(240, 240, 240), new RgbCode(8, 8, 8)
+    );
+
+    /**
+     * @return pixels with the i-th colour of COLOURS repeated 100 * (COLOURS.size() - i) times
+     */
+    private static int[] pixelsOf(final List<RgbCode> colours) {
+        List<Integer> pixels = new ArrayList<>();
+        for(int i = 0; i < colours.size(); ++i)
+            for(int j = 0; j < 100 * (colours.size() - i); ++j)
+                pixels.add(colours.get(i).toArgb());
+
+        return pixels.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] randomPixels(final int size, final long seed) {
+        Random rnd = new Random(seed);
+        int[] pixels = new int[size];
+        for(int i = 0; i < size; ++i)
+            pixels[i] = rnd.nextInt() | 0xFF000000;
+
+        return pixels;
+    }
+
+    //---- Tests ----
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_invalidArguments_throwsIllegalArgumentExceptionTest(final ColourQuantizer quantizer) {
+        assertThrows(IllegalArgumentException.class, () -> quantizer.quantize((int[]) null, 4));
+        assertThrows(IllegalArgumentException.class, () -> quantizer.quantize((ColourBuffer) null, 4));
+        assertThrows(IllegalArgumentException.class, () -> quantizer.quantize(new int[] {0xFF000000}, 0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_fewColours_returnsThemByPopulationTest(final ColourQuantizer quantizer) {
+        List<RgbCode> palette = quantizer.quantize(pixelsOf(COLOURS), 8);
+
+        assertThat(palette).containsExactlyElementsOf(COLOURS);
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_manyColours_returnsAtMostTheColoursTest(final ColourQuantizer quantizer) {
+        int[] pixels = randomPixels(50_000, 1);
+
+        for(int colours : new int[] {1, 2, 7, 16, 64})
+            assertThat(quantizer.quantize(pixels, colours)).hasSizeBetween(1, colours);
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_oneColour_returnsTheMeanColourTest(final ColourQuantizer quantizer) {
+        int[] pixels = {new RgbCode(0, 0, 0).toArgb(), new RgbCode(100, 200, 50).toArgb()};
+
+        assertThat(quantizer.quantize(pixels, 1)).containsExactly(new RgbCode(50, 100, 25));
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_transparentPixels_areIgnoredTest(final ColourQuantizer quantizer) {
+        int[] pixels = {0x00FF0000, 0x0000FF00, new RgbCode(16, 32, 200).toArgb()};
+
+        assertThat(quantizer.quantize(pixels, 4)).containsExactly(new RgbCode(16, 32, 200));
+        assertThat(quantizer.quantize(new int[] {0x00FF0000}, 4)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_buffer_isTheSameAsItsPixelsTest(final ColourQuantizer quantizer) {
+        int[] pixels = randomPixels(5_000, 2);
+        ColourBuffer rgb = new ColourBuffer(RgbCode.class, pixels.length);
+        for(int i = 0; i < pixels.length; ++i)
+            rgb.set(i, RgbCode.ofArgb(pixels[i]));
+
+        assertThat(quantizer.quantize(rgb, 8)).isEqualTo(quantizer.quantize(pixels, 8));
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_bufferWithComponentsOutOfRange_clampsThemTest(final ColourQuantizer quantizer) {
+        ColourBuffer rgb = new ColourBuffer(RgbCode.class, 1);
+        rgb.set(0, 1.003f, -0.002f, 0f, 1f);
+
+        assertThat(quantizer.quantize(rgb, 8)).containsExactly(new RgbCode(255, 0, 0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("quantizers")
+    void quantize_bufferInOtherSpace_isNotModifiedTest(final ColourQuantizer quantizer) {
+        ColourBuffer hsl = new ColourBuffer(HslCode.class, COLOURS.size());
+        for(int i = 0; i < COLOURS.size(); ++i)
+            hsl.set(i, COLOURS.get(i));
+        float[] planes = hsl.array().clone();
+        List<RgbCode> colours = new ArrayList<>();
+        for(int i = 0; i < COLOURS.size(); ++i)
+            colours.add(hsl.getRgb(i));
+
+        assertThat(quantizer.quantize(hsl, 8)).containsExactlyInAnyOrderElementsOf(colours);
+        assertThat(hsl.space()).isEqualTo(HslCode.class);
+        assertThat(hsl.array()).containsExactly(planes);
+    }
+
+}
@@ -0,0 +1,128 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.WebColour;
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DominantColoursTest {
+
+    //---- Fixtures ----
+    private static final int RED = new RgbCode(255, 0, 0).toArgb();
+    private static final int GREEN = new RgbCode(0, 255, 0).toArgb();
+    private static final int BLUE = new RgbCode(0, 0, 255).toArgb();
+
+    /**
+     * @return 60% of red pixels, 30% of green pixels and 10% of blue pixels, shuffled
+     */
+    private static int[] image(final int size, final long seed) {
+        Random rnd = new Random(seed);
+        int[] pixels = new int[size];
+        for(int i = 0; i < size; ++i) {
+            int dice = rnd.nextInt(10);
+            pixels[i] = dice < 6 ? RED : dice < 9 ? GREEN : BLUE;
+        }
+
+        return pixels;
+    }
+
+    //---- Tests ----
+    @Test
+    void create_invalidArguments_throwsIllegalArgumentExceptionTest() {
+        MedianCutQuantizer quantizer = new MedianCutQuantizer();
+        DominantColours.Sampling sampling = DominantColours.Sampling.STRIDE;
+
+        assertThrows(IllegalArgumentException.class, () -> new DominantColours(null));
+        assertThrows(IllegalArgumentException.class, () -> new DominantColours(null, sampling, 10, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> new DominantColours(quantizer, null, 10, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> new DominantColours(quantizer, sampling, 0, Runnable::run));
+    }
+
+    @Test
+    void extract_invalidArguments_throwsIllegalArgumentExceptionTest() {
+        DominantColours dominantColours = new DominantColours(Runnable::run);
+
+        assertThrows(IllegalArgumentException.class, () -> dominantColours.extract(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> dominantColours.extract(new int[] {RED}, 0));
+        assertThrows(IllegalArgumentException.class, () -> dominantColours.extractAsync(null, 3));
+    }
+
+    @Test
+    void extract_smallImage_isThePaletteOfTheQuantizerTest() {
+        int[] pixels = image(1_000, 1);
+
+        List<WebColour> colours = new DominantColours(Runnable::run).extract(pixels, 3);
+
+        assertThat(colours).extracting(WebColour::toCssCode)
+                .containsExactly("rgb(255, 0, 0)", "rgb(0, 255, 0)", "rgb(0, 0, 255)");
+    }
+
+    @ParameterizedTest
+    @EnumSource(DominantColours.Sampling.class)
+    void extract_bigImage_keepsTheDominantColoursTest(final DominantColours.Sampling sampling) {
+        int[] pixels = image(1_000_000, 2);
+        DominantColours dominantColours = new DominantColours(new MedianCutQuantizer(), sampling, 10_000, Runnable::run);
+
+        List<WebColour> colours = dominantColours.extract(pixels, 3);
+
+        assertThat(colours).containsExactly(new WebColour(RgbCode.ofArgb(RED)), new WebColour(RgbCode.ofArgb(GREEN)),
+                new WebColour(RgbCode.ofArgb(BLUE)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DominantColours.Sampling.class)
+    void sample_bigImage_takesMaxSamplesPixelsOfTheImageTest(final DominantColours.Sampling sampling) {
+        int[] pixels = IntStream.range(0, 100_000).toArray();
+        DominantColours dominantColours = new DominantColours(new MedianCutQuantizer(), sampling, 1_000, Runnable::run);
+
+        int[] samples = dominantColours.sample(pixels);
+
+        assertThat(samples).hasSize(1_000).doesNotHaveDuplicates();
+        assertThat(IntStream.of(samples).allMatch(pixel -> 0 <= pixel && pixel < 100_000)).isTrue();
+        assertThat(dominantColours.sample(pixels)).containsExactly(samples);
+        assertThat(IntStream.of(samples).filter(pixel -> pixel >= 50_000).count()).isBetween(400L, 600L);
+    }
+
+    @Test
+    void sample_smallImage_isTheImageTest() {
+        int[] pixels = image(100, 3);
+        DominantColours dominantColours = new DominantColours(new MedianCutQuantizer(), DominantColours.Sampling.RANDOM,
+                100, Runnable::run);
+
+        assertThat(dominantColours.sample(pixels)).isSameAs(pixels);
+    }
+
+    @Test
+    void extractAsync_runsInTheExecutorTest() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            tasks.incrementAndGet();
+            pool.execute(task);
+        };
+        int[] pixels = image(10_000, 4);
+        DominantColours dominantColours = new DominantColours(executor);
+
+        try {
+            List<WebColour> colours = dominantColours.extractAsync(pixels, 3).get();
+
+            assertThat(colours).isEqualTo(dominantColours.extract(pixels, 3));
+            assertThat(tasks.get()).isEqualTo(1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
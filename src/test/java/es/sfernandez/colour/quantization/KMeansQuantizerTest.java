@@ -0,0 +1,101 @@
+package es.sfernandez.colour.quantization;
+
+import es.sfernandez.colour.codifications.RgbCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KMeansQuantizerTest {
+
+    //---- Fixtures ----
+    /**
+     * @return pixels around some random centres
+     */
+    private static int[] clusteredPixels(final int size, final long seed) {
+        Random rnd = new Random(seed);
+        int[] centres = new int[12];
+        for(int i = 0; i < centres.length; ++i)
+            centres[i] = rnd.nextInt();
+
+        int[] pixels = new int[size];
+        for(int i = 0; i < size; ++i) {
+            int centre = centres[rnd.nextInt(centres.length)];
+            int red = clamp(((centre >>> 16) & 0xFF) + (int) (rnd.nextGaussian() * 12));
+            int green = clamp(((centre >>> 8) & 0xFF) + (int) (rnd.nextGaussian() * 12));
+            int blue = clamp((centre & 0xFF) + (int) (rnd.nextGaussian() * 12));
+            pixels[i] = 0xFF000000 | (red << 16) | (green << 8) | blue;
+        }
+
+        return pixels;
+    }
+
+    private static int clamp(final int level) {
+        return Math.max(0, Math.min(255, level));
+    }
+
+    /**
+     * @return the sum of the squared distances between every pixel and its nearest colour of the palette
+     */
+    private static double error(final int[] pixels, final List<RgbCode> palette) {
+        double error = 0;
+        for(int pixel : pixels) {
+            double nearest = Double.POSITIVE_INFINITY;
+            for(RgbCode colour : palette) {
+                int argb = colour.toArgb();
+                double dr = ((pixel >>> 16) & 0xFF) - ((argb >>> 16) & 0xFF);
+                double dg = ((pixel >>> 8) & 0xFF) - ((argb >>> 8) & 0xFF);
+                double db = (pixel & 0xFF) - (argb & 0xFF);
+                nearest = Math.min(nearest, dr * dr + dg * dg + db * db);
+            }
+            error += nearest;
+        }
+
+        return error;
+    }
+
+    //---- Tests ----
+    @Test
+    void create_invalidArguments_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new KMeansQuantizer(null));
+        assertThrows(IllegalArgumentException.class, () -> new KMeansQuantizer(KMeansQuantizer.Space.RGB, -1, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> new KMeansQuantizer(KMeansQuantizer.Space.RGB, 4, null));
+    }
+
+    @Test
+    void quantize_withoutIterations_isMedianCutTest() {
+        int[] pixels = clusteredPixels(20_000, 1);
+        KMeansQuantizer quantizer = new KMeansQuantizer(KMeansQuantizer.Space.RGB, 0, ForkJoinPool.commonPool());
+
+        assertThat(quantizer.quantize(pixels, 8)).isEqualTo(new MedianCutQuantizer().quantize(pixels, 8));
+    }
+
+    @Test
+    void quantize_rgb_hasLessErrorThanMedianCutTest() {
+        int[] pixels = clusteredPixels(100_000, 2);
+
+        List<RgbCode> kMeans = new KMeansQuantizer().quantize(pixels, 12);
+        List<RgbCode> medianCut = new MedianCutQuantizer().quantize(pixels, 12);
+
+        assertThat(error(pixels, kMeans)).isLessThanOrEqualTo(error(pixels, medianCut));
+    }
+
+    @Test
+    void quantize_inAnyPool_isTheSameTest() {
+        int[] pixels = clusteredPixels(100_000, 3);
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        try {
+            for(KMeansQuantizer.Space space : KMeansQuantizer.Space.values())
+                assertThat(new KMeansQuantizer(space, 8, pool).quantize(pixels, 32))
+                        .isEqualTo(new KMeansQuantizer(space, 8, ForkJoinPool.commonPool()).quantize(pixels, 32));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
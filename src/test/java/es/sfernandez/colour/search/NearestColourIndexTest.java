@@ -0,0 +1,159 @@
+package es.sfernandez.colour.search;
+
+import es.sfernandez.colour.Colour;
+import es.sfernandez.colour.codifications.ColourCode;
+import es.sfernandez.colour.codifications.HexCode;
+import es.sfernandez.colour.codifications.HslCode;
+import es.sfernandez.colour.codifications.RgbCode;
+import es.sfernandez.colour.search.NearestColourIndex.Space;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NearestColourIndexTest {
+
+    //---- Constants and Definitions ----
+    private static final int PALETTE_SIZE = 5_000;
+    private static final int QUERIES = 500;
+
+    //---- Fixtures ----
+    private static List<RgbCode> randomPalette(final int size, final long seed) {
+        Random rnd = new Random(seed);
+        List<RgbCode> palette = new ArrayList<>(size);
+        for(int i = 0; i < size; ++i)
+            palette.add(RgbCode.ofArgb(rnd.nextInt() | 0xFF000000));
+
+        return palette;
+    }
+
+    private static float distance(final Space space, final ColourCode a, final ColourCode b) {
+        float[] coordinates = new float[6];
+        space.coordinatesOf((RgbCode) a, coordinates, 0);
+        space.coordinatesOf((RgbCode) b, coordinates, 3);
+
+        float dx = coordinates[0] - coordinates[3];
+        float dy = coordinates[1] - coordinates[4];
+        float dz = coordinates[2] - coordinates[5];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static List<Float> bruteForceDistances(final Space space, final List<RgbCode> palette, final RgbCode target, final int k) {
+        return palette.stream()
+                .map(colour -> distance(space, colour, target))
+                .sorted(Comparator.naturalOrder())
+                .limit(k)
+                .toList();
+    }
+
+    //---- Tests ----
+    @Test
+    void create_withoutColours_throwsIllegalArgumentExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new NearestColourIndex<>(null));
+        assertThrows(IllegalArgumentException.class, () -> new NearestColourIndex<>(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new NearestColourIndex<>(Arrays.asList(new HexCode("#fff"), null)));
+        assertThrows(IllegalArgumentException.class, () -> new NearestColourIndex<>(List.of(new HexCode("#fff")), null));
+    }
+
+    @Test
+    void nearest_nullColourOrNotPositiveK_throwsIllegalArgumentExceptionTest() {
+        NearestColourIndex<HexCode> index = new NearestColourIndex<>(List.of(new HexCode("#fff")));
+
+        assertThrows(IllegalArgumentException.class, () -> index.nearest((ColourCode) null));
+        assertThrows(IllegalArgumentException.class, () -> index.nearest((Colour) null));
+        assertThrows(IllegalArgumentException.class, () -> index.nearest(new HexCode("#000"), 0));
+    }
+
+    @Test
+    void nearest_returnsTheColourOfThePaletteWithItsCodeTest() {
+        List<HexCode> palette = List.of(new HexCode("#FF0000"), new HexCode("#00FF00"), new HexCode("#0000FF"));
+        NearestColourIndex<HexCode> index = new NearestColourIndex<>(palette);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.colours()).isEqualTo(palette);
+        assertThat(index.nearest(new HslCode(230, 80, 40))).isSameAs(palette.get(2));
+        assertThat(index.nearest(new Colour(new RgbCode(200, 30, 10)))).isSameAs(palette.get(0));
+        assertThat(index.nearestIndex(new RgbCode(10, 200, 30))).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Space.class)
+    void nearest_isAsCloseAsTheClosestOfTheWholePaletteTest(Space space) {
+        List<RgbCode> palette = randomPalette(PALETTE_SIZE, 18);
+        NearestColourIndex<RgbCode> index = new NearestColourIndex<>(palette, space);
+
+        for(RgbCode target : randomPalette(QUERIES, 81))
+            assertThat(distance(space, index.nearest(target), target))
+                    .isEqualTo(bruteForceDistances(space, palette, target, 1).get(0));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Space.class)
+    void nearestK_areTheKClosestFromTheClosestToTheFarthestTest(Space space) {
+        List<RgbCode> palette = randomPalette(PALETTE_SIZE, 18);
+        NearestColourIndex<RgbCode> index = new NearestColourIndex<>(palette, space);
+
+        for(RgbCode target : randomPalette(QUERIES, 81)) {
+            List<Float> distances = index.nearest(target, 7).stream()
+                    .map(colour -> distance(space, colour, target))
+                    .toList();
+
+            assertThat(distances).isEqualTo(bruteForceDistances(space, palette, target, 7));
+        }
+    }
+
+    @Test
+    void nearestK_biggerThanThePalette_returnsEveryColourTest() {
+        List<RgbCode> palette = randomPalette(10, 1);
+        NearestColourIndex<RgbCode> index = new NearestColourIndex<>(palette);
+
+        assertThat(index.nearest(new RgbCode(0, 0, 0), 50)).containsExactlyInAnyOrderElementsOf(palette);
+    }
+
+    @Test
+    void nearest_paletteWithRepeatedColours_findsThemTest() {
+        List<RgbCode> palette = new ArrayList<>(randomPalette(100, 2));
+        palette.addAll(palette);
+        NearestColourIndex<RgbCode> index = new NearestColourIndex<>(palette);
+
+        for(RgbCode colour : palette)
+            assertThat(index.nearest(colour)).isEqualTo(colour);
+    }
+
+    @Test
+    void nearest_fromSeveralThreads_findsTheSameColoursTest() {
+        List<RgbCode> palette = randomPalette(PALETTE_SIZE, 18);
+        List<RgbCode> targets = randomPalette(QUERIES * 10, 81);
+        NearestColourIndex<RgbCode> index = new NearestColourIndex<>(palette, Space.CIELAB);
+        List<RgbCode> expected = targets.stream().map(index::nearest).toList();
+
+        List<RgbCode> nearest = IntStream.range(0, targets.size()).parallel()
+                .mapToObj(i -> index.nearest(targets.get(i)))
+                .toList();
+
+        assertThat(nearest).isEqualTo(expected);
+    }
+
+    @Test
+    void cielab_ofWhiteAndBlack_areTheLightnessLimitsTest() {
+        float[] coordinates = new float[6];
+
+        Space.CIELAB.coordinatesOf(new RgbCode(255, 255, 255), coordinates, 0);
+        Space.CIELAB.coordinatesOf(new RgbCode(0, 0, 0), coordinates, 3);
+
+        assertThat(coordinates[0]).isCloseTo(100f, offset(0.01f));
+        assertThat(coordinates[1]).isCloseTo(0f, offset(0.01f));
+        assertThat(coordinates[3]).isEqualTo(0f);
+    }
+
+}
@@ -0,0 +1,106 @@
+package es.sfernandez.colour.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class ColourSpaceUtilsTest {
+
+    //---- Fixtures ----
+    private static float decode(final float component) {
+        return (float) (component <= 0.04045
+                ? component / 12.92
+                : Math.pow((component + 0.055) / 1.055, 2.4));
+    }
+
+    //---- Tests ----
+    @Test
+    void toLinear_ofEvery8BitLevel_isTheSameAsTheCalculationTest() {
+        for(int level = 0; level < 256; ++level)
+            assertThat(ColourSpaceUtils.toLinear(level / 255f)).as("level %d", level).isEqualTo(decode(level / 255f));
+    }
+
+    @Test
+    void toLinear_ofNot8BitComponent_isCalculatedTest() {
+        assertThat(ColourSpaceUtils.toLinear(0.1234f)).isEqualTo(decode(0.1234f));
+        assertThat(ColourSpaceUtils.toLinear(0.5f)).isEqualTo(decode(0.5f));
+    }
+
+    @Test
+    void toGammaEncoded_ofLinearLevels_returnsTheLevelsTest() {
+        for(int level = 0; level < 256; ++level)
+            assertThat(Math.round(255 * ColourSpaceUtils.toGammaEncoded(ColourSpaceUtils.toLinear(level / 255f))))
+                    .isEqualTo(level);
+    }
+
+    @Test
+    void toGammaEncoded_outOfTheGamut_isClippedTest() {
+        assertThat(ColourSpaceUtils.toGammaEncoded(-0.5f)).isZero();
+        assertThat(ColourSpaceUtils.toGammaEncoded(Float.NaN)).isZero();
+        assertThat(ColourSpaceUtils.toGammaEncoded(1.5f)).isOne();
+    }
+
+    @Test
+    void lab_ofSrgbRed_isTheReferenceValueTest() {
+        float[] lab = new float[3];
+
+        ColourSpaceUtils.rgbToXyz(1f, 0f, 0f, lab, 0);
+        ColourSpaceUtils.xyzToLab(lab[0], lab[1], lab[2], lab, 0);
+
+        assertThat(lab[0]).isCloseTo(53.24f, offset(0.01f));
+        assertThat(lab[1]).isCloseTo(80.09f, offset(0.01f));
+        assertThat(lab[2]).isCloseTo(67.20f, offset(0.01f));
+    }
+
+    @Test
+    void okLab_ofSrgbRed_isTheReferenceValueTest() {
+        float[] lab = new float[3];
+
+        ColourSpaceUtils.rgbToOkLab(1f, 0f, 0f, lab, 0);
+
+        assertThat(lab[0]).isCloseTo(0.6280f, offset(0.0001f));
+        assertThat(lab[1]).isCloseTo(0.2249f, offset(0.0001f));
+        assertThat(lab[2]).isCloseTo(0.1258f, offset(0.0001f));
+    }
+
+    @Test
+    void labOfWhite_hasFullLightnessAndNoChromaTest() {
+        float[] lab = new float[6];
+
+        ColourSpaceUtils.rgbToXyz(1f, 1f, 1f, lab, 0);
+        ColourSpaceUtils.xyzToLab(lab[0], lab[1], lab[2], lab, 0);
+        ColourSpaceUtils.rgbToOkLab(1f, 1f, 1f, lab, 3);
+
+        assertThat(lab[0]).isCloseTo(100f, offset(0.01f));
+        assertThat(lab[1]).isCloseTo(0f, offset(0.01f));
+        assertThat(lab[2]).isCloseTo(0f, offset(0.01f));
+        assertThat(lab[3]).isCloseTo(1f, offset(0.0001f));
+        assertThat(lab[4]).isCloseTo(0f, offset(0.0001f));
+        assertThat(lab[5]).isCloseTo(0f, offset(0.0001f));
+    }
+
+    @Test
+    void lchOfLab_canBeInvertedTest() {
+        float[] lch = new float[3];
+        float[] lab = new float[3];
+
+        ColourSpaceUtils.labToLch(50f, -30f, -40f, lch, 0);
+        ColourSpaceUtils.lchToLab(lch[0], lch[1], lch[2], lab, 0);
+
+        assertThat(lch[1]).isCloseTo(50f, offset(0.0001f));
+        assertThat(lch[2]).isBetween(180f, 270f);
+        assertThat(lab).containsExactly(new float[]{50f, -30f, -40f}, offset(0.0001f));
+    }
+
+    @Test
+    void lchOfGrey_hasNoChromaAndAValidHueTest() {
+        float[] lch = new float[3];
+
+        ColourSpaceUtils.labToLch(50f, 0f, -0f, lch, 0);
+
+        assertThat(lch[1]).isZero();
+        assertThat(lch[2]).isGreaterThanOrEqualTo(0f).isLessThan(360f);
+    }
+
+}
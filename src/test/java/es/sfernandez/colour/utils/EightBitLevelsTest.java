@@ -0,0 +1,64 @@
+package es.sfernandez.colour.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EightBitLevelsTest {
+
+    //---- Fixtures ----
+    private static final EightBitLevels.HueCalculation RED_COMPONENT_AS_HUE =
+            (red, green, blue, max, delta) -> Math.round(red * 255);
+
+    //---- Tests ----
+    @Test
+    void levelOf_every8BitLevel_isTheLevelTest() {
+        for(int level = 0; level < 256; ++level) {
+            assertThat(EightBitLevels.valueOf(level)).isEqualTo(level / 255f);
+            assertThat(EightBitLevels.levelOf(level / 255f)).isEqualTo(level);
+        }
+    }
+
+    @Test
+    void levelOf_not8BitLevel_isNotFoundTest() {
+        assertThat(EightBitLevels.levelOf(0.1234f)).isEqualTo(EightBitLevels.NOT_FOUND);
+        assertThat(EightBitLevels.levelOf(-1 / 255f)).isEqualTo(EightBitLevels.NOT_FOUND);
+        assertThat(EightBitLevels.levelOf(256 / 255f)).isEqualTo(EightBitLevels.NOT_FOUND);
+    }
+
+    @Test
+    void lookUp_8BitColour_packsTheComponentsOfTheTablesTest() {
+        short[] hues = EightBitLevels.hueTable((red, green, blue, max, delta) -> 120);
+        byte[] saturations = EightBitLevels.maxMinTable((max, min) -> Math.round(max * 100));
+        byte[] thirds = EightBitLevels.maxMinTable((max, min) -> Math.round(min * 100));
+
+        int packed = EightBitLevels.lookUp(51 / 255f, 255 / 255f, 102 / 255f, hues, saturations, thirds);
+
+        assertThat(EightBitLevels.hueOf(packed)).isEqualTo(120);
+        assertThat(EightBitLevels.saturationOf(packed)).isEqualTo(100);
+        assertThat(EightBitLevels.thirdOf(packed)).isEqualTo(20);
+    }
+
+    @Test
+    void lookUp_grey_hasNoHueTest() {
+        short[] hues = EightBitLevels.hueTable((red, green, blue, max, delta) -> 120);
+        byte[] table = EightBitLevels.maxMinTable((max, min) -> 50);
+
+        int packed = EightBitLevels.lookUp(0.2f, 0.2f, 0.2f, hues, table, table);
+
+        assertThat(EightBitLevels.hueOf(packed)).isZero();
+        assertThat(EightBitLevels.saturationOf(packed)).isEqualTo(50);
+    }
+
+    @Test
+    void lookUp_notFoundColours_areNotFoundTest() {
+        short[] hues = EightBitLevels.hueTable(RED_COMPONENT_AS_HUE);
+        byte[] table = EightBitLevels.maxMinTable((max, min) -> 0);
+
+        assertThat(EightBitLevels.lookUp(0.1234f, 0f, 0f, hues, table, table)).isEqualTo(EightBitLevels.NOT_FOUND);
+        assertThat(EightBitLevels.lookUp(200 / 255f, 100 / 255f, 100 / 255f, hues, table, table))
+                .as("colours with the same key but different hue")
+                .isEqualTo(EightBitLevels.NOT_FOUND);
+    }
+
+}
@@ -68,4 +68,18 @@ class NumUtilsTest {
         assertThrows(IllegalArgumentException.class, NumUtils::max);
     }
 
-}
\ No newline at end of file
+    @Test
+    void max_ofThreeNumbers_returnsTheBiggestOneTest() {
+        assertThat(max(0.3f, 0.1f, 0.2f)).isEqualTo(0.3f);
+        assertThat(max(0.1f, 0.3f, 0.2f)).isEqualTo(0.3f);
+        assertThat(max(0.1f, 0.2f, 0.3f)).isEqualTo(0.3f);
+    }
+
+    @Test
+    void min_ofThreeNumbers_returnsTheSmallestOneTest() {
+        assertThat(min(0.1f, 0.3f, 0.2f)).isEqualTo(0.1f);
+        assertThat(min(0.3f, 0.1f, 0.2f)).isEqualTo(0.1f);
+        assertThat(min(0.3f, 0.2f, 0.1f)).isEqualTo(0.1f);
+    }
+
+}